@@ -3,7 +3,9 @@
  */
 package hx.bankcheck.accountvalidator;
 
+import hx.bankcheck.accountvalidator.exceptions.AccountNumberNotTestableException;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Abstract class for algorithms needing no bank number for validation.
@@ -17,6 +19,14 @@ public abstract class AbstractChecksumValidator implements ChecksumValidator {
 	private int alternative=0;
 	private boolean exception=false;
 	private int[] weights=null;
+
+	/**
+	 * Order of the alternatives tried by
+	 * {@link #validateAlternatives(AbstractChecksumValidator[], int[], ValidationResult)}
+	 * with adaptive ordering, created on first use
+	 */
+	private volatile AlternativeOrder alternativeOrder;
+	private volatile boolean adaptiveOrdering = false;
 	
 	/*
 	 * (non-Javadoc)
@@ -30,35 +40,259 @@ public abstract class AbstractChecksumValidator implements ChecksumValidator {
 		return validate(accountNumber);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[],
+	 * int[], hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public boolean validate(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) throws ValidationException {
+		result.reset();
+		boolean valid = validateAccountNumber(accountNumber, result);
+		checkTestable(result);
+		result.setValid(valid);
+		return valid;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#check(int[], int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public byte check(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) {
+		result.reset();
+		try {
+			boolean valid = validateAccountNumber(accountNumber, result);
+			if (result.isChecked())
+				result.setValid(valid);
+		} catch (AccountNumberNotTestableException e) {
+			result.setStatus(ValidationResult.NOT_TESTABLE);
+		} catch (ValidationException e) {
+			result.setStatus(ValidationResult.MALFORMED);
+		}
+		return result.getStatus();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(long, int,
+	 * hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public boolean validate(long accountNumber, int bankNumber,
+			ValidationResult result) throws ValidationException {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		return validate(buffer.accountNumber(accountNumber),
+				buffer.bankNumber(bankNumber), result);
+	}
+
 	/**
-	 * Checks an account number for correctness
+	 * Checks an account number for correctness. The alternative and the
+	 * exception flag are afterwards returned by {@link #getAlternative()} and
+	 * {@link #isException()}.
 	 * 
 	 * @param accountNumber
 	 *            The 10-Digit accountNumber, right aligned.
 	 * @return
 	 */
-	public abstract boolean validate(int[] accountNumber)
-			throws ValidationException;
+	public boolean validate(int[] accountNumber) throws ValidationException {
+		// Implementations only set the alternative and the exception flag
+		// when they apply, so values of the previous call are carried over
+		ValidationResult result = new ValidationResult();
+		result.restore(alternative, exception);
+		boolean valid = validateAccountNumber(accountNumber, result);
+		checkTestable(result);
+		alternative = result.getAlternative();
+		exception = result.isException();
+		return valid;
+	}
 
 	/**
-	 * @param alternative the alternative to set
+	 * Checks an account number with another method, e.g. an alternative of
+	 * this method. Gives the same result as
+	 * <code>validator.validate(accountNumber)</code> but doesn't change the
+	 * other validator, so one instance can be shared by all classes and
+	 * threads. The alternative and the exception flag set by the other method
+	 * are discarded.
+	 * 
+	 * @param validator
+	 *            The validator of the other method
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned.
+	 * @param result
+	 *            The result of this method
+	 * @return
 	 */
-	protected void setAlternative(int alternative) {
-		this.alternative = alternative;
+	protected static boolean validateWith(AbstractChecksumValidator validator,
+			int[] accountNumber, ValidationResult result)
+			throws ValidationException {
+		int alternative = result.getAlternative();
+		boolean exception = result.isException();
+		result.restore(0, false);
+		boolean valid = validator.validateAccountNumber(accountNumber, result);
+		checkTestable(result);
+		result.restore(alternative, exception);
+		return valid;
 	}
 
 	/**
-	 * @return the alternative
+	 * Checks an account number with several alternatives, the account number
+	 * is valid if one of them accepts it. The alternative of the result is the
+	 * one that accepted the account number or the last one if none did.
+	 * 
+	 * Usually the alternatives are tried in the given order. With
+	 * {@link #setAdaptiveOrdering(boolean)} the alternative accepting most
+	 * account numbers is tried first. Whether an account number is valid
+	 * doesn't depend on the order, but if several alternatives accept it,
+	 * another one may be reported.
+	 * 
+	 * @param alternatives
+	 *            The validators of the alternatives, must not throw
+	 *            exceptions for account numbers another alternative accepts
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned.
+	 * @param result
+	 *            The result of this method
+	 * @return
 	 */
-	public int getAlternative() {
-		return alternative;
+	protected final boolean validateAlternatives(
+			AbstractChecksumValidator[] alternatives, int[] accountNumber,
+			ValidationResult result) throws ValidationException {
+		if (!adaptiveOrdering) {
+			for (int i = 0; i < alternatives.length; i++) {
+				result.setAlternative(i);
+				if (validateWith(alternatives[i], accountNumber, result))
+					return true;
+			}
+			return false;
+		}
+
+		AlternativeOrder order = alternativeOrder;
+		if (order == null) {
+			order = new AlternativeOrder(alternatives.length);
+			alternativeOrder = order;
+		}
+		for (int alternative : order.order()) {
+			result.setAlternative(alternative);
+			if (validateWith(alternatives[alternative], accountNumber, result)) {
+				order.accepted(alternative);
+				return true;
+			}
+		}
+		order.rejected();
+		result.setAlternative(alternatives.length - 1);
+		return false;
+	}
+
+	/**
+	 * Signals an account number, that
+	 * {@link #validateAccountNumber(int[], ValidationResult)} has marked as
+	 * not testable, to callers of the exception-based methods
+	 */
+	private static void checkTestable(ValidationResult result)
+			throws AccountNumberNotTestableException {
+		if (result.getStatus() == ValidationResult.NOT_TESTABLE)
+			throw new AccountNumberNotTestableException();
+	}
+
+	/**
+	 * Checks an account number for correctness. Implementations must not
+	 * change the state of the validator, the alternative and the exception
+	 * flag are stored in the given result. Account numbers the method defines
+	 * as not testable are marked with
+	 * {@link ValidationResult#setStatus(byte)} instead of throwing an
+	 * exception.
+	 * 
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned.
+	 * @param result
+	 *            Receives the alternative and the exception flag
+	 * @return
+	 */
+	protected abstract boolean validateAccountNumber(int[] accountNumber,
+			ValidationResult result) throws ValidationException;
+
+	/**
+	 * Sets whether the alternatives of this method are tried in the order
+	 * they accepted account numbers so far, see
+	 * {@link #validateAlternatives(AbstractChecksumValidator[], int[], ValidationResult)}.
+	 * Has no effect on methods without alternatives.
+	 * 
+	 * @param adaptiveOrdering
+	 *            "true" to adapt the order, "false" to use the fixed order
+	 */
+	public void setAdaptiveOrdering(boolean adaptiveOrdering) {
+		this.adaptiveOrdering = adaptiveOrdering;
+		alternativeOrder = null;
 	}
 
 	/**
-	 * @param exception the exception to set
+	 * @return whether the order of the alternatives is adapted
 	 */
-	protected void setException(boolean exception) {
-		this.exception = exception;
+	public boolean isAdaptiveOrdering() {
+		return adaptiveOrdering;
+	}
+
+	/**
+	 * Returns the digits of an account number whose check digit is to be
+	 * calculated, for validators that calculate it in one evaluation in
+	 * {@link #computeCheckDigit(long, int, ValidationResult)}
+	 * 
+	 * @param body
+	 *            The accountNumber without its last digit
+	 * @return the 10-Digit accountNumber with 0 as last digit, in the
+	 *         {@link ValidationBuffer} of the current thread, or null if body
+	 *         has more than 9 digits
+	 */
+	protected static int[] bodyDigits(long body) {
+		if (body < 0 || body > ChecksumUtils.MAX_ACCOUNT_NUMBER / 10)
+			return null;
+		return ValidationBuffer.get().accountNumberOrNull(body * 10);
+	}
+
+	/**
+	 * Completes {@link #computeCheckDigit(long, int, ValidationResult)} for a
+	 * check digit calculated in one evaluation: the account number is checked
+	 * once with this digit to fill the result, instead of checking all ten
+	 * digits.
+	 * 
+	 * @param body
+	 *            The accountNumber without its last digit
+	 * @param bankNumber
+	 *            The bankNumber
+	 * @param digit
+	 *            the only digit that can make the account number valid, -1 or
+	 *            10 if there is none
+	 * @param result
+	 *            Receives the outcome like
+	 *            {@link #computeCheckDigit(long, int, ValidationResult)}
+	 * @return the check digit, -1 if there is none
+	 */
+	protected int checkDigitFound(long body, int bankNumber, int digit,
+			ValidationResult result) {
+		if (digit < 0 || digit > 9) {
+			result.reset();
+			result.setValid(false);
+			return -1;
+		}
+		if (check(body * 10 + digit, bankNumber, result) == ValidationResult.VALID)
+			return digit;
+		// e.g. not testable, the status is that of all ten digits
+		return ChecksumValidator.super.computeCheckDigit(body, bankNumber,
+				result);
+	}
+
+	/**
+	 * @return the alternative
+	 */
+	public int getAlternative() {
+		return alternative;
 	}
 
 	/**
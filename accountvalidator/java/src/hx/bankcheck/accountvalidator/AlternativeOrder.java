@@ -0,0 +1,130 @@
+package hx.bankcheck.accountvalidator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Order in which the alternatives of a method are tried, see
+ * {@link AbstractChecksumValidator#setAdaptiveOrdering(boolean)}.
+ *
+ * Counts which alternative accepted the account numbers. Every
+ * {@value #INTERVAL} checks the alternatives are sorted by the counts since
+ * the last sort, so the alternative accepting most account numbers is tried
+ * first and the order follows changes of the checked account numbers.
+ *
+ * The checks are counted in {@link LongAdder}s only, so threads checking
+ * concurrently don't write a shared field. Each thread compares the sums
+ * with {@value #INTERVAL} every {@value #SAMPLE} of its own checks.
+ *
+ * $Id$
+ */
+final class AlternativeOrder {
+
+	/**
+	 * Checks between two sorts
+	 */
+	static final int INTERVAL = 1024;
+
+	/**
+	 * Checks of one thread between two looks at the sums, a divisor of
+	 * {@link #INTERVAL}
+	 */
+	static final int SAMPLE = 64;
+
+	private final LongAdder[] hits;
+	private final LongAdder rejects = new LongAdder();
+	private volatile int[] order;
+
+	/**
+	 * Checks of the current thread since it last looked at the sums
+	 */
+	private final ThreadLocal<int[]> checks = new ThreadLocal<int[]>() {
+		@Override
+		protected int[] initialValue() {
+			return new int[1];
+		}
+	};
+
+	AlternativeOrder(int alternatives) {
+		hits = new LongAdder[alternatives];
+		order = new int[alternatives];
+		for (int i = 0; i < alternatives; i++) {
+			hits[i] = new LongAdder();
+			order[i] = i;
+		}
+	}
+
+	/**
+	 * @return the alternatives in the order they should be tried, must not be
+	 *         changed
+	 */
+	int[] order() {
+		return order;
+	}
+
+	/**
+	 * Counts an account number accepted by the given alternative
+	 */
+	void accepted(int alternative) {
+		hits[alternative].increment();
+		count();
+	}
+
+	/**
+	 * Counts an account number no alternative accepted
+	 */
+	void rejected() {
+		rejects.increment();
+		count();
+	}
+
+	private void count() {
+		int[] count = checks.get();
+		if (++count[0] < SAMPLE)
+			return;
+		count[0] = 0;
+		if (total() >= INTERVAL)
+			sort();
+	}
+
+	/**
+	 * @return the checks since the last sort
+	 */
+	private long total() {
+		long total = rejects.sum();
+		for (LongAdder hit : hits)
+			total += hit.sum();
+		return total;
+	}
+
+	private synchronized void sort() {
+		// another thread may have sorted since the sums were looked at
+		if (total() < INTERVAL)
+			return;
+
+		rejects.reset();
+		long[] counts = new long[hits.length];
+		long total = 0;
+		for (int i = 0; i < hits.length; i++) {
+			counts[i] = hits[i].sumThenReset();
+			total += counts[i];
+		}
+		if (total == 0)
+			return;
+
+		// insertion sort by count, alternatives with equal counts keep their
+		// current order
+		int[] current = order;
+		int[] sorted = new int[current.length];
+		for (int i = 0; i < sorted.length; i++) {
+			int alternative = current[i];
+			int j = i;
+			while (j > 0 && counts[sorted[j - 1]] < counts[alternative]) {
+				sorted[j] = sorted[j - 1];
+				j--;
+			}
+			sorted[j] = alternative;
+		}
+		order = sorted;
+	}
+
+}
@@ -2,35 +2,583 @@ package hx.bankcheck.accountvalidator;
 
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.exceptions.ValidatorUnknownException;
+import hx.bankcheck.accountvalidator.utils.AccountNumberParser;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
-import hx.bankcheck.blz.BankInfo;
+import hx.bankcheck.blz.BlzGeneration;
 import hx.bankcheck.blz.BlzManager;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
 
 public class BankAccountValidator {
 
+	private static final Logger LOGGER = Logger
+			.getLogger(BankAccountValidator.class.getName());
+
+	/**
+	 * Rows of a batch checked at once, see
+	 * {@link #validate(int[], long[], BatchResult)}
+	 */
+	static final int BATCH_BLOCK = 4096;
+
 	private BlzManager blzManager;
 	private ChecksumValidatorFactory factory;
 
+	/**
+	 * Results of {@link #isValid(int, long)}, null if results are not cached
+	 */
+	private volatile ValidationCache cache;
+
+	/**
+	 * Validators of methods depending on the bank number, bound to the banks
+	 * checked so far
+	 */
+	private final BankValidators bankValidators = new BankValidators();
+
+	/**
+	 * The bank data whose methods were checked for validators last, see
+	 * {@link #currentGeneration()}
+	 */
+	private volatile BlzGeneration resolved;
+
+	/**
+	 * Methods of {@link #resolved} without a validator
+	 */
+	private volatile List<String> unknownMethods = Collections.emptyList();
+
 	public BankAccountValidator() throws FileNotFoundException, IOException {
-		blzManager = new BlzManager();
+		this(new BlzManager());
+	}
+
+	public BankAccountValidator(BlzManager blzManager) {
+		this.blzManager = blzManager;
 		factory = new ChecksumValidatorFactory();
+		currentGeneration();
 	}
 
 	public boolean isValid(String blzStr, String kontoStr) throws ValidatorUnknownException, ValidationException {
-		BankInfo bankData = blzManager.findBank(blzStr).get(0);
+		int blzNumber = Integer.parseInt(blzStr);
+		BlzGeneration generation = currentGeneration();
 
-		if (bankData == null)
+		if (generation.findMethod(blzNumber) == BlzGeneration.NO_BANK)
 			return false;
 		
 		long number = Long.parseLong(kontoStr);
-		int[] accountNumber = ChecksumUtils.parseAccountNumber(number);
-		
-		int[] blz = ChecksumUtils.parseBlz(Integer.parseInt(blzStr));
-		
-		ChecksumValidator validator = factory.createValidatorFor(bankData.getChecksumAlgo());
-		return validator.validate(accountNumber, blz);
+		return isValid(generation, blzNumber, number, check(generation,
+				blzNumber, number));
+	}
+
+	/**
+	 * Checks an account number without creating any objects. May be called by
+	 * any number of threads concurrently.
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @return "false" if the account number is invalid or the bank number is
+	 *         unknown
+	 */
+	public boolean isValid(int blzNumber, long kontoNumber) throws ValidatorUnknownException, ValidationException {
+		BlzGeneration generation = currentGeneration();
+		return isValid(generation, blzNumber, kontoNumber, check(generation,
+				blzNumber, kontoNumber));
+	}
+
+	/**
+	 * Checks an account number against the bank data valid on the given day,
+	 * see {@link BlzManager#getGeneration(int)}
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @param date
+	 *            The day as YYYYMMDD
+	 * @return "false" if the account number is invalid or the bank number is
+	 *         unknown
+	 */
+	public boolean isValid(int blzNumber, long kontoNumber, int date) throws ValidatorUnknownException, ValidationException {
+		BlzGeneration generation = blzManager.getGeneration(date);
+		return isValid(generation, blzNumber, kontoNumber, check(generation
+				.findMethod(blzNumber), blzNumber, kontoNumber));
+	}
+
+	/**
+	 * @param generation
+	 *            the bank data the status was checked against, also used to
+	 *            find the method for the exception
+	 * @param status
+	 *            the outcome of the check
+	 */
+	private boolean isValid(BlzGeneration generation, int blzNumber,
+			long kontoNumber, byte status) throws ValidatorUnknownException,
+			ValidationException {
+		if (status > ValidationResult.UNKNOWN_BLZ)
+			throwException(generation.findChecksumAlgo(blzNumber), blzNumber,
+					kontoNumber);
+		return status == ValidationResult.VALID;
+	}
+
+	/**
+	 * Checks an account number like {@link #isValid(int, long)}, but reports
+	 * every outcome as a status instead of throwing exceptions. Nothing is
+	 * allocated, also not for unknown methods or malformed account numbers.
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @return one of the status codes of {@link ValidationResult}
+	 */
+	public byte check(int blzNumber, long kontoNumber) {
+		return check(currentGeneration(), blzNumber, kontoNumber);
+	}
+
+	/**
+	 * Checks an account number against the current generation, using the
+	 * cache if there is one
+	 */
+	private byte check(BlzGeneration generation, int blzNumber,
+			long kontoNumber) {
+		ValidationCache currentCache = cache;
+		long key = ValidationCache.key(blzNumber, kontoNumber);
+		if (currentCache == null || key < 0)
+			return check(generation.findMethod(blzNumber), blzNumber,
+					kontoNumber);
+
+		int cached = currentCache.get(key, generation.getSerial());
+		if (cached >= 0)
+			return (byte) cached;
+
+		byte status = check(generation.findMethod(blzNumber), blzNumber,
+				kontoNumber);
+		currentCache.put(key, generation.getSerial(), status);
+		return status;
+	}
+
+	/**
+	 * Checks an account number given as text like {@link #check(int, long)}.
+	 * The numbers are parsed by {@link AccountNumberParser}, so they may
+	 * contain blanks and separators, and no objects are created.
+	 * 
+	 * @param blz
+	 *            The bank number
+	 * @param konto
+	 *            The account number, up to 10 digits
+	 * @return one of the status codes of {@link ValidationResult},
+	 *         {@link ValidationResult#UNKNOWN_BLZ} if the bank number cannot
+	 *         be parsed, {@link ValidationResult#MALFORMED} if the account
+	 *         number cannot be parsed
+	 */
+	public byte check(CharSequence blz, CharSequence konto) {
+		long blzNumber = AccountNumberParser.parse(blz);
+		if (blzNumber < 0 || blzNumber > Integer.MAX_VALUE)
+			return ValidationResult.UNKNOWN_BLZ;
+		return check((int) blzNumber, AccountNumberParser.parse(konto));
+	}
+
+	/**
+	 * Checks an account number against the bank data valid on the given day
+	 * like {@link #isValid(int, long, int)}, but reports every outcome as a
+	 * status
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @param date
+	 *            The day as YYYYMMDD
+	 * @return one of the status codes of {@link ValidationResult}
+	 */
+	public byte check(int blzNumber, long kontoNumber, int date) {
+		return check(blzManager.findMethod(blzNumber, date), blzNumber,
+				kontoNumber);
+	}
+
+	/**
+	 * @param method
+	 *            the method of the bank, see {@link BlzGeneration#findMethod(int)}
+	 */
+	private byte check(int method, int blzNumber, long kontoNumber) {
+		if (method == BlzGeneration.NO_BANK)
+			return ValidationResult.UNKNOWN_BLZ;
+
+		ValidationBuffer buffer = ValidationBuffer.get();
+		ChecksumDescriptor descriptor = (method < 0) ? null : factory
+				.descriptorAt(method);
+		if (descriptor != null) {
+			int[] accountNumber = buffer.accountNumberOrNull(kontoNumber);
+			if (accountNumber == null)
+				return ValidationResult.MALFORMED;
+			return descriptor.validate(accountNumber) ? ValidationResult.VALID
+					: ValidationResult.INVALID;
+		}
+
+		ChecksumValidator validator = (method < 0) ? null : factory
+				.validatorAt(method);
+		if (validator == null)
+			return ValidationResult.UNKNOWN_METHOD;
+		if (validator instanceof BankDependentValidator)
+			validator = bankValidators.get(method, blzNumber,
+					(BankDependentValidator) validator);
+		return validator.check(kontoNumber, blzNumber, buffer.result());
+	}
+
+	/**
+	 * Checks an account number like {@link #check(int, long)} and records how
+	 * the outcome was reached, e.g. to find out why an account number was
+	 * rejected. Always runs the implementation of the checksum method, the
+	 * cache and the descriptors are not used.
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @return the trace of the check
+	 */
+	public ValidationTrace explain(int blzNumber, long kontoNumber) {
+		String checksumAlgo = blzManager.findChecksumAlgo(blzNumber);
+		ValidationResult result = new ValidationResult();
+		ValidationTrace trace = ValidationTrace.start(blzNumber, kontoNumber,
+				checksumAlgo);
+		try {
+			int method = (checksumAlgo == null) ? -1 : ChecksumValidatorFactory
+					.indexOf(checksumAlgo);
+			ChecksumValidator validator = (method < 0) ? null : factory
+					.validatorAt(method);
+			if (checksumAlgo == null)
+				result.setStatus(ValidationResult.UNKNOWN_BLZ);
+			else if (validator == null)
+				result.setStatus(ValidationResult.UNKNOWN_METHOD);
+			else
+				validator.check(kontoNumber, blzNumber, result);
+		} finally {
+			ValidationTrace.stop(trace, result);
+		}
+		return trace;
+	}
+
+	/**
+	 * Calculates the check digit for an account number, e.g. to generate
+	 * valid account numbers. The check digit is the last digit of the account
+	 * number. Methods with a {@link ChecksumDescriptor} calculate it once,
+	 * the others through
+	 * {@link ChecksumValidator#computeCheckDigit(long, int, ValidationResult)}.
+	 * Of those, 00, 01, 02, 06 and 90 calculate it once as well; all other
+	 * methods, e.g. 52 and 53 whose check digit isn't the last digit, check
+	 * the account number with each of the ten digits.
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param body
+	 *            The account number without its last digit, up to 9 digits
+	 * @param result
+	 *            Receives {@link ValidationResult#VALID} and the alternative
+	 *            if a check digit was found, otherwise the reason. It is reset
+	 *            before.
+	 * @return the check digit, -1 if there is none
+	 */
+	public int computeCheckDigit(int blzNumber, long body,
+			ValidationResult result) {
+		result.reset();
+		int method = currentGeneration().findMethod(blzNumber);
+		if (method == BlzGeneration.NO_BANK) {
+			result.setStatus(ValidationResult.UNKNOWN_BLZ);
+			return -1;
+		}
+
+		ChecksumDescriptor descriptor = (method < 0) ? null : factory
+				.descriptorAt(method);
+		if (descriptor != null && descriptor.getCheckDigitPosition() == 9) {
+			int[] accountNumber = (body < 0
+					|| body > ChecksumUtils.MAX_ACCOUNT_NUMBER / 10) ? null
+					: ValidationBuffer.get().accountNumberOrNull(body * 10);
+			if (accountNumber == null) {
+				result.setStatus(ValidationResult.MALFORMED);
+				return -1;
+			}
+			int digit = descriptor.computeCheckDigit(accountNumber);
+			result.setStatus((digit < 0) ? ValidationResult.INVALID
+					: ValidationResult.VALID);
+			return digit;
+		}
+
+		ChecksumValidator validator = (method < 0) ? null : factory
+				.validatorAt(method);
+		if (validator == null) {
+			result.setStatus(ValidationResult.UNKNOWN_METHOD);
+			return -1;
+		}
+		return validator.computeCheckDigit(body, blzNumber, result);
+	}
+
+	/**
+	 * Suggests the account numbers a user may have meant when entering an
+	 * invalid one: every valid account number that differs by two swapped
+	 * adjacent digits, one wrong digit, one extra digit or one missing digit.
+	 * A candidate that starts with zeros is suggested without them, e.g. 119
+	 * for 800119 with the 8 entered by mistake. The candidates are checked with the method of the bank, methods with a
+	 * {@link ChecksumDescriptor} without running a full check per candidate.
+	 * May be called by any number of threads concurrently.
+	 * 
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @return the suggestions, most likely first, empty if the bank number is
+	 *         unknown
+	 */
+	public List<Suggestion> suggest(int blzNumber, long kontoNumber) {
+		int method = currentGeneration().findMethod(blzNumber);
+		if (method < 0)
+			return new ArrayList<Suggestion>();
+		return new SuggestionFinder(factory, method, blzNumber, kontoNumber)
+				.find();
+	}
+
+	/**
+	 * Runs the exception throwing validation after a check failed, so callers
+	 * of the isValid methods get the same exceptions as before
+	 */
+	private void throwException(String checksumAlgo, int blzNumber,
+			long kontoNumber) throws ValidatorUnknownException,
+			ValidationException {
+		factory.createValidatorFor(checksumAlgo).validate(kontoNumber,
+				blzNumber, ValidationBuffer.get().result());
+	}
+
+	/**
+	 * Checks a batch of account numbers. Row i consists of blzNumbers[i] and
+	 * kontoNumbers[i], its status and alternative are stored in row i of the
+	 * result.
+	 * 
+	 * The rows are grouped by checksum method first, so every validator runs
+	 * over all of its rows in one go. Methods with a
+	 * {@link ChecksumDescriptor} are checked by the descriptor, a block of
+	 * account numbers at a time.
+	 * 
+	 * @param blzNumbers
+	 *            The bank numbers
+	 * @param kontoNumbers
+	 *            The account numbers, up to 10 digits
+	 * @param result
+	 *            Receives the status and alternative of every row
+	 */
+	public void validate(int[] blzNumbers, long[] kontoNumbers,
+			BatchResult result) {
+		if (blzNumbers.length != kontoNumbers.length)
+			throw new IllegalArgumentException("Got " + blzNumbers.length
+					+ " bank numbers but " + kontoNumbers.length
+					+ " account numbers");
+
+		result.reset(blzNumbers.length);
+		validate(currentGeneration(), blzNumbers, kontoNumbers,
+				0, blzNumbers.length, result);
+	}
+
+	/**
+	 * Checks the rows from (inclusive) to to (exclusive) of a batch. The result
+	 * must already be prepared for the whole batch, rows outside the range are
+	 * not touched. Different ranges of one batch may be checked by different
+	 * threads at the same time.
+	 * 
+	 * The rows are checked in blocks of {@link #BATCH_BLOCK}, so the scratch
+	 * space of the thread doesn't grow with the batch.
+	 */
+	void validate(BlzGeneration generation, int[] blzNumbers,
+			long[] kontoNumbers, int from, int to, BatchResult result) {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		for (int start = from; start < to; start += BATCH_BLOCK)
+			validateBlock(buffer, generation, blzNumbers, kontoNumbers, start,
+					Math.min(to, start + BATCH_BLOCK), result);
+	}
+
+	private void validateBlock(ValidationBuffer buffer,
+			BlzGeneration generation, int[] blzNumbers, long[] kontoNumbers,
+			int from, int to, BatchResult result) {
+		// Checksum method of every row, counts[m + 1] is the number of rows
+		// using method m
+		int[] methods = buffer.methods();
+		int[] counts = buffer.counts();
+		for (int row = from; row < to; row++) {
+			int method = generation.findMethod(blzNumbers[row]);
+			if (method == BlzGeneration.NO_BANK) {
+				result.set(row, BatchResult.UNKNOWN_BLZ, 0);
+				method = -1;
+			} else if (method < 0 || factory.validatorAt(method) == null) {
+				result.set(row, BatchResult.UNKNOWN_METHOD, 0);
+				method = -1;
+			} else {
+				counts[method + 1]++;
+			}
+			methods[row - from] = method;
+		}
+
+		// counting sort of the rows by method, afterwards counts[m] is the end
+		// of the rows of method m in order
+		for (int i = 1; i < counts.length; i++)
+			counts[i] += counts[i - 1];
+		int[] order = buffer.order();
+		for (int row = from; row < to; row++) {
+			int method = methods[row - from];
+			if (method >= 0)
+				order[counts[method]++] = row;
+		}
+
+		ValidationResult validation = buffer.result();
+		int start = 0;
+		for (int method = 0; method < ChecksumValidatorFactory.TABLE_SIZE; method++) {
+			int end = counts[method];
+			if (start == end)
+				continue;
+
+			ChecksumDescriptor descriptor = factory.descriptorAt(method);
+			if (descriptor != null) {
+				buffer.descriptorBatch().check(descriptor, kontoNumbers, order,
+						start, end, result);
+				start = end;
+				continue;
+			}
+
+			ChecksumValidator validator = factory.validatorAt(method);
+			BankDependentValidator dependent = (validator instanceof BankDependentValidator)
+					? (BankDependentValidator) validator : null;
+			for (int i = start; i < end; i++) {
+				int row = order[i];
+				ChecksumValidator rowValidator = (dependent == null) ? validator
+						: bankValidators.get(method, blzNumbers[row], dependent);
+				byte status = rowValidator.check(kontoNumbers[row],
+						blzNumbers[row], validation);
+				result.set(row, status, validation.isChecked() ? validation
+						.getAlternative() : 0);
+			}
+			start = end;
+		}
+	}
+
+	/**
+	 * Checks a batch of account numbers, see
+	 * {@link #validate(int[], long[], BatchResult)}
+	 * 
+	 * @param blzNumbers
+	 *            The bank numbers
+	 * @param kontoNumbers
+	 *            The account numbers, up to 10 digits
+	 * @return status and alternative of every row
+	 */
+	public BatchResult validate(int[] blzNumbers, long[] kontoNumbers) {
+		BatchResult result = new BatchResult(blzNumbers.length);
+		validate(blzNumbers, kontoNumbers, result);
+		return result;
+	}
+
+	/**
+	 * Returns the checksum methods of the current bank data that have no
+	 * validator. They are determined once per bank data and logged as a
+	 * warning, account numbers of their banks get
+	 * {@link ValidationResult#UNKNOWN_METHOD}.
+	 * 
+	 * @return the codes of the methods, sorted
+	 */
+	public List<String> getUnknownMethods() {
+		currentGeneration();
+		return unknownMethods;
+	}
+
+	/**
+	 * Returns the bank data valid today. The methods of bank data seen for
+	 * the first time are checked for validators, see
+	 * {@link #getUnknownMethods()}.
+	 */
+	private BlzGeneration currentGeneration() {
+		BlzGeneration generation = blzManager.getCurrentGeneration();
+		if (generation != resolved)
+			resolve(generation);
+		return generation;
+	}
+
+	private synchronized void resolve(BlzGeneration generation) {
+		if (generation == resolved)
+			return;
+
+		List<String> unknown = new ArrayList<String>();
+		for (String code : generation.getChecksumAlgos()) {
+			int method = ChecksumValidatorFactory.indexOf(code);
+			if (method < 0 || factory.validatorAt(method) == null)
+				unknown.add(code);
+		}
+		if (!unknown.isEmpty())
+			LOGGER.warning("No validator for the checksum methods " + unknown
+					+ " of " + generation);
+		unknownMethods = Collections.unmodifiableList(unknown);
+		resolved = generation;
+	}
+
+	/**
+	 * Counts all validations in the given metrics, see
+	 * {@link ChecksumValidatorFactory#setMetrics(ValidationMetrics)}
+	 * 
+	 * @param metrics
+	 *            the metrics, null to stop collecting metrics
+	 */
+	public void setMetrics(ValidationMetrics metrics) {
+		factory.setMetrics(metrics);
+	}
+
+	/**
+	 * @return the metrics validations are counted in or null
+	 */
+	public ValidationMetrics getMetrics() {
+		return factory.getMetrics();
+	}
+
+	/**
+	 * Tries the alternative accepting most account numbers first, see
+	 * {@link ChecksumValidatorFactory#setAdaptiveOrdering(boolean)}
+	 * 
+	 * @param adaptiveOrdering
+	 *            "true" to adapt the order, "false" to use the fixed order
+	 */
+	public void setAdaptiveOrdering(boolean adaptiveOrdering) {
+		factory.setAdaptiveOrdering(adaptiveOrdering);
+	}
+
+	/**
+	 * @return whether the order of the alternatives is adapted
+	 */
+	public boolean isAdaptiveOrdering() {
+		return factory.isAdaptiveOrdering();
+	}
+
+	/**
+	 * Caches the results of {@link #check(int, long)},
+	 * {@link #isValid(int, long)} and {@link #isValid(String, String)}. Results are tagged with the bank
+	 * data they were computed from and are not used any more once new bank
+	 * data is current. Checks of a given day and batches are not cached.
+	 * 
+	 * @param cache
+	 *            the cache, null to stop caching
+	 */
+	public void setCache(ValidationCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * @return the cache of results or null
+	 */
+	public ValidationCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * @return the bank data used by this validator
+	 */
+	public BlzManager getBlzManager() {
+		return blzManager;
 	}
 }
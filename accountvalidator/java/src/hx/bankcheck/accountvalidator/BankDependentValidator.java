@@ -0,0 +1,24 @@
+package hx.bankcheck.accountvalidator;
+
+/**
+ * A validator whose calculation depends on the bank number, e.g. because it
+ * builds the account number of an old system from digits of the bank number.
+ * The part depending on the bank number can be calculated once per bank by
+ * binding the validator to the bank, see {@link #forBank(int)}.
+ *
+ * $Id$
+ */
+public interface BankDependentValidator extends ChecksumValidator {
+
+	/**
+	 * Returns a validator giving the same results as this one for the account
+	 * numbers of one bank. The bank number passed to the returned validator is
+	 * ignored, it may only be used for the bank it was bound to.
+	 * 
+	 * @param bankNumber
+	 *            The bankNumber, up to 8 digits.
+	 * @return the validator bound to the bank
+	 */
+	public ChecksumValidator forBank(int bankNumber);
+
+}
@@ -0,0 +1,82 @@
+package hx.bankcheck.accountvalidator;
+
+import java.util.Arrays;
+
+/**
+ * Validators bound to single banks, see {@link BankDependentValidator}. A
+ * validator is bound when an account number of its bank is checked the first
+ * time and kept afterwards. The key holds the method as well as the bank
+ * number, so banks changing their method in new bank data get a new
+ * validator.
+ * 
+ * Lookups read an immutable table without locks and create no objects, new
+ * validators are added to a copy of the table.
+ * 
+ * $Id$
+ */
+final class BankValidators {
+
+	private static final class Table {
+		final long[] keys;
+		final ChecksumValidator[] validators;
+
+		Table(long[] keys, ChecksumValidator[] validators) {
+			this.keys = keys;
+			this.validators = validators;
+		}
+	}
+
+	private volatile Table table = new Table(new long[0],
+			new ChecksumValidator[0]);
+
+	/**
+	 * Returns the validator of a method bound to a bank
+	 * 
+	 * @param method
+	 *            position of the method in the validator table
+	 * @param blzNumber
+	 *            The bank number
+	 * @param validator
+	 *            The validator of the method
+	 * @return the bound validator
+	 */
+	ChecksumValidator get(int method, int blzNumber,
+			BankDependentValidator validator) {
+		long key = ((long) method << 32) | (blzNumber & 0xFFFFFFFFL);
+		Table current = table;
+		int pos = Arrays.binarySearch(current.keys, key);
+		if (pos >= 0)
+			return current.validators[pos];
+		return add(key, validator.forBank(blzNumber));
+	}
+
+	/**
+	 * @return number of bound validators
+	 */
+	int size() {
+		return table.keys.length;
+	}
+
+	private synchronized ChecksumValidator add(long key,
+			ChecksumValidator validator) {
+		Table current = table;
+		int pos = Arrays.binarySearch(current.keys, key);
+		if (pos >= 0)
+			return current.validators[pos];
+
+		pos = -pos - 1;
+		int size = current.keys.length;
+		long[] keys = new long[size + 1];
+		ChecksumValidator[] validators = new ChecksumValidator[size + 1];
+		System.arraycopy(current.keys, 0, keys, 0, pos);
+		System.arraycopy(current.validators, 0, validators, 0, pos);
+		keys[pos] = key;
+		validators[pos] = validator;
+		System.arraycopy(current.keys, pos, keys, pos + 1, size - pos);
+		System.arraycopy(current.validators, pos, validators, pos + 1, size
+				- pos);
+		table = new Table(keys, validators);
+		return validator;
+	}
+
+}
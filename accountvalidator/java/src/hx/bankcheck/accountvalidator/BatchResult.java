@@ -0,0 +1,128 @@
+package hx.bankcheck.accountvalidator;
+
+import java.util.Arrays;
+
+/**
+ * Results of a batch validation, see
+ * {@link BankAccountValidator#validate(int[], long[], BatchResult)}. The
+ * status and the alternative of every row are stored in parallel arrays which
+ * grow as needed, so an instance may be reused for any number of batches.
+ *
+ * $Id$
+ */
+public class BatchResult {
+
+	/**
+	 * The account number is valid
+	 */
+	public static final byte VALID = ValidationResult.VALID;
+
+	/**
+	 * The account number is invalid
+	 */
+	public static final byte INVALID = ValidationResult.INVALID;
+
+	/**
+	 * The bank number is unknown
+	 */
+	public static final byte UNKNOWN_BLZ = ValidationResult.UNKNOWN_BLZ;
+
+	/**
+	 * The checksum method of the bank is unknown
+	 */
+	public static final byte UNKNOWN_METHOD = ValidationResult.UNKNOWN_METHOD;
+
+	/**
+	 * The account number could not be checked, e.g. it has more than 10
+	 * digits
+	 */
+	public static final byte MALFORMED = ValidationResult.MALFORMED;
+
+	/**
+	 * The checksum method defines the account number as not testable
+	 */
+	public static final byte NOT_TESTABLE = ValidationResult.NOT_TESTABLE;
+
+	private byte[] status;
+	private byte[] alternative;
+	private int size;
+
+	public BatchResult() {
+		this(0);
+	}
+
+	/**
+	 * @param capacity
+	 *            number of rows to reserve space for
+	 */
+	public BatchResult(int capacity) {
+		status = new byte[capacity];
+		alternative = new byte[capacity];
+	}
+
+	/**
+	 * Prepares the result for a batch of the given size, all rows are set to
+	 * {@link #INVALID}
+	 *
+	 * @param size
+	 *            number of rows
+	 */
+	void reset(int size) {
+		if (status.length < size) {
+			status = new byte[size];
+			alternative = new byte[size];
+		}
+		Arrays.fill(status, 0, size, INVALID);
+		Arrays.fill(alternative, 0, size, (byte) 0);
+		this.size = size;
+	}
+
+	void set(int row, byte status, int alternative) {
+		this.status[row] = status;
+		this.alternative[row] = (byte) alternative;
+	}
+
+	/**
+	 * @return number of rows of the last batch
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param row
+	 *            row of the batch
+	 * @return the status of the row, one of the constants of this class
+	 */
+	public byte getStatus(int row) {
+		checkRow(row);
+		return status[row];
+	}
+
+	/**
+	 * @param row
+	 *            row of the batch
+	 * @return "true" if the account number of the row is valid
+	 */
+	public boolean isValid(int row) {
+		return getStatus(row) == VALID;
+	}
+
+	/**
+	 * @param row
+	 *            row of the batch
+	 * @return the alternative the validator used to check the account number
+	 *         of the row
+	 */
+	public int getAlternative(int row) {
+		checkRow(row);
+		return alternative[row];
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= size)
+			throw new IndexOutOfBoundsException("Row: " + row + ", Size: "
+					+ size);
+	}
+
+}
@@ -0,0 +1,487 @@
+package hx.bankcheck.accountvalidator;
+
+import hx.bankcheck.accountvalidator.utils.AccountNumberParser;
+import hx.bankcheck.blz.BlzGeneration;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Checks large amounts of account numbers on all cores.
+ *
+ * Arrays are split recursively and checked by a {@link ForkJoinPool}, every
+ * part is handled by
+ * {@link BankAccountValidator#validate(int[], long[], BatchResult)}, so the
+ * workers reuse their {@link ValidationBuffer} and the validators of the
+ * {@link BankAccountValidator}. Results are stored at the position of their
+ * row, no merging is necessary. All rows of one call are checked against the
+ * bank data valid when the call started.
+ *
+ * Sequential sources like files or streams are read in chunks on the calling
+ * thread, the chunks are checked by an {@link ExecutorService} and handed to
+ * a {@link Sink} in input order. For I/O bound sources the executor may be one
+ * starting a virtual thread per task (Java 21 and later).
+ *
+ * $Id$
+ */
+public class BulkValidator {
+
+	/**
+	 * Supplies rows to {@link BulkValidator#validate(Source, Sink)}
+	 */
+	public interface Source {
+
+		/**
+		 * Fills the arrays with the next rows
+		 *
+		 * @param blzNumbers
+		 *            Receives the bank numbers
+		 * @param kontoNumbers
+		 *            Receives the account numbers
+		 * @return number of rows read, 0 if none are available yet, -1 at
+		 *         the end of the source
+		 */
+		int read(int[] blzNumbers, long[] kontoNumbers) throws IOException;
+	}
+
+	/**
+	 * Receives the results of {@link BulkValidator#validate(Source, Sink)}
+	 */
+	public interface Sink {
+
+		/**
+		 * Called once per chunk in the order the chunks were read. Only the
+		 * first result.size() rows of the arrays are valid. The arrays and the
+		 * result are reused for later chunks after this method returned.
+		 *
+		 * @param blzNumbers
+		 *            The bank numbers of the chunk
+		 * @param kontoNumbers
+		 *            The account numbers of the chunk
+		 * @param result
+		 *            The results of the chunk
+		 */
+		void accept(int[] blzNumbers, long[] kontoNumbers, BatchResult result)
+				throws IOException;
+	}
+
+	/**
+	 * Parts of an array smaller than this are not split further
+	 */
+	static final int THRESHOLD = 4096;
+
+	/**
+	 * Number of rows read from a {@link Source} at once
+	 */
+	static final int CHUNK_SIZE = 16 * 1024;
+
+	/**
+	 * Size of the buffer of {@link #byteSource(InputStream, char)}, the
+	 * longest line it accepts
+	 */
+	static final int BYTE_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Largest bank number, 8 digits
+	 */
+	private static final long MAX_BLZ = 99999999;
+
+	private final BankAccountValidator validator;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a bulk validator using the common pool
+	 *
+	 * @param validator
+	 *            validator for the single rows
+	 */
+	public BulkValidator(BankAccountValidator validator) {
+		this(validator, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param validator
+	 *            validator for the single rows
+	 * @param pool
+	 *            pool to use for arrays and sources
+	 */
+	public BulkValidator(BankAccountValidator validator, ForkJoinPool pool) {
+		this.validator = validator;
+		this.pool = pool;
+	}
+
+	/**
+	 * Checks a batch of account numbers in parallel, see
+	 * {@link BankAccountValidator#validate(int[], long[], BatchResult)}
+	 *
+	 * @param blzNumbers
+	 *            The bank numbers
+	 * @param kontoNumbers
+	 *            The account numbers, up to 10 digits
+	 * @return status and alternative of every row
+	 */
+	public BatchResult validate(int[] blzNumbers, long[] kontoNumbers) {
+		BatchResult result = new BatchResult(blzNumbers.length);
+		validate(blzNumbers, kontoNumbers, result);
+		return result;
+	}
+
+	/**
+	 * Checks a batch of account numbers in parallel, see
+	 * {@link BankAccountValidator#validate(int[], long[], BatchResult)}
+	 *
+	 * @param blzNumbers
+	 *            The bank numbers
+	 * @param kontoNumbers
+	 *            The account numbers, up to 10 digits
+	 * @param result
+	 *            Receives the status and alternative of every row
+	 */
+	public void validate(int[] blzNumbers, long[] kontoNumbers,
+			BatchResult result) {
+		if (blzNumbers.length != kontoNumbers.length)
+			throw new IllegalArgumentException("Got " + blzNumbers.length
+					+ " bank numbers but " + kontoNumbers.length
+					+ " account numbers");
+
+		result.reset(blzNumbers.length);
+		pool.invoke(new ValidateTask(validator.getBlzManager()
+				.getCurrentGeneration(), blzNumbers, kontoNumbers, 0,
+				blzNumbers.length, result));
+	}
+
+	/**
+	 * Checks all rows of a source using the pool of this bulk validator
+	 *
+	 * @param source
+	 *            Supplies the rows
+	 * @param sink
+	 *            Receives the results in input order
+	 */
+	public void validate(Source source, Sink sink) throws IOException,
+			InterruptedException {
+		validate(source, sink, pool, pool.getParallelism());
+	}
+
+	/**
+	 * Checks all rows of a source. The source is read and the sink is called
+	 * on the current thread, the chunks are checked by the executor.
+	 *
+	 * @param source
+	 *            Supplies the rows
+	 * @param sink
+	 *            Receives the results in input order
+	 * @param executor
+	 *            Checks the chunks
+	 * @param parallelism
+	 *            Number of chunks to check at the same time
+	 */
+	public void validate(Source source, Sink sink, ExecutorService executor,
+			int parallelism) throws IOException, InterruptedException {
+		// read ahead at most two chunks per worker
+		int maxPending = Math.max(1, parallelism) * 2;
+		Deque<Future<Chunk>> pending = new ArrayDeque<Future<Chunk>>();
+		Deque<Chunk> free = new ArrayDeque<Chunk>();
+		final BlzGeneration generation = validator.getBlzManager()
+				.getCurrentGeneration();
+		try {
+			while (true) {
+				final Chunk chunk = free.isEmpty() ? new Chunk() : free
+						.removeFirst();
+				int rows = source.read(chunk.blzNumbers, chunk.kontoNumbers);
+				if (rows < 0)
+					break;
+				if (rows == 0) {
+					free.addLast(chunk);
+					continue;
+				}
+
+				chunk.rows = rows;
+				if (pending.size() >= maxPending)
+					free.addLast(complete(pending.removeFirst(), sink));
+				pending.addLast(executor.submit(new Callable<Chunk>() {
+					@Override
+					public Chunk call() {
+						chunk.result.reset(chunk.rows);
+						validator.validate(generation, chunk.blzNumbers,
+								chunk.kontoNumbers, 0, chunk.rows, chunk.result);
+						return chunk;
+					}
+				}));
+			}
+
+			while (!pending.isEmpty())
+				complete(pending.removeFirst(), sink);
+		} finally {
+			for (Future<Chunk> future : pending)
+				future.cancel(true);
+		}
+	}
+
+	private Chunk complete(Future<Chunk> future, Sink sink)
+			throws IOException, InterruptedException {
+		Chunk chunk;
+		try {
+			chunk = future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+		sink.accept(chunk.blzNumbers, chunk.kontoNumbers, chunk.result);
+		return chunk;
+	}
+
+	/**
+	 * Creates a source reading lines of the form
+	 * "&lt;BLZ&gt;&lt;separator&gt;&lt;Kontonummer&gt;". Empty lines are
+	 * skipped, other lines which cannot be parsed raise a
+	 * {@link NumberFormatException}.
+	 *
+	 * @param reader
+	 *            Reader to read the lines from
+	 * @param separator
+	 *            Separator between bank number and account number
+	 */
+	public static Source lineSource(final BufferedReader reader,
+			final char separator) {
+		return new Source() {
+			@Override
+			public int read(int[] blzNumbers, long[] kontoNumbers)
+					throws IOException {
+				int rows = 0;
+				String line;
+				while (rows < blzNumbers.length
+						&& (line = reader.readLine()) != null) {
+					if (line.length() == 0)
+						continue;
+
+					int pos = line.indexOf(separator);
+					if (pos < 0)
+						throw new NumberFormatException("Missing separator: "
+								+ line);
+					blzNumbers[rows] = Integer.parseInt(line.substring(0, pos)
+							.trim());
+					kontoNumbers[rows] = Long.parseLong(line.substring(pos + 1)
+							.trim());
+					rows++;
+				}
+				return (rows == 0) ? -1 : rows;
+			}
+		};
+	}
+
+	/**
+	 * Creates a source reading ASCII lines of the form
+	 * "&lt;BLZ&gt;&lt;separator&gt;&lt;Kontonummer&gt;" like
+	 * {@link #lineSource(BufferedReader, char)}, but parses the numbers
+	 * directly from the bytes with {@link AccountNumberParser}. Apart from a
+	 * buffer created once, reading creates no objects. The numbers may
+	 * contain blanks and the separators of {@link AccountNumberParser}, lines
+	 * are split at the first separator and may end with "\r\n". Empty lines
+	 * are skipped, other lines which cannot be parsed raise a
+	 * {@link NumberFormatException}.
+	 *
+	 * @param input
+	 *            Stream to read the lines from, is not closed
+	 * @param separator
+	 *            Separator between bank number and account number, an ASCII
+	 *            character
+	 */
+	public static Source byteSource(InputStream input, char separator) {
+		if (separator > 0x7F)
+			throw new IllegalArgumentException("Not an ASCII character: "
+					+ separator);
+		return new ByteSource(input, (byte) separator);
+	}
+
+	/**
+	 * Creates a source reading the elements of a stream, e.g. the records of
+	 * a query or of a parsed file. The stream is consumed on the thread
+	 * calling {@link #validate(Source, Sink)} in its encounter order, so the
+	 * results keep the order of the elements; the chunks are checked in
+	 * parallel as for any other source.
+	 *
+	 * @param stream
+	 *            Stream of the rows, is consumed and not closed
+	 * @param blz
+	 *            Gets the bank number of an element
+	 * @param konto
+	 *            Gets the account number of an element
+	 */
+	public static <T> Source streamSource(Stream<T> stream,
+			final ToIntFunction<? super T> blz,
+			final ToLongFunction<? super T> konto) {
+		final Iterator<T> iterator = stream.iterator();
+		return new Source() {
+			@Override
+			public int read(int[] blzNumbers, long[] kontoNumbers) {
+				int rows = 0;
+				while (rows < blzNumbers.length && iterator.hasNext()) {
+					T element = iterator.next();
+					blzNumbers[rows] = blz.applyAsInt(element);
+					kontoNumbers[rows] = konto.applyAsLong(element);
+					rows++;
+				}
+				return (rows == 0) ? -1 : rows;
+			}
+		};
+	}
+
+	private static class ByteSource implements Source {
+
+		private final InputStream input;
+		private final byte separator;
+		private final byte[] buffer = new byte[BYTE_BUFFER_SIZE];
+
+		/**
+		 * Start of the first line not read yet
+		 */
+		private int start;
+
+		/**
+		 * End of the bytes in {@link #buffer}
+		 */
+		private int end;
+
+		private boolean eof;
+
+		ByteSource(InputStream input, byte separator) {
+			this.input = input;
+			this.separator = separator;
+		}
+
+		@Override
+		public int read(int[] blzNumbers, long[] kontoNumbers)
+				throws IOException {
+			int rows = 0;
+			while (rows < blzNumbers.length) {
+				int lineEnd = indexOf((byte) '\n', start, end);
+				if (lineEnd < 0) {
+					if (!eof) {
+						fill();
+						continue;
+					}
+					if (start == end)
+						break;
+					lineEnd = end;
+				}
+
+				int last = lineEnd;
+				if (last > start && buffer[last - 1] == '\r')
+					last--;
+				if (last > start) {
+					int pos = indexOf(separator, start, last);
+					if (pos < 0)
+						throw invalidLine("Missing separator: ", last);
+					long blzNumber = AccountNumberParser.parse(buffer, start,
+							pos - start);
+					long kontoNumber = AccountNumberParser.parse(buffer,
+							pos + 1, last - pos - 1);
+					if (blzNumber < 0 || blzNumber > MAX_BLZ || kontoNumber < 0)
+						throw invalidLine("Invalid line: ", last);
+					blzNumbers[rows] = (int) blzNumber;
+					kontoNumbers[rows] = kontoNumber;
+					rows++;
+				}
+				start = Math.min(lineEnd + 1, end);
+			}
+			return (rows == 0) ? -1 : rows;
+		}
+
+		private int indexOf(byte b, int from, int to) {
+			for (int pos = from; pos < to; pos++) {
+				if (buffer[pos] == b)
+					return pos;
+			}
+			return -1;
+		}
+
+		/**
+		 * Moves the incomplete line to the start of the buffer and reads
+		 * more bytes after it
+		 */
+		private void fill() throws IOException {
+			if (start > 0) {
+				System.arraycopy(buffer, start, buffer, 0, end - start);
+				end -= start;
+				start = 0;
+			}
+			if (end == buffer.length)
+				throw invalidLine("Line too long: ", end);
+
+			int count = input.read(buffer, end, buffer.length - end);
+			if (count < 0)
+				eof = true;
+			else
+				end += count;
+		}
+
+		private NumberFormatException invalidLine(String message, int last) {
+			return new NumberFormatException(message
+					+ new String(buffer, start, last - start,
+							StandardCharsets.ISO_8859_1));
+		}
+	}
+
+	private static class Chunk {
+		final int[] blzNumbers = new int[CHUNK_SIZE];
+		final long[] kontoNumbers = new long[CHUNK_SIZE];
+		final BatchResult result = new BatchResult(CHUNK_SIZE);
+		int rows;
+	}
+
+	private class ValidateTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final BlzGeneration generation;
+		private final int[] blzNumbers;
+		private final long[] kontoNumbers;
+		private final int from;
+		private final int to;
+		private final BatchResult result;
+
+		ValidateTask(BlzGeneration generation, int[] blzNumbers,
+				long[] kontoNumbers, int from, int to, BatchResult result) {
+			this.generation = generation;
+			this.blzNumbers = blzNumbers;
+			this.kontoNumbers = kontoNumbers;
+			this.from = from;
+			this.to = to;
+			this.result = result;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				validator.validate(generation, blzNumbers, kontoNumbers, from,
+						to, result);
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(new ValidateTask(generation, blzNumbers, kontoNumbers,
+					from, middle, result), new ValidateTask(generation,
+					blzNumbers, kontoNumbers, middle, to, result));
+		}
+	}
+
+}
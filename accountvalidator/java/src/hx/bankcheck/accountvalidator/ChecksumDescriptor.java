@@ -0,0 +1,285 @@
+package hx.bankcheck.accountvalidator;
+
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+
+import java.util.Arrays;
+
+/**
+ * Describes a checksum method that differs from others only in its
+ * parameters: weights or transformation lines per position, whether the
+ * crossfoot of every product is used, how the check digit is derived from the
+ * sum and where the check digit is.
+ *
+ * The parameters are turned into one table holding the contribution of every
+ * digit at every position, so all described methods share the same loop:
+ * one lookup and one addition per position, followed by the check digit
+ * rule. Methods with exceptions or alternatives keep their own
+ * implementation.
+ *
+ * $Id$
+ */
+public final class ChecksumDescriptor {
+
+	/**
+	 * How the check digit is derived from the sum
+	 */
+	public enum CheckDigit {
+		/**
+		 * No check digit, every account number is valid
+		 */
+		NONE,
+
+		/**
+		 * (10 - sum % 10) % 10
+		 */
+		MOD10,
+
+		/**
+		 * 10 - sum % 10, a result of 10 makes the account number invalid
+		 */
+		MOD10_TEN_INVALID,
+
+		/**
+		 * 11 - sum % 11, results of 10 and 11 become 0
+		 */
+		MOD11,
+
+		/**
+		 * 11 - sum % 11, a result of 11 becomes 0 and a result of 10 makes
+		 * the account number invalid
+		 */
+		MOD11_TEN_INVALID
+	}
+
+	/**
+	 * Descriptor of a method without check digit
+	 */
+	public static final ChecksumDescriptor NO_CHECK = new ChecksumDescriptor(
+			CheckDigit.NONE, new int[0], false, 9);
+
+	private final CheckDigit checkDigit;
+
+	/**
+	 * Contribution of digit d at position i to the sum at i * 10 + d
+	 */
+	private final int[] contributions;
+
+	/**
+	 * Weights of a method adding plain products, null for other methods
+	 */
+	private final int[] weights;
+
+	private final int positions;
+	private final int checkDigitPosition;
+
+	/**
+	 * Describes a method that multiplies every digit with a weight
+	 *
+	 * @param checkDigit
+	 *            rule for the check digit
+	 * @param weights
+	 *            weights from left to right, starting at the first digit
+	 * @param crossfoot
+	 *            "true" if the crossfoot of every product is added instead
+	 *            of the product
+	 * @param checkDigitPosition
+	 *            position of the check digit, 0 is the leftmost digit
+	 */
+	public ChecksumDescriptor(CheckDigit checkDigit, int[] weights,
+			boolean crossfoot, int checkDigitPosition) {
+		this.checkDigit = checkDigit;
+		this.positions = weights.length;
+		this.checkDigitPosition = checkDigitPosition;
+		this.weights = crossfoot ? null : weights.clone();
+
+		contributions = new int[positions * 10];
+		for (int i = 0; i < positions; i++) {
+			for (int digit = 0; digit < 10; digit++) {
+				contributions[i * 10 + digit] = crossfoot ? ChecksumUtils
+						.qsProduct(digit, weights[i]) : digit * weights[i];
+			}
+		}
+	}
+
+	/**
+	 * Describes a method that replaces every digit using one of several
+	 * transformation lines
+	 *
+	 * @param checkDigit
+	 *            rule for the check digit
+	 * @param transformLines
+	 *            the transformation lines, each maps the digits 0..9
+	 * @param transformOrder
+	 *            line used for every position from left to right, starting
+	 *            at the first digit (1 is the first line)
+	 * @param checkDigitPosition
+	 *            position of the check digit, 0 is the leftmost digit
+	 */
+	public ChecksumDescriptor(CheckDigit checkDigit, int[][] transformLines,
+			int[] transformOrder, int checkDigitPosition) {
+		this.checkDigit = checkDigit;
+		this.positions = transformOrder.length;
+		this.checkDigitPosition = checkDigitPosition;
+		this.weights = null;
+
+		contributions = new int[positions * 10];
+		for (int i = 0; i < positions; i++) {
+			System.arraycopy(transformLines[transformOrder[i] - 1], 0,
+					contributions, i * 10, 10);
+		}
+	}
+
+	/**
+	 * Calculates the check digit
+	 *
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned, every digit 0..9
+	 * @return the check digit, 10 if no check digit matches
+	 */
+	public int calcChecksum(int[] accountNumber) {
+		if (checkDigit == CheckDigit.NONE)
+			return accountNumber[checkDigitPosition];
+		return checkDigit(sum(accountNumber));
+	}
+
+	/**
+	 * Calculates the sum of the contributions of all digits
+	 * 
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned, every digit 0..9
+	 * @return the sum the check digit is derived from
+	 */
+	public int sum(int[] accountNumber) {
+		int[] table = contributions;
+		int sum = 0;
+		for (int i = 0, offset = 0; i < positions; i++, offset += 10)
+			sum += table[offset + accountNumber[i]];
+		return sum;
+	}
+
+	/**
+	 * Calculates the sums of a block of account numbers whose digits are laid
+	 * out column-wise, see {@link DescriptorBatch}. The inner loops run over
+	 * independent account numbers; for methods adding plain products the JIT
+	 * compiles them to vector instructions.
+	 * 
+	 * @param digits
+	 *            digit at position i of account number j at i * stride + j
+	 * @param stride
+	 *            distance between two positions in digits
+	 * @param count
+	 *            number of account numbers
+	 * @param sums
+	 *            receives the sum of every account number
+	 */
+	void sums(int[] digits, int stride, int count, int[] sums) {
+		Arrays.fill(sums, 0, count, 0);
+		for (int i = 0, offset = 0; i < positions; i++, offset += stride) {
+			if (weights != null) {
+				int weight = weights[i];
+				for (int j = 0; j < count; j++)
+					sums[j] += digits[offset + j] * weight;
+			} else {
+				int[] table = contributions;
+				int base = i * 10;
+				for (int j = 0; j < count; j++)
+					sums[j] += table[base + digits[offset + j]];
+			}
+		}
+	}
+
+	/**
+	 * Returns what a digit adds to the sum. The sum of an account number
+	 * differing in a few digits can be derived from the sum of the original
+	 * number by replacing the contributions of these digits.
+	 * 
+	 * @param position
+	 *            position of the digit, 0 is the leftmost digit
+	 * @param digit
+	 *            the digit 0..9
+	 * @return the contribution, 0 for positions that are not part of the sum
+	 */
+	public int contribution(int position, int digit) {
+		return (position < positions) ? contributions[position * 10 + digit]
+				: 0;
+	}
+
+	/**
+	 * Checks an account number by its sum, see {@link #sum(int[])}
+	 * 
+	 * @param sum
+	 *            the sum of the account number
+	 * @param digit
+	 *            the digit of the account number at the
+	 *            {@link #getCheckDigitPosition()}
+	 * @return "true" if the check digit matches
+	 */
+	public boolean validate(int sum, int digit) {
+		return checkDigit == CheckDigit.NONE || checkDigit(sum) == digit;
+	}
+
+	/**
+	 * Calculates the check digit for an account number of a method whose check
+	 * digit is the last digit, see {@link #getCheckDigitPosition()}
+	 * 
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned, every digit 0..9,
+	 *            the last digit is ignored
+	 * @return the last digit making the account number valid, the smallest
+	 *         one if every digit does, -1 if no digit does
+	 */
+	public int computeCheckDigit(int[] accountNumber) {
+		if (checkDigitPosition != 9 || positions > 9)
+			throw new IllegalStateException("Check digit is not the last digit");
+		if (checkDigit == CheckDigit.NONE)
+			return 0;
+		int digit = checkDigit(sum(accountNumber));
+		return (digit < 10) ? digit : -1;
+	}
+
+	private int checkDigit(int sum) {
+		switch (checkDigit) {
+		case MOD10:
+			return ChecksumUtils.checkDigit10(sum);
+		case MOD10_TEN_INVALID:
+			return 10 - ChecksumUtils.mod10(sum);
+		case MOD11: {
+			int checksum = 11 - ChecksumUtils.mod11(sum);
+			return (checksum >= 10) ? 0 : checksum;
+		}
+		case MOD11_TEN_INVALID: {
+			int checksum = 11 - ChecksumUtils.mod11(sum);
+			return (checksum == 11) ? 0 : checksum;
+		}
+		default:
+			throw new IllegalStateException("No check digit");
+		}
+	}
+
+	/**
+	 * Checks an account number
+	 *
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned, every digit 0..9
+	 * @return "true" if the check digit matches
+	 */
+	public boolean validate(int[] accountNumber) {
+		return checkDigit == CheckDigit.NONE
+				|| calcChecksum(accountNumber) == accountNumber[checkDigitPosition];
+	}
+
+	/**
+	 * @return the rule for the check digit
+	 */
+	public CheckDigit getCheckDigit() {
+		return checkDigit;
+	}
+
+	/**
+	 * @return position of the check digit, 0 is the leftmost digit
+	 */
+	public int getCheckDigitPosition() {
+		return checkDigitPosition;
+	}
+
+}
@@ -1,6 +1,9 @@
 package hx.bankcheck.accountvalidator;
 
+import hx.bankcheck.accountvalidator.exceptions.AccountNumberNotTestableException;
+import hx.bankcheck.accountvalidator.exceptions.IllegalAccountNumberException;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 public interface ChecksumValidator {
 
@@ -17,7 +20,149 @@ public interface ChecksumValidator {
 			throws ValidationException;
 
 	/**
-	 * Returns the alternative, the validator used to check the account number.
+	 * Checks an account number for correctness without changing the state of
+	 * the validator. The alternative used and the exception flag are stored in
+	 * the given result instead of being returned by {@link #getAlternative()}
+	 * and {@link #isException()}, so one instance may be shared by any number
+	 * of threads.
+	 * 
+	 * The default implementation for other validators calls
+	 * {@link #validate(int[], int[])} and copies {@link #getAlternative()} and
+	 * {@link #isException()} into the result, so it is only as thread-safe as
+	 * the validator itself.
+	 * 
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned.
+	 * @param bankNumber
+	 *            The 8-Digit bankNumber, right aligned.
+	 * @param result
+	 *            Receives the outcome of the validation, it is reset before.
+	 * @return
+	 */
+	public default boolean validate(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) throws ValidationException {
+		result.reset();
+		boolean valid = validate(accountNumber, bankNumber);
+		result.setAlternative(getAlternative());
+		result.setException(isException());
+		result.setValid(valid);
+		return valid;
+	}
+
+	/**
+	 * Checks an account number given as number for correctness. Works like
+	 * {@link #validate(int[], int[], ValidationResult)}, the digits are
+	 * extracted into the {@link ValidationBuffer} of the current thread, so no
+	 * objects are created.
+	 *
+	 * @param accountNumber
+	 *            The accountNumber, up to 10 digits.
+	 * @param bankNumber
+	 *            The bankNumber, up to 8 digits.
+	 * @param result
+	 *            Receives the outcome of the validation, it is reset before.
+	 * @return
+	 * @throws IllegalAccountNumberException
+	 *             thrown when accountNumber has too much digits
+	 */
+	public default boolean validate(long accountNumber, int bankNumber,
+			ValidationResult result) throws ValidationException {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		return validate(buffer.accountNumber(accountNumber),
+				buffer.bankNumber(bankNumber), result);
+	}
+
+	/**
+	 * Checks an account number like
+	 * {@link #validate(int[], int[], ValidationResult)}, but reports account
+	 * numbers that can't be checked by a status instead of an exception. The
+	 * validators of this library never create an exception here; the default
+	 * implementation for other validators translates their exceptions.
+	 * 
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned.
+	 * @param bankNumber
+	 *            The 8-Digit bankNumber, right aligned.
+	 * @param result
+	 *            Receives the outcome of the validation, it is reset before.
+	 * @return the status, one of {@link ValidationResult#VALID},
+	 *         {@link ValidationResult#INVALID},
+	 *         {@link ValidationResult#MALFORMED} or
+	 *         {@link ValidationResult#NOT_TESTABLE}
+	 */
+	public default byte check(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) {
+		try {
+			validate(accountNumber, bankNumber, result);
+		} catch (AccountNumberNotTestableException e) {
+			result.setStatus(ValidationResult.NOT_TESTABLE);
+		} catch (ValidationException e) {
+			result.setStatus(ValidationResult.MALFORMED);
+		}
+		return result.getStatus();
+	}
+
+	/**
+	 * Checks an account number given as number like
+	 * {@link #check(int[], int[], ValidationResult)}. Negative account numbers
+	 * and account numbers with more than 10 digits are
+	 * {@link ValidationResult#MALFORMED}.
+	 * 
+	 * @param accountNumber
+	 *            The accountNumber, up to 10 digits.
+	 * @param bankNumber
+	 *            The bankNumber, up to 8 digits.
+	 * @param result
+	 *            Receives the outcome of the validation, it is reset before.
+	 * @return the status
+	 */
+	public default byte check(long accountNumber, int bankNumber,
+			ValidationResult result) {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		int[] digits = buffer.accountNumberOrNull(accountNumber);
+		if (digits == null) {
+			result.reset();
+			result.setStatus(ValidationResult.MALFORMED);
+			return ValidationResult.MALFORMED;
+		}
+		return check(digits, buffer.bankNumber(bankNumber), result);
+	}
+
+	/**
+	 * Calculates the check digit of an account number: the last digit that
+	 * makes it valid. The default implementation checks the ten possible
+	 * account numbers with {@link #check(long, int, ValidationResult)};
+	 * validators that can derive the digit with one calculation should
+	 * override it. If several digits are valid, e.g. for methods with
+	 * alternatives, the smallest is returned.
+	 * 
+	 * @param body
+	 *            The accountNumber without its last digit, up to 9 digits.
+	 * @param bankNumber
+	 *            The bankNumber, up to 8 digits.
+	 * @param result
+	 *            Receives {@link ValidationResult#VALID} and the alternative
+	 *            if a digit was found, otherwise the status of the last
+	 *            account number checked. It is reset before.
+	 * @return the check digit, -1 if no digit makes the account number valid
+	 */
+	public default int computeCheckDigit(long body, int bankNumber,
+			ValidationResult result) {
+		if (body < 0 || body > ChecksumUtils.MAX_ACCOUNT_NUMBER / 10) {
+			result.reset();
+			result.setStatus(ValidationResult.MALFORMED);
+			return -1;
+		}
+		for (int digit = 0; digit < 10; digit++) {
+			if (check(body * 10 + digit, bankNumber, result) == ValidationResult.VALID)
+				return digit;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the alternative, the validator used to check the account number
+	 * in the last call of {@link #validate(int[], int[])}.
 	 * 
 	 * @return The alternative
 	 */
@@ -1,9 +1,13 @@
 package hx.bankcheck.accountvalidator;
 
+import hx.bankcheck.accountvalidator.exceptions.AccountNumberNotTestableException;
 import hx.bankcheck.accountvalidator.exceptions.IllegalAccountNumberException;
 import hx.bankcheck.accountvalidator.exceptions.IllegalBankNumberException;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.exceptions.ValidatorUnknownException;
+import hx.bankcheck.accountvalidator.impl.*;
+
+import java.util.function.Supplier;
 
 /**
  * 
@@ -13,9 +17,13 @@ import hx.bankcheck.accountvalidator.exceptions.ValidatorUnknownException;
  *         $Id$
  */
 public class ChecksumValidatorFactory {
-	private final static String CLASS_BASE_NAME = ChecksumValidatorFactory.class
-			.getPackage().getName()
-			+ ".impl.Checksum";
+
+	/**
+	 * Size of the validator table: 36 x 10 two-character codes plus "M10H"
+	 */
+	final static int TABLE_SIZE = 36 * 10 + 1;
+
+	private final static int INDEX_M10H = 36 * 10;
 
 	/**
 	 * 
@@ -41,6 +49,35 @@ public class ChecksumValidatorFactory {
 			return wrappedValidator.validate(accountNumber, bankNumber);
 		}
 
+		@Override
+		public boolean validate(int[] accountNumber, int[] bankNumber,
+				ValidationResult result) throws ValidationException {
+			checkAccountNumber(accountNumber);
+			checkBankNumber(bankNumber);
+
+			return wrappedValidator.validate(accountNumber, bankNumber, result);
+		}
+
+		@Override
+		public boolean validate(long accountNumber, int bankNumber,
+				ValidationResult result) throws ValidationException {
+			ValidationBuffer buffer = ValidationBuffer.get();
+			return validate(buffer.accountNumber(accountNumber),
+					buffer.bankNumber(bankNumber), result);
+		}
+
+		@Override
+		public byte check(int[] accountNumber, int[] bankNumber,
+				ValidationResult result) {
+			if (!isAccountNumber(accountNumber) || !isBankNumber(bankNumber)) {
+				result.reset();
+				result.setStatus(ValidationResult.MALFORMED);
+				return ValidationResult.MALFORMED;
+			}
+
+			return wrappedValidator.check(accountNumber, bankNumber, result);
+		}
+
 		/**
 		 * Checks the accountNumber for plausibility
 		 * 
@@ -89,6 +126,38 @@ public class ChecksumValidatorFactory {
 			}
 		}
 
+		/**
+		 * Checks the accountNumber for plausibility like
+		 * {@link #checkAccountNumber(int[])}, without exception
+		 */
+		private boolean isAccountNumber(int[] accountNumber) {
+			if (accountNumber == null || accountNumber.length != 10)
+				return false;
+
+			for (int i = 0; i < 10; i++) {
+				if (accountNumber[i] > 9 || accountNumber[i] < 0)
+					return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Checks the bankNumber for plausibility like
+		 * {@link #checkBankNumber(int[])}, without exception
+		 */
+		private boolean isBankNumber(int[] bankNumber) {
+			if (bankNumber == null)
+				return true;
+			if (bankNumber.length != 8)
+				return false;
+
+			for (int i = 0; i < 8; i++) {
+				if (bankNumber[i] > 9 || bankNumber[i] < 0)
+					return false;
+			}
+			return true;
+		}
+
 		/**
 		 * Returns the wrapped ChecksumValidator
 		 * 
@@ -110,11 +179,419 @@ public class ChecksumValidatorFactory {
 
 	}
 
+	/**
+	 * Counts the calls of a validator in {@link ValidationMetrics}
+	 * 
+	 * $Id$
+	 */
+	class MeasuringWrapper implements ChecksumValidator {
+
+		private final ChecksumValidator wrappedValidator;
+		private final int method;
+		private final ValidationMetrics metrics;
+
+		MeasuringWrapper(ChecksumValidator wrappedValidator, int method,
+				ValidationMetrics metrics) {
+			this.wrappedValidator = wrappedValidator;
+			this.method = method;
+			this.metrics = metrics;
+		}
+
+		@Override
+		public boolean validate(int[] accountNumber, int[] bankNumber)
+				throws ValidationException {
+			long start = System.nanoTime();
+			try {
+				boolean valid = wrappedValidator.validate(accountNumber,
+						bankNumber);
+				record(valid, wrappedValidator.getAlternative(), start);
+				return valid;
+			} catch (ValidationException e) {
+				record(e, start);
+				throw e;
+			}
+		}
+
+		@Override
+		public boolean validate(int[] accountNumber, int[] bankNumber,
+				ValidationResult result) throws ValidationException {
+			long start = System.nanoTime();
+			try {
+				boolean valid = wrappedValidator.validate(accountNumber,
+						bankNumber, result);
+				record(valid, result.getAlternative(), start);
+				return valid;
+			} catch (ValidationException e) {
+				record(e, start);
+				throw e;
+			}
+		}
+
+		@Override
+		public boolean validate(long accountNumber, int bankNumber,
+				ValidationResult result) throws ValidationException {
+			long start = System.nanoTime();
+			try {
+				boolean valid = wrappedValidator.validate(accountNumber,
+						bankNumber, result);
+				record(valid, result.getAlternative(), start);
+				return valid;
+			} catch (ValidationException e) {
+				record(e, start);
+				throw e;
+			}
+		}
+
+		@Override
+		public byte check(int[] accountNumber, int[] bankNumber,
+				ValidationResult result) {
+			long start = System.nanoTime();
+			byte status = wrappedValidator.check(accountNumber, bankNumber,
+					result);
+			record(status, result.getAlternative(), start);
+			return status;
+		}
+
+		@Override
+		public byte check(long accountNumber, int bankNumber,
+				ValidationResult result) {
+			long start = System.nanoTime();
+			byte status = wrappedValidator.check(accountNumber, bankNumber,
+					result);
+			record(status, result.getAlternative(), start);
+			return status;
+		}
+
+		private void record(byte status, int alternative, long start) {
+			int outcome;
+			switch (status) {
+			case ValidationResult.VALID:
+				outcome = ValidationMetrics.VALID;
+				break;
+			case ValidationResult.INVALID:
+				outcome = ValidationMetrics.INVALID;
+				break;
+			case ValidationResult.NOT_TESTABLE:
+				outcome = ValidationMetrics.NOT_TESTABLE;
+				break;
+			default:
+				outcome = ValidationMetrics.ERROR;
+			}
+			metrics.record(method, outcome, alternative, System.nanoTime()
+					- start);
+		}
+
+		private void record(boolean valid, int alternative, long start) {
+			int outcome = valid ? ValidationMetrics.VALID
+					: ValidationMetrics.INVALID;
+			metrics.record(method, outcome, alternative, System.nanoTime()
+					- start);
+		}
+
+		private void record(ValidationException e, long start) {
+			int outcome = (e instanceof AccountNumberNotTestableException) ? ValidationMetrics.NOT_TESTABLE
+					: ValidationMetrics.ERROR;
+			metrics.record(method, outcome, 0, System.nanoTime() - start);
+		}
+
+		/**
+		 * Returns the wrapped ChecksumValidator
+		 * 
+		 * @return
+		 */
+		public ChecksumValidator getWrappedValidator() {
+			return wrappedValidator;
+		}
+
+		@Override
+		public int getAlternative() {
+			return wrappedValidator.getAlternative();
+		}
+
+		@Override
+		public boolean isException() {
+			return wrappedValidator.isException();
+		}
+
+	}
+
+	/**
+	 * Validator tables wrapped by a MeasuringWrapper
+	 */
+	private static class MeasuringTables {
+		final ValidationMetrics metrics;
+		final ChecksumValidator[] validators = new ChecksumValidator[TABLE_SIZE];
+		final ChecksumValidator[] wrappedValidators = new ChecksumValidator[TABLE_SIZE];
+
+		MeasuringTables(ValidationMetrics metrics) {
+			this.metrics = metrics;
+		}
+	}
+
 	/**
 	 * Return validators, that checks the accountNumber for common mistakes
 	 */
 	private boolean numberValidating = false;
 
+	/**
+	 * Validators adapt the order of their alternatives
+	 */
+	private boolean adaptiveOrdering = false;
+
+	/**
+	 * Validators indexed by {@link #indexOf(String)}
+	 */
+	private final ChecksumValidator[] validators = new ChecksumValidator[TABLE_SIZE];
+
+	/**
+	 * Constructors of the validators, indexed like {@link #validators}
+	 */
+	@SuppressWarnings("unchecked")
+	private final Supplier<ChecksumValidator>[] constructors = new Supplier[TABLE_SIZE];
+
+	/**
+	 * Validators of {@link #validators} wrapped by a NumberValidatingWrapper
+	 */
+	private final ChecksumValidator[] wrappedValidators = new ChecksumValidator[TABLE_SIZE];
+
+	/**
+	 * Descriptors of the methods that differ from others only in their
+	 * parameters, indexed like {@link #validators}
+	 */
+	private final ChecksumDescriptor[] descriptors = new ChecksumDescriptor[TABLE_SIZE];
+
+	/**
+	 * Tables used while metrics are collected, null otherwise
+	 */
+	private volatile MeasuringTables measuringTables;
+
+	public ChecksumValidatorFactory() {
+		register("00", Checksum00::new, Checksum00.DESCRIPTOR);
+		register("01", Checksum01::new, Checksum01.DESCRIPTOR);
+		register("02", Checksum02::new, Checksum02.DESCRIPTOR);
+		register("03", Checksum03::new, Checksum03.DESCRIPTOR);
+		register("04", Checksum04::new, Checksum04.DESCRIPTOR);
+		register("05", Checksum05::new, Checksum05.DESCRIPTOR);
+		register("06", Checksum06::new, Checksum06.DESCRIPTOR);
+		register("07", Checksum07::new, Checksum07.DESCRIPTOR);
+		register("08", Checksum08::new);
+		register("09", Checksum09::new, Checksum09.DESCRIPTOR);
+		register("10", Checksum10::new, Checksum10.DESCRIPTOR);
+		register("11", Checksum11::new);
+		register("13", Checksum13::new);
+		register("14", Checksum14::new);
+		register("15", Checksum15::new);
+		register("16", Checksum16::new);
+		register("17", Checksum17::new);
+		register("18", Checksum18::new, Checksum18.DESCRIPTOR);
+		register("19", Checksum19::new, Checksum19.DESCRIPTOR);
+		register("20", Checksum20::new, Checksum20.DESCRIPTOR);
+		register("21", Checksum21::new);
+		register("22", Checksum22::new);
+		register("23", Checksum23::new);
+		register("24", Checksum24::new);
+		register("25", Checksum25::new);
+		register("26", Checksum26::new);
+		register("27", Checksum27::new);
+		register("28", Checksum28::new, Checksum28.DESCRIPTOR);
+		register("29", Checksum29::new);
+		register("30", Checksum30::new);
+		register("31", Checksum31::new);
+		register("32", Checksum32::new, Checksum32.DESCRIPTOR);
+		register("33", Checksum33::new, Checksum33.DESCRIPTOR);
+		register("34", Checksum34::new, Checksum34.DESCRIPTOR);
+		register("35", Checksum35::new);
+		register("36", Checksum36::new, Checksum36.DESCRIPTOR);
+		register("37", Checksum37::new, Checksum37.DESCRIPTOR);
+		register("38", Checksum38::new, Checksum38.DESCRIPTOR);
+		register("39", Checksum39::new, Checksum39.DESCRIPTOR);
+		register("40", Checksum40::new, Checksum40.DESCRIPTOR);
+		register("41", Checksum41::new);
+		register("42", Checksum42::new, Checksum42.DESCRIPTOR);
+		register("43", Checksum43::new);
+		register("44", Checksum44::new, Checksum44.DESCRIPTOR);
+		register("45", Checksum45::new);
+		register("46", Checksum46::new);
+		register("47", Checksum47::new);
+		register("48", Checksum48::new);
+		register("49", Checksum49::new);
+		register("50", Checksum50::new);
+		register("51", Checksum51::new);
+		register("52", Checksum52::new);
+		register("53", Checksum53::new);
+		register("54", Checksum54::new);
+		register("55", Checksum55::new, Checksum55.DESCRIPTOR);
+		register("56", Checksum56::new);
+		register("57", Checksum57::new);
+		register("58", Checksum58::new);
+		register("59", Checksum59::new);
+		register("60", Checksum60::new, Checksum60.DESCRIPTOR);
+		register("61", Checksum61::new);
+		register("62", Checksum62::new);
+		register("63", Checksum63::new);
+		register("64", Checksum64::new);
+		register("65", Checksum65::new);
+		register("66", Checksum66::new);
+		register("67", Checksum67::new);
+		register("68", Checksum68::new);
+		register("69", Checksum69::new);
+		register("70", Checksum70::new);
+		register("71", Checksum71::new);
+		register("72", Checksum72::new, Checksum72.DESCRIPTOR);
+		register("73", Checksum73::new);
+		register("74", Checksum74::new);
+		register("75", Checksum75::new);
+		register("76", Checksum76::new);
+		register("77", Checksum77::new);
+		register("78", Checksum78::new);
+		register("79", Checksum79::new);
+		register("80", Checksum80::new);
+		register("81", Checksum81::new);
+		register("82", Checksum82::new);
+		register("83", Checksum83::new);
+		register("84", Checksum84::new);
+		register("85", Checksum85::new);
+		register("86", Checksum86::new);
+		register("87", Checksum87::new);
+		register("88", Checksum88::new);
+		register("89", Checksum89::new);
+		register("90", Checksum90::new);
+		register("91", Checksum91::new);
+		register("92", Checksum92::new, Checksum92.DESCRIPTOR);
+		register("93", Checksum93::new);
+		register("94", Checksum94::new, Checksum94.DESCRIPTOR);
+		register("95", Checksum95::new);
+		register("96", Checksum96::new);
+		register("97", Checksum97::new);
+		register("98", Checksum98::new);
+		register("99", Checksum99::new);
+		register("A0", ChecksumA0::new);
+		register("A1", ChecksumA1::new);
+		register("A2", ChecksumA2::new);
+		register("A3", ChecksumA3::new);
+		register("A4", ChecksumA4::new);
+		register("A5", ChecksumA5::new);
+		register("A6", ChecksumA6::new);
+		register("A7", ChecksumA7::new);
+		register("A8", ChecksumA8::new);
+		register("A9", ChecksumA9::new);
+		register("B0", ChecksumB0::new);
+		register("B1", ChecksumB1::new);
+		register("B2", ChecksumB2::new);
+		register("B3", ChecksumB3::new);
+		register("B4", ChecksumB4::new);
+		register("B5", ChecksumB5::new);
+		register("B6", ChecksumB6::new);
+		register("B7", ChecksumB7::new);
+		register("B8", ChecksumB8::new);
+		register("B9", ChecksumB9::new);
+		register("C0", ChecksumC0::new);
+		register("C1", ChecksumC1::new);
+		register("C2", ChecksumC2::new);
+		register("C3", ChecksumC3::new);
+		register("C4", ChecksumC4::new);
+		register("C5", ChecksumC5::new);
+		register("C6", ChecksumC6::new);
+		register("C7", ChecksumC7::new);
+		register("C8", ChecksumC8::new);
+		register("C9", ChecksumC9::new);
+		register("D0", ChecksumD0::new);
+		register("D1", ChecksumD1::new);
+		register("D2", ChecksumD2::new);
+		register("D3", ChecksumD3::new);
+		register("D4", ChecksumD4::new);
+		register("D5", ChecksumD5::new);
+		register("D6", ChecksumD6::new);
+		register("D7", ChecksumD7::new);
+		register("D8", ChecksumD8::new);
+		register("M10H", ChecksumM10H::new, ChecksumM10H.DESCRIPTOR);
+	}
+
+	/**
+	 * Adds a validator to the table
+	 * 
+	 * @param code
+	 *            Code of the validator
+	 * @param constructor
+	 *            Creates the validator, called once for the shared instance
+	 *            and once per {@link #createValidatorFor(String)}
+	 */
+	private void register(String code,
+			Supplier<ChecksumValidator> constructor) {
+		int index = indexOf(code);
+		ChecksumValidator validator = constructor.get();
+		constructors[index] = constructor;
+		validators[index] = validator;
+		wrappedValidators[index] = new NumberValidatingWrapper(validator);
+	}
+
+	/**
+	 * Adds a validator and its descriptor to the table
+	 * 
+	 * @param code
+	 *            Code of the validator
+	 * @param constructor
+	 *            Creates the validator
+	 * @param descriptor
+	 *            Descriptor giving the same results as the validator
+	 */
+	private void register(String code,
+			Supplier<ChecksumValidator> constructor,
+			ChecksumDescriptor descriptor) {
+		register(code, constructor);
+		descriptors[indexOf(code)] = descriptor;
+	}
+
+	/**
+	 * Returns the position of a code in the validator table. Two-character
+	 * codes consist of a digit or a letter followed by a digit, the only
+	 * longer code is "M10H". The positions of the two-character codes are
+	 * those of {@link hx.bankcheck.blz.BlzGeneration#findMethod(int)}.
+	 * 
+	 * @param code
+	 *            Code, usually consists of two letters
+	 * @return position in the table or -1 if the code is malformed
+	 */
+	static int indexOf(String code) {
+		if (code == null)
+			return -1;
+
+		if (code.length() == 2) {
+			char first = code.charAt(0);
+			int second = code.charAt(1) - '0';
+			if (second < 0 || second > 9)
+				return -1;
+			if (first >= '0' && first <= '9')
+				return (first - '0') * 10 + second;
+			if (first >= 'A' && first <= 'Z')
+				return (first - 'A' + 10) * 10 + second;
+			return -1;
+		}
+
+		if ("M10H".equals(code))
+			return INDEX_M10H;
+
+		return -1;
+	}
+
+	/**
+	 * Returns the code at a position of the validator table, the reverse of
+	 * {@link #indexOf(String)}
+	 * 
+	 * @param index
+	 *            position in the table
+	 * @return the code
+	 */
+	static String codeOf(int index) {
+		if (index == INDEX_M10H)
+			return "M10H";
+
+		int first = index / 10;
+		return new String(new char[] {
+				(char) ((first < 10) ? '0' + first : 'A' + first - 10),
+				(char) ('0' + index % 10) });
+	}
+
 	/**
 	 * Returns whether created Validators check the accountNumber for common
 	 * mistakes or not
@@ -136,7 +613,79 @@ public class ChecksumValidatorFactory {
 	}
 
 	/**
-	 * Creates the corresponding ChecksumValidator
+	 * Returns whether the validators of this factory adapt the order of their
+	 * alternatives
+	 * 
+	 * @return
+	 */
+	public boolean isAdaptiveOrdering() {
+		return adaptiveOrdering;
+	}
+
+	/**
+	 * Sets whether methods that accept an account number if one of their
+	 * alternatives does try the alternative accepting most account numbers
+	 * first, see {@link AbstractChecksumValidator#setAdaptiveOrdering(boolean)}.
+	 * Applies to the validators used internally and to those returned by
+	 * {@link #createValidatorFor(String)} afterwards. Whether an account
+	 * number is valid doesn't change.
+	 * 
+	 * @param adaptiveOrdering
+	 */
+	public void setAdaptiveOrdering(boolean adaptiveOrdering) {
+		this.adaptiveOrdering = adaptiveOrdering;
+		for (ChecksumValidator validator : validators) {
+			if (validator instanceof AbstractChecksumValidator)
+				((AbstractChecksumValidator) validator)
+						.setAdaptiveOrdering(adaptiveOrdering);
+		}
+	}
+
+	/**
+	 * Returns the metrics the validators count their calls in
+	 * 
+	 * @return the metrics or null if no metrics are collected
+	 */
+	public ValidationMetrics getMetrics() {
+		MeasuringTables tables = measuringTables;
+		return (tables == null) ? null : tables.metrics;
+	}
+
+	/**
+	 * Sets the metrics all validators count their calls in. Validators
+	 * returned afterwards are wrapped, validators returned before keep
+	 * running without metrics.
+	 * 
+	 * @param metrics
+	 *            the metrics, null to stop collecting metrics
+	 */
+	public void setMetrics(ValidationMetrics metrics) {
+		if (metrics == null) {
+			measuringTables = null;
+			return;
+		}
+
+		MeasuringTables tables = new MeasuringTables(metrics);
+		for (int i = 0; i < TABLE_SIZE; i++) {
+			if (validators[i] != null) {
+				tables.validators[i] = new MeasuringWrapper(validators[i], i,
+						metrics);
+				tables.wrappedValidators[i] = new MeasuringWrapper(
+						wrappedValidators[i], i, metrics);
+			}
+		}
+		measuringTables = tables;
+	}
+
+	/**
+	 * Returns the corresponding ChecksumValidator. Every call returns a new
+	 * instance, so {@link ChecksumValidator#getAlternative()} and
+	 * {@link ChecksumValidator#isException()} belong to the caller. The
+	 * validator follows the settings of the factory at the time of the call:
+	 * number validation, adaptive ordering and metrics.
+	 * 
+	 * The validators the factory uses internally, see
+	 * {@link #validatorAt(int)}, are created once and shared.
 	 * 
 	 * @param code
 	 *            Code, usually consists of two letters
@@ -146,27 +695,60 @@ public class ChecksumValidatorFactory {
 	 */
 	public ChecksumValidator createValidatorFor(String code)
 			throws ValidatorUnknownException {
-		String className = CLASS_BASE_NAME + code;
+		int index = indexOf(code);
+		Supplier<ChecksumValidator> constructor = (index < 0) ? null
+				: constructors[index];
 
-		try {
-			@SuppressWarnings("unchecked")
-			Class<ChecksumValidator> clazz = (Class<ChecksumValidator>) Class
-					.forName(className);
+		if (constructor == null)
+			throw new ValidatorUnknownException("Unknown Code: " + code);
 
-			ChecksumValidator validator = clazz.newInstance();
+		ChecksumValidator validator = constructor.get();
 
-			if (isNumberValidating()) {
-				validator = new NumberValidatingWrapper(validator);
-			}
+		if (validator instanceof AbstractChecksumValidator)
+			((AbstractChecksumValidator) validator)
+					.setAdaptiveOrdering(adaptiveOrdering);
+		if (isNumberValidating())
+			validator = new NumberValidatingWrapper(validator);
+		MeasuringTables tables = measuringTables;
+		if (tables != null)
+			validator = new MeasuringWrapper(validator, index, tables.metrics);
 
-			return validator;
-		} catch (ClassNotFoundException e) {
-			throw new ValidatorUnknownException("Unknown Code: " + code, e);
-		} catch (InstantiationException e) {
-			throw new RuntimeException(e.getMessage(), e);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e.getMessage(), e);
-		}
+		return validator;
+	}
+
+	/**
+	 * Returns the validator at a position of the validator table, see
+	 * {@link #indexOf(String)}
+	 * 
+	 * @param index
+	 *            position in the table
+	 * @return the validator or null if there is none for this position
+	 */
+	ChecksumValidator validatorAt(int index) {
+		MeasuringTables tables = measuringTables;
+		if (tables != null)
+			return isNumberValidating() ? tables.wrappedValidators[index]
+					: tables.validators[index];
+
+		return isNumberValidating() ? wrappedValidators[index]
+				: validators[index];
+	}
+
+	/**
+	 * Returns the descriptor at a position of the validator table. Callers
+	 * validate with the descriptor instead of the validator when there is
+	 * one, so there is none while the validators check the account number
+	 * for common mistakes or count their calls.
+	 * 
+	 * @param index
+	 *            position in the table
+	 * @return the descriptor or null if the validator has to be used
+	 */
+	ChecksumDescriptor descriptorAt(int index) {
+		if (measuringTables != null || isNumberValidating())
+			return null;
+
+		return descriptors[index];
 	}
 
 }
@@ -0,0 +1,75 @@
+package hx.bankcheck.accountvalidator;
+
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+
+/**
+ * Checks the rows of a batch that use the same {@link ChecksumDescriptor},
+ * {@value #BLOCK} rows at a time. The digits of a block are laid out
+ * column-wise, all first digits, then all second digits and so on, so the
+ * sums are built by loops over independent account numbers instead of one
+ * account number after the other, see
+ * {@link ChecksumDescriptor#sums(int[], int, int, int[])}.
+ *
+ * Belongs to the {@link ValidationBuffer} of one thread.
+ *
+ * $Id$
+ */
+final class DescriptorBatch {
+
+	/**
+	 * Rows per block, the digits of a block take 10 KB
+	 */
+	static final int BLOCK = 256;
+
+	private final int[] digits = new int[10 * BLOCK];
+	private final int[] sums = new int[BLOCK];
+	private final int[] rows = new int[BLOCK];
+	private final int[] high = new int[BLOCK];
+	private final int[] low = new int[BLOCK];
+
+	/**
+	 * Checks the rows order[from] to order[to - 1] and stores their status
+	 */
+	void check(ChecksumDescriptor descriptor, long[] kontoNumbers,
+			int[] order, int from, int to, BatchResult result) {
+		int check = descriptor.getCheckDigitPosition() * BLOCK;
+		for (int first = from; first < to; first += BLOCK) {
+			int last = Math.min(to, first + BLOCK);
+			int count = 0;
+			for (int i = first; i < last; i++) {
+				int row = order[i];
+				long kontoNumber = kontoNumbers[row];
+				if (kontoNumber < 0
+						|| kontoNumber > ChecksumUtils.MAX_ACCOUNT_NUMBER) {
+					result.set(row, BatchResult.MALFORMED, 0);
+					continue;
+				}
+
+				// two halves of five digits, so the digits are taken apart
+				// with int instead of long divisions
+				high[count] = (int) (kontoNumber / 100000);
+				low[count] = (int) (kontoNumber % 100000);
+				rows[count++] = row;
+			}
+
+			for (int pos = 9 * BLOCK; pos >= 5 * BLOCK; pos -= BLOCK) {
+				for (int j = 0; j < count; j++) {
+					digits[pos + j] = low[j] % 10;
+					low[j] /= 10;
+				}
+			}
+			for (int pos = 4 * BLOCK; pos >= 0; pos -= BLOCK) {
+				for (int j = 0; j < count; j++) {
+					digits[pos + j] = high[j] % 10;
+					high[j] /= 10;
+				}
+			}
+
+			descriptor.sums(digits, BLOCK, count, sums);
+			for (int j = 0; j < count; j++)
+				result.set(rows[j], descriptor.validate(sums[j], digits[check
+						+ j]) ? BatchResult.VALID : BatchResult.INVALID, 0);
+		}
+	}
+
+}
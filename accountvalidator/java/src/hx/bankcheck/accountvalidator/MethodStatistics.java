@@ -0,0 +1,95 @@
+package hx.bankcheck.accountvalidator;
+
+/**
+ * Counters of one checksum method at the time they were read, see
+ * {@link ValidationMetrics#getMethods()}
+ *
+ * $Id$
+ */
+public class MethodStatistics {
+
+	private final String code;
+	private final long valid;
+	private final long invalid;
+	private final long notTestable;
+	private final long errors;
+	private final long[] alternatives;
+	private final long[] latencies;
+
+	MethodStatistics(String code, long valid, long invalid, long notTestable,
+			long errors, long[] alternatives, long[] latencies) {
+		this.code = code;
+		this.valid = valid;
+		this.invalid = invalid;
+		this.notTestable = notTestable;
+		this.errors = errors;
+		this.alternatives = alternatives;
+		this.latencies = latencies;
+	}
+
+	/**
+	 * @return code of the method
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	/**
+	 * @return number of validations
+	 */
+	public long getCalls() {
+		return valid + invalid + notTestable + errors;
+	}
+
+	/**
+	 * @return number of valid account numbers
+	 */
+	public long getValid() {
+		return valid;
+	}
+
+	/**
+	 * @return number of invalid account numbers
+	 */
+	public long getInvalid() {
+		return invalid;
+	}
+
+	/**
+	 * @return number of account numbers the method could not check
+	 */
+	public long getNotTestable() {
+		return notTestable;
+	}
+
+	/**
+	 * @return number of rejected account or bank numbers
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return number of valid and invalid results by alternative, the last
+	 *         element also counts all higher alternatives
+	 */
+	public long[] getAlternatives() {
+		return alternatives.clone();
+	}
+
+	/**
+	 * @return number of validations by latency bucket, see
+	 *         {@link ValidationMetrics#getLatencyBucketLimits()}
+	 */
+	public long[] getLatencies() {
+		return latencies.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "MethodStatistics [code=" + code + ", calls=" + getCalls()
+				+ ", valid=" + valid + ", invalid=" + invalid
+				+ ", notTestable=" + notTestable + ", errors=" + errors + "]";
+	}
+
+}
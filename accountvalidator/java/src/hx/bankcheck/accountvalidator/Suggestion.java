@@ -0,0 +1,90 @@
+package hx.bankcheck.accountvalidator;
+
+/**
+ * A valid account number the user may have meant when entering an invalid
+ * one, see {@link BankAccountValidator#suggest(int, long)}.
+ *
+ * Suggestions are ordered by how common the typing mistake is, then by
+ * account number.
+ *
+ * $Id$
+ */
+public final class Suggestion implements Comparable<Suggestion> {
+
+	/**
+	 * The mistake that turned the suggested number into the entered one,
+	 * the most common first
+	 */
+	public enum Kind {
+		/**
+		 * Two adjacent digits were swapped
+		 */
+		TRANSPOSITION,
+
+		/**
+		 * One digit was replaced by another
+		 */
+		SUBSTITUTION,
+
+		/**
+		 * A digit was entered that doesn't belong to the account number
+		 */
+		EXTRA_DIGIT,
+
+		/**
+		 * A digit of the account number was left out
+		 */
+		MISSING_DIGIT
+	}
+
+	private final long kontoNumber;
+	private final Kind kind;
+
+	Suggestion(long kontoNumber, Kind kind) {
+		this.kontoNumber = kontoNumber;
+		this.kind = kind;
+	}
+
+	/**
+	 * @return the suggested account number
+	 */
+	public long getKontoNumber() {
+		return kontoNumber;
+	}
+
+	/**
+	 * @return the mistake the suggestion corrects
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	@Override
+	public int compareTo(Suggestion other) {
+		int order = kind.compareTo(other.kind);
+		if (order != 0)
+			return order;
+		return (kontoNumber < other.kontoNumber) ? -1
+				: (kontoNumber == other.kontoNumber) ? 0 : 1;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Suggestion))
+			return false;
+		Suggestion other = (Suggestion) obj;
+		return kontoNumber == other.kontoNumber && kind == other.kind;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (kontoNumber ^ (kontoNumber >>> 32)) * 31 + kind.ordinal();
+	}
+
+	@Override
+	public String toString() {
+		return "Suggestion [kontoNumber=" + kontoNumber + ", kind=" + kind
+				+ "]";
+	}
+
+}
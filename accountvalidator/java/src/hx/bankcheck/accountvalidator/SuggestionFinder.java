@@ -0,0 +1,152 @@
+package hx.bankcheck.accountvalidator;
+
+import hx.bankcheck.accountvalidator.Suggestion.Kind;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the valid account numbers that differ from an account number by one
+ * typing mistake, see {@link BankAccountValidator#suggest(int, long)}. Used
+ * for one search only.
+ *
+ * For methods with a {@link ChecksumDescriptor} the sum of every candidate
+ * is derived from sums of the original digits: a substitution or
+ * transposition replaces the contributions of one or two digits, a missing or
+ * extra digit combines the sum of the digits right of it with the sum of the
+ * digits left of it, moved by one position. Every candidate is checked with a
+ * few additions. Other methods check every candidate with their validator.
+ *
+ * $Id$
+ */
+final class SuggestionFinder {
+
+	private static final long[] POWERS = new long[11];
+
+	static {
+		POWERS[0] = 1;
+		for (int i = 1; i < POWERS.length; i++)
+			POWERS[i] = POWERS[i - 1] * 10;
+	}
+
+	private final ChecksumDescriptor descriptor;
+	private final ChecksumValidator validator;
+	private final int blzNumber;
+	private final long kontoNumber;
+	private final ValidationResult result = new ValidationResult();
+	private final List<Suggestion> suggestions = new ArrayList<Suggestion>();
+	private final Set<Long> found = new HashSet<Long>();
+
+	SuggestionFinder(ChecksumValidatorFactory factory, int method,
+			int blzNumber, long kontoNumber) {
+		this.descriptor = factory.descriptorAt(method);
+		this.validator = factory.validatorAt(method);
+		this.blzNumber = blzNumber;
+		this.kontoNumber = kontoNumber;
+	}
+
+	/**
+	 * @return the valid candidates, ordered, see {@link Suggestion}
+	 */
+	List<Suggestion> find() {
+		if (kontoNumber <= 0 || kontoNumber > ChecksumUtils.MAX_ACCOUNT_NUMBER
+				|| (descriptor == null && validator == null))
+			return suggestions;
+
+		int[] digits = new int[10];
+		for (int p = 0; p < 10; p++)
+			digits[p] = (int) (kontoNumber / POWERS[9 - p] % 10);
+		int first = 0;
+		while (digits[first] == 0)
+			first++;
+
+		// suffix[p] is the sum of the digits at position p and right of it
+		int[] suffix = new int[11];
+		for (int p = 9; p >= 0; p--)
+			suffix[p] = suffix[p + 1] + contribution(p, digits[p]);
+		int sum = suffix[0];
+
+		for (int p = first; p < 9; p++) {
+			int a = digits[p];
+			int b = digits[p + 1];
+			if (a == b)
+				continue;
+			test(kontoNumber + (b - a) * POWERS[9 - p] + (a - b)
+					* POWERS[8 - p], sum - contribution(p, a)
+					- contribution(p + 1, b) + contribution(p, b)
+					+ contribution(p + 1, a), Kind.TRANSPOSITION);
+		}
+
+		for (int p = first; p < 10; p++) {
+			int rest = sum - contribution(p, digits[p]);
+			for (int digit = 0; digit < 10; digit++) {
+				if (digit != digits[p])
+					test(kontoNumber + (digit - digits[p]) * POWERS[9 - p],
+							rest + contribution(p, digit), Kind.SUBSTITUTION);
+			}
+		}
+
+		// the digit at p is left out, the digits left of it move one
+		// position to the right
+		int moved = contribution(0, 0);
+		for (int p = 0; p < 10; p++) {
+			if (p > 0)
+				moved += contribution(p, digits[p - 1]);
+			if (p >= first)
+				test(kontoNumber / POWERS[10 - p] * POWERS[9 - p] + kontoNumber
+						% POWERS[9 - p], moved + suffix[p + 1],
+						Kind.EXTRA_DIGIT);
+		}
+
+		// a digit is added at p, the digits left of it move one position to
+		// the left
+		if (first > 0) {
+			moved = 0;
+			for (int p = 0; p < 10; p++) {
+				if (p >= first - 1) {
+					long left = kontoNumber / POWERS[9 - p] * POWERS[10 - p];
+					long right = kontoNumber % POWERS[9 - p];
+					for (int digit = (p == first - 1) ? 1 : 0; digit < 10; digit++)
+						test(left + digit * POWERS[9 - p] + right, moved
+								+ contribution(p, digit) + suffix[p + 1],
+								Kind.MISSING_DIGIT);
+				}
+				if (p < 9)
+					moved += contribution(p, digits[p + 1]);
+			}
+		}
+
+		Collections.sort(suggestions);
+		return suggestions;
+	}
+
+	private int contribution(int position, int digit) {
+		return (descriptor == null) ? 0 : descriptor.contribution(position,
+				digit);
+	}
+
+	/**
+	 * Adds a candidate if it is valid and not found before
+	 */
+	private void test(long candidate, int sum, Kind kind) {
+		if (candidate <= 0 || candidate == kontoNumber)
+			return;
+
+		boolean valid;
+		if (descriptor != null) {
+			int position = descriptor.getCheckDigitPosition();
+			valid = descriptor.validate(sum, (int) (candidate
+					/ POWERS[9 - position] % 10));
+		} else {
+			valid = validator.check(candidate, blzNumber, result) == ValidationResult.VALID;
+		}
+
+		if (valid && found.add(Long.valueOf(candidate)))
+			suggestions.add(new Suggestion(candidate, kind));
+	}
+
+}
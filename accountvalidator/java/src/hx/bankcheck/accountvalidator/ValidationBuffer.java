@@ -0,0 +1,129 @@
+package hx.bankcheck.accountvalidator;
+
+import hx.bankcheck.accountvalidator.exceptions.IllegalAccountNumberException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread scratch space for validations of numeric account and bank
+ * numbers. The digit arrays and the result are reused for every call on the
+ * same thread, so validating via {@link #get()} does not create any objects.
+ *
+ * The arrays returned are overwritten by the next call on the same thread and
+ * must not be kept by the caller.
+ *
+ * $Id$
+ */
+public final class ValidationBuffer {
+
+	private static final ThreadLocal<ValidationBuffer> BUFFERS = new ThreadLocal<ValidationBuffer>() {
+		@Override
+		protected ValidationBuffer initialValue() {
+			return new ValidationBuffer();
+		}
+	};
+
+	private final int[] accountNumber = new int[10];
+	private final int[] bankNumber = new int[8];
+	private final ValidationResult result = new ValidationResult();
+
+	// scratch arrays of the batch validation
+	private final int[] counts = new int[ChecksumValidatorFactory.TABLE_SIZE + 1];
+	private final int[] methods = new int[BankAccountValidator.BATCH_BLOCK];
+	private final int[] order = new int[BankAccountValidator.BATCH_BLOCK];
+	private final DescriptorBatch descriptorBatch = new DescriptorBatch();
+
+	private ValidationBuffer() {
+	}
+
+	/**
+	 * @return the buffer of the current thread
+	 */
+	public static ValidationBuffer get() {
+		return BUFFERS.get();
+	}
+
+	/**
+	 * Parses an account number into the buffer.
+	 *
+	 * @param number
+	 *            the account number
+	 * @return the 10-Digit accountNumber, right aligned.
+	 * @throws IllegalAccountNumberException
+	 *             thrown when accountNumber has too much digits
+	 */
+	public int[] accountNumber(long number)
+			throws IllegalAccountNumberException {
+		return ChecksumUtils.parseAccountNumber(number, accountNumber);
+	}
+
+	/**
+	 * Parses an account number into the buffer without creating an exception
+	 * for numbers out of range.
+	 *
+	 * @param number
+	 *            the account number
+	 * @return the 10-Digit accountNumber, right aligned, or null if the number
+	 *         is negative or has more than 10 digits
+	 */
+	public int[] accountNumberOrNull(long number) {
+		if (number < 0 || number > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+			return null;
+
+		for (int pos = 9; pos >= 0; pos--) {
+			accountNumber[pos] = (int) (number % 10);
+			number /= 10;
+		}
+		return accountNumber;
+	}
+
+	/**
+	 * Parses a bank number into the buffer.
+	 *
+	 * @param number
+	 *            the bank number
+	 * @return the 8-Digit bankNumber, right aligned.
+	 */
+	public int[] bankNumber(int number) {
+		return ChecksumUtils.parseBlz(number, bankNumber);
+	}
+
+	/**
+	 * @return the result of the current thread
+	 */
+	public ValidationResult result() {
+		return result;
+	}
+
+	/**
+	 * @return array with one counter per validator plus one, all set to 0
+	 */
+	int[] counts() {
+		Arrays.fill(counts, 0);
+		return counts;
+	}
+
+	/**
+	 * @return array for the checksum method of every row of a block of
+	 *         {@link BankAccountValidator#BATCH_BLOCK} rows
+	 */
+	int[] methods() {
+		return methods;
+	}
+
+	/**
+	 * @return array for the rows of a block ordered by checksum method
+	 */
+	int[] order() {
+		return order;
+	}
+
+	/**
+	 * @return the scratch space for checking rows by their descriptor
+	 */
+	DescriptorBatch descriptorBatch() {
+		return descriptorBatch;
+	}
+
+}
@@ -0,0 +1,369 @@
+package hx.bankcheck.accountvalidator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of validation results by bank and account number, see
+ * {@link BankAccountValidator#setCache(ValidationCache)}. The status of every
+ * check is cached, so failures are answered from the cache as well.
+ *
+ * Every result is tagged with the serial number of the bank data it was
+ * computed from, so results of older data are never returned once new data
+ * has been published.
+ *
+ * The cache is divided into sets of {@value #WAYS} entries; a key can only be
+ * stored in its own set. Reads scan the set without locking. When a set is
+ * full, a clock hand picks the first entry that has not been read since the
+ * hand last passed it. The new result only replaces it if its key has been
+ * used more often than the victim's key, counted in a small frequency sketch
+ * (TinyLFU admission). Keys seen once, e.g. of a single pass over a large
+ * file, therefore don't evict results that are used repeatedly.
+ *
+ * $Id$
+ */
+public class ValidationCache {
+
+	/**
+	 * Entries per set
+	 */
+	static final int WAYS = 8;
+
+	private static final long MAX_BLZ = 99999999L;
+	private static final long ACCOUNT_NUMBERS = 10000000000L;
+
+	private static final class Entry {
+		final long key;
+		final int generation;
+		final byte status;
+
+		/**
+		 * Set by reads, cleared by the clock hand
+		 */
+		volatile boolean referenced;
+
+		Entry(long key, int generation, byte status) {
+			this.key = key;
+			this.generation = generation;
+			this.status = status;
+		}
+	}
+
+	/**
+	 * Counts how often keys were used. Four 4-bit counters per key, spread
+	 * over a table of longs holding 16 counters each; all counters are halved
+	 * once the number of increments reaches ten times the cache size, so old
+	 * frequencies fade.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = { 0xc3a5c85c97cb3127L,
+				0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+		private static final long HALF_MASK = 0x7777777777777777L;
+
+		private final AtomicLongArray table;
+		private final int mask;
+		private final int sampleSize;
+		private final AtomicInteger additions = new AtomicInteger();
+
+		FrequencySketch(int capacity) {
+			int length = Integer.highestOneBit(Math.max(capacity / 4, 1) * 2 - 1);
+			table = new AtomicLongArray(length);
+			mask = length - 1;
+			sampleSize = Math.max(capacity * 10, 16);
+		}
+
+		int frequency(long hash) {
+			int frequency = 15;
+			for (int i = 0; i < SEEDS.length; i++) {
+				long h = (hash + SEEDS[i]) * SEEDS[i];
+				int shift = counter(h, i) << 2;
+				frequency = Math.min(frequency,
+						(int) ((table.get(index(h)) >>> shift) & 15));
+			}
+			return frequency;
+		}
+
+		void increment(long hash) {
+			for (int i = 0; i < SEEDS.length; i++) {
+				long h = (hash + SEEDS[i]) * SEEDS[i];
+				int index = index(h);
+				int shift = counter(h, i) << 2;
+				long value;
+				do {
+					value = table.get(index);
+					if (((value >>> shift) & 15) == 15)
+						break;
+				} while (!table.compareAndSet(index, value, value
+						+ (1L << shift)));
+			}
+
+			if (additions.incrementAndGet() >= sampleSize)
+				halve();
+		}
+
+		private int index(long h) {
+			return (int) (h >>> 32) & mask;
+		}
+
+		/**
+		 * One of four counters of a long per seed, so the seeds never share a
+		 * counter
+		 */
+		private int counter(long h, int seed) {
+			return ((int) h & 3) << 2 | seed;
+		}
+
+		private synchronized void halve() {
+			if (additions.get() < sampleSize)
+				return;
+			for (int i = 0; i < table.length(); i++) {
+				long value;
+				do {
+					value = table.get(i);
+				} while (!table.compareAndSet(i, value, (value >>> 1)
+						& HALF_MASK));
+			}
+			additions.set(0);
+		}
+
+		void clear() {
+			for (int i = 0; i < table.length(); i++)
+				table.set(i, 0);
+			additions.set(0);
+		}
+	}
+
+	private final AtomicReferenceArray<Entry> entries;
+	private final int setMask;
+
+	/**
+	 * Clock hand of every set. Written without synchronization, a lost update
+	 * only moves a hand less far.
+	 */
+	private final byte[] hands;
+
+	private final FrequencySketch sketch;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+
+	/**
+	 * Creates a cache holding at least the given number of results. The size
+	 * is rounded up to a power of two sets of {@value #WAYS} entries.
+	 *
+	 * @param maximumSize
+	 *            Number of results
+	 */
+	public ValidationCache(int maximumSize) {
+		if (maximumSize <= 0)
+			throw new IllegalArgumentException("maximumSize must be positive: "
+					+ maximumSize);
+
+		int sets = (maximumSize + WAYS - 1) / WAYS;
+		sets = Integer.highestOneBit(sets * 2 - 1);
+		entries = new AtomicReferenceArray<Entry>(sets * WAYS);
+		setMask = sets - 1;
+		hands = new byte[sets];
+		sketch = new FrequencySketch(sets * WAYS);
+	}
+
+	/**
+	 * Packs a bank and an account number into one key
+	 *
+	 * @param blzNumber
+	 *            The bank number, up to 8 digits
+	 * @param kontoNumber
+	 *            The account number, up to 10 digits
+	 * @return the key or -1 if one of the numbers is out of range
+	 */
+	static long key(int blzNumber, long kontoNumber) {
+		if (blzNumber < 0 || blzNumber > MAX_BLZ || kontoNumber < 0
+				|| kontoNumber >= ACCOUNT_NUMBERS)
+			return -1;
+		return blzNumber * ACCOUNT_NUMBERS + kontoNumber;
+	}
+
+	private static long hash(long key) {
+		long h = key * 0x9e3779b97f4a7c15L;
+		return h ^ (h >>> 29);
+	}
+
+	private int setOf(long hash) {
+		return (int) hash & setMask;
+	}
+
+	/**
+	 * Returns a cached result. Never blocks; only the first read of an entry
+	 * after the clock hand passed it writes to shared memory.
+	 *
+	 * @param key
+	 *            Key from {@link #key(int, long)}
+	 * @param generation
+	 *            Serial number of the current bank data
+	 * @return the status or -1 if none is cached for this bank data
+	 */
+	int get(long key, int generation) {
+		long hash = hash(key);
+		int start = setOf(hash) * WAYS;
+		for (int i = start; i < start + WAYS; i++) {
+			Entry entry = entries.get(i);
+			if (entry != null && entry.key == key
+					&& entry.generation == generation) {
+				if (!entry.referenced) {
+					entry.referenced = true;
+					sketch.increment(hash);
+				}
+				hits.increment();
+				return entry.status;
+			}
+		}
+
+		misses.increment();
+		return -1;
+	}
+
+	/**
+	 * Stores a result after a miss. Results of other bank data are replaced
+	 * first, otherwise the admission policy decides whether the result is
+	 * kept.
+	 *
+	 * @param key
+	 *            Key from {@link #key(int, long)}
+	 * @param generation
+	 *            Serial number of the bank data the result was computed from
+	 * @param status
+	 *            The status, see {@link ValidationResult}
+	 */
+	void put(long key, int generation, byte status) {
+		long hash = hash(key);
+		sketch.increment(hash);
+
+		int set = setOf(hash);
+		int start = set * WAYS;
+		Entry created = new Entry(key, generation, status);
+
+		// same key, empty slot or result of other bank data
+		for (int i = start; i < start + WAYS; i++) {
+			Entry entry = entries.get(i);
+			if (entry == null) {
+				if (entries.compareAndSet(i, null, created))
+					return;
+			} else if (entry.key == key || entry.generation != generation) {
+				entries.compareAndSet(i, entry, created);
+				return;
+			}
+		}
+
+		// clock, the hand stops at the first entry that has not been read
+		// since the hand passed it last
+		int hand = hands[set];
+		int slot = -1;
+		Entry victim = null;
+		for (int step = 0; step < 2 * WAYS; step++) {
+			Entry entry = entries.get(start + hand);
+			hand = (hand + 1) & (WAYS - 1);
+			if (entry == null || !entry.referenced) {
+				slot = start + ((hand - 1) & (WAYS - 1));
+				victim = entry;
+				break;
+			}
+			entry.referenced = false;
+		}
+		hands[set] = (byte) hand;
+
+		// every entry was read again while the hand moved
+		if (slot < 0)
+			return;
+
+		if (victim == null) {
+			entries.compareAndSet(slot, null, created);
+		} else if (sketch.frequency(hash) <= sketch.frequency(hash(victim.key))) {
+			rejections.increment();
+		} else if (entries.compareAndSet(slot, victim, created)) {
+			evictions.increment();
+		}
+	}
+
+	/**
+	 * Removes all results and resets the statistics
+	 */
+	public void clear() {
+		for (int i = 0; i < entries.length(); i++)
+			entries.set(i, null);
+		sketch.clear();
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+		rejections.reset();
+	}
+
+	/**
+	 * @return number of results the cache can hold
+	 */
+	public int getMaximumSize() {
+		return entries.length();
+	}
+
+	/**
+	 * @return number of cached results, including results of older bank
+	 *         data not yet replaced
+	 */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < entries.length(); i++) {
+			if (entries.get(i) != null)
+				size++;
+		}
+		return size;
+	}
+
+	/**
+	 * @return number of lookups answered from the cache
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of lookups that had to validate
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return hits divided by lookups, 0 if there were no lookups
+	 */
+	public double getHitRate() {
+		long hits = getHits();
+		long lookups = hits + getMisses();
+		return (lookups == 0) ? 0 : (double) hits / lookups;
+	}
+
+	/**
+	 * @return number of results removed to make room for others
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return number of results not stored because their key was used less
+	 *         often than the key they would have replaced
+	 */
+	public long getRejections() {
+		return rejections.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationCache [maximumSize=" + getMaximumSize() + ", hits="
+				+ getHits() + ", misses=" + getMisses() + ", evictions="
+				+ getEvictions() + ", rejections=" + getRejections() + "]";
+	}
+
+}
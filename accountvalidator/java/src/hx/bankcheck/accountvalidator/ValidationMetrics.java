@@ -0,0 +1,252 @@
+package hx.bankcheck.accountvalidator;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counts the validations of every checksum method: valid, invalid and not
+ * testable account numbers, the alternative that decided and the latency.
+ *
+ * The counters are {@link LongAdder}s, so threads validating at the same time
+ * don't contend on a shared counter. Reading the counters doesn't stop the
+ * validating threads, values read during validation may be off by the
+ * validations in progress.
+ *
+ * Metrics are collected once they are passed to
+ * {@link ChecksumValidatorFactory#setMetrics(ValidationMetrics)} or
+ * {@link BankAccountValidator#setMetrics(ValidationMetrics)} and can be
+ * published through JMX with {@link #register()}.
+ *
+ * $Id$
+ */
+public class ValidationMetrics implements ValidationMetricsMXBean {
+
+	/**
+	 * Name used by {@link #register()}
+	 */
+	public static final String OBJECT_NAME = "hx.bankcheck:type=ValidationMetrics";
+
+	static final int VALID = 0;
+	static final int INVALID = 1;
+	static final int NOT_TESTABLE = 2;
+	static final int ERROR = 3;
+
+	private static final int OUTCOMES = 4;
+
+	/**
+	 * Number of counted alternatives, higher alternatives are counted with
+	 * the last one
+	 */
+	static final int ALTERNATIVES = 8;
+
+	/**
+	 * Number of latency buckets. Bucket 0 holds everything below 128ns, every
+	 * further bucket doubles the bound.
+	 */
+	static final int LATENCY_BUCKETS = 20;
+
+	private static final int FIRST_LATENCY_BIT = 7;
+
+	/**
+	 * Counters of one method
+	 */
+	private static class Counters {
+		final LongAdder[] outcomes = adders(OUTCOMES);
+		final LongAdder[] alternatives = adders(ALTERNATIVES);
+		final LongAdder[] latencies = adders(LATENCY_BUCKETS);
+
+		private static LongAdder[] adders(int size) {
+			LongAdder[] result = new LongAdder[size];
+			for (int i = 0; i < size; i++)
+				result[i] = new LongAdder();
+			return result;
+		}
+
+		private static long[] sums(LongAdder[] adders) {
+			long[] result = new long[adders.length];
+			for (int i = 0; i < adders.length; i++)
+				result[i] = adders[i].sum();
+			return result;
+		}
+
+		private static void reset(LongAdder[] adders) {
+			for (LongAdder adder : adders)
+				adder.reset();
+		}
+	}
+
+	/**
+	 * Counters by position in the validator table, created on the first call
+	 * of a method
+	 */
+	private final AtomicReferenceArray<Counters> counters = new AtomicReferenceArray<Counters>(
+			ChecksumValidatorFactory.TABLE_SIZE);
+
+	private MBeanServer registeredServer;
+	private ObjectName registeredName;
+
+	/**
+	 * Counts one validation
+	 *
+	 * @param method
+	 *            position of the method in the validator table
+	 * @param outcome
+	 *            {@link #VALID}, {@link #INVALID}, {@link #NOT_TESTABLE} or
+	 *            {@link #ERROR}
+	 * @param alternative
+	 *            alternative of a valid or invalid result
+	 * @param nanos
+	 *            duration of the validation
+	 */
+	void record(int method, int outcome, int alternative, long nanos) {
+		Counters c = counters.get(method);
+		if (c == null) {
+			counters.compareAndSet(method, null, new Counters());
+			c = counters.get(method);
+		}
+
+		c.outcomes[outcome].increment();
+		if (outcome == VALID || outcome == INVALID)
+			c.alternatives[Math.min(Math.max(alternative, 0),
+					ALTERNATIVES - 1)].increment();
+		c.latencies[latencyBucket(nanos)].increment();
+	}
+
+	static int latencyBucket(long nanos) {
+		int bit = 63 - Long.numberOfLeadingZeros(nanos);
+		if (bit < FIRST_LATENCY_BIT)
+			return 0;
+		return Math.min(bit - FIRST_LATENCY_BIT + 1, LATENCY_BUCKETS - 1);
+	}
+
+	private long total(int outcome) {
+		long sum = 0;
+		for (int method = 0; method < counters.length(); method++) {
+			Counters c = counters.get(method);
+			if (c != null)
+				sum += c.outcomes[outcome].sum();
+		}
+		return sum;
+	}
+
+	@Override
+	public long getCalls() {
+		long sum = 0;
+		for (int outcome = 0; outcome < OUTCOMES; outcome++)
+			sum += total(outcome);
+		return sum;
+	}
+
+	@Override
+	public long getValid() {
+		return total(VALID);
+	}
+
+	@Override
+	public long getInvalid() {
+		return total(INVALID);
+	}
+
+	@Override
+	public long getNotTestable() {
+		return total(NOT_TESTABLE);
+	}
+
+	@Override
+	public long getErrors() {
+		return total(ERROR);
+	}
+
+	@Override
+	public long[] getLatencyBucketLimits() {
+		long[] limits = new long[LATENCY_BUCKETS - 1];
+		for (int i = 0; i < limits.length; i++)
+			limits[i] = 1L << (FIRST_LATENCY_BIT + i);
+		return limits;
+	}
+
+	@Override
+	public MethodStatistics[] getMethods() {
+		List<MethodStatistics> result = new ArrayList<MethodStatistics>();
+		for (int method = 0; method < counters.length(); method++) {
+			MethodStatistics statistics = getMethod(method);
+			if (statistics != null && statistics.getCalls() > 0)
+				result.add(statistics);
+		}
+		return result.toArray(new MethodStatistics[result.size()]);
+	}
+
+	/**
+	 * Returns the counters of one method
+	 *
+	 * @param code
+	 *            Code of the method
+	 * @return the counters or null if the method has not been called
+	 */
+	public MethodStatistics getMethod(String code) {
+		int method = ChecksumValidatorFactory.indexOf(code);
+		return (method < 0) ? null : getMethod(method);
+	}
+
+	private MethodStatistics getMethod(int method) {
+		Counters c = counters.get(method);
+		if (c == null)
+			return null;
+
+		return new MethodStatistics(ChecksumValidatorFactory.codeOf(method),
+				c.outcomes[VALID].sum(), c.outcomes[INVALID].sum(),
+				c.outcomes[NOT_TESTABLE].sum(), c.outcomes[ERROR].sum(),
+				Counters.sums(c.alternatives), Counters.sums(c.latencies));
+	}
+
+	@Override
+	public void reset() {
+		for (int method = 0; method < counters.length(); method++) {
+			Counters c = counters.get(method);
+			if (c != null) {
+				Counters.reset(c.outcomes);
+				Counters.reset(c.alternatives);
+				Counters.reset(c.latencies);
+			}
+		}
+	}
+
+	/**
+	 * Registers the metrics with the platform MBean server under
+	 * {@link #OBJECT_NAME}
+	 */
+	public synchronized void register() throws JMException {
+		register(ManagementFactory.getPlatformMBeanServer(), new ObjectName(
+				OBJECT_NAME));
+	}
+
+	/**
+	 * Registers the metrics with an MBean server, e.g. under a name per
+	 * application when several validators run in one VM
+	 */
+	public synchronized void register(MBeanServer server, ObjectName name)
+			throws JMException {
+		server.registerMBean(this, name);
+		registeredServer = server;
+		registeredName = name;
+	}
+
+	/**
+	 * Removes the metrics from the MBean server they were registered with
+	 */
+	public synchronized void unregister() throws JMException {
+		if (registeredName != null) {
+			registeredServer.unregisterMBean(registeredName);
+			registeredServer = null;
+			registeredName = null;
+		}
+	}
+
+}
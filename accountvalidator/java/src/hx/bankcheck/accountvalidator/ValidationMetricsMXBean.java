@@ -0,0 +1,52 @@
+package hx.bankcheck.accountvalidator;
+
+/**
+ * Management interface of {@link ValidationMetrics}
+ *
+ * $Id$
+ */
+public interface ValidationMetricsMXBean {
+
+	/**
+	 * @return number of validations of all methods
+	 */
+	public long getCalls();
+
+	/**
+	 * @return number of valid account numbers of all methods
+	 */
+	public long getValid();
+
+	/**
+	 * @return number of invalid account numbers of all methods
+	 */
+	public long getInvalid();
+
+	/**
+	 * @return number of account numbers the methods could not check
+	 */
+	public long getNotTestable();
+
+	/**
+	 * @return number of rejected account or bank numbers, e.g. too many
+	 *         digits
+	 */
+	public long getErrors();
+
+	/**
+	 * @return upper bounds (exclusive) of the latency buckets in nanoseconds,
+	 *         the last bucket has no upper bound
+	 */
+	public long[] getLatencyBucketLimits();
+
+	/**
+	 * @return counters of every method that has been called at least once
+	 */
+	public MethodStatistics[] getMethods();
+
+	/**
+	 * Sets all counters to zero
+	 */
+	public void reset();
+
+}
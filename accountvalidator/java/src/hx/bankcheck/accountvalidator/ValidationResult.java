@@ -0,0 +1,153 @@
+package hx.bankcheck.accountvalidator;
+
+/**
+ * Holds the outcome of a validation: the status, the alternative the
+ * validator used and whether the account number was handled as an exception.
+ *
+ * Instances are filled by
+ * {@link ChecksumValidator#validate(int[], int[], ValidationResult)} and
+ * {@link ChecksumValidator#check(int[], int[], ValidationResult)} and may be
+ * reused by the caller for any number of validations. They are not
+ * thread-safe, every thread needs its own instance.
+ *
+ * $Id$
+ */
+public class ValidationResult {
+
+	/**
+	 * The account number is valid
+	 */
+	public static final byte VALID = 0;
+
+	/**
+	 * The account number is invalid
+	 */
+	public static final byte INVALID = 1;
+
+	/**
+	 * The bank number is unknown
+	 */
+	public static final byte UNKNOWN_BLZ = 2;
+
+	/**
+	 * The checksum method of the bank is unknown
+	 */
+	public static final byte UNKNOWN_METHOD = 3;
+
+	/**
+	 * The account number could not be checked, e.g. it has more than 10
+	 * digits or doesn't have the form the checksum method requires
+	 */
+	public static final byte MALFORMED = 4;
+
+	/**
+	 * The checksum method defines the account number as not testable
+	 */
+	public static final byte NOT_TESTABLE = 5;
+
+	private byte status = INVALID;
+	private boolean valid = false;
+	private int alternative = 0;
+	private boolean exception = false;
+
+	/**
+	 * Resets the result to its initial state
+	 */
+	public void reset() {
+		status = INVALID;
+		valid = false;
+		alternative = 0;
+		exception = false;
+	}
+
+	/**
+	 * @param valid
+	 *            the result of the validation
+	 */
+	public void setValid(boolean valid) {
+		this.valid = valid;
+		this.status = valid ? VALID : INVALID;
+	}
+
+	/**
+	 * @return the result of the validation
+	 */
+	public boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Sets a status. Any status other than {@link #VALID} makes the result
+	 * invalid.
+	 * 
+	 * @param status
+	 *            one of the constants of this class
+	 */
+	public void setStatus(byte status) {
+		this.status = status;
+		this.valid = (status == VALID);
+	}
+
+	/**
+	 * @return the status of the validation
+	 */
+	public byte getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return "true" if the account number could be checked, i.e. the status
+	 *         is {@link #VALID} or {@link #INVALID}
+	 */
+	public boolean isChecked() {
+		return status == VALID || status == INVALID;
+	}
+
+	/**
+	 * Sets the alternative and the exception flag of an earlier check without
+	 * reporting them to a {@link ValidationTrace}
+	 */
+	void restore(int alternative, boolean exception) {
+		this.alternative = alternative;
+		this.exception = exception;
+	}
+
+	/**
+	 * @param alternative
+	 *            the alternative to set
+	 */
+	public void setAlternative(int alternative) {
+		this.alternative = alternative;
+		ValidationTrace.alternative(alternative);
+	}
+
+	/**
+	 * @return the alternative used to check the account number
+	 */
+	public int getAlternative() {
+		return alternative;
+	}
+
+	/**
+	 * @param exception
+	 *            the exception to set
+	 */
+	public void setException(boolean exception) {
+		this.exception = exception;
+	}
+
+	/**
+	 * @return "true" if the account number is handled as an exception else
+	 *         "false"
+	 */
+	public boolean isException() {
+		return exception;
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationResult [status=" + status + ", alternative="
+				+ alternative + ", exception=" + exception + "]";
+	}
+
+}
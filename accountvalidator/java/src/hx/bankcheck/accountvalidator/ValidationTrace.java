@@ -0,0 +1,287 @@
+package hx.bankcheck.accountvalidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records how an account number was checked: the checksum method, every
+ * alternative that was tried and the weights, sum, remainder and check digit
+ * of every checksum calculated. See
+ * {@link BankAccountValidator#explain(int, long)}.
+ *
+ * Steps are reported by the methods built on 00, 01, 02, 06, 21, 22 and D7
+ * and by 52, 53 (including their ESER account numbers) and 90. The other
+ * methods only record the alternatives they try.
+ *
+ * A trace is bound to the thread that records it. Validators report through
+ * the static methods, which return at once while no thread records a trace,
+ * so checking without a trace costs one field read per calculation and
+ * creates no objects.
+ *
+ * $Id$
+ */
+public final class ValidationTrace {
+
+	/**
+	 * One checksum calculation
+	 */
+	public static final class Step {
+		private final int alternative;
+		private final int[] weights;
+		private final int modulus;
+		private final int sum;
+		private final int checkDigit;
+
+		Step(int alternative, int[] weights, int modulus, int sum,
+				int checkDigit) {
+			this.alternative = alternative;
+			this.weights = weights;
+			this.modulus = modulus;
+			this.sum = sum;
+			this.checkDigit = checkDigit;
+		}
+
+		/**
+		 * @return the alternative the calculation belongs to
+		 */
+		public int getAlternative() {
+			return alternative;
+		}
+
+		/**
+		 * @return the weights from left to right, null if not reported
+		 */
+		public int[] getWeights() {
+			return (weights == null) ? null : weights.clone();
+		}
+
+		/**
+		 * @return the modulus the check digit is derived with
+		 */
+		public int getModulus() {
+			return modulus;
+		}
+
+		/**
+		 * @return the (weighted) sum of the digits
+		 */
+		public int getSum() {
+			return sum;
+		}
+
+		/**
+		 * @return the sum modulo the modulus
+		 */
+		public int getRemainder() {
+			return sum % modulus;
+		}
+
+		/**
+		 * @return the calculated check digit
+		 */
+		public int getCheckDigit() {
+			return checkDigit;
+		}
+
+		@Override
+		public String toString() {
+			return "alternative " + alternative + ": weights "
+					+ Arrays.toString(weights) + ", sum " + sum + ", sum mod "
+					+ modulus + " = " + getRemainder() + ", check digit "
+					+ checkDigit;
+		}
+	}
+
+	private static final ThreadLocal<ValidationTrace> CURRENT = new ThreadLocal<ValidationTrace>();
+
+	/**
+	 * Number of traces being recorded in all threads. Not volatile: the
+	 * recording thread always sees its own update, other threads seeing an
+	 * outdated value only look for a trace they don't have.
+	 */
+	private static int recording;
+
+	private final int blzNumber;
+	private final long kontoNumber;
+	private final String method;
+	private final List<Integer> alternatives = new ArrayList<Integer>();
+	private final List<Step> steps = new ArrayList<Step>();
+	private int alternative;
+	private byte status = ValidationResult.INVALID;
+	private boolean exception;
+
+	private ValidationTrace(int blzNumber, long kontoNumber, String method) {
+		this.blzNumber = blzNumber;
+		this.kontoNumber = kontoNumber;
+		this.method = method;
+	}
+
+	/**
+	 * Starts recording a trace in the current thread
+	 *
+	 * @param blzNumber
+	 *            The bank number
+	 * @param kontoNumber
+	 *            The account number
+	 * @param method
+	 *            code of the checksum method, null if the bank is unknown
+	 * @return the trace, must be passed to {@link #stop(ValidationTrace)}
+	 */
+	static ValidationTrace start(int blzNumber, long kontoNumber, String method) {
+		ValidationTrace trace = new ValidationTrace(blzNumber, kontoNumber,
+				method);
+		CURRENT.set(trace);
+		synchronized (ValidationTrace.class) {
+			recording++;
+		}
+		return trace;
+	}
+
+	/**
+	 * Stops recording and stores the outcome
+	 */
+	static void stop(ValidationTrace trace, ValidationResult result) {
+		trace.status = result.getStatus();
+		trace.alternative = result.getAlternative();
+		trace.exception = result.isException();
+		synchronized (ValidationTrace.class) {
+			recording--;
+		}
+		CURRENT.remove();
+	}
+
+	private static ValidationTrace current() {
+		return (recording == 0) ? null : CURRENT.get();
+	}
+
+	/**
+	 * Reports that an alternative is tried
+	 *
+	 * @param alternative
+	 *            the alternative
+	 */
+	public static void alternative(int alternative) {
+		ValidationTrace trace = current();
+		if (trace != null) {
+			trace.alternatives.add(Integer.valueOf(alternative));
+			trace.alternative = alternative;
+		}
+	}
+
+	/**
+	 * Reports a calculated check digit
+	 *
+	 * @param weights
+	 *            the weights from left to right, null if the method has none
+	 * @param modulus
+	 *            the modulus the check digit is derived with
+	 * @param sum
+	 *            the (weighted) sum of the digits
+	 * @param checkDigit
+	 *            the check digit, -1 if no digit gives the required remainder
+	 */
+	public static void checkDigit(int[] weights, int modulus, int sum,
+			int checkDigit) {
+		ValidationTrace trace = current();
+		if (trace != null)
+			trace.steps.add(new Step(trace.alternative, (weights == null)
+					? null : weights.clone(), modulus, sum, checkDigit));
+	}
+
+	/**
+	 * Reports a calculated check digit whose weights are a part of a larger
+	 * array, the part is only copied while a trace is recorded
+	 *
+	 * @param weights
+	 *            the weights from left to right
+	 * @param from
+	 *            index of the first weight used
+	 * @param to
+	 *            index after the last weight used
+	 * @param modulus
+	 *            the modulus the check digit is derived with
+	 * @param sum
+	 *            the (weighted) sum of the digits
+	 * @param checkDigit
+	 *            the check digit, -1 if no digit gives the required remainder
+	 */
+	public static void checkDigit(int[] weights, int from, int to,
+			int modulus, int sum, int checkDigit) {
+		ValidationTrace trace = current();
+		if (trace != null)
+			trace.steps.add(new Step(trace.alternative, Arrays.copyOfRange(
+					weights, from, to), modulus, sum, checkDigit));
+	}
+
+	/**
+	 * @return the bank number
+	 */
+	public int getBlzNumber() {
+		return blzNumber;
+	}
+
+	/**
+	 * @return the account number
+	 */
+	public long getKontoNumber() {
+		return kontoNumber;
+	}
+
+	/**
+	 * @return code of the checksum method, null if the bank is unknown
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the alternatives in the order they were tried
+	 */
+	public List<Integer> getAlternatives() {
+		return Collections.unmodifiableList(alternatives);
+	}
+
+	/**
+	 * @return the checksum calculations in the order they were made
+	 */
+	public List<Step> getSteps() {
+		return Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * @return the outcome, one of the status codes of
+	 *         {@link ValidationResult}
+	 */
+	public byte getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return the alternative that decided the outcome
+	 */
+	public int getAlternative() {
+		return alternative;
+	}
+
+	/**
+	 * @return "true" if an exception of the method applied
+	 */
+	public boolean isException() {
+		return exception;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Bank ").append(blzNumber).append(", account ").append(
+				kontoNumber).append(", method ").append(method).append('\n');
+		for (Step step : steps)
+			sb.append("  ").append(step).append('\n');
+		sb.append("Status ").append(status).append(", alternative ").append(
+				alternative).append(", exception ").append(exception);
+		return sb.toString();
+	}
+
+}
@@ -1,11 +1,13 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
-import java.util.logging.Logger;
-
 /**
  * Modulus 10, Gewichtung 2, 1, 2, 1, 2, 1, 2, 1, 2
  * Die Stellen der Kontonummer sind von rechts nach links
@@ -24,9 +26,11 @@ import java.util.logging.Logger;
  * @author tma
  */
 public class Checksum00 extends AbstractChecksumValidator {
-	private final static Logger LOG = Logger.getLogger(Checksum00.class.getName());
 	
 	protected final static int[] WEIGHTS = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, true, 9);
 	
 	public Checksum00() {
 		this(WEIGHTS);
@@ -37,18 +41,37 @@ public class Checksum00 extends AbstractChecksumValidator {
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return calcChecksum(accountNumber) == accountNumber[9];
 	}
 
+	/**
+	 * Calculates the check digit once, subclasses that check differently try
+	 * all ten digits
+	 */
+	@Override
+	public int computeCheckDigit(long body, int bankNumber,
+			ValidationResult result) {
+		int[] accountNumber = (getClass() == Checksum00.class) ? bodyDigits(body)
+				: null;
+		if (accountNumber == null)
+			return super.computeCheckDigit(body, bankNumber, result);
+		return checkDigitFound(body, bankNumber, calcChecksum(accountNumber),
+				result);
+	}
+
 	protected int calcChecksum(int[] accountNumber) {
+		return calcChecksum(accountNumber, getWeights());
+	}
+
+	protected int calcChecksum(int[] accountNumber, int[] weights) {
 		int sum = 0;
-		for(int i=getWeights().length-1; i>=0; i--) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i]);
+		for(int i=weights.length-1; i>=0; i--) {
+			sum += ChecksumUtils.qsProduct(accountNumber[i], weights[i]);
 		}
-		int checksum = (10 - (sum % 10)) % 10;
+		int checksum = ChecksumUtils.checkDigit10(sum);
 	
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(weights, 10, sum, checksum);
 		
 		return checksum;
 	}
@@ -1,9 +1,12 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
-
-import java.util.logging.Logger;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 10, Gewichtung 3, 7, 1, 3, 7, 1, 3, 7, 1
@@ -19,10 +22,12 @@ import java.util.logging.Logger;
  * @author tma
  */
 public class Checksum01 extends AbstractChecksumValidator {
-	private final static Logger LOG = Logger.getLogger(Checksum00.class.getName());
 	
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 1, 7, 3, 1, 7, 3, 1, 7, 3 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, false, 9);
 	
 	public Checksum01() {
 		this(WEIGHTS);
@@ -33,20 +38,35 @@ public class Checksum01 extends AbstractChecksumValidator {
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 		
 		return checksum == accountNumber[9];
 	}
 	
+	/**
+	 * Calculates the check digit once, subclasses that check differently try
+	 * all ten digits
+	 */
+	@Override
+	public int computeCheckDigit(long body, int bankNumber,
+			ValidationResult result) {
+		int[] accountNumber = (getClass() == Checksum01.class) ? bodyDigits(body)
+				: null;
+		if (accountNumber == null)
+			return super.computeCheckDigit(body, bankNumber, result);
+		return checkDigitFound(body, bankNumber, calcChecksum(accountNumber),
+				result);
+	}
+
 	protected int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for(int i=0; i<getWeights().length; i++) {
 			sum += accountNumber[i] * getWeights()[i];
 		}
-		int checksum = (10 - (sum % 10)) % 10;
+		int checksum = ChecksumUtils.checkDigit10(sum);
 		
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(getWeights(), 10, sum, checksum);
 		
 		return checksum;
 	}
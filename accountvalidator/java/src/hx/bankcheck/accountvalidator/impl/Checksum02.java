@@ -1,9 +1,12 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
-
-import java.util.logging.Logger;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9, 2 Die Stellen der Kontonummer
@@ -18,12 +21,13 @@ import java.util.logging.Logger;
  * @author tma
  */
 public class Checksum02 extends AbstractChecksumValidator {
-	private final static Logger LOG = Logger.getLogger(Checksum02.class
-			.getName());
 
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 2, 9, 8, 7, 6, 5, 4, 3, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11_TEN_INVALID, WEIGHTS, false, 9);
+
 	public Checksum02() {
 		this(WEIGHTS);
 	}
@@ -33,23 +37,38 @@ public class Checksum02 extends AbstractChecksumValidator {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 
 		return checksum == accountNumber[9];
 	}
 
+	/**
+	 * Calculates the check digit once, subclasses that check differently try
+	 * all ten digits
+	 */
+	@Override
+	public int computeCheckDigit(long body, int bankNumber,
+			ValidationResult result) {
+		int[] accountNumber = (getClass() == Checksum02.class) ? bodyDigits(body)
+				: null;
+		if (accountNumber == null)
+			return super.computeCheckDigit(body, bankNumber, result);
+		return checkDigitFound(body, bankNumber, calcChecksum(accountNumber),
+				result);
+	}
+
 	protected int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = 0; i < getWeights().length; i++) {
 			sum += accountNumber[i] * getWeights()[i];
 		}
-		int checksum = 11 - (sum % 11);
+		int checksum = 11 - (ChecksumUtils.mod11(sum));
 
 		if (checksum == 11)
 			checksum = 0;
 
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(getWeights(), 11, sum, checksum);
 
 		return checksum;
 	}
@@ -1,5 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
 import hx.bankcheck.accountvalidator.ChecksumValidator;
 
 /**
@@ -11,6 +13,9 @@ import hx.bankcheck.accountvalidator.ChecksumValidator;
 public class Checksum03 extends Checksum01 implements ChecksumValidator {
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, false, 9);
 	
 	public Checksum03() {
 		super(WEIGHTS);
@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 10, Gewichtung 7, 3, 1, 7, 3, 1, 7, 3, 1
  * Die Berechnung erfolgt wie bei Verfahren 01.
@@ -10,6 +13,9 @@ public class Checksum05 extends Checksum01 {
 
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 1, 3, 7, 1, 3, 7, 1, 3, 7 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, false, 9);
 	
 	public Checksum05() {
 		super(WEIGHTS);
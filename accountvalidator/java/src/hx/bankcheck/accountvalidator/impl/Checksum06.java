@@ -1,9 +1,12 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
-
-import java.util.logging.Logger;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7 (modifiziert)
@@ -25,11 +28,13 @@ import java.util.logging.Logger;
  *
  */
 public class Checksum06 extends AbstractChecksumValidator {
-	private final static Logger LOG = Logger.getLogger(Checksum02.class.getName());
 	
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 4, 3, 2, 7, 6, 5, 4, 3, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
+
 	public Checksum06() {
 		this(WEIGHTS);
 	}
@@ -38,7 +43,7 @@ public class Checksum06 extends AbstractChecksumValidator {
 		setWeights(weights);
 	}
 	
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 		
 		return checksum == accountNumber[9];
@@ -51,16 +56,35 @@ public class Checksum06 extends AbstractChecksumValidator {
 		return checksum;
 	}
 
+	/**
+	 * Calculates the check digit once, subclasses that check differently try
+	 * all ten digits
+	 */
+	@Override
+	public int computeCheckDigit(long body, int bankNumber,
+			ValidationResult result) {
+		int[] accountNumber = (getClass() == Checksum06.class) ? bodyDigits(body)
+				: null;
+		if (accountNumber == null)
+			return super.computeCheckDigit(body, bankNumber, result);
+		return checkDigitFound(body, bankNumber, calcChecksum(accountNumber),
+				result);
+	}
+
 	protected int calcChecksum(int[] accountNumber) {
+		return calcChecksum(accountNumber, getWeights());
+	}
+
+	protected int calcChecksum(int[] accountNumber, int[] weights) {
 		int sum = 0;
-		for(int i=0; i<getWeights().length; i++) {
-			sum += accountNumber[i] * getWeights()[i];
+		for(int i=0; i<weights.length; i++) {
+			sum += accountNumber[i] * weights[i];
 		}
-		int checksum = 11 - (sum % 11);
+		int checksum = 11 - (ChecksumUtils.mod11(sum));
 		
 		checksum = adjustChecksum(checksum);
 		
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(weights, 11, sum, checksum);
 		
 		return checksum;
 	}
@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9, 10
  * Die Berechnung erfolgt wie bei Verfahren 02.
@@ -10,6 +13,9 @@ public class Checksum07 extends Checksum02 {
 	
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 10, 9, 8, 7, 6, 5, 4, 3, 2 }; 
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11_TEN_INVALID, WEIGHTS, false, 9);
 	
 	public Checksum07() {
 		super(WEIGHTS);
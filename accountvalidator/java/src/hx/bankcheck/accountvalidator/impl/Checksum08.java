@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -12,11 +13,11 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 public class Checksum08 extends Checksum00 {
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] + accountNumber[1] + accountNumber[2] + accountNumber[3] + accountNumber[4] == 0 && accountNumber[5] < 6) {
 			return false;
 		} else {
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		}
 	}
 	
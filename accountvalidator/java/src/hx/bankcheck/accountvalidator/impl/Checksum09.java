@@ -1,6 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -11,8 +13,10 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class Checksum09 extends AbstractChecksumValidator {
 
+	public final static ChecksumDescriptor DESCRIPTOR = ChecksumDescriptor.NO_CHECK;
+
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return true;
 	}
 
@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9, 10 (modifiziert)
  * Die Berechnung erfolgt wie bei Verfahren 06.
@@ -11,6 +14,9 @@ public class Checksum10 extends Checksum06 {
 
 	private final static int[] WEIGHTS = { 10, 9, 8, 7, 6, 5, 4, 3, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
+
 	public Checksum10() {
 		super(WEIGHTS);
 	}
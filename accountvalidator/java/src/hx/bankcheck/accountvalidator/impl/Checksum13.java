@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -25,7 +26,7 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 public class Checksum13 extends Checksum00 {
 
 	@Override
-	public boolean validate(int[] num) throws ValidationException {
+	protected boolean validateAccountNumber(int[] num, ValidationResult result) throws ValidationException {
 		int[] n = { 0, 0, 0, num[1], num[2], num[3], num[4], num[5], num[6], 0 };
 		
 		int checksum = calcChecksum(n);
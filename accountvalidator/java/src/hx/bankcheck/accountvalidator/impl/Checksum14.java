@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -17,10 +18,10 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 public class Checksum14 extends Checksum02 {
 
 	@Override
-	public boolean validate(int[] num) throws ValidationException {
+	protected boolean validateAccountNumber(int[] num, ValidationResult result) throws ValidationException {
 		int[] n = { 0, 0, 0, num[3], num[4], num[5], num[6], num[7], num[8], num[9] };
 		
-		return super.validate(n);
+		return super.validateAccountNumber(n, result);
 	}
 	
 }
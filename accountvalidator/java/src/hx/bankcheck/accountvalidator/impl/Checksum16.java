@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -14,7 +15,7 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 public class Checksum16 extends Checksum06 {
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 		
 		if (checksum % 10 == 1) {
@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -37,7 +38,7 @@ public class Checksum17 extends AbstractChecksumValidator {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 
 		return (checksum == accountNumber[7]);
@@ -46,12 +47,12 @@ public class Checksum17 extends AbstractChecksumValidator {
 	protected int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = 1; i <= getWeights().length; i++) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i - 1]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i], getWeights()[i - 1]);
 		}
 
 		sum--;
 
-		int x = sum % 11;
+		int x = ChecksumUtils.mod11(sum);
 		int checksum = 0;
 		if (x != 0)
 			checksum = 10 - x;
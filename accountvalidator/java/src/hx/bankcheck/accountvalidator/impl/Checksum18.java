@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 10, Gewichtung 3, 9, 7, 1, 3, 9, 7, 1, 3
  * Die Berechnung erfolgt wie bei Verfahren 01.
@@ -10,6 +13,9 @@ public class Checksum18 extends Checksum01 {
 
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 3, 1, 7, 9, 3, 1, 7, 9, 3 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, false, 9);
 	
 	public Checksum18() {
 		super(WEIGHTS);
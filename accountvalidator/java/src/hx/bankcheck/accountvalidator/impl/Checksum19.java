@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9, 1
  * Die Berechnung und mögliche Ergebnisse entsprechen dem Verfahren 06.
@@ -11,6 +14,9 @@ public class Checksum19 extends Checksum06 {
 	
 	// Weights from left to right
 	private final static int[] WEIGHTS = { 1, 9, 8, 7, 6, 5, 4, 3, 2 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
 	
 	public Checksum19() {
 		super(WEIGHTS);
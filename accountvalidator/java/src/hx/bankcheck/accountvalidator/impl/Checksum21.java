@@ -1,9 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
-import java.util.logging.Logger;
-
 /**
  * Modulus 10, Gewichtung 2, 1, 2, 1, 2, 1, 2, 1, 2 (modifiziert) Die Berechnung
  * erfolgt wie bei Verfahren 00. Nach der Addition der Produkte werden neben der
@@ -14,20 +13,19 @@ import java.util.logging.Logger;
  * @author tma
  */
 public class Checksum21 extends Checksum00 {
-	private final static Logger LOG = Logger.getLogger(Checksum21.class.getName());
 	
 	@Override
 	public int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = 8; i >= 0; i--) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i], getWeights()[i]);
 		}
 		while(sum > 9) {
 			sum = ChecksumUtils.qs(sum);
 		}
 		int checksum = 10 - sum;
 		
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(getWeights(), 10, sum, checksum);
 
 		return checksum;
 	}
@@ -1,9 +1,10 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
-
-import java.util.logging.Logger;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 10, Gewichtung 3, 1, 3, 1, 3, 1, 3, 1, 3 Die einzelnen Stellen der
@@ -18,7 +19,6 @@ import java.util.logging.Logger;
  *         $Id$
  */
 public class Checksum22 extends AbstractChecksumValidator  {
-	private final static Logger LOG = Logger.getLogger(Checksum22.class.getName());
 
 	protected final static int[] WEIGHTS = { 3,1,3,1,3,1,3,1,3 };
 	
@@ -29,15 +29,15 @@ public class Checksum22 extends AbstractChecksumValidator  {
 			sum += x % 10;
 		}
 		
-		int checksum = 10 - (sum % 10);
+		int checksum = 10 - (ChecksumUtils.mod10(sum));
 		
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(WEIGHTS, 10, sum, checksum);
 		
 		return checksum;
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 		
 		return checksum == accountNumber[9];
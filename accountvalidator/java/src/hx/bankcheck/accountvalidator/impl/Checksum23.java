@@ -1,7 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7
@@ -47,7 +49,7 @@ public class Checksum23 extends AbstractChecksumValidator {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
 		
-		int rest = sum % 11;
+		int rest = ChecksumUtils.mod11(sum);
 		
 		if (rest == 0)
 			return 0;
@@ -59,7 +61,7 @@ public class Checksum23 extends AbstractChecksumValidator {
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int checksum = calcChecksum(accountNumber);
 		
 		return checksum == accountNumber[6];
@@ -1,7 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 1, 2, 3, 1, 2, 3, 1, 2, 3 Die für die Berechnung
@@ -59,7 +61,7 @@ public class Checksum24 extends AbstractChecksumValidator {
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		accountNumber = prepareNumber(accountNumber);
 		
 		int sum = 0;
@@ -70,7 +72,7 @@ public class Checksum24 extends AbstractChecksumValidator {
 			}
 		}
 		
-		int checksum = sum % 10;
+		int checksum = ChecksumUtils.mod10(sum);
 		
 		return checksum == accountNumber[9];
 	}
@@ -1,7 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9 ohne Quersumme Die einzelnen
@@ -41,13 +43,13 @@ public class Checksum25 extends AbstractChecksumValidator {
 			sum += accountNumber[i] * WEIGHTS[i-1];
 		}
 		
-		int rest = sum % 11;
+		int rest = ChecksumUtils.mod11(sum);
 
 		return rest;
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int rest = calcRest(accountNumber);
 		
 		if (rest == 0) {
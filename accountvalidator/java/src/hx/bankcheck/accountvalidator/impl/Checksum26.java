@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -27,7 +28,7 @@ public class Checksum26 extends Checksum06 {
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int[] n = new int[10];
 		if (accountNumber[0] == 0 && accountNumber[1] == 0) {
 			System.arraycopy(accountNumber, 2, n, 0, 8);
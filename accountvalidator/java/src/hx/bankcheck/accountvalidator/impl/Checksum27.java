@@ -1,27 +1,19 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.ChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 public class Checksum27 extends Checksum00 {
 
-	private ChecksumValidator m10h;
+	private final ChecksumValidator m10h = new ChecksumM10H();
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] == 0)
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		
-		ChecksumValidator cs = getChecksumM10H();
-		
-		return cs.validate(accountNumber, null);
-	}
-	
-	private ChecksumValidator getChecksumM10H() {
-		if (m10h == null) 
-			m10h = new ChecksumM10H();
-		
-		return m10h;
+		return m10h.validate(accountNumber, null, result);
 	}
 
 }
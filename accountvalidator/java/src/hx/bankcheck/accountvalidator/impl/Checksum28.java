@@ -3,6 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -30,6 +33,9 @@ public class Checksum28 extends Checksum06 {
 
 	private static final int[] WEIGHTS = { 8, 7, 6, 5, 4, 3, 2, 0, 0, 0 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 7);
+
 	public Checksum28() {
 		super(WEIGHTS);
 	}
@@ -39,7 +45,7 @@ public class Checksum28 extends Checksum06 {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[7] == calcChecksum(accountNumber);
 	}
 }
@@ -1,7 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 10, iterierte Transformation
@@ -76,10 +78,11 @@ public class Checksum29 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[9] == calcChecksum(accountNumber);
 	}
 
@@ -93,6 +96,6 @@ public class Checksum29 extends AbstractChecksumValidator {
 			j++;
 			j %= 4;
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 }
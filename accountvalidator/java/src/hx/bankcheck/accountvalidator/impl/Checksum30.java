@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 10, Gewichtung 2, 0, 0, 0, 0, 1, 2, 1, 2 <br/>
@@ -28,7 +30,7 @@ public class Checksum30 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS = { 2, 0, 0, 0, 0, 1, 2, 1, 2 };
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[9] == calcChecksum(accountNumber);
 	}
 
@@ -37,7 +39,7 @@ public class Checksum30 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		return (10 - (sum % 10)) % 10;
+		return ChecksumUtils.checkDigit10(sum);
 	}
 
 }
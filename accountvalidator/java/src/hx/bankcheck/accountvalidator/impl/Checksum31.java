@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 9, 8, 7, 6, 5, 4, 3, 2, 1<br/>
@@ -38,10 +40,11 @@ public class Checksum31 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[9] == calcChecksum(accountNumber);
 	}
 
@@ -50,6 +53,7 @@ public class Checksum31 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		return (sum % 11 == 1) ? -1 : (sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return (remainder == 1) ? -1 : (remainder);
 	}
 }
@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6<br/>
@@ -24,6 +27,9 @@ public class Checksum33 extends Checksum06 {
 	// Weights from left to right
 	private static final int[] WEIGHTS = { 0, 0, 0, 0, 6, 5, 4, 3, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
+
 	public Checksum33() {
 		super(WEIGHTS);
 	}
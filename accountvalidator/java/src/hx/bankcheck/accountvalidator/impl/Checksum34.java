@@ -3,6 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 11, Gewichtung 2, 4, 8, 5, A, 9, 7 (A = 10) <br/>
  * 
@@ -20,6 +23,9 @@ public class Checksum34 extends Checksum28 {
 
 	private static final int[] WEIGHTS = { 7, 9, 10, 5, 8, 4, 2, 0, 0, 0 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 7);
+
 	public Checksum34() {
 		super(WEIGHTS);
 	}
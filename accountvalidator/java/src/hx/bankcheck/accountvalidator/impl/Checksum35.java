@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9, 10 <br/>
@@ -45,10 +47,11 @@ public class Checksum35 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[9] == calcChecksum(accountNumber);
 	}
 
@@ -57,14 +60,14 @@ public class Checksum35 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		if (sum % 11 == 10) {
+		if (ChecksumUtils.mod11(sum) == 10) {
 			if (accountNumber[8] == accountNumber[9]) {
 				return accountNumber[8];
 			} else {
 				return -1;
 			}
 		} else {
-			return (sum % 11);
+			return (ChecksumUtils.mod11(sum));
 		}
 	}
 }
@@ -3,6 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 11, Gewichtung 2, 4, 8, 5, A (A = 10) <br/>
  * 
@@ -25,6 +28,9 @@ package hx.bankcheck.accountvalidator.impl;
 public class Checksum37 extends Checksum06 {
 
 	private static final int[] WEIGHTS = { 0, 0, 0, 0, 10, 5, 8, 4, 2 };
+
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
 	
 	public Checksum37() {
 		super(WEIGHTS);
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -32,13 +33,13 @@ public class Checksum41 extends Checksum00 {
 	private static final int[] WEIGHTS_EXCEPTION = { 0, 0, 0, 1, 2, 1, 2, 1, 2 };
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[3] == 9) {
-			setException(true);
-			setWeights(WEIGHTS_EXCEPTION);
-			return super.validate(accountNumber);
+			result.setException(true);
+			return accountNumber[9] == calcChecksum(accountNumber,
+					WEIGHTS_EXCEPTION);
 		} else {
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		}
 	}
 }
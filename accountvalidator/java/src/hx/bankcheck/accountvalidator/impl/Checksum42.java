@@ -3,6 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9 Die Kontonummer ist 10-stellig.
  * Die Stellen 2 bis 9 der Kontonummer werden von rechts nach links mit den
@@ -20,6 +23,9 @@ public class Checksum42 extends Checksum06 {
 
 	private static final int[] WEIGHTS = { 0, 9, 8, 7, 6, 5, 4, 3, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
+
 	public Checksum42() {
 		super(WEIGHTS);
 	}
@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 10, Gewichtung 1, 2, 3, 4, 5, 6, 7, 8, 9 <br/>
@@ -35,10 +37,11 @@ public class Checksum43 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[9] == calcChecksum(accountNumber);
 	}
 
@@ -47,7 +50,7 @@ public class Checksum43 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 
 }
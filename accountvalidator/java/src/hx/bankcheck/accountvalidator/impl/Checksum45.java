@@ -3,7 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
-import hx.bankcheck.accountvalidator.exceptions.AccountNumberNotTestableException;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -14,11 +14,12 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 public class Checksum45 extends Checksum00 {
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[0] == 0) || (accountNumber[4] == 1)) {
-			throw new AccountNumberNotTestableException();
+			result.setStatus(ValidationResult.NOT_TESTABLE);
+			return false;
 		} else {
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		}
 	}
 }
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -35,10 +36,11 @@ public class Checksum46 extends Checksum06 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[7] == super.calcChecksum(accountNumber);
 	}
 
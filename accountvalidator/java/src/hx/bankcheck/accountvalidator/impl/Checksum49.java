@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -13,18 +14,16 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class Checksum49 extends AbstractChecksumValidator {
 
+	private static final AbstractChecksumValidator[] ALTERNATIVES = {
+			new Checksum00(), new Checksum01() };
+
 	/* (non-Javadoc)
-	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if(new Checksum00().validate(accountNumber)){
-			setAlternative(0);
-			return true;
-		}else{
-			setAlternative(1);
-			return new Checksum01().validate(accountNumber);
-		}
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return validateAlternatives(ALTERNATIVES, accountNumber, result);
 	}
 
 }
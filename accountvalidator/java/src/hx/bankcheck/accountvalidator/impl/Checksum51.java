@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -106,29 +107,38 @@ public class Checksum51 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_EXCEPTION_ALTERNATIVE2 = { 10, 9, 8, 7,
 			6, 5, 4, 3, 2 };
 
+	private static final Checksum06 CHECKSUM06_ALTERNATIVEA = new Checksum06(
+			WEIGHTS_ALTERNATIVEA);
+	private static final Checksum06 CHECKSUM06_EXCEPTION_ALTERNATIVE1 =
+			new Checksum06(WEIGHTS_EXCEPTION_ALTERNATIVE1);
+	private static final Checksum06 CHECKSUM06_EXCEPTION_ALTERNATIVE2 =
+			new Checksum06(WEIGHTS_EXCEPTION_ALTERNATIVE2);
+	private static final Checksum33 CHECKSUM33_ALTERNATIVEB = new Checksum33(
+			WEIGHTS_ALTERNATIVEB);
+
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
 		if (accountNumber[2] == 9) {
-			setException(true);
-			if (new Checksum06(WEIGHTS_EXCEPTION_ALTERNATIVE1)
-					.validate(accountNumber)) {
+			result.setException(true);
+			if (validateWith(CHECKSUM06_EXCEPTION_ALTERNATIVE1, accountNumber,
+					result)) {
 				return true;
 			} else {
-				setAlternative(1);
-				return new Checksum06(WEIGHTS_EXCEPTION_ALTERNATIVE2)
-						.validate(accountNumber);
+				result.setAlternative(1);
+				return validateWith(CHECKSUM06_EXCEPTION_ALTERNATIVE2,
+						accountNumber, result);
 			}
 		} else {
-			if (new Checksum06(WEIGHTS_ALTERNATIVEA).validate(accountNumber)) {
+			if (validateWith(CHECKSUM06_ALTERNATIVEA, accountNumber, result)) {
 				return true;
 			} else {
-				setAlternative(1);
-				if (new Checksum33(WEIGHTS_ALTERNATIVEB)
-						.validate(accountNumber)) {
+				result.setAlternative(1);
+				if (validateWith(CHECKSUM33_ALTERNATIVEB, accountNumber,
+						result)) {
 					return true;
 				} else {
-					setAlternative(2);
+					result.setAlternative(2);
 					return accountNumber[9] == calcChecksumAlternativeC(accountNumber);
 				}
 			}
@@ -1,6 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
-import hx.bankcheck.accountvalidator.ChecksumValidator;
+import hx.bankcheck.accountvalidator.BankDependentValidator;
+import hx.bankcheck.accountvalidator.ValidationBuffer;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.IllegalAccountNumberException;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
@@ -26,19 +29,31 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * @version 1.0
  * 
  */
-public class Checksum53 implements ChecksumValidator {
+public class Checksum53 implements BankDependentValidator {
 	
 	// Weights from left to right
 	private static final int[] WEIGHTS = { 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
+
+	private static final Checksum20 CHECKSUM20 = new Checksum20();
 	private int checksumDigitIndex = -1;
 	private int[] weights;
 
+	/**
+	 * The bank this validator is bound to, null if it checks all banks
+	 */
+	private final EserChecksum bank;
+
 	public Checksum53(){
 		this(WEIGHTS);
 	}
 	
 	public Checksum53(int[] weights){
+		this(weights, null);
+	}
+
+	private Checksum53(int[] weights, EserChecksum bank) {
 		this.setWeights(weights);
+		this.bank = bank;
 	}
 
 	/*
@@ -50,33 +65,119 @@ public class Checksum53 implements ChecksumValidator {
 	@Override
 	public boolean validate(int[] accountNumber, int[] bankNumber)
 			throws ValidationException {
-		if (accountNumber[0] == 9) {
-			return new Checksum20().validate(accountNumber);
-		} else {
-			int[] eserAccountNumber = generateEserAccountNumber(accountNumber,
+		return validate(accountNumber, bankNumber, new ValidationResult());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[],
+	 * int[], hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public boolean validate(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) throws ValidationException {
+		if (check(accountNumber, bankNumber, result) == ValidationResult.MALFORMED) {
+			// repeats the step that failed to throw its exception
+			generateEserAccountNumber(accountNumber, bankNumber);
+			throw new ValidationException(
+					"Checksum couldn't be checked, because position of checksum digit is not valid!");
+		}
+		return result.isValid();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#check(int[],
+	 * int[], hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public byte check(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) {
+		if (accountNumber[0] == 9)
+			return CHECKSUM20.check(accountNumber, bankNumber, result);
+
+		result.reset();
+		if (bank != null) {
+			byte status = bank.check(accountNumber);
+			result.setStatus(status);
+			return status;
+		}
+		if (!isEserAccountNumber(accountNumber)) {
+			result.setStatus(ValidationResult.MALFORMED);
+			return ValidationResult.MALFORMED;
+		}
+
+		int[] eserAccountNumber;
+		try {
+			eserAccountNumber = generateEserAccountNumber(accountNumber,
 					bankNumber);
-			int[] tmpAccountNumber = resetChecksumDigit(eserAccountNumber, 6);
-			if (getChecksumDigitIndex() != -1) {
-				return eserAccountNumber[getChecksumDigitIndex()] == calcChecksum(tmpAccountNumber);
-			} else {
-				throw new ValidationException(
-						"Checksum couldn't be checked, because position of checksum digit is not valid!");
-			}
+		} catch (IllegalAccountNumberException e) {
+			// not reached, the ESER account number has at most 12 digits
+			result.setStatus(ValidationResult.MALFORMED);
+			return ValidationResult.MALFORMED;
+		}
+		int[] tmpAccountNumber = new int[eserAccountNumber.length];
+		int checksumDigitIndex = resetChecksumDigit(eserAccountNumber, 6,
+				tmpAccountNumber);
+		if (checksumDigitIndex == -1) {
+			result.setStatus(ValidationResult.MALFORMED);
+			return ValidationResult.MALFORMED;
 		}
+
+		result.setValid(eserAccountNumber[checksumDigitIndex] == calcChecksum(
+				tmpAccountNumber, checksumDigitIndex));
+		return result.getStatus();
+	}
+
+	@Override
+	public boolean validate(long accountNumber, int bankNumber,
+			ValidationResult result) throws ValidationException {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		return validate(buffer.accountNumber(accountNumber),
+				buffer.bankNumber(bankNumber), result);
+	}
+
+	/**
+	 * Binds the validator to a bank. The digits of the bank number in the ESER
+	 * account number are added up once, so the checks don't build the ESER
+	 * account number.
+	 */
+	@Override
+	public Checksum53 forBank(int bankNumber) {
+		return new Checksum53(weights, new EserChecksum(WEIGHTS, true,
+				bankNumber));
 	}
 
-	protected int calcChecksum(int[] accountNumber) {
+	protected int calcChecksum(int[] accountNumber, int checksumDigitIndex) {
 		int sum = 0;
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i]; 
 		}
-		int offcut = sum % 11;
+		int offcut = ChecksumUtils.mod11(sum);
+		int checksum = -1;
 		for (int i = 0; i < 11; i++) {
-			if ((offcut + (i * WEIGHTS[getChecksumDigitIndex()]) % 11) == 10) {
-				return i;
+			if ((offcut + (i * WEIGHTS[checksumDigitIndex]) % 11) == 10) {
+				checksum = i;
+				break;
 			}
 		}
-		return -1;
+
+		ValidationTrace.checkDigit(WEIGHTS, 11, sum, checksum);
+
+		return checksum;
+	}
+
+	/**
+	 * Returns whether an account number has the form required by
+	 * {@link #generateEserAccountNumber(int[], int[])}
+	 * 
+	 * @param accountNumber
+	 *            The account number.
+	 */
+	private static boolean isEserAccountNumber(int[] accountNumber) {
+		return accountNumber[0] == 0 && accountNumber[1] != 0;
 	}
 
 	/**
@@ -95,7 +196,7 @@ public class Checksum53 implements ChecksumValidator {
 	public int[] generateEserAccountNumber(int[] accountNumber, int[] bankNumber)
 			throws IllegalAccountNumberException {
 		long eserAccountNumber = 0l;
-		if ((accountNumber[0] != 0) || (accountNumber[1] == 0)) {
+		if (!isEserAccountNumber(accountNumber)) {
 			throw new IllegalAccountNumberException(
 					"Account number for generating old ESER-System account number need to have 9 relevant digits. First digits has to be 0, second digit has to be between 1 and 9.");
 		} else {
@@ -148,7 +249,27 @@ public class Checksum53 implements ChecksumValidator {
 	 */
 	public int[] resetChecksumDigit(int[] accountNumber,
 			int checksumDigitPositon) {
-		int[] tmpAccountNumber = accountNumber.clone();
+		int[] tmpAccountNumber = new int[accountNumber.length];
+		setChecksumDigitIndex(resetChecksumDigit(accountNumber,
+				checksumDigitPositon, tmpAccountNumber));
+		return tmpAccountNumber;
+	}
+
+	/**
+	 * Copies the account number and resets the checksum digit at the given
+	 * position to 0.
+	 * 
+	 * @param accountNumber
+	 * @param checksumDigitPositon
+	 * @param tmpAccountNumber
+	 *            receives the copy, same length as accountNumber
+	 * @return index of the checksum digit or -1 if there is none
+	 */
+	private static int resetChecksumDigit(int[] accountNumber,
+			int checksumDigitPositon, int[] tmpAccountNumber) {
+		System.arraycopy(accountNumber, 0, tmpAccountNumber, 0,
+				accountNumber.length);
+		int checksumDigitIndex = -1;
 		int j = 0;
 		for (int i = 0; i < tmpAccountNumber.length; i++) {
 			if ((tmpAccountNumber[i] != 0) && (j >= 0)) {
@@ -156,10 +277,10 @@ public class Checksum53 implements ChecksumValidator {
 			}
 			if (j == checksumDigitPositon) {
 				tmpAccountNumber[i] = 0;
-				setChecksumDigitIndex(i);
+				checksumDigitIndex = i;
 			}
 		}
-		return tmpAccountNumber;
+		return checksumDigitIndex;
 	}
 
 	/**
@@ -171,7 +292,8 @@ public class Checksum53 implements ChecksumValidator {
 	}
 
 	/**
-	 * @return the checksumDigitIndex
+	 * @return the checksumDigitIndex found by the last call of
+	 *         {@link #resetChecksumDigit(int[], int)}
 	 */
 	public int getChecksumDigitIndex() {
 		return checksumDigitIndex;
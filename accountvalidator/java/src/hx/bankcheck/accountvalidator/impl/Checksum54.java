@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7,2<br/>
@@ -35,10 +37,11 @@ public class Checksum54 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[0] != 4) && (accountNumber[1] != 9)) {
 			return false;
 		} else {
@@ -51,7 +54,8 @@ public class Checksum54 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		return ((sum % 11 == 0) || (sum % 11 == 1)) ? -1 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return ((remainder == 0) || (remainder == 1)) ? -1 : (11 - remainder);
 	}
 
 }
@@ -3,6 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
  * @version 1.0
@@ -12,6 +15,9 @@ public class Checksum55 extends Checksum06 {
 
 	private static final int[] WEIGHTS = { 8, 7, 8, 7, 6, 5, 4, 3, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD11, WEIGHTS, false, 9);
+
 	public Checksum55() {
 		super(WEIGHTS);
 	}
@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 2, 3, 4 <br/>
@@ -42,10 +44,11 @@ public class Checksum56 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[9] == calcChecksum(accountNumber);
 	}
 
@@ -54,11 +57,11 @@ public class Checksum56 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
+		int remainder = ChecksumUtils.mod11(sum);
 		if (accountNumber[0] == 9) {
-			return ((sum % 11 == 0) ? 8 : ((sum % 11 == 1) ? 7
-					: (11 - sum % 11)));
+			return ((remainder == 0) ? 8 : ((remainder == 1) ? 7 : (11 - remainder)));
 		} else {
-			return ((sum % 11 == 0) || (sum % 11 == 1)) ? -1 : (11 - sum % 11);
+			return ((remainder == 0) || (remainder == 1)) ? -1 : (11 - remainder);
 		}
 	}
 
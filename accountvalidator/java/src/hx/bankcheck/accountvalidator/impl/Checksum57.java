@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.Checksum57Util;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
@@ -87,14 +88,17 @@ public class Checksum57 extends Checksum00 {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 1, 2, 0, 1, 2, 1, 2, 1,
 			2, 1 };
 
+	private static final Checksum09 CHECKSUM09 = new Checksum09();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[0] == 0) && (accountNumber[1] == 0)) {
 			return false;
 		} else {
@@ -106,22 +110,20 @@ public class Checksum57 extends Checksum00 {
 							&& (accountNumber[3] == 8)
 							&& (accountNumber[4] == 8) && (accountNumber[5] == 8))
 					|| (ChecksumUtils.parseLong(accountNumber) == 185125434l)) {
-				setException(true);
-				return new Checksum09().validate(accountNumber);
+				result.setException(true);
+				return validateWith(CHECKSUM09, accountNumber, result);
 			} else {
 				int first2Digits = accountNumber[0] * 10 + accountNumber[1];
-				setAlternative(Checksum57Util.getAlternative(first2Digits));
-				switch (getAlternative()) {
+				result.setAlternative(Checksum57Util.getAlternative(first2Digits));
+				switch (result.getAlternative()) {
 				case 0:
-					setWeights(WEIGHTS_ALTERNATIVE1);
-					return accountNumber[9] == super
-							.calcChecksum(accountNumber);
+					return accountNumber[9] == super.calcChecksum(
+							accountNumber, WEIGHTS_ALTERNATIVE1);
 				case 1:
-					setWeights(WEIGHTS_ALTERNATIVE2);
-					return accountNumber[2] == super
-							.calcChecksum(accountNumber);
+					return accountNumber[2] == super.calcChecksum(
+							accountNumber, WEIGHTS_ALTERNATIVE2);
 				case 2:
-					return new Checksum09().validate(accountNumber);
+					return validateWith(CHECKSUM09, accountNumber, result);
 				case 3:
 					int a = accountNumber[2] * 10 + accountNumber[3];
 					int b = accountNumber[6] * 100 + accountNumber[7] * 10
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -21,10 +22,11 @@ public class Checksum58 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (ChecksumUtils.countNeutralLeadingDigits(accountNumber) > 4) {
 			return false;
 		} else {
@@ -37,7 +39,8 @@ public class Checksum58 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS.length; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		return (sum % 11 == 1) ? -1 : ((sum % 11 == 0) ? 0 : 11 - (sum % 11));
+		int remainder = ChecksumUtils.mod11(sum);
+		return (remainder == 1) ? -1 : ((remainder == 0) ? 0 : 11 - (remainder));
 	}
 
 }
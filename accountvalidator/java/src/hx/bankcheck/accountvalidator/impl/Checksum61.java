@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -66,23 +67,25 @@ public class Checksum61 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		int[] weights = getWeights();
 		if (accountNumber[8] == 8) {
-			setException(true);
-			setWeights(WEIGHTS_EXCEPTION);
+			result.setException(true);
+			weights = WEIGHTS_EXCEPTION;
 		}
-		return accountNumber[7] == calcChecksum(accountNumber);
+		return accountNumber[7] == calcChecksum(accountNumber, weights);
 	}
 
-	private int calcChecksum(int[] accountNumber) {
+	private int calcChecksum(int[] accountNumber, int[] weights) {
 		int sum = 0;
-		for (int i = 0; i < getWeights().length; i++) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i]);
+		for (int i = 0; i < weights.length; i++) {
+			sum += ChecksumUtils.qsProduct(accountNumber[i], weights[i]);
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 
 }
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -37,18 +38,19 @@ public class Checksum62 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return accountNumber[7]==calcChecksum(accountNumber);
 	}
 
 	private int calcChecksum(int[] accountNumber){
 		int sum=0;
 		for (int i = 0; i < WEIGHTS.length; i++) {
-			sum+=ChecksumUtils.qs(accountNumber[i]*WEIGHTS[i]);
+			sum+=ChecksumUtils.qsProduct(accountNumber[i], WEIGHTS[i]);
 		}
-		return (sum%10==0)?0:(10-sum%10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 }
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -68,19 +69,20 @@ public class Checksum63 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] != 0) {
 			return false;
 		} else {
 			if (accountNumber[7] == calcChecksum(accountNumber)) {
-				setAlternative(0);
+				result.setAlternative(0);
 				return true;
 			} else {
 				if (ChecksumUtils.countNeutralLeadingDigits(accountNumber) > 1) {
-					setAlternative(1);
+					result.setAlternative(1);
 					return accountNumber[9]==calcChecksumForExceptions(accountNumber);
 				} else {
 					return false;
@@ -92,19 +94,18 @@ public class Checksum63 extends AbstractChecksumValidator {
 	private int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = 0; i < WEIGHTS.length; i++) {
-			sum += ChecksumUtils.qs(accountNumber[i + 1] * WEIGHTS[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i + 1], WEIGHTS[i]);
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 
 	private int calcChecksumForExceptions(int[] accountNumber) {
 		int sum = 0;
 		for (int i = WEIGHTS.length - 1; i >= 0; i--) {
-			sum += ChecksumUtils.qs(accountNumber[accountNumber.length
-					- WEIGHTS.length + i-1]
-					* WEIGHTS[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[accountNumber.length
+					- WEIGHTS.length + i-1], WEIGHTS[i]);
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 
 }
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -64,14 +65,15 @@ public class Checksum65 extends Checksum00 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[8] == 9) {
-			setException(true);
-			setWeights(WEIGHTS_EXCEPTION);
-			return accountNumber[7] == calcChecksum(accountNumber);
+			result.setException(true);
+			return accountNumber[7] == calcChecksum(accountNumber,
+					WEIGHTS_EXCEPTION);
 		} else {
 			return accountNumber[7] == calcChecksum(accountNumber);
 		}
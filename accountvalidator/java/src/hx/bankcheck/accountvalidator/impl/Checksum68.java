@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -72,10 +73,11 @@ public class Checksum68 extends Checksum00 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((ChecksumUtils.countNeutralLeadingDigits(accountNumber) > 4)
 				|| ((ChecksumUtils.parseLong(accountNumber) >= 400000000l) && (ChecksumUtils
 						.parseLong(accountNumber) < 499999999l))) {
@@ -85,19 +87,19 @@ public class Checksum68 extends Checksum00 {
 				if (accountNumber[3] != 9) {
 					return false;
 				} else {
-					setAlternative(0);
-					setWeights(WEIGHTS_ALTERNATIVE1);
-					return (accountNumber[9] == calcChecksum(accountNumber));
+					result.setAlternative(0);
+					return (accountNumber[9] == calcChecksum(accountNumber,
+							WEIGHTS_ALTERNATIVE1));
 				}
 			} else {
-				setWeights(WEIGHTS_ALTERNATIVE2);
-				if (accountNumber[9] == calcChecksum(accountNumber)) {
-					setAlternative(1);
+				if (accountNumber[9] == calcChecksum(accountNumber,
+						WEIGHTS_ALTERNATIVE2)) {
+					result.setAlternative(1);
 					return true;
 				} else {
-					setWeights(WEIGHTS_ALTERNATIVE3);
-					setAlternative(2);
-					return accountNumber[9] == calcChecksum(accountNumber);
+					result.setAlternative(2);
+					return accountNumber[9] == calcChecksum(accountNumber,
+							WEIGHTS_ALTERNATIVE3);
 				}
 			}
 		}
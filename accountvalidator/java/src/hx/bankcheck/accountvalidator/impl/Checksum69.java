@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -79,30 +80,35 @@ public class Checksum69 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 1, 4, 3, 2, 1, 4, 3, 2,
 			1 };
 
+	private static final Checksum09 CHECKSUM09 = new Checksum09();
+	private static final Checksum28 CHECKSUM28_ALTERNATIVE1 = new Checksum28(
+			WEIGHTS_ALTERNATIVE1);
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		long accountNumberAsLong = ChecksumUtils.parseLong(accountNumber);
 		if ((accountNumberAsLong >= 9300000000l)
 				&& (accountNumberAsLong < 9400000000l)) {
-			return new Checksum09().validate(accountNumber);
+			return validateWith(CHECKSUM09, accountNumber, result);
 		} else {
 			if ((accountNumberAsLong >= 9700000000l)
 					&& (accountNumberAsLong < 9800000000l)) {
-				setAlternative(1);
+				result.setAlternative(1);
 				return accountNumber[9] == calcChecksum(accountNumber);
 			} else {
-				if (new Checksum28(WEIGHTS_ALTERNATIVE1)
-						.validate(accountNumber)) {
-					setAlternative(0);
+				if (validateWith(CHECKSUM28_ALTERNATIVE1, accountNumber,
+						result)) {
+					result.setAlternative(0);
 					return true;
 				} else {
-					setAlternative(1);
+					result.setAlternative(1);
 					return accountNumber[9] == calcChecksum(accountNumber);
 				}
 			}
@@ -114,6 +120,6 @@ public class Checksum69 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE2.length; i++) {
 			sum += TRANSFORMATION_TABLE[WEIGHTS_ALTERNATIVE2[i] - 1][accountNumber[i]];
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		return ChecksumUtils.checkDigit10(sum);
 	}
 }
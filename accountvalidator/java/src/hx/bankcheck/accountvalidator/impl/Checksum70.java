@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -40,18 +41,18 @@ public class Checksum70 extends Checksum06 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[3] == 5)
 				|| ((accountNumber[3] == 6) && (accountNumber[4] == 9))) {
-			setException(true);
-			setWeights(WEIGHTS_EXCEPTION);
-			return accountNumber[9] == calcChecksum(accountNumber);
+			result.setException(true);
+			return accountNumber[9] == calcChecksum(accountNumber,
+					WEIGHTS_EXCEPTION);
 		} else {
-			setWeights(WEIGHTS);
-			return accountNumber[9] == calcChecksum(accountNumber);
+			return accountNumber[9] == calcChecksum(accountNumber, WEIGHTS);
 		}
 	}
 }
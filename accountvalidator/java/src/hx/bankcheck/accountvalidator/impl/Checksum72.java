@@ -3,6 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 
 /**
  * Modulus 10, Gewichtung 2, 1, 2, 1, 2, 1 <br/>
@@ -27,6 +30,9 @@ public class Checksum72 extends Checksum00 {
 
 	private static final int[] WEIGHTS = { 0, 0, 0, 1, 2, 1, 2, 1, 2 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, true, 9);
+
 	public Checksum72() {
 		super(WEIGHTS);
 	}
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -73,30 +74,32 @@ public class Checksum73 extends Checksum00 {
 	private static final int[] WEIGHTS_ALTERANTIVE3 = { 0, 0, 0, 0, 2, 1, 2, 1,
 			2 };
 
+	private static final Checksum51 CHECKSUM51 = new Checksum51();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2] == 9) {
-			setException(true);
-			return new Checksum51().validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM51, accountNumber, result);
 		} else {
-			setWeights(WEIGHTS_ALTERANTIVE1);
-			if (accountNumber[9] == calcChecksum(accountNumber)) {
-				setAlternative(0);
+			if (accountNumber[9] == calcChecksum(accountNumber,
+					WEIGHTS_ALTERANTIVE1)) {
+				result.setAlternative(0);
 				return true;
 			} else {
-				setWeights(WEIGHTS_ALTERANTIVE2);
-				if (accountNumber[9] == calcChecksum(accountNumber)) {
-					setAlternative(1);
+				if (accountNumber[9] == calcChecksum(accountNumber,
+						WEIGHTS_ALTERANTIVE2)) {
+					result.setAlternative(1);
 					return true;
 				} else {
-					setAlternative(2);
-					setWeights(WEIGHTS_ALTERANTIVE3);
+					result.setAlternative(2);
 					return accountNumber[9] == calcChecksumAlternative3(accountNumber);
 				}
 			}
@@ -105,8 +108,8 @@ public class Checksum73 extends Checksum00 {
 
 	private int calcChecksumAlternative3(int[] accountNumber) {
 		int sum = 0;
-		for (int i = getWeights().length - 1; i >= 0; i--) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i]);
+		for (int i = WEIGHTS_ALTERANTIVE3.length - 1; i >= 0; i--) {
+			sum += ChecksumUtils.qsProduct(accountNumber[i], WEIGHTS_ALTERANTIVE3[i]);
 		}
 		return (sum % 7 == 0) ? 0 : (7 - sum % 7);
 	}
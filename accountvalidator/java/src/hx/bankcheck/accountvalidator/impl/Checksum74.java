@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -48,26 +49,27 @@ public class Checksum74 extends Checksum00 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if(ChecksumUtils.countNeutralLeadingDigits(accountNumber)==4){
-			if(super.validate(accountNumber)){
+			if(super.validateAccountNumber(accountNumber, result)){
 				return true;
 			}else{
-				setException(true);
+				result.setException(true);
 				return accountNumber[9]==ChecksumUtils.getDiffToHalfDecade(calcSum(accountNumber));
 			}
 		}else{
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		}
 	}
 	
 	private int calcSum(int[] accountNumber) {
 		int sum = 0;
 		for(int i=getWeights().length-1; i>=0; i--) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i], getWeights()[i]);
 		}
 		return sum;
 	}
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -62,25 +63,22 @@ public class Checksum75 extends Checksum00 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int leadingNeutralDigits = ChecksumUtils
 				.countNeutralLeadingDigits(accountNumber);
 		switch (leadingNeutralDigits) {
 		case 4:
-			this.setWeights(WEIGHTS_6_DIGITS);
-			return accountNumber[9] == calcChecksum(accountNumber);
+			return accountNumber[9] == calcChecksum(accountNumber, WEIGHTS_6_DIGITS);
 		case 3:
-			this.setWeights(WEIGHTS_7_DIGITS);
-			return accountNumber[9] == calcChecksum(accountNumber);
+			return accountNumber[9] == calcChecksum(accountNumber, WEIGHTS_7_DIGITS);
 		case 1:
-			this.setWeights(WEIGHTS_9_DIGITS);
-			return accountNumber[7] == calcChecksum(accountNumber);
+			return accountNumber[7] == calcChecksum(accountNumber, WEIGHTS_9_DIGITS);
 		case 0:
-			this.setWeights(WEIGHTS_10_DIGITS);
-			return accountNumber[6] == calcChecksum(accountNumber);
+			return accountNumber[6] == calcChecksum(accountNumber, WEIGHTS_10_DIGITS);
 		default:
 			return false;
 		}
@@ -97,8 +95,8 @@ public class Checksum75 extends Checksum00 {
 	 * @return
 	 */
 	protected boolean validate(int[] accountNumber, int checksumDigitPosition, int[] weights) {
-		setWeights(weights);
-		return accountNumber[checksumDigitPosition] == calcChecksum(accountNumber);
+		return accountNumber[checksumDigitPosition] == calcChecksum(
+				accountNumber, weights);
 	}
 
 }
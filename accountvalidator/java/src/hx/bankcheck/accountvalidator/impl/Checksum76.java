@@ -4,7 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
-import hx.bankcheck.accountvalidator.exceptions.AccountNumberNotTestableException;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -84,37 +84,40 @@ public class Checksum76 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[0] != 0) && (accountNumber[0] != 4)
 				&& (accountNumber[0] != 6) && (accountNumber[0] != 7)
 				&& (accountNumber[0] != 8) && (accountNumber[0] != 9)) {
 			return false;
 		} else {
+			int[] weights;
 			if ((accountNumber[1] == 0) && (accountNumber[2] == 0)) {
-				setWeights(WEIGHTS_5_DIGITS);
+				weights = WEIGHTS_5_DIGITS;
 			} else {
 				if ((accountNumber[1] == 0) && (accountNumber[2] != 0)) {
-					setWeights(WEIGHTS_6_DIGITS);
+					weights = WEIGHTS_6_DIGITS;
 				} else {
-					setWeights(WEIGHTS_7_DIGITS);
+					weights = WEIGHTS_7_DIGITS;
 				}
 			}
-			int checksum = calcChecksum(accountNumber);
+			int checksum = calcChecksum(accountNumber, weights);
 			if (checksum == 10) {
-				throw new AccountNumberNotTestableException();
+				result.setStatus(ValidationResult.NOT_TESTABLE);
+				return false;
 			} else {
-				if(accountNumber[7] == calcChecksum(accountNumber)){
+				if(accountNumber[7] == calcChecksum(accountNumber, weights)){
 					return true;
 				}else{
 					if (ChecksumUtils.countNeutralLeadingDigits(accountNumber) >= 2) {
-						setException(true);
-						setWeights(WEIGHTS_EXCEPTION);
-						checksum=calcChecksum(accountNumber);
+						result.setException(true);
+						checksum=calcChecksum(accountNumber, WEIGHTS_EXCEPTION);
 						if (checksum == 10) {
-							throw new AccountNumberNotTestableException();
+							result.setStatus(ValidationResult.NOT_TESTABLE);
+							return false;
 						} else {
 							return accountNumber[9] == checksum;
 						}
@@ -126,11 +129,11 @@ public class Checksum76 extends AbstractChecksumValidator {
 		}
 	}
 
-	private int calcChecksum(int[] accountNumber) {
+	private int calcChecksum(int[] accountNumber, int[] weights) {
 		int sum = 0;
-		for (int i = 0; i < getWeights().length; i++) {
-			sum += accountNumber[i] * getWeights()[i];
+		for (int i = 0; i < weights.length; i++) {
+			sum += accountNumber[i] * weights[i];
 		}
-		return (sum % 11);
+		return (ChecksumUtils.mod11(sum));
 	}
 }
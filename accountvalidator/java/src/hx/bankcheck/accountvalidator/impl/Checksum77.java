@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 1, 2, 3, 4, 5 <br/>
@@ -50,10 +52,11 @@ public class Checksum77 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return ((calcChecksum(accountNumber, WEIGHTS1) == 0) || (calcChecksum(
 				accountNumber, WEIGHTS2) == 0));
 	}
@@ -63,7 +66,7 @@ public class Checksum77 extends AbstractChecksumValidator {
 		for (int i = 0; i < weights.length; i++) {
 			sum += accountNumber[i] * weights[i];
 		}
-		return sum % 11;
+		return ChecksumUtils.mod11(sum);
 	}
 
 }
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -56,23 +57,23 @@ public class Checksum79 extends Checksum00 {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] == 0) {
 			return false;
 		} else {
 			if ((accountNumber[0] == 3) || (accountNumber[0] == 4)
 					|| (accountNumber[0] == 5) || (accountNumber[0] == 6)
 					|| (accountNumber[0] == 7) || (accountNumber[0] == 8)) {
-				setAlternative(0);
-				setWeights(WEIGHTS_ALTERNATIVE1);
-				return super.validate(accountNumber);
+				result.setAlternative(0);
+				return accountNumber[9] == calcChecksum(accountNumber,
+						WEIGHTS_ALTERNATIVE1);
 			} else {
-				setAlternative(1);
-				setWeights(WEIGHTS_ALTERNATIVE2);
-				return accountNumber[8]==calcChecksum(accountNumber);
+				result.setAlternative(1);
+				return accountNumber[8]==calcChecksum(accountNumber, WEIGHTS_ALTERNATIVE2);
 			}
 		}
 	}
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -54,23 +55,28 @@ public class Checksum80 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 0, 0, 0, 0, 2, 1, 2, 1,
 			2 };
 
+	private static final Checksum00 CHECKSUM00_ALTERNATIVE1 = new Checksum00(
+			WEIGHTS_ALTERNATIVE1);
+	private static final Checksum51 CHECKSUM51 = new Checksum51();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2]==9) {
-			setException(true);
-			return new Checksum51().validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM51, accountNumber, result);
 		} else {
-			if(new Checksum00(WEIGHTS_ALTERNATIVE1).validate(accountNumber)){
-				setAlternative(0);
+			if(validateWith(CHECKSUM00_ALTERNATIVE1, accountNumber, result)){
+				result.setAlternative(0);
 				return true;
 			}else{
-				setAlternative(1);
+				result.setAlternative(1);
 				return accountNumber[9]==calcChecksum(accountNumber);
 			}
 		}
@@ -79,7 +85,7 @@ public class Checksum80 extends AbstractChecksumValidator {
 	private int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE2.length; i++) {
-			sum += ChecksumUtils.qs(accountNumber[i] * WEIGHTS_ALTERNATIVE2[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i], WEIGHTS_ALTERNATIVE2[i]);
 		}
 		return (sum % 7 == 0) ? 0 : (7 - sum % 7);
 	}
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -36,19 +37,23 @@ public class Checksum81 extends AbstractChecksumValidator {
 
 	private static final int[] WEIGHTS = { 0, 0, 0, 7, 6, 5, 4, 3, 2 };
 
+	private static final Checksum32 CHECKSUM32 = new Checksum32(WEIGHTS);
+	private static final Checksum51 CHECKSUM51 = new Checksum51();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2] == 9) {
-			setException(true);
-			return new Checksum51().validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM51, accountNumber, result);
 		} else {
-			return new Checksum32(WEIGHTS).validate(accountNumber);
+			return validateWith(CHECKSUM32, accountNumber, result);
 		}
 	}
 
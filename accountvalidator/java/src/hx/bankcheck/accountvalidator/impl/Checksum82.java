@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -34,19 +35,23 @@ public class Checksum82 extends AbstractChecksumValidator {
 
 	private static final int[] WEIGHTS = { 0, 0, 0, 0, 6, 5, 4, 3, 2 };
 
+	private static final Checksum10 CHECKSUM10 = new Checksum10();
+	private static final Checksum33 CHECKSUM33 = new Checksum33(WEIGHTS);
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if((accountNumber[2]==9)&&(accountNumber[3]==9)){
-			return new Checksum10().validate(accountNumber);
+			return validateWith(CHECKSUM10, accountNumber, result);
 		}else{
-			setException(true);
-			return new Checksum33(WEIGHTS).validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM33, accountNumber, result);
 		}
 	}
 
@@ -4,7 +4,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * 1. Kundenkonten <br/>
@@ -114,18 +116,24 @@ public class Checksum83 extends AbstractChecksumValidator {
 			5, 4, 3, 2 };
 	private static final int[] WEIGHTS_IMPERSONAL = { 0, 0, 8, 7, 6, 5, 4, 3, 2 };
 
+	private static final Checksum32 CHECKSUM32_PERSONAL_ALTERNATIVE1 =
+			new Checksum32(WEIGHTS_PERSONAL_ALTERNATIVE1);
+	private static final Checksum33 CHECKSUM33_PERSONAL_ALTERNATIVE2 =
+			new Checksum33(WEIGHTS_PERSONAL_ALTERNATIVE2);
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[2] == 9) && (accountNumber[3] == 9)) {
 			return validateImpersonalAccoutNumber(accountNumber);
 		} else {
-			return validatePersonalAccountNumber(accountNumber);
+			return validatePersonalAccountNumber(accountNumber, result);
 		}
 	}
 
@@ -134,16 +142,16 @@ public class Checksum83 extends AbstractChecksumValidator {
 		return accountNumber[9] == calcChecksumImpersonal(accountNumber);
 	}
 
-	private boolean validatePersonalAccountNumber(int[] accountNumber)
-			throws ValidationException {
-		if (new Checksum32(WEIGHTS_PERSONAL_ALTERNATIVE1)
-				.validate(accountNumber)) {
-			setAlternative(0);
+	private boolean validatePersonalAccountNumber(int[] accountNumber,
+			ValidationResult result) throws ValidationException {
+		if (validateWith(CHECKSUM32_PERSONAL_ALTERNATIVE1, accountNumber,
+				result)) {
+			result.setAlternative(0);
 			return true;
 		} else {
-			if (new Checksum33(WEIGHTS_PERSONAL_ALTERNATIVE2)
-					.validate(accountNumber)) {
-				setAlternative(1);
+			if (validateWith(CHECKSUM33_PERSONAL_ALTERNATIVE2, accountNumber,
+					result)) {
+				result.setAlternative(1);
 				return true;
 			} else {
 				if ((accountNumber[9] == 7) || (accountNumber[9] == 8)
@@ -169,7 +177,8 @@ public class Checksum83 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS_IMPERSONAL.length; i++) {
 			sum += accountNumber[i] * WEIGHTS_IMPERSONAL[i];
 		}
-		return ((sum % 11 == 0) || (sum % 11 == 1)) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return ((remainder == 0) || (remainder == 1)) ? 0 : (11 - remainder);
 	}
 
 }
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -21,32 +22,40 @@ public class Checksum85 extends AbstractChecksumValidator {
 			2 };
 	private static final int[] WEIGHTS_EXCEPTIONS = { 0, 0, 8, 7, 6, 5, 4, 3, 2 };
 
+	private static final Checksum02 CHECKSUM02_EXCEPTIONS = new Checksum02(
+			WEIGHTS_EXCEPTIONS);
+	private static final Checksum06 CHECKSUM06_ALTERNATIVE1 = new Checksum06(
+			WEIGHTS_ALTERNATIVE1);
+	private static final Checksum33 CHECKSUM33_ALTERNATIVE2 = new Checksum33(
+			WEIGHTS_ALTERNATIVE2);
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[2] == 9) && (accountNumber[3] == 9)) {
-			setException(true);
-			return new Checksum02(WEIGHTS_EXCEPTIONS).validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM02_EXCEPTIONS, accountNumber, result);
 		} else {
-			if (new Checksum06(WEIGHTS_ALTERNATIVE1).validate(accountNumber)) {
-				setAlternative(0);
+			if (validateWith(CHECKSUM06_ALTERNATIVE1, accountNumber, result)) {
+				result.setAlternative(0);
 				return true;
 			} else {
-				if (new Checksum33(WEIGHTS_ALTERNATIVE2)
-						.validate(accountNumber)) {
-					setAlternative(1);
+				if (validateWith(CHECKSUM33_ALTERNATIVE2, accountNumber,
+						result)) {
+					result.setAlternative(1);
 					return true;
 				} else {
 					if ((accountNumber[9] == 7) || (accountNumber[9] == 8)
 							|| (accountNumber[9] == 9)) {
 						return false;
 					} else {
-						setAlternative(2);
+						result.setAlternative(2);
 						return (accountNumber[9] == calcChecksumAlternative3(accountNumber));
 					}
 				}
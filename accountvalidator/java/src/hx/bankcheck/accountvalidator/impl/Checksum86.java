@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -58,25 +59,32 @@ public class Checksum86 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 0, 0, 0, 7, 6, 5, 4, 3,
 			2 };
 
+	private static final Checksum00 CHECKSUM00_ALTERNATIVE1 = new Checksum00(
+			WEIGHTS_ALTERNATIVE1);
+	private static final Checksum32 CHECKSUM32_ALTERNATIVE2 = new Checksum32(
+			WEIGHTS_ALTERNATIVE2);
+	private static final Checksum51 CHECKSUM51 = new Checksum51();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2] == 9) {
-			setException(true);
-			return new Checksum51().validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM51, accountNumber, result);
 		} else {
-			if (new Checksum00(WEIGHTS_ALTERNATIVE1).validate(accountNumber)) {
-				setAlternative(0);
+			if (validateWith(CHECKSUM00_ALTERNATIVE1, accountNumber, result)) {
+				result.setAlternative(0);
 				return true;
 			} else {
-				setAlternative(1);
-				return new Checksum32(WEIGHTS_ALTERNATIVE2)
-						.validate(accountNumber);
+				result.setAlternative(1);
+				return validateWith(CHECKSUM32_ALTERNATIVE2, accountNumber,
+						result);
 			}
 		}
 	}
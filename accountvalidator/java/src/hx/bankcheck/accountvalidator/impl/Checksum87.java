@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -96,28 +97,33 @@ public class Checksum87 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE_3 = { 0, 0, 0, 0, 6, 5, 4,
 			3, 2 };
 
+	private static final Checksum33 CHECKSUM33_ALTERNATIVE_2 = new Checksum33(
+			WEIGHTS_ALTERNATIVE_2);
+	private static final Checksum51 CHECKSUM51 = new Checksum51();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2] == 9) {
-			setException(true);
-			return new Checksum51().validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM51, accountNumber, result);
 		} else {
 			if (validateMethodA(accountNumber)) {
-				setAlternative(0);
+				result.setAlternative(0);
 				return true;
 			} else {
-				if (new Checksum33(WEIGHTS_ALTERNATIVE_2)
-						.validate(accountNumber)) {
-					setAlternative(1);
+				if (validateWith(CHECKSUM33_ALTERNATIVE_2, accountNumber,
+						result)) {
+					result.setAlternative(1);
 					return true;
 				} else {
-					setAlternative(2);
+					result.setAlternative(2);
 					return accountNumber[9] == calcChecksumAlternative3(accountNumber);
 				}
 			}
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -39,19 +40,25 @@ public class Checksum88 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_EXCEPTION = { 0, 0, 8, 7, 6, 5, 4, 3, 2 };
 	private static final int[] WEIGHTS = { 0, 0, 0, 7, 6, 5, 4, 3, 2 };
 
+	private static final Checksum06 CHECKSUM06_EXCEPTION = new Checksum06(
+			WEIGHTS_EXCEPTION);
+	private static final Checksum06 CHECKSUM06_WEIGHTS = new Checksum06(
+			WEIGHTS);
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2] == 9) {
-			setException(true);
-			return new Checksum06(WEIGHTS_EXCEPTION).validate(accountNumber);
+			result.setException(true);
+			return validateWith(CHECKSUM06_EXCEPTION, accountNumber, result);
 		} else {
-			return new Checksum06(WEIGHTS).validate(accountNumber);
+			return validateWith(CHECKSUM06_WEIGHTS, accountNumber, result);
 		}
 	}
 
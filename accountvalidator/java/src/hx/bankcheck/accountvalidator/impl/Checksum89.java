@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -42,25 +43,28 @@ public class Checksum89 extends AbstractChecksumValidator {
 
 	private static final int[] WEIGHTS = { 0, 0, 0, 7, 6, 5, 4, 3, 2 };
 
+	private static final Checksum10 CHECKSUM10 = new Checksum10();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int leadingNeutralDigits = ChecksumUtils
 				.countNeutralLeadingDigits(accountNumber);
 		if ((accountNumber[0] != 0) || (leadingNeutralDigits > 3)) {
 			return false;
 		} else {
 			if (leadingNeutralDigits == 3) {
-				setAlternative(1);
+				result.setAlternative(1);
 				return accountNumber[9] == calcChecksum(accountNumber);
 			} else {
-				setAlternative(0);
-				return new Checksum10().validate(accountNumber);
+				result.setAlternative(0);
+				return validateWith(CHECKSUM10, accountNumber, result);
 			}
 
 		}
@@ -69,9 +73,10 @@ public class Checksum89 extends AbstractChecksumValidator {
 	private int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = 0; i < WEIGHTS.length; i++) {
-			sum += ChecksumUtils.qs(accountNumber[i] * WEIGHTS[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i], WEIGHTS[i]);
 		}
-		return ((sum % 11 == 0) || (sum % 11 == 1)) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return ((remainder == 0) || (remainder == 1)) ? 0 : (11 - remainder);
 	}
 
 }
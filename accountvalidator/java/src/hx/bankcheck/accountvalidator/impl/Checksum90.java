@@ -1,7 +1,10 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Die Kontonummer ist immer 10-stellig, ggf. ist die Kontonummer durch
@@ -160,26 +163,53 @@ public class Checksum90 extends AbstractChecksumValidator {
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see hx.bankcheck.accountvalidator.AccountChecksum#validate(int[])
+	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		while (getAlternative() < 6) {
-			if (accountNumber[9] == calcChecksum(accountNumber)) {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
+		while (result.getAlternative() < 6) {
+			if (accountNumber[9] == calcChecksum(accountNumber, result)) {
 				return true;
 			}
-			setAlternative(getAlternative() + 1);
+			result.setAlternative(result.getAlternative() + 1);
 		}
 		return false;
 	}
 
-	protected int calcChecksum(int[] accountNumber) {
+	/**
+	 * The alternatives don't depend on the last digit, so their check digits
+	 * are calculated once and the smallest is the result
+	 */
+	@Override
+	public int computeCheckDigit(long body, int bankNumber,
+			ValidationResult result) {
+		int[] accountNumber = bodyDigits(body);
+		if (accountNumber == null)
+			return super.computeCheckDigit(body, bankNumber, result);
+
+		int digit;
+		if (accountNumber[2] == 9) {
+			digit = calcChecksumAlternativeF(accountNumber);
+		} else {
+			digit = Math.min(Math.min(calcChecksumAlternativeA(accountNumber),
+					calcChecksumAlternativeB(accountNumber)), Math.min(
+					calcChecksumAlternativeC(accountNumber),
+					calcChecksumAlternativeD(accountNumber)));
+			digit = Math.min(digit, Math.min(
+					calcChecksumAlternativeE(accountNumber),
+					calcChecksumAlternativeF(accountNumber)));
+		}
+		return checkDigitFound(body, bankNumber, digit, result);
+	}
+
+	protected int calcChecksum(int[] accountNumber, ValidationResult result) {
 		if (accountNumber[2] == 9) {
-			setAlternative(5);
+			result.setAlternative(5);
 			return calcChecksumAlternativeF(accountNumber);
 		} else {
-			switch (getAlternative()) {
+			switch (result.getAlternative()) {
 			case 0:
 				return calcChecksumAlternativeA(accountNumber); // Method A
 			case 1:
@@ -203,7 +233,13 @@ public class Checksum90 extends AbstractChecksumValidator {
 		for (int i = 0; i < 6; i++) {
 			sum += accountNumber[i + 3] * WEIGTHS_A[i];
 		}
-		return (sum % 11 == 1) || (sum % 11 == 0) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		int checksum = (remainder == 1) || (remainder == 0) ? 0
+				: (11 - remainder);
+
+		ValidationTrace.checkDigit(WEIGTHS_A, 11, sum, checksum);
+
+		return checksum;
 	}
 
 	private int calcChecksumAlternativeB(int[] accountNumber) {
@@ -211,7 +247,13 @@ public class Checksum90 extends AbstractChecksumValidator {
 		for (int i = 0; i < 5; i++) {
 			sum += accountNumber[i + 4] * WEIGTHS_B[i];
 		}
-		return (sum % 11 == 1) || (sum % 11 == 0) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		int checksum = (remainder == 1) || (remainder == 0) ? 0
+				: (11 - remainder);
+
+		ValidationTrace.checkDigit(WEIGTHS_B, 11, sum, checksum);
+
+		return checksum;
 	}
 
 	private int calcChecksumAlternativeC(int[] accountNumber) {
@@ -219,7 +261,11 @@ public class Checksum90 extends AbstractChecksumValidator {
 		for (int i = 0; i < 5; i++) {
 			sum += accountNumber[i + 4] * WEIGTHS_C[i];
 		}
-		return (sum % 7 == 0) ? 0 : (7 - sum % 7);
+		int checksum = (sum % 7 == 0) ? 0 : (7 - sum % 7);
+
+		ValidationTrace.checkDigit(WEIGTHS_C, 7, sum, checksum);
+
+		return checksum;
 	}
 
 	private int calcChecksumAlternativeD(int[] accountNumber) {
@@ -227,7 +273,11 @@ public class Checksum90 extends AbstractChecksumValidator {
 		for (int i = 0; i < 5; i++) {
 			sum += accountNumber[i + 4] * WEIGTHS_D[i];
 		}
-		return (sum % 9 == 0) ? 0 : (9 - sum % 9);
+		int checksum = (sum % 9 == 0) ? 0 : (9 - sum % 9);
+
+		ValidationTrace.checkDigit(WEIGTHS_D, 9, sum, checksum);
+
+		return checksum;
 	}
 
 	private int calcChecksumAlternativeE(int[] accountNumber) {
@@ -235,7 +285,11 @@ public class Checksum90 extends AbstractChecksumValidator {
 		for (int i = 0; i < 5; i++) {
 			sum += accountNumber[i + 4] * WEIGTHS_E[i];
 		}
-		return (sum % 10 == 0) ? 0 : (10 - sum % 10);
+		int checksum = ChecksumUtils.checkDigit10(sum);
+
+		ValidationTrace.checkDigit(WEIGTHS_E, 10, sum, checksum);
+
+		return checksum;
 	}
 
 	private int calcChecksumAlternativeF(int[] accountNumber) {
@@ -243,7 +297,13 @@ public class Checksum90 extends AbstractChecksumValidator {
 		for (int i = 0; i < 7; i++) {
 			sum += accountNumber[i + 2] * WEIGTHS_F[i];
 		}
-		return (sum % 11 == 1) || (sum % 11 == 0) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		int checksum = (remainder == 1) || (remainder == 0) ? 0
+				: (11 - remainder);
+
+		ValidationTrace.checkDigit(WEIGTHS_F, 11, sum, checksum);
+
+		return checksum;
 	}
 
 }
@@ -1,7 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * 
@@ -91,22 +93,23 @@ public class Checksum91 extends AbstractChecksumValidator {
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see hx.bankcheck.accountvalidator.AccountChecksum#validate(int[])
+	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		while (getAlternative() < 4) {
-			if (accountNumber[6] == calcChecksum(accountNumber)) {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
+		while (result.getAlternative() < 4) {
+			if (accountNumber[6] == calcChecksum(accountNumber, result.getAlternative())) {
 				return true;
 			}
-			setAlternative(getAlternative() + 1);
+			result.setAlternative(result.getAlternative() + 1);
 		}
 		return false;
 	}
 
-	protected int calcChecksum(int[] accountNumber) {
-		switch (getAlternative()) {
+	protected int calcChecksum(int[] accountNumber, int alternative) {
+		switch (alternative) {
 		case 0:
 			return calcChecksumMethod1(accountNumber); // Method 1
 		case 1:
@@ -141,7 +144,8 @@ public class Checksum91 extends AbstractChecksumValidator {
 		for (int i = 0; i < weights.length; i++) {
 			sum += weights[i] * accountNumber[i];
 		}
-		return (sum % 11 == 1) || (sum % 11 == 0) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return (remainder == 1) || (remainder == 0) ? 0 : (11 - remainder);
 	}
 
 }
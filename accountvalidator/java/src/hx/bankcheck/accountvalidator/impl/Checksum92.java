@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 10, Gewichtung 3, 7, 1, 3, 7, 1 <br />
  * 
@@ -25,6 +28,9 @@ public class Checksum92 extends Checksum01 {
 	// Weights from left to right
 	private static final int[] WEIGHTS = { 0, 0, 0, 1, 7, 3, 1, 7, 3 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, false, 9);
+
 	public Checksum92() {
 		super(WEIGHTS);
 	}
@@ -1,7 +1,9 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6 <br/>
@@ -70,30 +72,31 @@ public class Checksum93 extends AbstractChecksumValidator {
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see hx.bankcheck.accountvalidator.AccountChecksum#validate(int[])
+	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		if (accountNumber[5] == calcChecksum(accountNumber)) {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
+		if (accountNumber[5] == calcChecksum(accountNumber, result.getAlternative())) {
 			return true;
 		} else {
-			setAlternative(1);
+			result.setAlternative(1);
 			if ((accountNumber[0] == 0) && (accountNumber[1] == 0)
 					&& (accountNumber[2] == 0) && (accountNumber[3] == 0)
-					&& (accountNumber[9] == calcChecksum(accountNumber))) {
+					&& (accountNumber[9] == calcChecksum(accountNumber, result.getAlternative()))) {
 				return true;
 			} else {
-				setAlternative(2);
-				if (accountNumber[5] == calcChecksum(accountNumber)) {
+				result.setAlternative(2);
+				if (accountNumber[5] == calcChecksum(accountNumber, result.getAlternative())) {
 					return true;
 				} else {
-					setAlternative(3);
+					result.setAlternative(3);
 					if ((accountNumber[0] == 0)
 							&& (accountNumber[1] == 0)
 							&& (accountNumber[2] == 0)
 							&& (accountNumber[3] == 0)
-							&& (accountNumber[9] == calcChecksum(accountNumber))) {
+							&& (accountNumber[9] == calcChecksum(accountNumber, result.getAlternative()))) {
 						return true;
 					} else {
 						return false;
@@ -103,8 +106,8 @@ public class Checksum93 extends AbstractChecksumValidator {
 		}
 	}
 
-	protected int calcChecksum(int[] accountNumber) {
-		switch (getAlternative()) {
+	protected int calcChecksum(int[] accountNumber, int alternative) {
+		switch (alternative) {
 		case 0:
 			return calcChecksumAlternative1A(accountNumber);
 		case 1:
@@ -123,7 +126,8 @@ public class Checksum93 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE1_A.length; i++) {
 			sum += accountNumber[i] * WEIGHTS_ALTERNATIVE1_A[i];
 		}
-		return (sum % 11 == 1) || (sum % 11 == 0) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return (remainder == 1) || (remainder == 0) ? 0 : (11 - remainder);
 	}
 
 	private int calcChecksumAlternative1B(int[] accountNumber) {
@@ -131,7 +135,8 @@ public class Checksum93 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE1_B.length; i++) {
 			sum += accountNumber[i + 4] * WEIGHTS_ALTERNATIVE1_B[i];
 		}
-		return (sum % 11 == 1) || (sum % 11 == 0) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return (remainder == 1) || (remainder == 0) ? 0 : (11 - remainder);
 	}
 
 	private int calcChecksumAlternative2A(int[] accountNumber) {
@@ -1,5 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+
 /**
  * Modulus 10, Gewichtung 1, 2, 1, 2, 1, 2, 1, 2, 1 <br/>
  * 
@@ -23,6 +26,9 @@ public class Checksum94 extends Checksum00 {
 	// Weights from left to right
 	private static final int[] WEIGHTS = { 1, 2, 1, 2, 1, 2, 1, 2, 1 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10, WEIGHTS, true, 9);
+
 	public Checksum94() {
 		super(WEIGHTS);
 	}
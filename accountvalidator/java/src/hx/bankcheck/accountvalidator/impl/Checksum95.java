@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -34,7 +35,7 @@ public class Checksum95 extends Checksum06 {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		long tmpAccoutNumber = ChecksumUtils.parseLong(accountNumber);
 		if ((tmpAccoutNumber >= Long.parseLong("0000000001") && tmpAccoutNumber <= Long
 				.parseLong("0001999999"))
@@ -44,10 +45,10 @@ public class Checksum95 extends Checksum06 {
 						.parseLong("0499999999"))
 				|| (tmpAccoutNumber >= Long.parseLong("0700000000") && tmpAccoutNumber <= Long
 						.parseLong("0799999999"))) {
-			setException(true);
+			result.setException(true);
 			return true;
 		} else {
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		}
 	}
 
@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -46,22 +47,28 @@ public class Checksum96 extends AbstractChecksumValidator {
 	private final static int[] WEIGHTS_ALTERNATIVE_2 = { 2, 1, 2, 1, 2, 1, 2,
 			1, 2 };
 
+	private final static Checksum06 CHECKSUM06_ALTERNATIVE_1 = new Checksum06(
+			WEIGHTS_ALTERNATIVE_1);
+	private final static Checksum00 CHECKSUM00_ALTERNATIVE_2 = new Checksum00(
+			WEIGHTS_ALTERNATIVE_2);
+
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see hx.bankcheck.accountvalidator.AccountChecksum#validate(int[])
+	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		if (accountNumber[9] == calcChecksum(accountNumber)) {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
+		if (accountNumber[9] == calcChecksum(accountNumber, result.getAlternative())) {
 			return true;
 		} else {
-			setAlternative(1);
-			if (accountNumber[9] == calcChecksum(accountNumber)) {
+			result.setAlternative(1);
+			if (accountNumber[9] == calcChecksum(accountNumber, result.getAlternative())) {
 				return true;
 			} else {
-				setAlternative(2);
+				result.setAlternative(2);
 				long tmpAccountNumber = ChecksumUtils.parseLong(accountNumber);
 				return (tmpAccountNumber >= Long.parseLong("0001300000"))
 						&& (tmpAccountNumber <= Long.parseLong("0099399999"));
@@ -69,8 +76,8 @@ public class Checksum96 extends AbstractChecksumValidator {
 		}
 	}
 
-	protected int calcChecksum(int[] accountNumber) {
-		switch (getAlternative()) {
+	protected int calcChecksum(int[] accountNumber, int alternative) {
+		switch (alternative) {
 		case 0:
 			return calcChecksumAlternative1(accountNumber);
 		case 1:
@@ -81,13 +88,11 @@ public class Checksum96 extends AbstractChecksumValidator {
 	}
 
 	private int calcChecksumAlternative1(int[] accountNumber) {
-		Checksum06 checksum06 = new Checksum06(WEIGHTS_ALTERNATIVE_1);
-		return checksum06.calcChecksum(accountNumber);
+		return CHECKSUM06_ALTERNATIVE_1.calcChecksum(accountNumber);
 	}
 
 	private int calcChecksumAlternative2(int[] accountNumber) {
-		Checksum00 checksum00 = new Checksum00(WEIGHTS_ALTERNATIVE_2);
-		return checksum00.calcChecksum(accountNumber);
+		return CHECKSUM00_ALTERNATIVE_2.calcChecksum(accountNumber);
 	}
 
 }
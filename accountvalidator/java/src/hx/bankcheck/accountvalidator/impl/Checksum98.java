@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -38,20 +39,18 @@ public class Checksum98 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 0, 0, 3, 7, 1, 3, 7, 1,
 			3 };
 
+	private static final AbstractChecksumValidator[] ALTERNATIVES = {
+			new Checksum01(WEIGHTS_ALTERNATIVE1),
+			new Checksum32(WEIGHTS_ALTERNATIVE2) };
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		if (new Checksum01(WEIGHTS_ALTERNATIVE1).validate(accountNumber)) {
-			return true;
-		} else {
-			setAlternative(1);
-			return new Checksum32(WEIGHTS_ALTERNATIVE2).validate(accountNumber);
-		}
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return validateAlternatives(ALTERNATIVES, accountNumber, result);
 	}
 
 }
@@ -3,6 +3,7 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -38,14 +39,14 @@ public class Checksum99 extends Checksum06 {
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		long accountNumberAsLong = ChecksumUtils.parseLong(accountNumber);
 		if ((accountNumberAsLong >= Long.parseLong("0396000000"))
 				&& (accountNumberAsLong <= Long.parseLong("0499999999"))) {
-			setException(true);
+			result.setException(true);
 			return true;
 		} else {
-			return super.validate(accountNumber);
+			return super.validateAccountNumber(accountNumber, result);
 		}
 	}
 }
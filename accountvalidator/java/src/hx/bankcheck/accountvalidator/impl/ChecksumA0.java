@@ -1,33 +1,35 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Modulus 11, Gewichtung 2, 4, 8, 5, 10, 0, 0, 0, 0 <br/>
  * 
- * Die Kontonummer ist einschlielich der Prfziffer 10-stellig, ggf. ist die
- * Kontonummer fr die Prfzifferberechnung durch linksbndige Auffllung mit
- * Nullen 10-stellig darzustellen. Die Stelle 10 ist die Prfziffer. Die
- * einzelnen Stellen der Kontonummer (ohne Prfziffer) sind von rechts nach
- * links mit dem zugehrigen Gewicht (2, 4, 8, 5, 10, 0, 0, 0, 0) zu
+ * Die Kontonummer ist einschließlich der Prüfziffer 10-stellig, ggf. ist die
+ * Kontonummer für die Prüfzifferberechnung durch linksbündige Auffüllung mit
+ * Nullen 10-stellig darzustellen. Die Stelle 10 ist die Prüfziffer. Die
+ * einzelnen Stellen der Kontonummer (ohne Prüfziffer) sind von rechts nach
+ * links mit dem zugehörigen Gewicht (2, 4, 8, 5, 10, 0, 0, 0, 0) zu
  * multiplizieren. Die Produkte werden addiert. Das Ergebnis ist durch 11 zu
  * dividieren. Ergibt sich nach der Division ein Rest von 0 oder 1, so ist die
- * Prfziffer 0. Ansonsten ist der Rest vom Divisor (11) zu subtrahieren. Das
- * Ergebnis ist die Prfziffer. <br/>
+ * Prüfziffer 0. Ansonsten ist der Rest vom Divisor (11) zu subtrahieren. Das
+ * Ergebnis ist die Prüfziffer. <br/>
  * 
  * <b>Ausnahme:</b><br/>
  * 
  * 3-stellige Kontonummern bzw. Kontonummern, deren Stellen 1 bis 7 = 0 sind,
- * enthalten keine Prfziffer und sind als richtig anzusehen.<br/>
+ * enthalten keine Prüfziffer und sind als richtig anzusehen.<br/>
  * 
  * Stellennr.: 1 2 3 4 5 6 7 8 9 10 <br/>
  * Kontonr.: x x x x x x x x x P<br/>
  * Gewichtung: 0 0 0 0 10 5 8 4 2<br/>
  * 
  * Summe der Produkte dividiert durch 11 = x,<br/>
- * Rest Rest = 0 oder 1 Prfziffer = 0<br/>
- * Rest = 2 bis 10 Prfziffer = 11  Rest<br/>
+ * Rest Rest = 0 oder 1 Prüfziffer = 0<br/>
+ * Rest = 2 bis 10 Prüfziffer = 11  Rest<br/>
  * 
  * Beispiel:<br/>
  * 
@@ -39,7 +41,7 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  * 
  * Testkontonummern: 521003287, 54500, 3287, 18761, 28290
  * 
- * @author Sascha Dmer (sdo@lmis.de) - LM Internet Services AG
+ * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
  * @version 1.0
  * 
  */
@@ -53,12 +55,12 @@ public class ChecksumA0 extends AbstractChecksumValidator {
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[0] == 0) && (accountNumber[1] == 0)
 				&& (accountNumber[2] == 0) && (accountNumber[3] == 0)
 				&& (accountNumber[4] == 0) && (accountNumber[5] == 0)
 				&& (accountNumber[6] == 0)) {
-			setException(true);
+			result.setException(true);
 			return true;
 		}
 		return accountNumber[9] == calcChecksum(accountNumber);
@@ -69,7 +71,8 @@ public class ChecksumA0 extends AbstractChecksumValidator {
 		for (int i = 0; i < accountNumber.length - 1; i++) {
 			sum += accountNumber[i] * WEIGHTS[i];
 		}
-		return ((sum % 11 == 1) || (sum % 11 == 0)) ? 0 : (11 - sum % 11);
+		int remainder = ChecksumUtils.mod11(sum);
+		return ((remainder == 1) || (remainder == 0)) ? 0 : (11 - remainder);
 	}
 
 }
@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -34,7 +35,7 @@ public class ChecksumA1 extends Checksum00 {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[0] == 0) && (accountNumber[1] != 0)) {
 			return false;
 		} else {
@@ -43,7 +44,7 @@ public class ChecksumA1 extends Checksum00 {
 				return false;
 			}
 		}
-		return super.validate(accountNumber);
+		return super.validateAccountNumber(accountNumber, result);
 	}
 
 }
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -37,20 +38,17 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumA2 extends AbstractChecksumValidator {
 
+	private static final AbstractChecksumValidator[] ALTERNATIVES = {
+			new Checksum00(), new Checksum04() };
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		if (new Checksum00().validate(accountNumber)) {
-			return true;
-		} else {
-			setAlternative(1);
-			return (new Checksum04().validate(accountNumber));
-		}
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return validateAlternatives(ALTERNATIVES, accountNumber, result);
 	}
 
 }
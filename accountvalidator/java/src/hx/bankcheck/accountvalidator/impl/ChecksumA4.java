@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -112,32 +113,38 @@ public class ChecksumA4 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE3 = { 0, 0, 0, 0, 6, 5, 4, 3,
 			2 };
 
+	private static final Checksum06 CHECKSUM06_ALTERNATIVE1 = new Checksum06(
+			WEIGHTS_ALTERNATIVE1);
+	private static final Checksum06 CHECKSUM06_ALTERNATIVE3 = new Checksum06(
+			WEIGHTS_ALTERNATIVE3);
+	private static final Checksum93 CHECKSUM93 = new Checksum93();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if ((accountNumber[2] == 9) && (accountNumber[3] == 9)) {
-			setAlternative(2);
-			if (new Checksum06(WEIGHTS_ALTERNATIVE3).validate(accountNumber)) {
+			result.setAlternative(2);
+			if (validateWith(CHECKSUM06_ALTERNATIVE3, accountNumber, result)) {
 				return true;
 			} else {
-				setAlternative(3);
-				return new Checksum93().validate(accountNumber);
+				result.setAlternative(3);
+				return validateWith(CHECKSUM93, accountNumber, result);
 			}
 		} else {
-			setAlternative(0);
-			if (new Checksum06(WEIGHTS_ALTERNATIVE1).validate(accountNumber)) {
+			result.setAlternative(0);
+			if (validateWith(CHECKSUM06_ALTERNATIVE1, accountNumber, result)) {
 				return true;
 			} else {
-				setAlternative(1);
+				result.setAlternative(1);
 				if (accountNumber[9] == calcChecksumAlternative2(accountNumber)) {
 					return true;
 				} else {
-					setAlternative(3);
-					return new Checksum93().validate(accountNumber);
+					result.setAlternative(3);
+					return validateWith(CHECKSUM93, accountNumber, result);
 				}
 			}
 		}
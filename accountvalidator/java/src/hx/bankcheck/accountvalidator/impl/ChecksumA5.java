@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -34,22 +35,25 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumA5 extends AbstractChecksumValidator {
 
+	private static final Checksum00 CHECKSUM00 = new Checksum00();
+	private static final Checksum10 CHECKSUM10 = new Checksum10();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
-		if (new Checksum00().validate(accountNumber)) {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
+		if (validateWith(CHECKSUM00, accountNumber, result)) {
 			return true;
 		} else {
-			setAlternative(1);
+			result.setAlternative(1);
 			if (accountNumber[0] == 9) {
 				return false;
 			} else {
-				return new Checksum10().validate(accountNumber);
+				return validateWith(CHECKSUM10, accountNumber, result);
 			}
 		}
 	}
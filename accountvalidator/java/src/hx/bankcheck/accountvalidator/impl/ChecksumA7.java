@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -32,15 +33,12 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumA7 extends AbstractChecksumValidator {
 
+	private static final AbstractChecksumValidator[] ALTERNATIVES = {
+			new Checksum00(), new Checksum03() };
+
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if (new Checksum00().validate(accountNumber)) {
-			setAlternative(0);
-			return true;
-		} else {
-			setAlternative(1);
-			return new Checksum03().validate(accountNumber);
-		}
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return validateAlternatives(ALTERNATIVES, accountNumber, result);
 	}
 
 }
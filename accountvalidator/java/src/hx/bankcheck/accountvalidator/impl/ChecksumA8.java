@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -54,27 +55,32 @@ public class ChecksumA8 extends AbstractChecksumValidator {
 	// Weights from left to right
 	private static int[] WEIGHTS_ALTERNATIVE1 = { 0, 0, 0, 7, 6, 5, 4, 3, 2 };
 	private static int[] WEIGHTS_ALTERNATIVE2 = { 0, 0, 0, 1, 2, 1, 2, 1, 2 };
+	private static final Checksum51 CHECKSUM51 = new Checksum51();
+	private static final Checksum00 CHECKSUM00_ALTERNATIVE2 = new Checksum00(
+			WEIGHTS_ALTERNATIVE2);
+	private static final Checksum06 CHECKSUM06_ALTERNATIVE1 = new Checksum06(
+			WEIGHTS_ALTERNATIVE1);
+
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
+	 * @see hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		setAlternative(0);
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		result.setAlternative(0);
 		if (accountNumber[2] == 9) {
-			setException(true);
-			Checksum51 checksum = new Checksum51();
-			boolean result = checksum.validate(accountNumber);
-			setAlternative(checksum.getAlternative());
-			return result;
+			result.setException(true);
+			// method 51 sets the alternative
+			return CHECKSUM51.validateAccountNumber(accountNumber, result);
 		} else {
-			if (new Checksum06(WEIGHTS_ALTERNATIVE1).validate(accountNumber)) {
+			if (validateWith(CHECKSUM06_ALTERNATIVE1, accountNumber, result)) {
 				return true;
 			} else {
-				setAlternative(1);
-				return new Checksum00(WEIGHTS_ALTERNATIVE2)
-						.validate(accountNumber);
+				result.setAlternative(1);
+				return validateWith(CHECKSUM00_ALTERNATIVE2, accountNumber,
+						result);
 			}
 		}
 	}
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -13,24 +14,27 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumB0 extends AbstractChecksumValidator {
 
+	private static final Checksum06 CHECKSUM06 = new Checksum06();
+	private static final Checksum09 CHECKSUM09 = new Checksum09();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (((accountNumber[0] == 0)) || (accountNumber[0] == 8)
 				|| (accountNumber[1] == 8)) {
 			return false;
 		} else {
 			if ((accountNumber[7] == 1) || (accountNumber[7] == 2)
 					|| (accountNumber[7] == 3) || (accountNumber[7] == 6)) {
-				setAlternative(0);
-				return new Checksum09().validate(accountNumber);
+				result.setAlternative(0);
+				return validateWith(CHECKSUM09, accountNumber, result);
 			} else {
-				setAlternative(1);
-				return new Checksum06().validate(accountNumber);
+				result.setAlternative(1);
+				return validateWith(CHECKSUM06, accountNumber, result);
 			}
 		}
 	}
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -38,19 +39,22 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumB2 extends AbstractChecksumValidator {
 
+	private static final Checksum00 CHECKSUM00 = new Checksum00();
+	private static final Checksum02 CHECKSUM02 = new Checksum02();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] < 8) {
-			setAlternative(0);
-			return new Checksum02().validate(accountNumber);
+			result.setAlternative(0);
+			return validateWith(CHECKSUM02, accountNumber, result);
 		} else {
-			setAlternative(1);
-			return new Checksum00().validate(accountNumber);
+			result.setAlternative(1);
+			return validateWith(CHECKSUM00, accountNumber, result);
 		}
 	}
 
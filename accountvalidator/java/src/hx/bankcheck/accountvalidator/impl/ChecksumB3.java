@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -39,19 +40,22 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumB3 extends AbstractChecksumValidator {
 
+	private static final Checksum06 CHECKSUM06 = new Checksum06();
+	private static final Checksum32 CHECKSUM32 = new Checksum32();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] < 9) {
-			setAlternative(0);
-			return new Checksum32().validate(accountNumber);
+			result.setAlternative(0);
+			return validateWith(CHECKSUM32, accountNumber, result);
 		} else {
-			setAlternative(1);
-			return new Checksum06().validate(accountNumber);
+			result.setAlternative(1);
+			return validateWith(CHECKSUM06, accountNumber, result);
 		}
 	}
 
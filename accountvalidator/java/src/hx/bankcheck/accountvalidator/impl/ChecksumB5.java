@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -41,22 +42,25 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumB5 extends AbstractChecksumValidator {
 
+	private static final Checksum00 CHECKSUM00 = new Checksum00();
+	private static final Checksum05 CHECKSUM05 = new Checksum05();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[])
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if (new Checksum05().validate(accountNumber)) {
-			setAlternative(0);
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		if (validateWith(CHECKSUM05, accountNumber, result)) {
+			result.setAlternative(0);
 			return true;
 		} else {
 			if ((accountNumber[0] == 9) || (accountNumber[0] == 8)) {
 				return false;
 			} else {
-				setAlternative(1);
-				return new Checksum00().validate(accountNumber);
+				result.setAlternative(1);
+				return validateWith(CHECKSUM00, accountNumber, result);
 			}
 		}
 	}
@@ -1,6 +1,8 @@
 package hx.bankcheck.accountvalidator.impl;
 
-import hx.bankcheck.accountvalidator.ChecksumValidator;
+import hx.bankcheck.accountvalidator.BankDependentValidator;
+import hx.bankcheck.accountvalidator.ValidationBuffer;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -30,27 +32,81 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  * @version 1.0
  * 
  */
-public class ChecksumB6 implements ChecksumValidator {
+public class ChecksumB6 implements BankDependentValidator {
 
 	// Weights from left to right
 	private static final int[] WEIGHTS_ALTERANTIVE1 = { 3, 9, 8, 7, 6, 5, 4, 3,
 			2 };
 	private static final int[] WEIGHTS_ALTERANTIVE2 = { 4, 2, 1, 6, 3, 7, 9,
 			10, 5, 8, 4, 2 };
+
+	private static final Checksum20 CHECKSUM20_ALTERNATIVE1 = new Checksum20(
+			WEIGHTS_ALTERANTIVE1);
+	private static final Checksum53 CHECKSUM53_ALTERNATIVE2 = new Checksum53(
+			WEIGHTS_ALTERANTIVE2);
+	/**
+	 * Method 53, bound to a bank if this validator is
+	 */
+	private final Checksum53 checksum53;
+
 	private int alternative = 0;
 
+	public ChecksumB6() {
+		this(CHECKSUM53_ALTERNATIVE2);
+	}
+
+	private ChecksumB6(Checksum53 checksum53) {
+		this.checksum53 = checksum53;
+	}
+
 	@Override
 	public boolean validate(int[] a, int[] bankNumber)
 			throws ValidationException {
+		ValidationResult result = new ValidationResult();
+		boolean valid = validate(a, bankNumber, result);
+		setAlternative(result.getAlternative());
+		return valid;
+	}
+
+	@Override
+	public boolean validate(int[] a, int[] bankNumber, ValidationResult result)
+			throws ValidationException {
+		if (check(a, bankNumber, result) == ValidationResult.MALFORMED) {
+			// only method 53 rejects account numbers, repeated to throw its
+			// exception
+			checksum53.validate(a, bankNumber, result);
+		}
+		return result.isValid();
+	}
+
+	@Override
+	public byte check(int[] a, int[] bankNumber, ValidationResult result) {
+		byte status;
 		// erste Stelle 1-9 oder 1-5 Stelle Wert 02691 bis 02699
 		if (a[0] != 0 || (a[1] == 2 && a[2] == 6 && a[3] == 9 && a[4] != 0)) {
-			setAlternative(0);
-			return new Checksum20(WEIGHTS_ALTERANTIVE1).validate(a);
+			status = CHECKSUM20_ALTERNATIVE1.check(a, bankNumber, result);
+			result.setAlternative(0);
 		} else {
-			setAlternative(1);
-			return new Checksum53(WEIGHTS_ALTERANTIVE2).validate(a,
-					bankNumber);
+			status = checksum53.check(a, bankNumber, result);
+			result.setAlternative(1);
 		}
+		return status;
+	}
+
+	@Override
+	public boolean validate(long accountNumber, int bankNumber,
+			ValidationResult result) throws ValidationException {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		return validate(buffer.accountNumber(accountNumber),
+				buffer.bankNumber(bankNumber), result);
+	}
+
+	/**
+	 * Binds the validator to a bank, see {@link Checksum53#forBank(int)}
+	 */
+	@Override
+	public ChecksumB6 forBank(int bankNumber) {
+		return new ChecksumB6(CHECKSUM53_ALTERNATIVE2.forBank(bankNumber));
 	}
 
 	/**
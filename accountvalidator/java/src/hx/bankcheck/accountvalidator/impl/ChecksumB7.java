@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -26,23 +27,27 @@ public class ChecksumB7 extends AbstractChecksumValidator {
 
 	// Weights from left to right
 	private static final int[] WEIGHTS = { 1, 7, 3, 1, 7, 3, 1, 7, 3 };
+	private static final Checksum01 CHECKSUM01 = new Checksum01(WEIGHTS);
+	private static final Checksum09 CHECKSUM09 = new Checksum09();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (((ChecksumUtils.parseLong(accountNumber) >= 1000000) && (ChecksumUtils
 				.parseLong(accountNumber) <= 5999999))
 				|| ((ChecksumUtils.parseLong(accountNumber) >= 700000000) && (ChecksumUtils
 						.parseLong(accountNumber) <= 899999999))) {
-			setAlternative(0);
-			return new Checksum01(WEIGHTS).validate(accountNumber);
+			result.setAlternative(0);
+			return validateWith(CHECKSUM01, accountNumber, result);
 		}else{
-			setAlternative(1);
-			return new Checksum09().validate(accountNumber);
+			result.setAlternative(1);
+			return validateWith(CHECKSUM09, accountNumber, result);
 		}
 	}
 
@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -52,28 +53,32 @@ public class ChecksumB8 extends AbstractChecksumValidator {
 	// Weights from left to right
 	private static final int[] WEIGHTS = { 3, 9, 8, 7, 6, 5, 4, 3, 2 };
 
+	private static final Checksum20 CHECKSUM20 = new Checksum20(WEIGHTS);
+	private static final Checksum29 CHECKSUM29 = new Checksum29();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if (new Checksum20(WEIGHTS).validate(accountNumber)) {
-			setAlternative(0);
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		if (validateWith(CHECKSUM20, accountNumber, result)) {
+			result.setAlternative(0);
 			return true;
-		} else if (new Checksum29().validate(accountNumber)) {
-			setAlternative(1);
+		} else if (validateWith(CHECKSUM29, accountNumber, result)) {
+			result.setAlternative(1);
 			return true;
 		} else if ((accountNumber[0] == 5 && accountNumber[1] != 0)) {
-			setAlternative(2);
+			result.setAlternative(2);
 			return true;
 		} else {
 			int i = accountNumber[0] * 100 + accountNumber[1] * 10
 					+ accountNumber[2];
 			if (i >= 901 && i <= 910) {
-				setAlternative(2);
+				result.setAlternative(2);
 				return true;
 			} else {
 				return false;
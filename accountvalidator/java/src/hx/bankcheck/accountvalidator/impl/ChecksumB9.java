@@ -4,35 +4,36 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
- * Die Kontonummer ist einschlielich der Prfziffer 10-stellig, ggf. ist die
- * Kontonummer fr die Prfzifferberechnung durch linksbndige Auffllung mit
+ * Die Kontonummer ist einschließlich der Prüfziffer 10-stellig, ggf. ist die
+ * Kontonummer für die Prüfzifferberechnung durch linksbündige Auffüllung mit
  * Nullen 10-stellig darzustellen.<br/>
  * 
- * Kontonummern mit weniger als zwei oder mehr als drei fhrenden Nullen sind
- * falsch. Die Kontonummern mit zwei fhrenden Nullen sind nach Variante 1, mit
- * drei fhrenden Nullen nach Variante 2 zu prfen.<br/>
+ * Kontonummern mit weniger als zwei oder mehr als drei führenden Nullen sind
+ * falsch. Die Kontonummern mit zwei führenden Nullen sind nach Variante 1, mit
+ * drei führenden Nullen nach Variante 2 zu prüfen.<br/>
  * 
  * <b>Variante 1:</b><br/>
  * 
  * Modulus (11,10), Gewichtung 1, 3, 2, 1, 3, 2, 1<br/>
  * 
- * Die fr die Berechnung relevanten Stellen der Kontonummer befinden sich - von
- * links nach rechts gelesen -in den Stellen 3-9 (die Prfziffer ist in Stelle
- * 10). Sie sind von rechts nach links  mit den zugehrigen
+ * Die für die Berechnung relevanten Stellen der Kontonummer befinden sich - von
+ * links nach rechts gelesen -in den Stellen 3-9 (die Prüfziffer ist in Stelle
+ * 10). Sie sind von rechts nach links  mit den zugehörigen
  * Gewichtungsfaktoren zu multiplizieren.<br/>
  * 
- * Zum jeweiligen Produkt ist der zugehrige Gewichtungsfaktor zu addieren.Das
+ * Zum jeweiligen Produkt ist der zugehörige Gewichtungsfaktor zu addieren.Das
  * jeweilige Ergebnis ist durch 11 zu dividieren. Die sich aus der Division
  * ergebenden Reste sind zu summieren. Diese Summe ist durch 10 zu dividieren.
- * Der Rest ist die berechnete Prfziffer.<br/>
+ * Der Rest ist die berechnete Prüfziffer.<br/>
  * 
- * Fhrt die Berechnung zu einem Prfzifferfehler, so ist die berechnete
- * Prfziffer um 5 zu erhhen und erneut zu prfen. Ist die Prfziffer grer
- * oder gleich 10, ist 10 abzuziehen und das Ergebnis ist dann die Prfziffer.<br/>
+ * Führt die Berechnung zu einem Prüfzifferfehler, so ist die berechnete
+ * Prüfziffer um 5 zu erhöhen und erneut zu prüfen. Ist die Prüfziffer größer
+ * oder gleich 10, ist 10 abzuziehen und das Ergebnis ist dann die Prüfziffer.<br/>
  * 
  * Rechenbeispiel mit der Testkontonummer 0087920187: <br/>
  * 
@@ -44,8 +45,8 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * 1 x 3 = 3 + 3 = 6 6 : 11 = 0 Rest 6 <br/>
  * 8 x 1 = 8 + 1 = 9 9 : 11 = 0 Rest 9 <br/>
  * 
- * Summe der Reste: 42 42 : 10 = 4 Rest 2 (= falsche Prfziffer) ==> 2 + 5 = 7
- * (= Prfziffer)<br/>
+ * Summe der Reste: 42 42 : 10 = 4 Rest 2 (= falsche Prüfziffer) ==> 2 + 5 = 7
+ * (= Prüfziffer)<br/>
  * 
  * Testkontonummern (richtig): 87920187, 41203755, 81069577, 61287958, 58467232 <br/>
  * Testkontonummern (falsch): 88034023, 43025432, 86521362, 61256523, 54352684 <br/>
@@ -54,19 +55,19 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * 
  * Modulus 11, Gewichtung 1, 2, 3, 4, 5, 6 <br/>
  * 
- * Die fr die Berechnung relevanten Stellen der Kontonummer befinden sich - von
- * links nach rechts gelesen-in den Stellen 4-9 (die Prfziffer ist in Stelle
- * 10).Sie sind von rechts nach links mit den zugehrigen Gewichtungsfaktoren zu
+ * Die für die Berechnung relevanten Stellen der Kontonummer befinden sich - von
+ * links nach rechts gelesen-in den Stellen 4-9 (die Prüfziffer ist in Stelle
+ * 10).Sie sind von rechts nach links mit den zugehörigen Gewichtungsfaktoren zu
  * multiplizieren.<br/>
  * 
  * Die Summe dieser Produkte ist zu bilden, und das erzielte Ergebnis ist durch
- * 11 zu dividieren. Der Rest ist die berechnete Prfziffer.<br/>
+ * 11 zu dividieren. Der Rest ist die berechnete Prüfziffer.<br/>
  * 
- * Fhrt die Berechnung zu einem Prfzifferfehler, so ist die berechnete
- * Prfziffer um 5 zu erhhen und erneut zu prfen. <br/>
+ * Führt die Berechnung zu einem Prüfzifferfehler, so ist die berechnete
+ * Prüfziffer um 5 zu erhöhen und erneut zu prüfen. <br/>
  * 
- * Ist die Prfziffer grer oder gleich 10, ist 10 abzuziehen und das Ergebnis
- * ist dann die Prfziffer.<br/>
+ * Ist die Prüfziffer größer oder gleich 10, ist 10 abzuziehen und das Ergebnis
+ * ist dann die Prüfziffer.<br/>
  * 
  * Rechenbeispiel mit der Testkontonummer 7125633: <br/>
  * 
@@ -80,14 +81,14 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * Summe = 85 <br/>
  * 
  * 85 : 11 = 7 Rest 8 <br/>
- * (= falsche Prfziffer) ==> 8 + 5 = 13 <br/>
- * (= Prfziffer grer 10) ==> 13 - 10 = 3 (= Prfziffer) <br/>
+ * (= falsche Prüfziffer) ==> 8 + 5 = 13 <br/>
+ * (= Prüfziffer größer 10) ==> 13 - 10 = 3 (= Prüfziffer) <br/>
  * 
  * Testkontonummern (richtig): 7125633, 1253657, 4353631<br/>
  * 
  * Testkontonummern (falsch): 2356412, 5435886, 9435414<br/>
  * 
- * @author Sascha Dmer (sdo@lmis.de) - LM Internet Services AG
+ * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
  * @version 1.0
  * 
  */
@@ -100,20 +101,21 @@ public class ChecksumB9 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int leadingNeutralDigits = ChecksumUtils.countNeutralLeadingDigits(accountNumber);
 		if ((leadingNeutralDigits != 2) && (leadingNeutralDigits != 3)) {
 			return false;
 		} else {
 			if (leadingNeutralDigits == 2) {
-				setAlternative(0);
+				result.setAlternative(0);
 				int checksum = calcChecksumAlternative1(accountNumber);
 				return ((accountNumber[9] == checksum) || (accountNumber[9] == (checksum + 5) % 10));
 			} else {
-				setAlternative(1);
+				result.setAlternative(1);
 				int checksum = calcChecksumAlternative2(accountNumber);
 				return ((accountNumber[9] == checksum) || (accountNumber[9] == (checksum + 5) % 10));
 			}
@@ -125,7 +127,7 @@ public class ChecksumB9 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE1.length; i++) {
 			sum += (accountNumber[i + 2] * WEIGHTS_ALTERNATIVE1[i] + WEIGHTS_ALTERNATIVE1[i]) % 11;
 		}
-		return sum % 10;
+		return ChecksumUtils.mod10(sum);
 	}
 
 	private int calcChecksumAlternative2(int[] accountNumber) {
@@ -133,7 +135,7 @@ public class ChecksumB9 extends AbstractChecksumValidator {
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE2.length; i++) {
 			sum += accountNumber[i + 3] * WEIGHTS_ALTERNATIVE2[i];
 		}
-		return sum % 11;
+		return ChecksumUtils.mod11(sum);
 	}
 
 }
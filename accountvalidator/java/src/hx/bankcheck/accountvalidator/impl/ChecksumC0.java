@@ -3,7 +3,9 @@
  */
 package hx.bankcheck.accountvalidator.impl;
 
-import hx.bankcheck.accountvalidator.ChecksumValidator;
+import hx.bankcheck.accountvalidator.BankDependentValidator;
+import hx.bankcheck.accountvalidator.ValidationBuffer;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -39,7 +41,7 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * @version 1.0
  * 
  */
-public class ChecksumC0 implements ChecksumValidator {
+public class ChecksumC0 implements BankDependentValidator {
 
 	// Weights from left to right
 	private static final int[] WEIGHTS_ALTERNATIVE1 = { 4, 2, 1, 6, 3, 7, 9,
@@ -47,8 +49,26 @@ public class ChecksumC0 implements ChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 3, 9, 8, 7, 6, 5, 4, 3,
 			2 };
 
+	private static final Checksum52 CHECKSUM52_ALTERNATIVE1 = new Checksum52(
+			WEIGHTS_ALTERNATIVE1);
+	private static final Checksum20 CHECKSUM20_ALTERNATIVE2 = new Checksum20(
+			WEIGHTS_ALTERNATIVE2);
+
+	/**
+	 * Method 52, bound to a bank if this validator is
+	 */
+	private final Checksum52 checksum52;
+
 	private int alternative = 0;
 
+	public ChecksumC0() {
+		this(CHECKSUM52_ALTERNATIVE1);
+	}
+
+	private ChecksumC0(Checksum52 checksum52) {
+		this.checksum52 = checksum52;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -58,20 +78,68 @@ public class ChecksumC0 implements ChecksumValidator {
 	@Override
 	public boolean validate(int[] accountNumber, int[] bankNumber)
 			throws ValidationException {
+		ValidationResult result = new ValidationResult();
+		boolean valid = validate(accountNumber, bankNumber, result);
+		setAlternative(result.getAlternative());
+		return valid;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#validate(int[],
+	 * int[], hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public boolean validate(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) throws ValidationException {
+		if (check(accountNumber, bankNumber, result) == ValidationResult.MALFORMED) {
+			// only method 52 rejects account numbers, repeated to throw its
+			// exception
+			checksum52.validate(accountNumber, bankNumber, result);
+		}
+		return result.isValid();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see hx.bankcheck.accountvalidator.ChecksumValidator#check(int[],
+	 * int[], hx.bankcheck.accountvalidator.ValidationResult)
+	 */
+	@Override
+	public byte check(int[] accountNumber, int[] bankNumber,
+			ValidationResult result) {
 		int leadingNeutralDigits = ChecksumUtils
 				.countNeutralLeadingDigits(accountNumber);
 		if (leadingNeutralDigits == 2) {
-			setAlternative(0);
-			if(new Checksum52(WEIGHTS_ALTERNATIVE1).validate(accountNumber, bankNumber)){
-				return true;
-			}else{
-				setAlternative(1);
-				return new Checksum20(WEIGHTS_ALTERNATIVE2).validate(accountNumber);
+			byte status = checksum52.check(accountNumber, bankNumber,
+					result);
+			if (status != ValidationResult.INVALID) {
+				result.setAlternative(0);
+				return status;
 			}
-		}else{
-			setAlternative(1);
-			return new Checksum20(WEIGHTS_ALTERNATIVE2).validate(accountNumber);
 		}
+		byte status = CHECKSUM20_ALTERNATIVE2.check(accountNumber, bankNumber,
+				result);
+		result.setAlternative(1);
+		return status;
+	}
+
+	@Override
+	public boolean validate(long accountNumber, int bankNumber,
+			ValidationResult result) throws ValidationException {
+		ValidationBuffer buffer = ValidationBuffer.get();
+		return validate(buffer.accountNumber(accountNumber),
+				buffer.bankNumber(bankNumber), result);
+	}
+
+	/**
+	 * Binds the validator to a bank, see {@link Checksum52#forBank(int)}
+	 */
+	@Override
+	public ChecksumC0 forBank(int bankNumber) {
+		return new ChecksumC0(CHECKSUM52_ALTERNATIVE1.forBank(bankNumber));
 	}
 
 	/**
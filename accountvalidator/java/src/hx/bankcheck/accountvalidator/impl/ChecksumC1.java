@@ -4,26 +4,27 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
- * Die Kontonummer ist einschlielich der Prfziffer 10-stellig, ggf. ist die
- * Kontonummer fr die Prfzifferberechnung durch linksbndige Auffllung mit
+ * Die Kontonummer ist einschließlich der Prüfziffer 10-stellig, ggf. ist die
+ * Kontonummer für die Prüfzifferberechnung durch linksbündige Auffüllung mit
  * Nullen 10-stellig darzustellen.<br/>
  * 
  * Kontonummern, die an der 1. Stelle der 10-stelligen Kontonummer einen Wert
- * ungleich 5 beinhalten, sind nach der Variante 1 zu prfen. Kontonummern,
- * die an der 1. Stelle der 10-stelligen Kontonummer den Wert 5beinhalten,
- * sind nach der Variante 2 zu prfen.<br/>
+ * ungleich 5 beinhalten, sind nach der Variante 1 zu prüfen. Kontonummern,
+ * die an der 1. Stelle der 10-stelligen Kontonummer den Wert 5beinhalten,
+ * sind nach der Variante 2 zu prüfen.<br/>
  * 
  * Variante 1: <br/>
  * 
  * Modulus 11, Gewichtung 1, 2, 1, 2, 1, 2<br/>
  * 
- * Die Berechnung und mgliche Ergebnisse entsprechen der Methode 17. <br/>
+ * Die Berechnung und mögliche Ergebnisse entsprechen der Methode 17. <br/>
  * 
- * Fhrt die Berechnung nach der Variante 1 zu einem Prfzifferfehler, so ist
+ * Führt die Berechnung nach der Variante 1 zu einem Prüfzifferfehler, so ist
  * die Kontonummer falsch.<br/>
  * 
  * Testkontonummern (richtig): 0446786040, 0478046940, 0701625830, 0701625840,
@@ -38,16 +39,16 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * Die Kontonummer ist 10-stellig mit folgendem Aufbau: KNNNNNNNNP <br/>
  * K = Kontoartziffer <br/>
  * N = laufende Nummer <br/>
- * P = Prfziffer <br/>
+ * P = Prüfziffer <br/>
  * 
- * Fr die Berechnung flieen die Stellen 1 bis 9 ein. Stelle 10 ist die
- * ermittelte Prfziffer. Die Stellen 1 bis 9 sind von links nach rechts mit den
+ * Für die Berechnung fließen die Stellen 1 bis 9 ein. Stelle 10 ist die
+ * ermittelte Prüfziffer. Die Stellen 1 bis 9 sind von links nach rechts mit den
  * Ziffern 1, 2, 1, 2, 1, 2, 1, 2, 1 zu multiplizieren. Die jeweiligen Produkte
  * sind zu addieren, nachdem aus eventuell zweistelligen Produkten der 2., 4.,
  * 6. und 8. Stelle die Quersumme gebildet wurde. Von der Summe ist der Wert
- * 1zu subtrahieren. Das Ergebnis ist dann durch 11 zu dividieren. Der
- * verbleibende Rest wird von 10 subtrahiert. Das Ergebnis ist die Prfziffer.
- * Verbleibt nach der Division durch 11 kein Rest, ist die Prfziffer 0. <br/>
+ * 1zu subtrahieren. Das Ergebnis ist dann durch 11 zu dividieren. Der
+ * verbleibende Rest wird von 10 subtrahiert. Das Ergebnis ist die Prüfziffer.
+ * Verbleibt nach der Division durch 11 kein Rest, ist die Prüfziffer 0. <br/>
  * 
  * Beispiel: <br/>
  * 
@@ -59,7 +60,7 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * 
  * 35 - 1 = 34<br/>
  * 
- * 34 : 11 = 3, Rest 1 10 - 1 = 9 (Prfziffer)<br/>
+ * 34 : 11 = 3, Rest 1 10 - 1 = 9 (Prüfziffer)<br/>
  * 
  * Testkontonummern richtig: 5432112349, 5543223456, 5654334563, 5765445670,
  * 5876556788<br/>
@@ -67,7 +68,7 @@ import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
  * Testkontonummern falsch: 5432112341, 5543223458, 5654334565, 5765445672,
  * 5876556780<br/>
  * 
- * @author Sascha Dmer (sdo@lmis.de) - LM Internet Services AG
+ * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
  * @version 1.0
  * 
  */
@@ -76,19 +77,22 @@ public class ChecksumC1 extends AbstractChecksumValidator {
 	// Weights from left to right
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 1, 2, 1, 2, 1, 2, 1, 2,
 			1 };
+	private static final Checksum17 CHECKSUM17 = new Checksum17();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[0] != 5) {
-			setAlternative(0);
-			return new Checksum17().validate(accountNumber);
+			result.setAlternative(0);
+			return validateWith(CHECKSUM17, accountNumber, result);
 		} else {
-			setAlternative(1);
+			result.setAlternative(1);
 			return accountNumber[9]==calcChecksum(accountNumber);
 		}
 	}
@@ -97,8 +101,7 @@ public class ChecksumC1 extends AbstractChecksumValidator {
 		int sum = 0;
 		for (int i = 0; i < WEIGHTS_ALTERNATIVE2.length; i++) {
 			if (((i+1) % 2) == 0) {
-				sum += ChecksumUtils.qs(accountNumber[i]
-						* WEIGHTS_ALTERNATIVE2[i]);
+				sum += ChecksumUtils.qsProduct(accountNumber[i], WEIGHTS_ALTERNATIVE2[i]);
 			} else {
 				sum += accountNumber[i] * WEIGHTS_ALTERNATIVE2[i];
 			}
@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -42,21 +43,20 @@ public class ChecksumC2 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE2 = { 2, 1, 2, 1, 2, 1, 2, 1,
 			2 };
 
+	private static final AbstractChecksumValidator[] ALTERNATIVES = {
+			new Checksum01(WEIGHTS_ALTERNATIVE1),
+			new Checksum00(WEIGHTS_ALTERNATIVE2) };
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if (new Checksum01(WEIGHTS_ALTERNATIVE1).validate(accountNumber)) {
-			setAlternative(0);
-			return true;
-		} else {
-			setAlternative(1);
-			return new Checksum00(WEIGHTS_ALTERNATIVE2).validate(accountNumber);
-		}
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return validateAlternatives(ALTERNATIVES, accountNumber, result);
 	}
 
 }
@@ -4,24 +4,25 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
- * Die Kontonummer ist einschlielich der Prfziffer 10-stellig, ggf. ist die
- * Kontonummer fr die Prfzifferberechnung durch linksbndige Auffllung mit
+ * Die Kontonummer ist einschließlich der Prüfziffer 10-stellig, ggf. ist die
+ * Kontonummer für die Prüfzifferberechnung durch linksbündige Auffüllung mit
  * Nullen 10-stellig darzustellen. Die 10. Stelle der Kontonummer ist die
- * Prfziffer. <br/>
+ * Prüfziffer. <br/>
  * 
  * Kontonummern, die an der 1. Stelle der 10-stelligen Kontonummer einen Wert
- * ungleich 9 beinhalten, sind nach der Variante 1 zu prfen. Kontonummern,
- * die an der 1. Stelle der 10-stelligen Kontonummer den Wert 9beinhalten,
- * sind nach der Variante 2 zu prfen. <br/>
+ * ungleich 9 beinhalten, sind nach der Variante 1 zu prüfen. Kontonummern,
+ * die an der 1. Stelle der 10-stelligen Kontonummer den Wert 9beinhalten,
+ * sind nach der Variante 2 zu prüfen. <br/>
  * 
  * <b>Variante 1:</b> <br/>
  * 
  * Modulus 10, Gewichtung 2, 1, 2, 1, 2, 1, 2, 1, 2 <br/>
  * 
- * Die Berechnung und mgliche Ergebnisse entsprechen der Methode 00. <br/>
+ * Die Berechnung und mögliche Ergebnisse entsprechen der Methode 00. <br/>
  * 
  * Testkontonummern (richtig): 9294182, 4431276, 19919 <br/>
  * Testkontonummern (falsch): 17002, 123451, 122448 <br/>
@@ -30,31 +31,35 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  * 
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 0, 0, 0, 0 <br/>
  * 
- * Die Berechnung und mgliche Ergebnisse entsprechen der Methode 58. <br/>
+ * Die Berechnung und mögliche Ergebnisse entsprechen der Methode 58. <br/>
  * 
  * Testkontonummern (richtig): 9000420530, 9000010006, 9000577650 <br/>
  * Testkontonummern (falsch): 9000734028, 9000733227, 9000731120 <br/>
  * 
- * @author Sascha Dmer (sdo@lmis.de) - LM Internet Services AG
+ * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
  * @version 1.0
  * 
  */
 public class ChecksumC3 extends AbstractChecksumValidator {
 
+	private static final Checksum00 CHECKSUM00 = new Checksum00();
+	private static final Checksum58 CHECKSUM58 = new Checksum58();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if(accountNumber[0]!=9){
-			setAlternative(0);
-			return new Checksum00().validate(accountNumber);
+			result.setAlternative(0);
+			return validateWith(CHECKSUM00, accountNumber, result);
 		}else{
-			setAlternative(1);
-			return new Checksum58().validate(accountNumber);
+			result.setAlternative(1);
+			return validateWith(CHECKSUM58, accountNumber, result);
 		}
 	}
 
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -88,14 +89,20 @@ public class ChecksumC5 extends AbstractChecksumValidator {
 	private static final int[] WEIGHTS_ALTERNATIVE_1B = { 0, 2, 1, 2, 1, 2, 0,
 			0, 0 };
 
+	private static final Checksum00 CHECKSUM00 = new Checksum00();
+	private static final Checksum09 CHECKSUM09 = new Checksum09();
+	private static final Checksum29 CHECKSUM29 = new Checksum29();
+	private static final Checksum75 CHECKSUM75 = new Checksum75();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int leadingNeutralDigits = ChecksumUtils
 				.countNeutralLeadingDigits(accountNumber);
 		long accountNumberAsLong = ChecksumUtils.parseLong(accountNumber);
@@ -105,32 +112,33 @@ public class ChecksumC5 extends AbstractChecksumValidator {
 		} else {
 			if (((accountNumberAsLong >= 100000l) && (accountNumberAsLong <= 899999l))
 					|| ((accountNumberAsLong >= 100000000l) && (accountNumberAsLong <= 899999999l))) {
-				setAlternative(0);
+				result.setAlternative(0);
 				if ((accountNumberAsLong >= 100000l)
 						&& (accountNumberAsLong <= 899999l)) {
-					return new Checksum75().validate(accountNumber, 9,
+					return CHECKSUM75.validate(accountNumber, 9,
 							WEIGHTS_ALTERNATIVE_1A);
 				} else {
-					return new Checksum75().validate(accountNumber, 6,
+					return CHECKSUM75.validate(accountNumber, 6,
 							WEIGHTS_ALTERNATIVE_1B);
 				}
 			} else {
 				if (((accountNumberAsLong >= 1000000000l) && (accountNumberAsLong <= 1999999999l))
 						|| ((accountNumberAsLong >= 4000000000l) && (accountNumberAsLong <= 6999999999l))
 						|| ((accountNumberAsLong >= 9000000000l) && (accountNumberAsLong <= 9999999999l))) {
-					setAlternative(1);
-					return new Checksum29().validate(accountNumber);
+					result.setAlternative(1);
+					return validateWith(CHECKSUM29, accountNumber, result);
 				} else {
 					if ((accountNumberAsLong >= 3000000000l)
 							&& (accountNumberAsLong <= 3999999999l)) {
-						setAlternative(2);
-						return new Checksum00().validate(accountNumber);
+						result.setAlternative(2);
+						return validateWith(CHECKSUM00, accountNumber, result);
 					} else {
 						if (((accountNumberAsLong >= 30000000l) && (accountNumberAsLong <= 59999999l))
 								|| ((accountNumberAsLong >= 7000000000l) && (accountNumberAsLong <= 7099999999l))
 								|| ((accountNumberAsLong >= 8500000000l) && (accountNumberAsLong <= 8599999999l))) {
-							setAlternative(3);
-							return new Checksum09().validate(accountNumber);
+							result.setAlternative(3);
+							return validateWith(CHECKSUM09, accountNumber,
+									result);
 						} else {
 							return false;
 						}
@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 import java.util.HashMap;
@@ -83,6 +84,7 @@ public class ChecksumC6 extends AbstractChecksumValidator {
 
 	private Map<Integer, int[]> constants;
 	private int[] WEIGHTS = { 2, 1, 2, 1, 2, 1, 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+	private final Checksum00 checksum00 = new Checksum00(WEIGHTS);
 
 	public ChecksumC6() {
 		initConstants();
@@ -92,10 +94,11 @@ public class ChecksumC6 extends AbstractChecksumValidator {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int[] additionalDigits = this.constants.get(new Integer(
 				accountNumber[0]));
 		if (additionalDigits != null) {
@@ -106,7 +109,7 @@ public class ChecksumC6 extends AbstractChecksumValidator {
 			for (int i = 1; i < accountNumber.length - 1; i++) {
 				mergedAccoundNumber[i + (additionalDigits.length - 1)] = accountNumber[i];
 			}
-			return accountNumber[9] == new Checksum00(WEIGHTS)
+			return accountNumber[9] == checksum00
 					.calcChecksum(mergedAccoundNumber);
 		} else {
 			return false;
@@ -1,5 +1,6 @@
 package hx.bankcheck.accountvalidator.impl;
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -43,26 +44,19 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumC8 extends AbstractChecksumValidator {
 
+	private static final AbstractChecksumValidator[] ALTERNATIVES = {
+			new Checksum00(), new Checksum04(), new Checksum07() };
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if (new Checksum00().validate(accountNumber)) {
-			setAlternative(0);
-			return true;
-		} else {
-			if (new Checksum04().validate(accountNumber)) {
-				setAlternative(1);
-				return true;
-			} else {
-				setAlternative(2);
-				return new Checksum07().validate(accountNumber);
-			}
-		}
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return validateAlternatives(ALTERNATIVES, accountNumber, result);
 	}
 
 }
@@ -4,25 +4,26 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
  * 
- * Die Kontonummer ist einschlielich der Prfziffer 10-stellig, ggf. ist die
- * Kontonummer fr die Prfzifferberechnung durch linksbndige Auffllung mit
+ * Die Kontonummer ist einschließlich der Prüfziffer 10-stellig, ggf. ist die
+ * Kontonummer für die Prüfzifferberechnung durch linksbündige Auffüllung mit
  * Nullen 10-stellig darzustellen. <br/>
  * 
  * Kontonummern, die an der 1. und 2. Stelle der 10-stelligen Kontonummer einen
- * Wert ungleich 57 beinhalten, sind nach der Variante 1 zu prfen.
+ * Wert ungleich 57 beinhalten, sind nach der Variante 1 zu prüfen.
  * Kontonummern, die an der 1. und 2. Stelle der 10-stelligen Kontonummer den
- * Wert 57 beinhalten, sind nach der Variante 2 zu prfen. <br/>
+ * Wert 57 beinhalten, sind nach der Variante 2 zu prüfen. <br/>
  * 
  * <b>Variante 1:</b> <br/>
  * 
  * Modulus 11, Gewichtung 2, 3, 4, 5, 6, 7, 8, 9, 3 (modifiziert) <br/>
  * 
- * Die Berechnung und mgliche Ergebnisse entsprechen der Methode 20. Fhrt die
- * Berechnung nach der Variante 1 zu einem Prfzifferfehler, so ist die
+ * Die Berechnung und mögliche Ergebnisse entsprechen der Methode 20. Führt die
+ * Berechnung nach der Variante 1 zu einem Prüfzifferfehler, so ist die
  * Kontonummer falsch. <br/>
  * 
  * Testkontonummern (richtig): 6100272324, 6100273479 <br/>
@@ -30,29 +31,33 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  * 
  * <b>Variante 2:</b> <br/>
  * 
- * Fr den Kontonummernkreis 5700000000 bis 5799999999 gilt die Methode 09
- * (keine Prfzifferberechnung, alle Kontonummern sind als richtig zu werten).<br/>
+ * Für den Kontonummernkreis 5700000000 bis 5799999999 gilt die Methode 09
+ * (keine Prüfzifferberechnung, alle Kontonummern sind als richtig zu werten).<br/>
  * 
- * @author Sascha Dmer (sdo@lmis.de) - LM Internet Services AG
+ * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
  * @version 1.0
  * 
  */
 public class ChecksumD0 extends AbstractChecksumValidator {
 
+	private static final Checksum09 CHECKSUM09 = new Checksum09();
+	private static final Checksum20 CHECKSUM20 = new Checksum20();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if((accountNumber[0]==5)&&(accountNumber[1]==7)){
-			setAlternative(1);
-			return new Checksum09().validate(accountNumber);
+			result.setAlternative(1);
+			return validateWith(CHECKSUM09, accountNumber, result);
 		}else{
-			setAlternative(0);
-			return new Checksum20().validate(accountNumber);
+			result.setAlternative(0);
+			return validateWith(CHECKSUM20, accountNumber, result);
 		}
 	}
 
@@ -4,6 +4,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -47,23 +48,28 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumD2 extends AbstractChecksumValidator {
 
+	private static final Checksum00 CHECKSUM00 = new Checksum00();
+	private static final Checksum68 CHECKSUM68 = new Checksum68();
+	private static final Checksum95 CHECKSUM95 = new Checksum95();
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validate(int[])
+	 * hx.bankcheck.accountvalidator.AbstractChecksumValidator#validateAccountNumber(int[],
+	 * hx.bankcheck.accountvalidator.ValidationResult)
 	 */
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		if(new Checksum95().validate(accountNumber)){
-			setAlternative(0);
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		if(validateWith(CHECKSUM95, accountNumber, result)){
+			result.setAlternative(0);
 			return true;
 		}else{
-			if (new Checksum00().validate(accountNumber)) {
-				setAlternative(1);
+			if (validateWith(CHECKSUM00, accountNumber, result)) {
+				result.setAlternative(1);
 				return true;
 			}else{
-				return new Checksum68().validate(accountNumber);
+				return validateWith(CHECKSUM68, accountNumber, result);
 			}
 		}
 	}
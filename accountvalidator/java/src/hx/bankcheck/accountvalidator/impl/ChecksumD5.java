@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
@@ -41,7 +42,7 @@ public class ChecksumD5 extends AbstractChecksumValidator {
 	 */
 	private int checksumVariant1(int[] accountNumber) {
 		int sum = ChecksumUtils.calcWeightedSum(accountNumber, VARIANT1_WEIGHTS, 0, 8);
-		int checksum = 11 - (sum % 11);
+		int checksum = 11 - (ChecksumUtils.mod11(sum));
 		switch(checksum) {
 		case 10:
 		case 11: return 0;
@@ -62,7 +63,7 @@ public class ChecksumD5 extends AbstractChecksumValidator {
 	 */
 	private int checksumVariant2(int[] accountNumber) {
 		int sum = ChecksumUtils.calcWeightedSum(accountNumber, VARIANT234_WEIGHTS, 0, 8);
-		int checksum = 11 - (sum % 11);
+		int checksum = 11 - (ChecksumUtils.mod11(sum));
 		switch(checksum) {
 		case 10:
 		case 11: return 0;
@@ -106,7 +107,7 @@ public class ChecksumD5 extends AbstractChecksumValidator {
 	 */
 	private int checksumVariant4(int[] accountNumber) {
 		int sum = ChecksumUtils.calcWeightedSum(accountNumber, VARIANT234_WEIGHTS, 0, 8);
-		int checksum = 10 - (sum % 10);
+		int checksum = 10 - (ChecksumUtils.mod10(sum));
 		switch(checksum) {
 		case 10: return 0;
 		default: return checksum;
@@ -114,7 +115,7 @@ public class ChecksumD5 extends AbstractChecksumValidator {
 	}
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		if (accountNumber[2]==9 && accountNumber[3]==9) {
 			return accountNumber[9] == checksumVariant1(accountNumber);
 		} else {
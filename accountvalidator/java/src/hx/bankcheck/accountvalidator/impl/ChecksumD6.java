@@ -1,6 +1,7 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 
 /**
@@ -42,15 +43,15 @@ import hx.bankcheck.accountvalidator.exceptions.ValidationException;
  */
 public class ChecksumD6 extends AbstractChecksumValidator {
 
-	private Checksum00 check00 = new Checksum00();
-	private Checksum03 check03 = new Checksum03();
-	private Checksum07 check07 = new Checksum07();
+	private final Checksum00 check00 = new Checksum00();
+	private final Checksum03 check03 = new Checksum03();
+	private final Checksum07 check07 = new Checksum07();
 	
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
-		return check07.validate(accountNumber) ||
-				check03.validate(accountNumber) ||
-				check00.validate(accountNumber);
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
+		return check07.validateAccountNumber(accountNumber, result) ||
+				check03.validateAccountNumber(accountNumber, result) ||
+				check00.validateAccountNumber(accountNumber, result);
 	}
 	
 	
@@ -1,11 +1,11 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
-import java.util.logging.Logger;
-
 /**
  * Modulus 10, Gewichtung 2, 1, 2, 1, 2, 1, 2, 1, 2<br/>
  * <p>
@@ -30,8 +30,6 @@ import java.util.logging.Logger;
  * @author Tobias Mayer (bankcheck@tobiasm.de)
  */
 public class ChecksumD7 extends AbstractChecksumValidator {
-	private final static Logger LOG = Logger.getLogger(ChecksumD7.class
-			.getName());
 
 	protected final static int[] WEIGHTS = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
 
@@ -44,18 +42,18 @@ public class ChecksumD7 extends AbstractChecksumValidator {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		return calcChecksum(accountNumber) == accountNumber[9];
 	}
 
 	protected int calcChecksum(int[] accountNumber) {
 		int sum = 0;
 		for (int i = getWeights().length - 1; i >= 0; i--) {
-			sum += ChecksumUtils.qs(accountNumber[i] * getWeights()[i]);
+			sum += ChecksumUtils.qsProduct(accountNumber[i], getWeights()[i]);
 		}
-		int checksum = (sum % 10);
+		int checksum = (ChecksumUtils.mod10(sum));
 
-		LOG.finer("Calculated Checksum is: " + checksum);
+		ValidationTrace.checkDigit(getWeights(), 10, sum, checksum);
 
 		return checksum;
 	}
@@ -1,11 +1,10 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
-import java.util.logging.Logger;
-
 /**
  * Die Kontonummer ist einschließlich der Prüfziffer 10-stellig, ggf. ist die
  * Kontonummer für die Prüfzifferberechnung durch linksbündige Auffüllung mit
@@ -29,20 +28,18 @@ import java.util.logging.Logger;
  * @author Tobias Mayer (bankcheck@tobiasm.de)
  */
 public class ChecksumD8 extends AbstractChecksumValidator {
-	private final static Logger LOG = Logger.getLogger(ChecksumD8.class
-			.getName());
 
-	private Checksum00 cs00 = new Checksum00();
+	private final Checksum00 cs00 = new Checksum00();
 	
 	public ChecksumD8() {
 	}
 
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		// 1000000000 bis 9999999999
 		if (accountNumber[0] != 0) {
 			// Variante 1
-			return cs00.validate(accountNumber);
+			return cs00.validateAccountNumber(accountNumber, result);
 		}
 		// 0000000000 bis 0009999999
 		else if (accountNumber[0] == 0 && accountNumber[1] == 0 && accountNumber[2] == 0) {
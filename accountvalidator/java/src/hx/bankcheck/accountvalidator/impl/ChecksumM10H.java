@@ -1,7 +1,11 @@
 package hx.bankcheck.accountvalidator.impl;
 
 import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.ValidationResult;
 import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
 
 /**
  * Die Position der einzelnen Ziffern von rechts nach links innerhalb der
@@ -50,8 +54,11 @@ public class ChecksumM10H extends AbstractChecksumValidator {
 	// Identifies the Line-Number for every digit
 	private final static int[] TRANSFORM_ORDER = { 1, 4, 3, 2, 1, 4, 3, 2, 1 };
 
+	public final static ChecksumDescriptor DESCRIPTOR = new ChecksumDescriptor(
+			CheckDigit.MOD10_TEN_INVALID, TRANSFORM_LINES, TRANSFORM_ORDER, 9);
+
 	@Override
-	public boolean validate(int[] accountNumber) throws ValidationException {
+	protected boolean validateAccountNumber(int[] accountNumber, ValidationResult result) throws ValidationException {
 		int sum = 0;
 		
 		for(int i=0; i<9; i++) {
@@ -61,7 +68,7 @@ public class ChecksumM10H extends AbstractChecksumValidator {
 			sum += newValue;
 		}
 		
-		int checksum = (10 - (sum % 10) % 10);
+		int checksum = (10 - ChecksumUtils.mod10(sum));
 		
 		return checksum == accountNumber[9];
 	}
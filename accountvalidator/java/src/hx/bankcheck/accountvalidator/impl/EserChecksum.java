@@ -0,0 +1,146 @@
+package hx.bankcheck.accountvalidator.impl;
+
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.ValidationTrace;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+
+/**
+ * Checks the account numbers of one bank by their account number of the
+ * ESER system, see {@link Checksum52} and {@link Checksum53}.
+ * 
+ * The ESER account number starts with four digits of the bank number (method
+ * 53 replaces one of them by a digit of the account number), followed by
+ * digits of the account number. The contributions of the bank number digits
+ * to the sum are calculated once per length of the ESER account number, so a
+ * check only adds the digits of the account number and creates no arrays. The
+ * results are those of {@link Checksum52#check} and {@link Checksum53#check},
+ * including their choice of the check digit position if zeros follow the
+ * check digit.
+ * 
+ * $Id$
+ */
+final class EserChecksum {
+
+	/**
+	 * Position of the check digit among the digits that are not 0
+	 */
+	private static final int CHECK_DIGIT = 6;
+
+	private final int[] weights;
+	private final boolean method53;
+
+	/**
+	 * Number of the first four digits taken from the bank number that are
+	 * not 0
+	 */
+	private final int bankNonZero;
+
+	/**
+	 * Sum of the first four digits taken from the bank number by length of
+	 * the ESER account number
+	 */
+	private final int[] bankSums = new int[13];
+
+	/**
+	 * @param weights
+	 *            the 12 weights from left to right
+	 * @param method53
+	 *            "true" to build the ESER account number like method 53,
+	 *            otherwise like method 52
+	 * @param bankNumber
+	 *            The bankNumber, up to 8 digits.
+	 */
+	EserChecksum(int[] weights, boolean method53, int bankNumber) {
+		this.weights = weights;
+		this.method53 = method53;
+
+		int[] digits = new int[4];
+		int nonZero = 0;
+		for (int k = 3, rest = bankNumber; k >= 0; k--, rest /= 10) {
+			// method 53 takes the third digit from the account number
+			digits[k] = (method53 && k == 2) ? 0 : rest % 10;
+			if (digits[k] != 0)
+				nonZero++;
+		}
+		bankNonZero = nonZero;
+
+		for (int length = CHECK_DIGIT; length < bankSums.length; length++) {
+			for (int k = 0; k < 4; k++)
+				bankSums[length] += digits[k] * weights[12 - length + k];
+		}
+	}
+
+	/**
+	 * Checks an account number of the bank
+	 * 
+	 * @param accountNumber
+	 *            The 10-Digit accountNumber, right aligned.
+	 * @return {@link ValidationResult#VALID}, {@link ValidationResult#INVALID}
+	 *         or {@link ValidationResult#MALFORMED} if the account number has
+	 *         no ESER account number
+	 */
+	byte check(int[] accountNumber) {
+		int extra;
+		int fifth;
+		if (method53) {
+			if (accountNumber[0] != 0 || accountNumber[1] == 0)
+				return ValidationResult.MALFORMED;
+			extra = accountNumber[2];
+			fifth = accountNumber[1];
+		} else {
+			if (accountNumber[0] != 0 || accountNumber[1] != 0
+					|| accountNumber[2] == 0)
+				return ValidationResult.MALFORMED;
+			extra = 0;
+			fifth = accountNumber[2];
+		}
+
+		// the digits after the fourth of the account number complete the ESER
+		// account number, method 52 without their leading zeros
+		int rest = 4;
+		while (!method53 && rest < 10 && accountNumber[rest] == 0)
+			rest++;
+		int length = 16 - rest;
+		int offset = 12 - length;
+
+		int sum = bankSums[length] + extra * weights[offset + 2];
+		int nonZero = bankNonZero + ((extra != 0) ? 1 : 0);
+
+		// the check digit is the sixth digit that is not 0; zeros following
+		// it move its position but not its value, it is 0 then
+		int checkIndex = -1;
+		int checkDigit = 0;
+		for (int k = 4; k < length; k++) {
+			int digit = (k == 4) ? fifth : (k == 5) ? accountNumber[3]
+					: accountNumber[rest + k - 6];
+			if (digit != 0)
+				nonZero++;
+			if (nonZero == CHECK_DIGIT) {
+				if (checkIndex < 0)
+					checkDigit = digit;
+				else
+					checkDigit = 0;
+				checkIndex = k;
+			} else {
+				sum += digit * weights[offset + k];
+			}
+		}
+		if (checkIndex < 0)
+			return ValidationResult.MALFORMED;
+
+		int offcut = ChecksumUtils.mod11(sum);
+		int weight = weights[offset + checkIndex];
+		int calculated = -1;
+		for (int i = 0; i < 11; i++) {
+			if ((offcut + (i * weight) % 11) == 10) {
+				calculated = i;
+				break;
+			}
+		}
+		ValidationTrace.checkDigit(weights, offset, weights.length, 11, sum,
+				calculated);
+		return (calculated == checkDigit) ? ValidationResult.VALID
+				: ValidationResult.INVALID;
+	}
+
+}
@@ -0,0 +1,275 @@
+package hx.bankcheck.accountvalidator.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Parses account numbers and bank numbers from ASCII bytes or characters
+ * without creating any objects, so numbers read from files or sockets reach
+ * the validators without a detour over String and Long.parseLong.
+ *
+ * Leading zeros are allowed. Blanks, tabs and the separators '-', '.' and '/'
+ * may stand anywhere in the number and are skipped, e.g. "0123 456-789"
+ * gives 123456789.
+ *
+ * Eight characters are checked and converted at once: they are packed into a
+ * long, first character in the lowest byte, and all eight bytes are tested
+ * for digits and combined pairwise by a few additions and multiplications
+ * (SWAR, SIMD within a register). If the eight characters are not all
+ * digits, the digits before the first other character are converted the same
+ * way.
+ *
+ * $Id$
+ */
+public final class AccountNumberParser {
+
+	/**
+	 * Returned if the input contains no digit, other characters than digits
+	 * and separators or a number of more than 10 digits
+	 */
+	public static final long MALFORMED = -1;
+
+	/**
+	 * '0' in every byte
+	 */
+	private static final long ZEROS = 0x3030303030303030L;
+
+	private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+
+	/**
+	 * Added to every byte, carries bytes above '9' into the next high nibble
+	 */
+	private static final long SIXES = 0x0606060606060606L;
+
+	private static final long THREES = 0x3333333333333333L;
+
+	private static final long[] POWERS = new long[9];
+
+	static {
+		POWERS[0] = 1;
+		for (int i = 1; i < POWERS.length; i++)
+			POWERS[i] = POWERS[i - 1] * 10;
+	}
+
+	private AccountNumberParser() {
+	}
+
+	/**
+	 * Parses a number from bytes of an array
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            position of the first byte
+	 * @param length
+	 *            number of bytes
+	 * @return the number or {@link #MALFORMED}
+	 */
+	public static long parse(byte[] bytes, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > bytes.length)
+			throw new IndexOutOfBoundsException("offset " + offset
+					+ ", length " + length + ", size " + bytes.length);
+
+		int end = offset + length;
+		int pos = offset;
+		long value = 0;
+		boolean digits = false;
+		while (end - pos >= 8) {
+			long chunk = (bytes[pos] & 0xFFL)
+					| (bytes[pos + 1] & 0xFFL) << 8
+					| (bytes[pos + 2] & 0xFFL) << 16
+					| (bytes[pos + 3] & 0xFFL) << 24
+					| (bytes[pos + 4] & 0xFFL) << 32
+					| (bytes[pos + 5] & 0xFFL) << 40
+					| (bytes[pos + 6] & 0xFFL) << 48
+					| (bytes[pos + 7] & 0xFFL) << 56;
+			int count = leadingDigits(chunk);
+			if (count > 0) {
+				value = append(value, chunk, count);
+				if (value > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+					return MALFORMED;
+				digits = true;
+				pos += count;
+			}
+			if (count < 8 && !isSeparator(bytes[pos++] & 0xFF))
+				return MALFORMED;
+		}
+
+		for (; pos < end; pos++) {
+			int c = bytes[pos] & 0xFF;
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				if (value > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+					return MALFORMED;
+				digits = true;
+			} else if (!isSeparator(c)) {
+				return MALFORMED;
+			}
+		}
+		return digits ? value : MALFORMED;
+	}
+
+	/**
+	 * Parses a number from bytes of a buffer. The position of the buffer is
+	 * not changed.
+	 *
+	 * @param buffer
+	 *            the buffer, heap or direct, of any byte order
+	 * @param offset
+	 *            index of the first byte
+	 * @param length
+	 *            number of bytes
+	 * @return the number or {@link #MALFORMED}
+	 */
+	public static long parse(ByteBuffer buffer, int offset, int length) {
+		if (buffer.hasArray())
+			return parse(buffer.array(), buffer.arrayOffset() + offset, length);
+		if (offset < 0 || length < 0 || offset + length > buffer.limit())
+			throw new IndexOutOfBoundsException("offset " + offset
+					+ ", length " + length + ", limit " + buffer.limit());
+
+		boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		int end = offset + length;
+		int pos = offset;
+		long value = 0;
+		boolean digits = false;
+		while (end - pos >= 8) {
+			long chunk = buffer.getLong(pos);
+			if (bigEndian)
+				chunk = Long.reverseBytes(chunk);
+			int count = leadingDigits(chunk);
+			if (count > 0) {
+				value = append(value, chunk, count);
+				if (value > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+					return MALFORMED;
+				digits = true;
+				pos += count;
+			}
+			if (count < 8 && !isSeparator(buffer.get(pos++) & 0xFF))
+				return MALFORMED;
+		}
+
+		for (; pos < end; pos++) {
+			int c = buffer.get(pos) & 0xFF;
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				if (value > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+					return MALFORMED;
+				digits = true;
+			} else if (!isSeparator(c)) {
+				return MALFORMED;
+			}
+		}
+		return digits ? value : MALFORMED;
+	}
+
+	/**
+	 * Parses a number from characters, e.g. a String or a StringBuilder
+	 *
+	 * @param text
+	 *            the characters
+	 * @return the number or {@link #MALFORMED}
+	 */
+	public static long parse(CharSequence text) {
+		return parse(text, 0, text.length());
+	}
+
+	/**
+	 * Parses a number from a part of a character sequence
+	 *
+	 * @param text
+	 *            the characters
+	 * @param start
+	 *            index of the first character
+	 * @param end
+	 *            index after the last character
+	 * @return the number or {@link #MALFORMED}
+	 */
+	public static long parse(CharSequence text, int start, int end) {
+		if (start < 0 || start > end || end > text.length())
+			throw new IndexOutOfBoundsException("start " + start + ", end "
+					+ end + ", length " + text.length());
+
+		int pos = start;
+		long value = 0;
+		boolean digits = false;
+		while (end - pos >= 8) {
+			// characters above 0xFF become 0xFF, which is no digit either
+			long chunk = 0;
+			for (int i = 7; i >= 0; i--)
+				chunk = chunk << 8 | Math.min(text.charAt(pos + i), 0xFF);
+			int count = leadingDigits(chunk);
+			if (count > 0) {
+				value = append(value, chunk, count);
+				if (value > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+					return MALFORMED;
+				digits = true;
+				pos += count;
+			}
+			if (count < 8 && !isSeparator(text.charAt(pos++)))
+				return MALFORMED;
+		}
+
+		for (; pos < end; pos++) {
+			char c = text.charAt(pos);
+			if (c >= '0' && c <= '9') {
+				value = value * 10 + (c - '0');
+				if (value > ChecksumUtils.MAX_ACCOUNT_NUMBER)
+					return MALFORMED;
+				digits = true;
+			} else if (!isSeparator(c)) {
+				return MALFORMED;
+			}
+		}
+		return digits ? value : MALFORMED;
+	}
+
+	/**
+	 * @return "true" for the characters skipped between digits
+	 */
+	static boolean isSeparator(int c) {
+		return c == ' ' || c == '\t' || c == '-' || c == '.' || c == '/';
+	}
+
+	/**
+	 * Counts the digits at the start of eight packed characters. A byte is a
+	 * digit if its high nibble is 3 and stays 3 when 6 is added. Carries of
+	 * other bytes only change the bytes after them, so the first byte that is
+	 * no digit is always found.
+	 *
+	 * @return 0 to 8
+	 */
+	static int leadingDigits(long chunk) {
+		long other = ((chunk & HIGH_NIBBLES) | ((chunk + SIXES)
+				& HIGH_NIBBLES) >>> 4) ^ THREES;
+		return Long.numberOfTrailingZeros(other) >>> 3;
+	}
+
+	/**
+	 * Appends the first count digits of eight packed characters to a number
+	 *
+	 * @param count
+	 *            1 to 8
+	 */
+	private static long append(long value, long chunk, int count) {
+		if (count < 8) {
+			// moves the digits to the end, the free bytes at the start become
+			// '0'
+			chunk = chunk << (64 - 8 * count) | ZEROS >>> (8 * count);
+		}
+		return value * POWERS[count] + eightDigits(chunk);
+	}
+
+	/**
+	 * Converts eight packed digits, the first one in the lowest byte: the
+	 * digits are combined to four numbers of two digits, then two of four
+	 * digits and finally one of eight
+	 */
+	static long eightDigits(long chunk) {
+		chunk -= ZEROS;
+		chunk = (chunk * 10 + (chunk >>> 8)) & 0x00FF00FF00FF00FFL;
+		chunk = (chunk * 100 + (chunk >>> 16)) & 0x0000FFFF0000FFFFL;
+		return (chunk * 10000 + (chunk >>> 32)) & 0xFFFFFFFFL;
+	}
+
+}
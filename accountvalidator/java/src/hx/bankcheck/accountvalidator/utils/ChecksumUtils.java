@@ -4,6 +4,56 @@ import hx.bankcheck.accountvalidator.exceptions.IllegalAccountNumberException;
 
 public class ChecksumUtils {
 
+	/**
+	 * Largest account number, 10 digits
+	 */
+	public static final long MAX_ACCOUNT_NUMBER = 9999999999L;
+
+	/**
+	 * Upper bound (exclusive) of the weights covered by
+	 * {@link #qsProduct(int, int)}
+	 */
+	private static final int QS_PRODUCT_WEIGHTS = 11;
+
+	/**
+	 * Upper bound (exclusive) of the sums covered by {@link #mod10(int)},
+	 * {@link #mod11(int)} and {@link #checkDigit10(int)}. Ten digits with
+	 * weights up to 10 stay below 1000.
+	 */
+	private static final int MOD_TABLE_SIZE = 1024;
+
+	/**
+	 * Crossfoot of 0..99
+	 */
+	private static final byte[] QS = new byte[100];
+
+	/**
+	 * Crossfoot of digit * weight at weight * 10 + digit
+	 */
+	private static final byte[] QS_PRODUCT = new byte[QS_PRODUCT_WEIGHTS * 10];
+
+	private static final byte[] MOD10 = new byte[MOD_TABLE_SIZE];
+	private static final byte[] MOD11 = new byte[MOD_TABLE_SIZE];
+
+	/**
+	 * (10 - sum % 10) % 10
+	 */
+	private static final byte[] CHECK_DIGIT10 = new byte[MOD_TABLE_SIZE];
+
+	static {
+		for (int i = 0; i < QS.length; i++)
+			QS[i] = (byte) (i / 10 + i % 10);
+		for (int weight = 0; weight < QS_PRODUCT_WEIGHTS; weight++) {
+			for (int digit = 0; digit < 10; digit++)
+				QS_PRODUCT[weight * 10 + digit] = QS[weight * digit];
+		}
+		for (int sum = 0; sum < MOD_TABLE_SIZE; sum++) {
+			MOD10[sum] = (byte) (sum % 10);
+			MOD11[sum] = (byte) (sum % 11);
+			CHECK_DIGIT10[sum] = (byte) ((10 - sum % 10) % 10);
+		}
+	}
+
 	/**
 	 * Calculates the crossfoot of a number
 	 * 
@@ -11,6 +61,9 @@ public class ChecksumUtils {
 	 * @return
 	 */
 	public static int qs(int number) {
+		if (number >= 0 && number < QS.length)
+			return QS[number];
+
 		int qs = 0;
 
 		while (number != 0) {
@@ -21,6 +74,53 @@ public class ChecksumUtils {
 		return qs;
 	}
 
+	/**
+	 * Calculates the crossfoot of digit * weight with a single table lookup
+	 * for digits 0..9 and weights 0..10
+	 * 
+	 * @param digit
+	 *            digit of the account number
+	 * @param weight
+	 *            weight of the digit
+	 * @return crossfoot of the product
+	 */
+	public static int qsProduct(int digit, int weight) {
+		if (digit >= 0 && digit <= 9 && weight >= 0
+				&& weight < QS_PRODUCT_WEIGHTS)
+			return QS_PRODUCT[weight * 10 + digit];
+		return qs(digit * weight);
+	}
+
+	/**
+	 * @return sum % 10, looked up for the sums of weighted account numbers
+	 */
+	public static int mod10(int sum) {
+		if (sum >= 0 && sum < MOD_TABLE_SIZE)
+			return MOD10[sum];
+		return sum % 10;
+	}
+
+	/**
+	 * @return sum % 11, looked up for the sums of weighted account numbers
+	 */
+	public static int mod11(int sum) {
+		if (sum >= 0 && sum < MOD_TABLE_SIZE)
+			return MOD11[sum];
+		return sum % 11;
+	}
+
+	/**
+	 * Calculates the usual modulus 10 check digit: the difference of the last
+	 * digit of the sum to 10, 0 if the last digit is 0
+	 * 
+	 * @return (10 - sum % 10) % 10
+	 */
+	public static int checkDigit10(int sum) {
+		if (sum >= 0 && sum < MOD_TABLE_SIZE)
+			return CHECK_DIGIT10[sum];
+		return (10 - (sum % 10)) % 10;
+	}
+
 	/**
 	 * Fills up the account number by adding '0' to the left until size is
 	 * reached.
@@ -79,14 +179,27 @@ public class ChecksumUtils {
 	 */
 	public static int[] parseAccountNumber(long accountNumberAsLong)
 			throws IllegalAccountNumberException {
-		int[] result = new int[10];
-		int pos = 0;
-		do {
-			int intValue = (int) (accountNumberAsLong % 10);
-			result[9 - pos] = intValue;
+		return parseAccountNumber(accountNumberAsLong, new int[10]);
+	}
+
+	/**
+	 * Parses the given account number into an existing int[]. All 10 digits
+	 * are overwritten, so the array may be reused for any number of calls.
+	 * 
+	 * @param accountNumberAsLong
+	 *            account number to parse
+	 * @param result
+	 *            int[10] receiving the account number
+	 * @return the given array
+	 * @throws IllegalAccountNumberException
+	 *             thrown when accountNumber has too much digits
+	 */
+	public static int[] parseAccountNumber(long accountNumberAsLong,
+			int[] result) throws IllegalAccountNumberException {
+		for (int pos = 9; pos >= 0; pos--) {
+			result[pos] = (int) (accountNumberAsLong % 10);
 			accountNumberAsLong /= 10;
-			pos++;
-		} while (accountNumberAsLong != 0 && pos < 10);
+		}
 
 		if (accountNumberAsLong > 0)
 			throw new IllegalAccountNumberException(
@@ -103,14 +216,24 @@ public class ChecksumUtils {
 	 * @return int[] containing the blz
 	 */
 	public static int[] parseBlz(long blzAsLong) {
-		int[] result = new int[8];
-		int pos = 0;
-		do {
-			int intValue = (int) (blzAsLong % 10);
-			result[7 - pos] = intValue;
+		return parseBlz(blzAsLong, new int[8]);
+	}
+
+	/**
+	 * Parses the given BLZ into an existing int[]. All 8 digits are
+	 * overwritten, so the array may be reused for any number of calls.
+	 * 
+	 * @param blzAsLong
+	 *            blz to parse
+	 * @param result
+	 *            int[8] receiving the blz
+	 * @return the given array
+	 */
+	public static int[] parseBlz(long blzAsLong, int[] result) {
+		for (int pos = 7; pos >= 0; pos--) {
+			result[pos] = (int) (blzAsLong % 10);
 			blzAsLong /= 10;
-			pos++;
-		} while (blzAsLong != 0 && pos < 8);
+		}
 
 		return result;
 	}
@@ -146,7 +269,8 @@ public class ChecksumUtils {
 	}
 
 	/**
-	 * Returns the number of neutral(=0) leading digits.
+	 * Returns the number of neutral(=0) leading digits, the length of the
+	 * array if all digits are 0.
 	 * 
 	 * @author Sascha Dömer (sdo@lmis.de) - LM Internet Services AG
 	 * @version 1.0
@@ -157,7 +281,7 @@ public class ChecksumUtils {
 	public static int countNeutralLeadingDigits(int[] accountNumber) {
 		int c = 0;
 		int i = 0;
-		while (accountNumber[i] == 0) {
+		while (i < accountNumber.length && accountNumber[i] == 0) {
 			c++;
 			i++;
 		}
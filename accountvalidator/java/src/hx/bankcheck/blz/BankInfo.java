@@ -19,6 +19,8 @@ public class BankInfo {
 
 	private int datensatzNr;
 
+	private boolean isDienstleisterMitBlz;
+
 	private int instNumPAN;
 
 	private boolean isGeaendert;
@@ -45,6 +47,13 @@ public class BankInfo {
 	public String getBlz() {
 		return blz;
 	}
+
+	/**
+	 * @return Bankleitzahl als Zahl oder -1, wenn sie nicht 8-stellig ist
+	 */
+	int getBlzNumber() {
+		return BlzManager.parseBlz(getBlz());
+	}
 	public String getChecksumAlgo() {
 		return checksumAlgo;
 	}
@@ -63,6 +72,9 @@ public class BankInfo {
 	public int getPlz() {
 		return plz;
 	}
+	public boolean isDienstleisterMitBlz() {
+		return isDienstleisterMitBlz;
+	}
 	public boolean isGeaendert() {
 		return isGeaendert;
 	}
@@ -97,7 +109,7 @@ public class BankInfo {
 	}
 
 	public void setDienstleisterMitBlz(boolean isDienstleisterMitBlz) {
-
+		this.isDienstleisterMitBlz = isDienstleisterMitBlz;
 	}
 
 	public void setGeaendert(boolean isGeaendert) {
@@ -134,13 +146,15 @@ public class BankInfo {
 
 	@Override
 	public String toString() {
-		return "BankInfo [bezeichnung=" + bezeichnung + ", bic=" + bic
-				+ ", blz=" + blz + ", checksumAlgo=" + checksumAlgo
-				+ ", datensatzNr=" + datensatzNr + ", instNumPAN=" + instNumPAN
-				+ ", isGeaendert=" + isGeaendert + ", isGeloescht="
-				+ isGeloescht + ", isNeu=" + isNeu + ", kurzBezeichnung="
-				+ kurzBezeichnung + ", ort=" + ort + ", plz=" + plz
-				+ ", wirdGeaendert=" + wirdGeaendert + "]";
+		return "BankInfo [bezeichnung=" + getBezeichnung() + ", bic="
+				+ getBic() + ", blz=" + getBlz() + ", checksumAlgo="
+				+ getChecksumAlgo() + ", datensatzNr=" + datensatzNr
+				+ ", instNumPAN=" + instNumPAN + ", isDienstleisterMitBlz="
+				+ isDienstleisterMitBlz + ", isGeaendert=" + isGeaendert
+				+ ", isGeloescht=" + isGeloescht + ", isNeu=" + isNeu
+				+ ", kurzBezeichnung=" + getKurzBezeichnung() + ", ort="
+				+ getOrt() + ", plz=" + plz + ", wirdGeaendert="
+				+ wirdGeaendert + "]";
 	}
 
 	
@@ -0,0 +1,397 @@
+package hx.bankcheck.blz;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Speichert die Datensätze einer Bankleitzahlendatei spaltenweise in einem
+ * {@link ByteBuffer}, wahlweise außerhalb des Heaps. Jede Spalte ist ein
+ * zusammenhängender Bereich des Puffers, Texte liegen in einem gemeinsamen
+ * Bereich im Zeichensatz ISO-8859-1, gleiche Texte werden nur einmal
+ * abgelegt. Jeder Text beginnt mit seiner Länge als vorzeichenlose
+ * 16-Bit-Zahl, fehlende Texte (null) haben statt einer Position -1.
+ *
+ * Die Datensätze einer Bankleitzahl liegen hintereinander, der
+ * bankleitzahlführende Datensatz zuerst. {@link BankInfo}-Objekte werden erst
+ * bei Bedarf erzeugt.
+ *
+ * Ein Store ist unveränderlich und kann von beliebig vielen Threads
+ * gleichzeitig gelesen werden.
+ *
+ * $Id$
+ */
+public final class BankInfoStore {
+
+	// Spalten, die int-Spalten liegen vorne
+	private static final int BLZ = 0;
+	private static final int PLZ = 1;
+	private static final int PAN = 2;
+	private static final int DATENSATZ_NR = 3;
+	private static final int BEZEICHNUNG = 4;
+	private static final int ORT = 5;
+	private static final int KURZBEZEICHNUNG = 6;
+	private static final int BIC = 7;
+	private static final int INT_COLUMNS = 8;
+
+	// Position eines fehlenden Textes
+	private static final int NO_TEXT = -1;
+
+	// Bits der Spalte mit den Kennzeichen
+	private static final int DIENSTLEISTER_MIT_BLZ = 1;
+	private static final int GEAENDERT = 2;
+	private static final int GELOESCHT = 4;
+	private static final int NEU = 8;
+	private static final int WIRD_GEAENDERT = 16;
+
+	private final ByteBuffer data;
+	private final int size;
+	private final int checksumStart;
+	private final int flagsStart;
+	private final BlzIndex index;
+
+	/**
+	 * @param data
+	 *            Spalten und Texte, wie von {@link #getData()} geliefert
+	 * @param size
+	 *            Anzahl der Datensätze
+	 * @param index
+	 *            Index über die Bankleitzahlen
+	 */
+	BankInfoStore(ByteBuffer data, int size, BlzIndex index) {
+		this.data = data;
+		this.size = size;
+		this.checksumStart = INT_COLUMNS * 4 * size;
+		this.flagsStart = checksumStart + 2 * size;
+		this.index = index;
+	}
+
+	/**
+	 * @param size
+	 *            Anzahl der Datensätze
+	 * @return Länge der Spalten ohne die Texte in Bytes
+	 */
+	static long columnsLength(int size) {
+		return (INT_COLUMNS * 4 + 2 + 1) * (long) size;
+	}
+
+	/**
+	 * Legt die Datensätze in einem neuen Store ab
+	 *
+	 * @param groups
+	 *            Datensätze je Bankleitzahl, der bankleitzahlführende
+	 *            Datensatz an erster Stelle
+	 * @param direct
+	 *            "true", wenn der Puffer außerhalb des Heaps liegen soll
+	 * @return Store
+	 * @throws IllegalArgumentException
+	 *             wenn ein Text Zeichen außerhalb von ISO-8859-1 enthält oder
+	 *             länger als 65535 Zeichen ist
+	 */
+	static BankInfoStore build(List<List<BankInfo>> groups, boolean direct) {
+		int size = 0;
+		for (List<BankInfo> group : groups)
+			size += group.size();
+
+		// Texte zusammenstellen, jeder Eintrag besteht aus der Länge und den
+		// Zeichen
+		Map<String, Integer> textOffsets = new HashMap<String, Integer>();
+		int poolSize = 0;
+		for (List<BankInfo> group : groups) {
+			for (BankInfo b : group) {
+				for (String text : texts(b)) {
+					if (text != null && !textOffsets.containsKey(text)) {
+						textOffsets.put(text, Integer.valueOf(poolSize));
+						poolSize += 2 + text.length();
+					}
+				}
+			}
+		}
+
+		int poolStart = (int) columnsLength(size);
+		ByteBuffer data = direct ? ByteBuffer.allocateDirect(poolStart
+				+ poolSize) : ByteBuffer.allocate(poolStart + poolSize);
+		BankInfoStore store = new BankInfoStore(data, size, new BlzIndex(
+				groups.size()));
+
+		for (Map.Entry<String, Integer> e : textOffsets.entrySet()) {
+			String text = e.getKey();
+			int pos = poolStart + e.getValue().intValue();
+			data.putShort(pos, (short) text.length());
+			pos += 2;
+			for (int i = 0; i < text.length(); i++)
+				data.put(pos++, (byte) text.charAt(i));
+		}
+
+		int row = 0;
+		for (List<BankInfo> group : groups) {
+			store.index.put(group.get(0).getBlzNumber(), row);
+			for (BankInfo b : group) {
+				store.putInt(BLZ, row, b.getBlzNumber());
+				store.putInt(PLZ, row, b.getPlz());
+				store.putInt(PAN, row, b.getInstNumPAN());
+				store.putInt(DATENSATZ_NR, row, b.getDatensatzNr());
+
+				String[] texts = texts(b);
+				for (int i = 0; i < texts.length; i++)
+					store.putInt(BEZEICHNUNG + i, row,
+							(texts[i] == null) ? NO_TEXT : poolStart
+									+ textOffsets.get(texts[i]).intValue());
+
+				String code = (b.getChecksumAlgo() == null) ? "" : b
+						.getChecksumAlgo();
+				data.put(store.checksumStart + 2 * row,
+						(byte) (code.length() > 0 ? code.charAt(0) : ' '));
+				data.put(store.checksumStart + 2 * row + 1,
+						(byte) (code.length() > 1 ? code.charAt(1) : ' '));
+
+				int flags = 0;
+				if (b.isDienstleisterMitBlz())
+					flags |= DIENSTLEISTER_MIT_BLZ;
+				if (b.isGeaendert())
+					flags |= GEAENDERT;
+				if (b.isGeloescht())
+					flags |= GELOESCHT;
+				if (b.isNeu())
+					flags |= NEU;
+				if (b.isWirdGeaendert())
+					flags |= WIRD_GEAENDERT;
+				data.put(store.flagsStart + row, (byte) flags);
+
+				row++;
+			}
+		}
+		return store;
+	}
+
+	private static String[] texts(BankInfo b) {
+		return new String[] { latin1(b.getBezeichnung()), latin1(b.getOrt()),
+				latin1(b.getKurzBezeichnung()), latin1(b.getBic()) };
+	}
+
+	/**
+	 * Prüft, ob ein Text unverändert abgelegt werden kann, die Texte der
+	 * Bundesbank erfüllen das immer
+	 */
+	private static String latin1(String text) {
+		if (text == null)
+			return null;
+
+		if (text.length() > 0xffff)
+			throw new IllegalArgumentException("Text too long: "
+					+ text.length() + " characters");
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) > 0xff)
+				throw new IllegalArgumentException("Character U+"
+						+ Integer.toHexString(text.charAt(i))
+						+ " not in ISO-8859-1: " + text);
+		}
+		return text;
+	}
+
+	private void putInt(int column, int row, int value) {
+		data.putInt((column * size + row) * 4, value);
+	}
+
+	private int getInt(int column, int row) {
+		checkRow(row);
+		return data.getInt((column * size + row) * 4);
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= size)
+			throw new IndexOutOfBoundsException("Row: " + row + ", Size: "
+					+ size);
+	}
+
+	/**
+	 * @return Spalten und Texte, die Position des Puffers ist 0
+	 */
+	ByteBuffer getData() {
+		ByteBuffer result = data.duplicate();
+		result.clear();
+		return result;
+	}
+
+	BlzIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return Anzahl der Datensätze
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return Größe des Puffers in Bytes
+	 */
+	public int getMemorySize() {
+		return data.capacity();
+	}
+
+	/**
+	 * Liefert den bankleitzahlführenden Datensatz zu einer Bankleitzahl
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Nummer des Datensatzes oder -1, wenn die Bankleitzahl unbekannt
+	 *         ist
+	 */
+	public int findHeadRow(int blz) {
+		int row = index.get(blz);
+		return (row == BlzIndex.NOT_FOUND) ? -1 : row;
+	}
+
+	/**
+	 * Liefert alle Datensätze zu einer Bankleitzahl. Der
+	 * bankleitzahlführende Datensatz steht an erster Stelle.
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return unveränderliche Liste der Datensätze, leer wenn die
+	 *         Bankleitzahl unbekannt ist
+	 */
+	public List<BankInfo> findBank(int blz) {
+		int row = findHeadRow(blz);
+		if (row < 0)
+			return Collections.emptyList();
+
+		List<BankInfo> result = new ArrayList<BankInfo>();
+		do {
+			result.add(getBankInfo(row++));
+		} while (row < size && getBlz(row) == blz);
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Erzeugt ein {@link BankInfo} mit den Werten eines Datensatzes
+	 *
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return neues Objekt
+	 */
+	public BankInfo getBankInfo(int row) {
+		BankInfo b = new BankInfo();
+		b.setBlz(formatBlz(getBlz(row)));
+		b.setPlz(getPlz(row));
+		b.setInstNumPAN(getInt(PAN, row));
+		b.setDatensatzNr(getInt(DATENSATZ_NR, row));
+		b.setBezeichnung(getBezeichnung(row));
+		b.setOrt(getOrt(row));
+		b.setKurzBezeichnung(getText(KURZBEZEICHNUNG, row));
+		b.setBIC(getText(BIC, row));
+		b.setChecksumAlgo(getChecksumAlgo(row));
+
+		int flags = data.get(flagsStart + row);
+		b.setDienstleisterMitBlz((flags & DIENSTLEISTER_MIT_BLZ) != 0);
+		b.setGeaendert((flags & GEAENDERT) != 0);
+		b.setGeloescht((flags & GELOESCHT) != 0);
+		b.setNeu((flags & NEU) != 0);
+		b.setWirdGeloescht((flags & WIRD_GEAENDERT) != 0);
+		return b;
+	}
+
+	private static String formatBlz(int blz) {
+		char[] chars = new char[8];
+		for (int i = chars.length - 1; i >= 0; i--) {
+			chars[i] = (char) ('0' + blz % 10);
+			blz /= 10;
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return Bankleitzahl
+	 */
+	public int getBlz(int row) {
+		return getInt(BLZ, row);
+	}
+
+	/**
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return Postleitzahl
+	 */
+	public int getPlz(int row) {
+		return getInt(PLZ, row);
+	}
+
+	/**
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return Prüfzifferkennzeichen
+	 */
+	public String getChecksumAlgo(int row) {
+		checkRow(row);
+		byte first = data.get(checksumStart + 2 * row);
+		byte second = data.get(checksumStart + 2 * row + 1);
+		String code = BlzManager.checksumCode(first, second);
+		if (code == null)
+			code = StoredBankInfo.text(data, checksumStart + 2 * row, 2);
+		return code;
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen als Zahl, ohne Objekte zu erzeugen
+	 *
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return Position des Prüfzifferkennzeichens, siehe
+	 *         {@link BlzGeneration#findMethod(int)}, oder
+	 *         {@link BlzGeneration#NO_METHOD}
+	 */
+	public int getMethod(int row) {
+		checkRow(row);
+		int index = BlzManager.checksumIndex(data.get(checksumStart + 2 * row),
+				data.get(checksumStart + 2 * row + 1));
+		return (index < 0) ? BlzGeneration.NO_METHOD : index;
+	}
+
+	/**
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return "true", wenn der Datensatz bankleitzahlführend ist
+	 */
+	public boolean isDienstleisterMitBlz(int row) {
+		checkRow(row);
+		return (data.get(flagsStart + row) & DIENSTLEISTER_MIT_BLZ) != 0;
+	}
+
+	/**
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return Bezeichnung der Bank
+	 */
+	public String getBezeichnung(int row) {
+		return getText(BEZEICHNUNG, row);
+	}
+
+	/**
+	 * @param row
+	 *            Nummer des Datensatzes
+	 * @return Ort der Bank
+	 */
+	public String getOrt(int row) {
+		return getText(ORT, row);
+	}
+
+	private String getText(int column, int row) {
+		int pos = getInt(column, row);
+		if (pos == NO_TEXT)
+			return null;
+
+		char[] chars = new char[data.getShort(pos) & 0xffff];
+		pos += 2;
+		for (int i = 0; i < chars.length; i++)
+			chars[i] = (char) (data.get(pos + i) & 0xff);
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,311 @@
+package hx.bankcheck.blz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unveränderlicher Stand der Bankleitzahlen, z.B. eine Bankleitzahlendatei
+ * der Bundesbank mit dem Tag, ab dem sie gültig ist. Ein Stand wird
+ * vollständig aufgebaut, bevor {@link BlzManager} ihn veröffentlicht, und kann
+ * danach von beliebig vielen Threads ohne Sperren gelesen werden.
+ *
+ * $Id$
+ */
+public final class BlzGeneration {
+
+	/**
+	 * Wird von {@link #findMethod(int)} geliefert, wenn die Bankleitzahl
+	 * unbekannt ist
+	 */
+	public static final int NO_BANK = -1;
+
+	/**
+	 * Wird von {@link #findMethod(int)} geliefert, wenn das
+	 * Prüfzifferkennzeichen kein zweistelliges Kennzeichen ist
+	 */
+	public static final int NO_METHOD = -2;
+
+	/**
+	 * Zähler für {@link #serial}
+	 */
+	private static final AtomicInteger SERIALS = new AtomicInteger();
+
+	/**
+	 * Stand ohne Datensätze
+	 */
+	static final BlzGeneration EMPTY = new BlzGeneration(0,
+			new ArrayList<BankInfo>());
+
+	/**
+	 * Laufende Nummer, jeder erzeugte Stand erhält eine neue
+	 */
+	private final int serial = SERIALS.incrementAndGet();
+
+	private final int validFrom;
+
+	/**
+	 * Datensätze in der Reihenfolge, in der sie geladen wurden. Ist null, wenn
+	 * die Datensätze in {@link #store} liegen.
+	 */
+	private final List<BankInfo> banks;
+
+	/**
+	 * Index über die Bankleitzahl, liefert die Position in {@link #groups}
+	 */
+	private final BlzIndex index;
+
+	/**
+	 * Datensätze je Bankleitzahl, der bankleitzahlführende Datensatz steht
+	 * jeweils an erster Stelle
+	 */
+	private final List<List<BankInfo>> groups;
+
+	/**
+	 * Datensätze aus einem Snapshot
+	 */
+	private final BankInfoStore store;
+
+	/**
+	 * Prüfzifferkennzeichen der bankleitzahlführenden Datensätze als Zahl,
+	 * beim Laden ermittelt, an derselben Position wie in {@link #groups}
+	 */
+	private final short[] methods;
+
+	/**
+	 * Alle Prüfzifferkennzeichen der bankleitzahlführenden Datensätze,
+	 * sortiert
+	 */
+	private final List<String> checksumAlgos;
+
+	/**
+	 * Erzeugt einen Stand aus geladenen Datensätzen und baut den Index auf
+	 *
+	 * @param validFrom
+	 *            Beginn der Gültigkeit als JJJJMMTT, 0 für unbegrenzt
+	 * @param banks
+	 *            Datensätze, die Liste wird übernommen und darf danach nicht
+	 *            mehr verändert werden
+	 */
+	BlzGeneration(int validFrom, List<BankInfo> banks) {
+		this.validFrom = validFrom;
+		this.banks = Collections.unmodifiableList(banks);
+		this.store = null;
+
+		BlzIndex newIndex = new BlzIndex(banks.size());
+		List<List<BankInfo>> newGroups = new ArrayList<List<BankInfo>>();
+
+		for (BankInfo b : banks) {
+			int blz = b.getBlzNumber();
+			if (blz < 0)
+				continue;
+
+			int pos = newIndex.get(blz);
+			if (pos == BlzIndex.NOT_FOUND) {
+				pos = newGroups.size();
+				newGroups.add(new ArrayList<BankInfo>(1));
+				newIndex.put(blz, pos);
+			}
+
+			List<BankInfo> group = newGroups.get(pos);
+			if (b.isDienstleisterMitBlz())
+				group.add(0, b);
+			else
+				group.add(b);
+		}
+
+		short[] newMethods = new short[newGroups.size()];
+		Set<String> codes = new TreeSet<String>();
+		for (int i = 0; i < newGroups.size(); i++) {
+			newGroups.set(i, Collections.unmodifiableList(newGroups.get(i)));
+			String code = newGroups.get(i).get(0).getChecksumAlgo();
+			newMethods[i] = (short) method(BlzManager.checksumIndex(code));
+			if (code != null)
+				codes.add(code);
+		}
+
+		this.groups = newGroups;
+		this.index = newIndex;
+		this.methods = newMethods;
+		this.checksumAlgos = Collections.unmodifiableList(new ArrayList<String>(
+				codes));
+	}
+
+	/**
+	 * Erzeugt einen Stand aus einem Snapshot
+	 *
+	 * @param validFrom
+	 *            Beginn der Gültigkeit als JJJJMMTT, 0 für unbegrenzt
+	 * @param store
+	 *            Datensätze
+	 */
+	BlzGeneration(int validFrom, BankInfoStore store) {
+		this.validFrom = validFrom;
+		this.banks = null;
+		this.index = null;
+		this.groups = null;
+		this.store = store;
+		this.methods = null;
+
+		Set<String> codes = new TreeSet<String>();
+		for (int row = 0; row < store.size(); row++) {
+			if (store.findHeadRow(store.getBlz(row)) == row)
+				codes.add(store.getChecksumAlgo(row));
+		}
+		this.checksumAlgos = Collections.unmodifiableList(new ArrayList<String>(
+				codes));
+	}
+
+	private static int method(int checksumIndex) {
+		return (checksumIndex < 0) ? NO_METHOD : checksumIndex;
+	}
+
+	/**
+	 * @return Beginn der Gültigkeit als JJJJMMTT, 0 wenn der Stand unbegrenzt
+	 *         gültig ist
+	 */
+	public int getValidFrom() {
+		return validFrom;
+	}
+
+	/**
+	 * Liefert die laufende Nummer des Standes. Zwei Stände haben nie dieselbe
+	 * Nummer, auch wenn sie aus derselben Datei geladen wurden; Ergebnisse
+	 * können so dem Stand zugeordnet werden, aus dem sie stammen, ohne den
+	 * Stand selbst festzuhalten.
+	 *
+	 * @return laufende Nummer, größer als 0
+	 */
+	public int getSerial() {
+		return serial;
+	}
+
+	/**
+	 * @return alle Datensätze in der Reihenfolge, in der sie geladen wurden
+	 */
+	List<BankInfo> getBanks() {
+		if (store == null)
+			return banks;
+
+		List<BankInfo> result = new ArrayList<BankInfo>(store.size());
+		for (int row = 0; row < store.size(); row++)
+			result.add(store.getBankInfo(row));
+		return result;
+	}
+
+	/**
+	 * Liefert alle Datensätze zu einer Bankleitzahl. Der
+	 * bankleitzahlführende Datensatz steht an erster Stelle.
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return unveränderliche Liste der Datensätze, leer wenn die
+	 *         Bankleitzahl unbekannt ist
+	 */
+	public List<BankInfo> findBank(int blz) {
+		if (store != null)
+			return store.findBank(blz);
+
+		int pos = index.get(blz);
+		if (pos == BlzIndex.NOT_FOUND)
+			return Collections.emptyList();
+		return groups.get(pos);
+	}
+
+	/**
+	 * Liefert den bankleitzahlführenden Datensatz zu einer Bankleitzahl
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Datensatz oder null, wenn die Bankleitzahl unbekannt ist
+	 */
+	public BankInfo findHeadBank(int blz) {
+		if (store != null) {
+			int row = store.findHeadRow(blz);
+			return (row < 0) ? null : store.getBankInfo(row);
+		}
+
+		int pos = index.get(blz);
+		if (pos == BlzIndex.NOT_FOUND)
+			return null;
+		return groups.get(pos).get(0);
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen zu einer Bankleitzahl, ohne Objekte
+	 * zu erzeugen
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Prüfzifferkennzeichen des bankleitzahlführenden Datensatzes
+	 *         oder null, wenn die Bankleitzahl unbekannt ist
+	 */
+	public String findChecksumAlgo(int blz) {
+		if (store != null) {
+			int row = store.findHeadRow(blz);
+			return (row < 0) ? null : store.getChecksumAlgo(row);
+		}
+
+		int pos = index.get(blz);
+		if (pos == BlzIndex.NOT_FOUND)
+			return null;
+		return groups.get(pos).get(0).getChecksumAlgo();
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen zu einer Bankleitzahl als Zahl. Das
+	 * Kennzeichen wird beim Laden umgerechnet, eine Abfrage besteht daher nur
+	 * aus dem Zugriff auf den Index. Ein Kennzeichen aus einer Ziffer oder
+	 * einem Buchstaben und einer Ziffer ergibt 0 ("00") bis 359 ("Z9").
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Position des Prüfzifferkennzeichens des bankleitzahlführenden
+	 *         Datensatzes, {@link #NO_BANK}, wenn die Bankleitzahl unbekannt
+	 *         ist, oder {@link #NO_METHOD}, wenn das Kennzeichen nicht
+	 *         zweistellig ist
+	 */
+	public int findMethod(int blz) {
+		if (store != null) {
+			int row = store.findHeadRow(blz);
+			return (row < 0) ? NO_BANK : store.getMethod(row);
+		}
+
+		int pos = index.get(blz);
+		if (pos == BlzIndex.NOT_FOUND)
+			return NO_BANK;
+		return methods[pos];
+	}
+
+	/**
+	 * @return alle Prüfzifferkennzeichen der bankleitzahlführenden
+	 *         Datensätze, sortiert
+	 */
+	public List<String> getChecksumAlgos() {
+		return checksumAlgos;
+	}
+
+	/**
+	 * Legt alle Datensätze spaltenweise in einem {@link BankInfoStore} ab.
+	 * Stammt der Stand aus einem Snapshot, wird dessen Store geliefert.
+	 *
+	 * @param direct
+	 *            "true", wenn die Daten außerhalb des Heaps liegen sollen
+	 * @return Store mit allen Datensätzen
+	 */
+	public BankInfoStore createStore(boolean direct) {
+		if (store != null)
+			return store;
+		return BankInfoStore.build(groups, direct);
+	}
+
+	@Override
+	public String toString() {
+		return "BlzGeneration [validFrom=" + validFrom + ", size="
+				+ ((store != null) ? store.size() : banks.size()) + "]";
+	}
+
+}
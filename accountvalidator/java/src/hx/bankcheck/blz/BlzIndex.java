@@ -0,0 +1,180 @@
+package hx.bankcheck.blz;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Hashtabelle mit offener Adressierung (lineares Sondieren), die eine
+ * Bankleitzahl auf einen int-Wert abbildet. Schlüssel und Werte liegen in
+ * primitiven Arrays, ein Zugriff erzeugt daher keine Objekte.
+ *
+ * Die Bankleitzahl 0 ist nicht gültig und markiert freie Plätze.
+ *
+ * $Id$
+ */
+final class BlzIndex {
+
+	/**
+	 * Wird von {@link #get(int)} geliefert, wenn die Bankleitzahl nicht
+	 * enthalten ist
+	 */
+	static final int NOT_FOUND = -1;
+
+	private final int[] keys;
+	private final int[] values;
+	private final int mask;
+	private int size;
+
+	/**
+	 * Erzeugt einen Index für die angegebene Anzahl Bankleitzahlen. Die
+	 * Tabelle wird höchstens zur Hälfte gefüllt.
+	 *
+	 * @param expectedSize
+	 *            Anzahl der zu erwartenden Bankleitzahlen
+	 */
+	BlzIndex(int expectedSize) {
+		int capacity = 16;
+		while (capacity < expectedSize * 2)
+			capacity <<= 1;
+
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	private BlzIndex(int[] keys, int[] values, int size) {
+		this.keys = keys;
+		this.values = values;
+		this.mask = keys.length - 1;
+		this.size = size;
+	}
+
+	/**
+	 * Liest einen mit {@link #writeTo(ByteBuffer)} geschriebenen Index und
+	 * prüft, ob die Anzahl der Bankleitzahlen stimmt und alle Werte kleiner
+	 * als limit sind
+	 *
+	 * @param in
+	 *            Puffer, ab der aktuellen Position wird gelesen
+	 * @param capacity
+	 *            Größe der Tabelle, eine Zweierpotenz
+	 * @param size
+	 *            Anzahl der enthaltenen Bankleitzahlen
+	 * @param limit
+	 *            obere Grenze (exklusiv) der Werte
+	 * @return Index
+	 * @throws IllegalArgumentException
+	 *             wenn die Tabelle nicht zu den Angaben passt
+	 */
+	static BlzIndex readFrom(ByteBuffer in, int capacity, int size, int limit) {
+		if (capacity <= 0 || (capacity & (capacity - 1)) != 0 || size < 0
+				|| size * 2 > capacity)
+			throw new IllegalArgumentException("Invalid capacity: "
+					+ capacity);
+
+		int[] keys = new int[capacity];
+		int[] values = new int[capacity];
+		IntBuffer ints = in.asIntBuffer();
+		ints.get(keys);
+		ints.get(values);
+		in.position(in.position() + capacity * 8);
+
+		// ungültige Werte würden erst beim Zugriff auffallen, eine volle
+		// Tabelle ließe get() endlos suchen
+		int used = 0;
+		for (int i = 0; i < capacity; i++) {
+			if (keys[i] == 0)
+				continue;
+			if (keys[i] < 0 || values[i] < 0 || values[i] >= limit)
+				throw new IllegalArgumentException("Invalid entry: "
+						+ keys[i] + " -> " + values[i]);
+			used++;
+		}
+		if (used != size)
+			throw new IllegalArgumentException("Invalid size: " + size
+					+ ", entries: " + used);
+		return new BlzIndex(keys, values, size);
+	}
+
+	/**
+	 * Schreibt die Tabelle in einen Puffer, erst die Schlüssel, dann die Werte
+	 *
+	 * @param out
+	 *            Puffer, ab der aktuellen Position wird geschrieben
+	 */
+	void writeTo(ByteBuffer out) {
+		IntBuffer ints = out.asIntBuffer();
+		ints.put(keys);
+		ints.put(values);
+		out.position(out.position() + keys.length * 8);
+	}
+
+	/**
+	 * Legt einen Wert für eine Bankleitzahl ab. Ein vorhandener Wert wird
+	 * überschrieben.
+	 *
+	 * @param blz
+	 *            Bankleitzahl, größer 0
+	 * @param value
+	 *            abzulegender Wert
+	 */
+	void put(int blz, int value) {
+		if (blz <= 0)
+			throw new IllegalArgumentException("Invalid BLZ: " + blz);
+
+		int slot = slot(blz);
+		while (keys[slot] != 0 && keys[slot] != blz)
+			slot = (slot + 1) & mask;
+
+		if (keys[slot] == 0) {
+			if (size * 2 >= keys.length)
+				throw new IllegalStateException("Index is full");
+			size++;
+		}
+		keys[slot] = blz;
+		values[slot] = value;
+	}
+
+	/**
+	 * Liefert den Wert zu einer Bankleitzahl
+	 *
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return abgelegter Wert oder {@link #NOT_FOUND}
+	 */
+	int get(int blz) {
+		if (blz <= 0)
+			return NOT_FOUND;
+
+		int slot = slot(blz);
+		int key;
+		while ((key = keys[slot]) != 0) {
+			if (key == blz)
+				return values[slot];
+			slot = (slot + 1) & mask;
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * @return Anzahl der enthaltenen Bankleitzahlen
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return Größe der Tabelle
+	 */
+	int capacity() {
+		return keys.length;
+	}
+
+	private int slot(int blz) {
+		// Bankleitzahlen sind regional gruppiert, daher die Bits vor dem
+		// Maskieren durchmischen
+		int h = blz * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+}
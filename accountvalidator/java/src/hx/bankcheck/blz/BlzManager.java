@@ -7,12 +7,18 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
+import java.util.TimeZone;
 
 public class BlzManager {
 
-	class IllegalDataException extends Exception {
+	public static class IllegalDataException extends Exception {
 		private static final long serialVersionUID = 1403145711243717144L;
 
 		public IllegalDataException(String message) {
@@ -37,30 +43,516 @@ public class BlzManager {
 		}
 	}
 
-	private DtaReader reader;
-	private List<BankInfo> banks;
+	/**
+	 * Beginn der Spalten innerhalb eines Datensatzes
+	 */
+	private static final int[] COLUMN_OFFSETS = new int[Column.values().length];
+
+	/**
+	 * Länge eines Datensatzes ohne Zeilenumbruch
+	 */
+	private static final int LINE_LENGTH;
+
+	/**
+	 * Alle gültigen zweistelligen Prüfzifferkennzeichen, damit beim Laden
+	 * nicht für jeden Datensatz ein neuer String erzeugt wird
+	 */
+	private static final String[] CHECKSUM_CODES = new String[36 * 10];
+
+	static {
+		int offset = 0;
+		for (Column c : Column.values()) {
+			COLUMN_OFFSETS[c.ordinal()] = offset;
+			offset += c.getLength();
+		}
+		LINE_LENGTH = offset;
+
+		for (int i = 0; i < CHECKSUM_CODES.length; i++)
+			CHECKSUM_CODES[i] = new String(new char[] {
+					Character.toUpperCase(Character.forDigit(i / 10, 36)),
+					(char) ('0' + i % 10) });
+	}
+
+	/**
+	 * Geladene Stände aufsteigend nach Beginn der Gültigkeit. Das Array wird
+	 * nie verändert, sondern beim Laden als Ganzes ersetzt.
+	 */
+	private volatile BlzGeneration[] generations = new BlzGeneration[0];
+
+	/**
+	 * Der heute gültige Stand, wird neu bestimmt, sobald sich die Stände
+	 * ändern oder der nächste Stand gültig wird
+	 */
+	private volatile Selection current;
+
+	/**
+	 * Sperre für das Veröffentlichen neuer Stände, Abfragen sperren nie
+	 */
+	private final Object publishLock = new Object();
+
+	/**
+	 * Zeitzone für den Beginn der Gültigkeit
+	 */
+	private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("Europe/Berlin");
+
+	private static final class Selection {
+		final BlzGeneration[] generations;
+		final BlzGeneration generation;
+		final long until;
+
+		Selection(BlzGeneration[] generations, BlzGeneration generation, long until) {
+			this.generations = generations;
+			this.generation = generation;
+			this.until = until;
+		}
+	}
 
 	public BlzManager() throws FileNotFoundException, IOException {
-		banks = new ArrayList<BankInfo>();
 	}
 
+	/**
+	 * Lädt eine Bankleitzahlendatei. Die Datei wird in einem Zug auf den
+	 * Heap gelesen und direkt aus den Bytes geparst, Texte werden erst bei
+	 * Bedarf erzeugt. Die Datei wird danach nicht mehr benötigt und darf für
+	 * ein erneutes Laden überschrieben werden.
+	 * 
+	 * Die Datensätze werden dem unbegrenzt gültigen Stand hinzugefügt, der
+	 * erweiterte Stand wird erst nach dem vollständigen Laden veröffentlicht.
+	 * 
+	 * @param file
+	 *            Bankleitzahlendatei der Bundesbank
+	 */
 	public void loadFile(File file) throws FileNotFoundException, IOException, IllegalDataException {
-		InputStream is = new FileInputStream(file);
+		synchronized (publishLock) {
+			List<BankInfo> banks = new ArrayList<BankInfo>(getGenerationExactly(0).getBanks());
+			load(file, banks);
+			publish(new BlzGeneration(0, banks));
+		}
+	}
+
+	/**
+	 * Lädt eine Bankleitzahlendatei aus einem Stream, siehe
+	 * {@link #loadFile(File)}
+	 * 
+	 * @param input
+	 *            Inhalt einer Bankleitzahlendatei der Bundesbank
+	 */
+	public void loadStream(InputStream input) throws IOException, IllegalDataException {
+		synchronized (publishLock) {
+			List<BankInfo> banks = new ArrayList<BankInfo>(getGenerationExactly(0).getBanks());
+			load(input, banks);
+			publish(new BlzGeneration(0, banks));
+		}
+	}
+
+	/**
+	 * Öffnet einen mit {@link BlzSnapshotConverter} erzeugten Snapshot. Der
+	 * unbegrenzt gültige Stand wird ersetzt, Abfragen lesen danach direkt aus
+	 * der in den Speicher abgebildeten Datei.
+	 * 
+	 * @param file
+	 *            Snapshot
+	 * @throws IOException
+	 *             wenn die Datei kein gültiger Snapshot ist
+	 */
+	public void loadSnapshot(File file) throws IOException {
+		BankInfoStore store = BlzSnapshot.open(file).getStore();
+		synchronized (publishLock) {
+			publish(new BlzGeneration(0, store));
+		}
+	}
+
+	/**
+	 * Lädt eine Bankleitzahlendatei oder einen Snapshot als eigenen Stand.
+	 * Der Beginn der Gültigkeit wird dem Namen (blz_JJJJMMTT.txt) bzw. dem
+	 * Snapshot entnommen. Ein vorhandener Stand mit demselben Datum wird
+	 * ersetzt.
+	 * 
+	 * Die Methode kann in einem eigenen Thread aufgerufen werden, Abfragen
+	 * sehen bis zum Ende des Ladens den bisherigen Stand.
+	 * 
+	 * @param file
+	 *            Bankleitzahlendatei oder Snapshot
+	 * @return der geladene Stand
+	 * @throws IllegalArgumentException
+	 *             wenn der Beginn der Gültigkeit nicht bekannt ist
+	 */
+	public BlzGeneration loadGeneration(File file) throws IOException, IllegalDataException {
+		BlzGeneration generation;
+		if (file.getName().endsWith(BlzSnapshotConverter.EXTENSION)) {
+			BlzSnapshot snapshot = BlzSnapshot.open(file);
+			generation = new BlzGeneration(snapshot.getValidFrom(), snapshot.getStore());
+		} else {
+			int validFrom = BlzSnapshotConverter.parseValidFrom(file.getName());
+			if (validFrom <= 0)
+				throw new IllegalArgumentException("No date in file name: " + file);
+			List<BankInfo> banks = new ArrayList<BankInfo>();
+			load(file, banks);
+			generation = new BlzGeneration(validFrom, banks);
+		}
+
+		if (generation.getValidFrom() <= 0)
+			throw new IllegalArgumentException("Snapshot has no date: " + file);
+
+		synchronized (publishLock) {
+			publish(generation);
+		}
+		return generation;
+	}
+
+	/**
+	 * Lädt eine Bankleitzahlendatei als eigenen Stand, siehe
+	 * {@link #loadGeneration(File)}
+	 * 
+	 * @param file
+	 *            Bankleitzahlendatei
+	 * @param validFrom
+	 *            Beginn der Gültigkeit als JJJJMMTT
+	 * @return der geladene Stand
+	 */
+	public BlzGeneration loadGeneration(File file, int validFrom) throws IOException, IllegalDataException {
+		if (validFrom <= 0)
+			throw new IllegalArgumentException("Invalid date: " + validFrom);
+
+		List<BankInfo> banks = new ArrayList<BankInfo>();
+		load(file, banks);
+		BlzGeneration generation = new BlzGeneration(validFrom, banks);
+		synchronized (publishLock) {
+			publish(generation);
+		}
+		return generation;
+	}
+
+	/**
+	 * Entfernt einen Stand
+	 * 
+	 * @param validFrom
+	 *            Beginn der Gültigkeit des Standes als JJJJMMTT
+	 * @return "true", wenn der Stand vorhanden war
+	 */
+	public boolean removeGeneration(int validFrom) {
+		synchronized (publishLock) {
+			BlzGeneration[] old = generations;
+			for (int i = 0; i < old.length; i++) {
+				if (old[i].getValidFrom() == validFrom) {
+					BlzGeneration[] result = new BlzGeneration[old.length - 1];
+					System.arraycopy(old, 0, result, 0, i);
+					System.arraycopy(old, i + 1, result, i, old.length - i - 1);
+					generations = result;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Fügt einen Stand ein oder ersetzt den Stand mit demselben Datum. Muss
+	 * unter {@link #publishLock} aufgerufen werden.
+	 */
+	private void publish(BlzGeneration generation) {
+		BlzGeneration[] old = generations;
+		int pos = 0;
+		while (pos < old.length && old[pos].getValidFrom() < generation.getValidFrom())
+			pos++;
+
+		BlzGeneration[] result;
+		if (pos < old.length && old[pos].getValidFrom() == generation.getValidFrom()) {
+			result = old.clone();
+		} else {
+			result = new BlzGeneration[old.length + 1];
+			System.arraycopy(old, 0, result, 0, pos);
+			System.arraycopy(old, pos, result, pos + 1, old.length - pos);
+		}
+		result[pos] = generation;
+		generations = result;
+	}
+
+	/**
+	 * @return alle geladenen Stände aufsteigend nach Beginn der Gültigkeit
+	 */
+	public List<BlzGeneration> getGenerations() {
+		return Collections.unmodifiableList(Arrays.asList(generations));
+	}
+
+	/**
+	 * Liefert den an einem Tag gültigen Stand: den mit dem spätesten Beginn
+	 * der Gültigkeit, der nicht nach dem Tag liegt. Liegt der Tag vor allen
+	 * Ständen, wird der älteste Stand geliefert.
+	 * 
+	 * @param date
+	 *            Tag als JJJJMMTT
+	 * @return Stand, ohne Datensätze wenn noch nichts geladen wurde
+	 */
+	public BlzGeneration getGeneration(int date) {
+		return select(generations, date);
+	}
+
+	private static BlzGeneration select(BlzGeneration[] generations, int date) {
+		if (generations.length == 0)
+			return BlzGeneration.EMPTY;
+
+		BlzGeneration result = generations[0];
+		for (int i = 1; i < generations.length && generations[i].getValidFrom() <= date; i++)
+			result = generations[i];
+		return result;
+	}
+
+	/**
+	 * Liefert den heute gültigen Stand, ohne Objekte zu erzeugen, solange
+	 * kein neuer Stand geladen oder gültig wird
+	 * 
+	 * @return Stand, ohne Datensätze wenn noch nichts geladen wurde
+	 */
+	public BlzGeneration getCurrentGeneration() {
+		BlzGeneration[] gens = generations;
+		Selection s = current;
+		long now = System.currentTimeMillis();
+		if (s == null || s.generations != gens || now >= s.until) {
+			Calendar calendar = Calendar.getInstance(TIME_ZONE);
+			calendar.setTimeInMillis(now);
+			int today = toDate(calendar);
+
+			long until = Long.MAX_VALUE;
+			for (BlzGeneration g : gens) {
+				if (g.getValidFrom() > today) {
+					calendar.clear();
+					calendar.set(g.getValidFrom() / 10000, g.getValidFrom() / 100 % 100 - 1, g.getValidFrom() % 100);
+					until = calendar.getTimeInMillis();
+					break;
+				}
+			}
+
+			s = new Selection(gens, select(gens, today), until);
+			current = s;
+		}
+		return s.generation;
+	}
+
+	/**
+	 * @return der Tag als JJJJMMTT
+	 */
+	static int toDate(Calendar calendar) {
+		return calendar.get(Calendar.YEAR) * 10000 + (calendar.get(Calendar.MONTH) + 1) * 100
+				+ calendar.get(Calendar.DAY_OF_MONTH);
+	}
+
+	/**
+	 * @return der Stand mit genau diesem Beginn der Gültigkeit oder ein
+	 *         leerer Stand
+	 */
+	private BlzGeneration getGenerationExactly(int validFrom) {
+		for (BlzGeneration g : generations) {
+			if (g.getValidFrom() == validFrom)
+				return g;
+		}
+		return BlzGeneration.EMPTY;
+	}
+
+	private void load(File file, List<BankInfo> banks) throws FileNotFoundException, IOException, IllegalDataException {
+		FileInputStream is = new FileInputStream(file);
 		try {
-			load(is);
+			FileChannel channel = is.getChannel();
+			if (channel.size() > Integer.MAX_VALUE) {
+				load(is, banks);
+			} else {
+				// eine Kopie auf dem Heap statt einer Abbildung der Datei: die
+				// Datensätze verweisen auf den Puffer, die Datei darf danach
+				// überschrieben oder gekürzt werden
+				ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+				while (data.hasRemaining() && channel.read(data) >= 0)
+					;
+				data.flip();
+				load(data, banks);
+			}
 		} finally {
 			is.close();
 		}
 	}
-	
-	private void load(InputStream input) throws FileNotFoundException, IOException, IllegalDataException {
+
+	/**
+	 * Liest alle Datensätze aus dem Puffer. Zeilen dürfen wie bei
+	 * {@link java.io.BufferedReader#readLine()} mit "\n", "\r" oder
+	 * "\r\n" enden.
+	 */
+	private void load(ByteBuffer data, List<BankInfo> banks) throws IOException, IllegalDataException {
+		int limit = data.limit();
+		int pos = 0;
+		while (pos < limit) {
+			int end = pos;
+			byte c = 0;
+			while (end < limit && (c = data.get(end)) != '\n' && c != '\r')
+				end++;
+
+			if (end - pos < LINE_LENGTH)
+				throw new IOException("Line is to short: " + (end - pos)
+						+ " < " + LINE_LENGTH);
+
+			banks.add(parse(data, pos));
+
+			if (end < limit && c == '\r')
+				end++;
+			if (end < limit && data.get(end) == '\n')
+				end++;
+			pos = end;
+		}
+	}
+
+	private BankInfo parse(ByteBuffer data, int pos) throws IllegalDataException {
+		int blz = 0;
+		for (int i = 0; i < Column.BLZ.getLength() && blz >= 0; i++) {
+			int digit = data.get(pos + i) - '0';
+			blz = (digit < 0 || digit > 9) ? -1 : blz * 10 + digit;
+		}
+		BankInfo b = new StoredBankInfo(data, pos, blz);
+
+		byte d = data.get(pos + offset(Column.DienstleisterMitBlz));
+		if (d == '1')
+			b.setDienstleisterMitBlz(true);
+		else if (d == '2')
+			b.setDienstleisterMitBlz(false);
+		else
+			throw invalidValue(data, pos, Column.DienstleisterMitBlz);
+
+		b.setPlz(parseInt(data, pos, Column.PLZ));
+
+		// die Spalte ist bei manchen Datensätzen leer
+		if (parseNumber(data, pos, Column.InstNumPAN) != -2)
+			b.setInstNumPAN(parseInt(data, pos, Column.InstNumPAN));
+
+		int checksum = pos + offset(Column.Checksum);
+		String code = checksumCode(data.get(checksum), data.get(checksum + 1));
+		if (code == null)
+			code = StoredBankInfo.text(data, checksum, Column.Checksum
+					.getLength());
+		b.setChecksumAlgo(code);
+
+		b.setDatensatzNr(parseInt(data, pos, Column.Datensatznr));
+
+		d = data.get(pos + offset(Column.Aenderungskennz));
+		if (d == 'A')
+			b.setNeu(true);
+		else if (d == 'D')
+			b.setGeloescht(true);
+		else if (d == 'U')
+			b.setGeaendert(false);
+		else if (d == 'M')
+			b.setGeaendert(true);
+		else
+			throw invalidValue(data, pos, Column.Aenderungskennz);
+
+		d = data.get(pos + offset(Column.WirdGeloescht));
+		if (d == '0')
+			b.setWirdGeloescht(false);
+		else if (d == '1')
+			b.setWirdGeloescht(true);
+		else
+			throw invalidValue(data, pos, Column.WirdGeloescht);
+
+		return b;
+	}
+
+	private IllegalDataException invalidValue(ByteBuffer data, int pos, Column column) {
+		String d = StoredBankInfo.text(data, pos + offset(column), column.getLength());
+		return new IllegalDataException("Ungültiger Wert " + d + " für Feld " + column.toString());
+	}
+
+	/**
+	 * Liest eine Zahl wie {@link Integer#parseInt(String)} nach
+	 * {@link String#trim()}
+	 */
+	private static int parseInt(ByteBuffer data, int pos, Column column) {
+		int value = parseNumber(data, pos, column);
+		if (value < 0)
+			throw new NumberFormatException("For input string: \""
+					+ StoredBankInfo.text(data, pos + offset(column), column.getLength()) + "\"");
+		return value;
+	}
+
+	/**
+	 * Liest eine Zahl ohne Vorzeichen, Leerzeichen am Anfang und Ende werden
+	 * ignoriert
+	 * 
+	 * @return Zahl, -1 wenn die Spalte andere Zeichen als Ziffern enthält
+	 *         oder -2 wenn sie leer ist
+	 */
+	private static int parseNumber(ByteBuffer data, int pos, Column column) {
+		int start = pos + offset(column);
+		int end = start + column.getLength();
+		while (start < end && (data.get(start) & 0xff) <= ' ')
+			start++;
+		while (end > start && (data.get(end - 1) & 0xff) <= ' ')
+			end--;
+		if (start == end)
+			return -2;
+
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = data.get(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Liefert ein zweistelliges Prüfzifferkennzeichen, ohne einen neuen String
+	 * zu erzeugen
+	 * 
+	 * @return Prüfzifferkennzeichen oder null, wenn die Zeichen kein gültiges
+	 *         Kennzeichen bilden
+	 */
+	static String checksumCode(byte first, byte second) {
+		int index = checksumIndex(first, second);
+		return (index < 0) ? null : CHECKSUM_CODES[index];
+	}
+
+	/**
+	 * Liefert die Position eines Prüfzifferkennzeichens in der Tabelle aller
+	 * zweistelligen Kennzeichen: eine Ziffer oder ein Buchstabe, gefolgt von
+	 * einer Ziffer, ergibt 0 ("00") bis 359 ("Z9").
+	 * 
+	 * @return Position des Prüfzifferkennzeichens in {@link #CHECKSUM_CODES}
+	 *         oder -1
+	 */
+	static int checksumIndex(byte first, byte second) {
+		int digit = second - '0';
+		if (digit < 0 || digit > 9)
+			return -1;
+		if (first >= '0' && first <= '9')
+			return (first - '0') * 10 + digit;
+		if (first >= 'A' && first <= 'Z')
+			return (first - 'A' + 10) * 10 + digit;
+		return -1;
+	}
+
+	/**
+	 * @return Position des Prüfzifferkennzeichens in {@link #CHECKSUM_CODES}
+	 *         oder -1, siehe {@link #checksumIndex(byte, byte)}
+	 */
+	static int checksumIndex(String code) {
+		if (code == null || code.length() != 2 || code.charAt(0) > 'Z'
+				|| code.charAt(1) > '9')
+			return -1;
+		return checksumIndex((byte) code.charAt(0), (byte) code.charAt(1));
+	}
+
+	/**
+	 * @return Beginn der Spalte innerhalb eines Datensatzes
+	 */
+	static int offset(Column column) {
+		return COLUMN_OFFSETS[column.ordinal()];
+	}
+
+	private void load(InputStream input, List<BankInfo> banks) throws FileNotFoundException, IOException, IllegalDataException {
 		int[] columns = new int[Column.values().length];
 		int i=0;
 		for(Column c: Column.values()) {
 			columns[i++] = c.getLength();
 		}
 		
-		reader = new DtaReader(input, columns);
+		DtaReader reader = new DtaReader(input, columns);
 		try {
 			String[] data = null;
 			while((data = reader.next()) != null) {
@@ -129,13 +621,132 @@ public class BlzManager {
 		}
 	}
 
+	/**
+	 * Liefert alle Datensätze zu einer Bankleitzahl. Der
+	 * bankleitzahlführende Datensatz steht an erster Stelle.
+	 * 
+	 * @param blz
+	 *            8-stellige Bankleitzahl
+	 * @return unveränderliche Liste der Datensätze, leer wenn die
+	 *         Bankleitzahl unbekannt ist
+	 */
 	public List<BankInfo> findBank(String blz) {
-		List<BankInfo> r = new ArrayList<BankInfo>();
-		for (BankInfo b: banks) {
-			if (blz.equals(b.getBlz()))
-				r.add(b);
+		return findBank(parseBlz(blz));
+	}
+
+	/**
+	 * Liefert alle Datensätze zu einer Bankleitzahl. Der
+	 * bankleitzahlführende Datensatz steht an erster Stelle.
+	 * 
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return unveränderliche Liste der Datensätze, leer wenn die
+	 *         Bankleitzahl unbekannt ist
+	 */
+	public List<BankInfo> findBank(int blz) {
+		return getCurrentGeneration().findBank(blz);
+	}
+
+	/**
+	 * Liefert den bankleitzahlführenden Datensatz zu einer Bankleitzahl
+	 * 
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Datensatz oder null, wenn die Bankleitzahl unbekannt ist
+	 */
+	public BankInfo findHeadBank(int blz) {
+		return getCurrentGeneration().findHeadBank(blz);
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen zu einer Bankleitzahl im heute
+	 * gültigen Stand, ohne Objekte zu erzeugen
+	 * 
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Prüfzifferkennzeichen des bankleitzahlführenden Datensatzes
+	 *         oder null, wenn die Bankleitzahl unbekannt ist
+	 */
+	public String findChecksumAlgo(int blz) {
+		return getCurrentGeneration().findChecksumAlgo(blz);
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen zu einer Bankleitzahl im an einem Tag
+	 * gültigen Stand
+	 * 
+	 * @param blz
+	 *            Bankleitzahl
+	 * @param date
+	 *            Tag als JJJJMMTT
+	 * @return Prüfzifferkennzeichen des bankleitzahlführenden Datensatzes
+	 *         oder null, wenn die Bankleitzahl unbekannt ist
+	 */
+	public String findChecksumAlgo(int blz, int date) {
+		return getGeneration(date).findChecksumAlgo(blz);
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen zu einer Bankleitzahl im heute
+	 * gültigen Stand als Zahl, siehe {@link BlzGeneration#findMethod(int)}
+	 * 
+	 * @param blz
+	 *            Bankleitzahl
+	 * @return Position des Prüfzifferkennzeichens, {@link BlzGeneration#NO_BANK}
+	 *         oder {@link BlzGeneration#NO_METHOD}
+	 */
+	public int findMethod(int blz) {
+		return getCurrentGeneration().findMethod(blz);
+	}
+
+	/**
+	 * Liefert das Prüfzifferkennzeichen zu einer Bankleitzahl im an einem Tag
+	 * gültigen Stand als Zahl, siehe {@link BlzGeneration#findMethod(int)}
+	 * 
+	 * @param blz
+	 *            Bankleitzahl
+	 * @param date
+	 *            Tag als JJJJMMTT
+	 * @return Position des Prüfzifferkennzeichens, {@link BlzGeneration#NO_BANK}
+	 *         oder {@link BlzGeneration#NO_METHOD}
+	 */
+	public int findMethod(int blz, int date) {
+		return getGeneration(date).findMethod(blz);
+	}
+
+	/**
+	 * Legt alle Datensätze des heute gültigen Standes spaltenweise in einem
+	 * {@link BankInfoStore} ab, siehe {@link BlzGeneration#createStore(boolean)}
+	 * 
+	 * @param direct
+	 *            "true", wenn die Daten außerhalb des Heaps liegen sollen
+	 * @return Store mit allen Datensätzen
+	 */
+	public BankInfoStore createStore(boolean direct) {
+		return getCurrentGeneration().createStore(direct);
+	}
+
+	/**
+	 * Wandelt eine 8-stellige Bankleitzahl in einen int-Wert um, ohne
+	 * Objekte zu erzeugen
+	 * 
+	 * @param blz
+	 *            Bankleitzahl als Zeichenkette
+	 * @return Bankleitzahl oder -1, wenn die Zeichenkette keine 8-stellige
+	 *         Zahl ist
+	 */
+	static int parseBlz(String blz) {
+		if (blz == null || blz.length() != 8)
+			return -1;
+
+		int value = 0;
+		for (int i = 0; i < 8; i++) {
+			int digit = blz.charAt(i) - '0';
+			if (digit < 0 || digit > 9)
+				return -1;
+			value = value * 10 + digit;
 		}
-		return r;
+		return value;
 	}
 
 	public static void main(String[] args) throws FileNotFoundException, IOException, IllegalDataException {
@@ -0,0 +1,223 @@
+package hx.bankcheck.blz;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * Binäres Abbild eines {@link BankInfoStore}. Ein Snapshot wird einmal aus
+ * der Bankleitzahlendatei erzeugt und beim Start nur noch in den Speicher
+ * abgebildet, die Datensätze und der Index werden nicht erneut aufgebaut.
+ *
+ * Aufbau der Datei (big endian):
+ *
+ * <pre>
+ *  0  int   Kennung "BLZS"
+ *  4  int   Version des Formats
+ *  8  int   gültig ab (JJJJMMTT, 0 wenn unbekannt)
+ * 12  int   Anzahl der Datensätze
+ * 16  int   Länge der Spalten und Texte in Bytes
+ * 20  int   Größe der Indextabelle
+ * 24  int   Anzahl der Bankleitzahlen im Index
+ * 28  int   reserviert
+ * 32  long  CRC32 über alle folgenden Bytes
+ * 40        Spalten und Texte des BankInfoStore
+ *           Schlüssel und Werte des Index
+ * </pre>
+ *
+ * $Id$
+ */
+public final class BlzSnapshot {
+
+	/**
+	 * Kennung am Anfang jeder Datei: "BLZS"
+	 */
+	static final int MAGIC = 0x424c5a53;
+
+	/**
+	 * Aktuelle Version des Formats
+	 */
+	static final int VERSION = 2;
+
+	static final int HEADER_LENGTH = 40;
+
+	private final BankInfoStore store;
+	private final int validFrom;
+
+	private BlzSnapshot(BankInfoStore store, int validFrom) {
+		this.store = store;
+		this.validFrom = validFrom;
+	}
+
+	/**
+	 * @return die Datensätze des Snapshots
+	 */
+	public BankInfoStore getStore() {
+		return store;
+	}
+
+	/**
+	 * @return Beginn der Gültigkeit als JJJJMMTT oder 0, wenn er unbekannt ist
+	 */
+	public int getValidFrom() {
+		return validFrom;
+	}
+
+	/**
+	 * Schreibt einen Snapshot. Die Datei wird erst neben dem Ziel angelegt
+	 * und dann in einem Schritt umbenannt: eine vorhandene Datei wird nie
+	 * gekürzt, da sie noch von {@link #open(File, boolean)} abgebildet sein
+	 * kann und der Zugriff auf eine gekürzte Abbildung die VM mit SIGBUS
+	 * beendet.
+	 *
+	 * @param store
+	 *            Datensätze
+	 * @param validFrom
+	 *            Beginn der Gültigkeit als JJJJMMTT oder 0
+	 * @param file
+	 *            Zieldatei, wird ersetzt
+	 */
+	public static void write(BankInfoStore store, int validFrom, File file)
+			throws IOException {
+		ByteBuffer data = store.getData();
+		BlzIndex index = store.getIndex();
+
+		ByteBuffer body = ByteBuffer.allocate(data.remaining()
+				+ index.capacity() * 8);
+		body.put(data);
+		index.writeTo(body);
+		body.flip();
+
+		CRC32 crc = new CRC32();
+		crc.update(body.duplicate());
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.putInt(validFrom);
+		header.putInt(store.size());
+		header.putInt(store.getData().remaining());
+		header.putInt(index.capacity());
+		header.putInt(index.size());
+		header.putInt(0);
+		header.putLong(crc.getValue());
+		header.flip();
+
+		File dir = file.getAbsoluteFile().getParentFile();
+		File temp = File.createTempFile(file.getName(), ".tmp", dir);
+		try {
+			FileOutputStream os = new FileOutputStream(temp);
+			try {
+				FileChannel channel = os.getChannel();
+				while (header.hasRemaining())
+					channel.write(header);
+				while (body.hasRemaining())
+					channel.write(body);
+			} finally {
+				os.close();
+			}
+			Files.move(temp.toPath(), file.toPath(),
+					StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			// nur noch vorhanden, wenn das Schreiben gescheitert ist
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Öffnet einen Snapshot und prüft die Prüfsumme
+	 *
+	 * @param file
+	 *            Snapshot
+	 * @return Snapshot
+	 * @throws IOException
+	 *             wenn die Datei nicht gelesen werden kann oder kein gültiger
+	 *             Snapshot ist
+	 */
+	public static BlzSnapshot open(File file) throws IOException {
+		return open(file, true);
+	}
+
+	/**
+	 * Öffnet einen Snapshot, die Datei wird in den Speicher abgebildet. Der
+	 * Aufbau der Spalten und der Index werden immer geprüft, die Prüfsumme
+	 * nur auf Wunsch.
+	 *
+	 * @param file
+	 *            Snapshot
+	 * @param verify
+	 *            "true", wenn die Prüfsumme geprüft werden soll
+	 * @return Snapshot
+	 * @throws IOException
+	 *             wenn die Datei nicht gelesen werden kann oder kein gültiger
+	 *             Snapshot ist
+	 */
+	public static BlzSnapshot open(File file, boolean verify)
+			throws IOException {
+		ByteBuffer in;
+		FileInputStream is = new FileInputStream(file);
+		try {
+			FileChannel channel = is.getChannel();
+			if (channel.size() < HEADER_LENGTH
+					|| channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Invalid snapshot size: "
+						+ channel.size());
+			in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			is.close();
+		}
+
+		if (in.getInt() != MAGIC)
+			throw new IOException("Not a BLZ snapshot: " + file);
+		int version = in.getInt();
+		if (version != VERSION)
+			throw new IOException("Unsupported snapshot version: " + version);
+		int validFrom = in.getInt();
+		int size = in.getInt();
+		int dataLength = in.getInt();
+		int indexCapacity = in.getInt();
+		int indexSize = in.getInt();
+		in.getInt();
+		long checksum = in.getLong();
+
+		if (size < 0 || dataLength < 0 || indexCapacity <= 0
+				|| (long) HEADER_LENGTH + dataLength + indexCapacity * 8L != in
+						.limit())
+			throw new IOException("Snapshot is truncated or corrupt: "
+					+ file);
+		// auch ohne Prüfsumme müssen die Spalten in die Daten passen
+		if (dataLength < BankInfoStore.columnsLength(size))
+			throw new IOException("Snapshot is corrupt: " + size
+					+ " rows in " + dataLength + " bytes: " + file);
+
+		if (verify) {
+			CRC32 crc = new CRC32();
+			crc.update(in.duplicate());
+			if (crc.getValue() != checksum)
+				throw new IOException("Snapshot checksum mismatch: " + file);
+		}
+
+		ByteBuffer data = in.duplicate();
+		data.limit(HEADER_LENGTH + dataLength);
+		data = data.slice();
+
+		in.position(HEADER_LENGTH + dataLength);
+		BlzIndex index;
+		try {
+			index = BlzIndex.readFrom(in, indexCapacity, indexSize, size);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Snapshot is corrupt: " + file, e);
+		}
+
+		return new BlzSnapshot(new BankInfoStore(data, size, index),
+				validFrom);
+	}
+
+}
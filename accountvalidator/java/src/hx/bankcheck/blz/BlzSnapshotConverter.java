@@ -0,0 +1,87 @@
+package hx.bankcheck.blz;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Wandelt Bankleitzahlendateien der Bundesbank (blz_JJJJMMTT.txt) in
+ * Snapshots (blz_JJJJMMTT.snapshot) um, siehe {@link BlzSnapshot}.
+ *
+ * Aufruf: BlzSnapshotConverter blz_JJJJMMTT.txt [...]
+ *
+ * $Id$
+ */
+public class BlzSnapshotConverter {
+
+	/**
+	 * Endung der erzeugten Dateien
+	 */
+	public static final String EXTENSION = ".snapshot";
+
+	private static final Pattern DATE_PATTERN = Pattern
+			.compile("blz_(\\d{8})(\\.\\w+)?");
+
+	/**
+	 * Erzeugt den Snapshot zu einer Bankleitzahlendatei im selben
+	 * Verzeichnis
+	 *
+	 * @param file
+	 *            Bankleitzahlendatei
+	 * @return erzeugter Snapshot
+	 */
+	public static File convert(File file) throws IOException,
+			BlzManager.IllegalDataException {
+		String name = file.getName();
+		int pos = name.lastIndexOf('.');
+		String baseName = (pos > 0) ? name.substring(0, pos) : name;
+		File target = new File(file.getAbsoluteFile().getParentFile(),
+				baseName + EXTENSION);
+		convert(file, target);
+		return target;
+	}
+
+	/**
+	 * Erzeugt den Snapshot zu einer Bankleitzahlendatei
+	 *
+	 * @param file
+	 *            Bankleitzahlendatei
+	 * @param target
+	 *            Snapshot, wird ersetzt, siehe
+	 *            {@link BlzSnapshot#write(BankInfoStore, int, File)}
+	 */
+	public static void convert(File file, File target) throws IOException,
+			BlzManager.IllegalDataException {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(file);
+		BlzSnapshot.write(manager.createStore(false), parseValidFrom(file
+				.getName()), target);
+	}
+
+	/**
+	 * Liest das Datum aus dem Namen einer Bankleitzahlendatei
+	 *
+	 * @param fileName
+	 *            Name der Form blz_JJJJMMTT.txt
+	 * @return Datum als JJJJMMTT oder 0, wenn der Name kein Datum enthält
+	 */
+	static int parseValidFrom(String fileName) {
+		Matcher m = DATE_PATTERN.matcher(fileName);
+		return m.matches() ? Integer.parseInt(m.group(1)) : 0;
+	}
+
+	public static void main(String[] args) throws IOException,
+			BlzManager.IllegalDataException {
+		if (args.length == 0) {
+			System.err.println("Usage: BlzSnapshotConverter blz_YYYYMMDD.txt [...]");
+			System.exit(1);
+		}
+
+		for (String arg : args) {
+			File target = convert(new File(arg));
+			System.out.println(arg + " -> " + target);
+		}
+	}
+
+}
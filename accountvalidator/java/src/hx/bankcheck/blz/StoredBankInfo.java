@@ -0,0 +1,124 @@
+package hx.bankcheck.blz;
+
+import hx.bankcheck.blz.BlzManager.Column;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Datensatz aus einer Bankleitzahlendatei, deren Inhalt in einem Puffer
+ * liegt. Die Zahlenfelder werden beim Laden gesetzt, die Texte werden erst
+ * beim ersten Zugriff aus dem Puffer gelesen.
+ *
+ * Der Puffer muss auf dem Heap liegen und darf keine in den Speicher
+ * abgebildete Datei sein: solange ein Datensatz erreichbar ist, wird er
+ * festgehalten, und eine danach überschriebene oder gekürzte Datei würde
+ * beim Lesen der Texte die JVM zum Absturz bringen (SIGBUS).
+ *
+ * $Id$
+ */
+final class StoredBankInfo extends BankInfo {
+
+	private final ByteBuffer data;
+	private final int offset;
+	private final int blzNumber;
+
+	/**
+	 * @param data
+	 *            Inhalt der Datei
+	 * @param offset
+	 *            Beginn des Datensatzes
+	 * @param blzNumber
+	 *            Bankleitzahl des Datensatzes oder -1, wenn sie ungültig ist
+	 */
+	StoredBankInfo(ByteBuffer data, int offset, int blzNumber) {
+		this.data = data;
+		this.offset = offset;
+		this.blzNumber = blzNumber;
+	}
+
+	@Override
+	int getBlzNumber() {
+		return blzNumber;
+	}
+
+	@Override
+	public String getBlz() {
+		String s = super.getBlz();
+		if (s == null) {
+			s = text(Column.BLZ);
+			setBlz(s);
+		}
+		return s;
+	}
+
+	@Override
+	public String getBezeichnung() {
+		String s = super.getBezeichnung();
+		if (s == null) {
+			s = text(Column.Bezeichnung);
+			setBezeichnung(s);
+		}
+		return s;
+	}
+
+	@Override
+	public String getOrt() {
+		String s = super.getOrt();
+		if (s == null) {
+			s = text(Column.Ort);
+			setOrt(s);
+		}
+		return s;
+	}
+
+	@Override
+	public String getKurzBezeichnung() {
+		String s = super.getKurzBezeichnung();
+		if (s == null) {
+			s = text(Column.Kurzbezeichnung);
+			setKurzBezeichnung(s);
+		}
+		return s;
+	}
+
+	@Override
+	public String getBic() {
+		String s = super.getBic();
+		if (s == null) {
+			s = text(Column.BIC);
+			setBIC(s);
+		}
+		return s;
+	}
+
+	private String text(Column column) {
+		return text(data, offset + BlzManager.offset(column), column
+				.getLength());
+	}
+
+	/**
+	 * Liest einen Text im Zeichensatz ISO-8859-1 aus dem Puffer. Leerzeichen
+	 * am Anfang und Ende werden wie bei {@link String#trim()} entfernt.
+	 *
+	 * @param data
+	 *            Puffer
+	 * @param start
+	 *            Beginn des Textes
+	 * @param length
+	 *            Länge des Textes in Bytes
+	 * @return Text
+	 */
+	static String text(ByteBuffer data, int start, int length) {
+		int end = start + length;
+		while (start < end && (data.get(start) & 0xff) <= ' ')
+			start++;
+		while (end > start && (data.get(end - 1) & 0xff) <= ' ')
+			end--;
+
+		char[] chars = new char[end - start];
+		for (int i = 0; i < chars.length; i++)
+			chars[i] = (char) (data.get(start + i) & 0xff);
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,125 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class AlternativeOrderTest {
+
+	private static final String[] METHODS = { "49", "98", "A2", "A3", "A7",
+			"A9", "B1", "C2", "C7", "C8", "C9", "D3" };
+
+	@Test
+	public void testOrder() {
+		AlternativeOrder order = new AlternativeOrder(3);
+		assertArrayEquals(new int[] { 0, 1, 2 }, order.order());
+
+		for (int i = 0; i < AlternativeOrder.INTERVAL; i++) {
+			if (i % 4 == 0)
+				order.accepted(1);
+			else if (i % 4 == 1)
+				order.rejected();
+			else
+				order.accepted(2);
+		}
+		assertArrayEquals(new int[] { 2, 1, 0 }, order.order());
+
+		// only the checks since the last sort count
+		for (int i = 0; i < AlternativeOrder.INTERVAL; i++)
+			order.accepted(0);
+		assertArrayEquals(new int[] { 0, 2, 1 }, order.order());
+
+		// no accepted account numbers keep the order
+		for (int i = 0; i < AlternativeOrder.INTERVAL; i++)
+			order.rejected();
+		assertArrayEquals(new int[] { 0, 2, 1 }, order.order());
+	}
+
+	/**
+	 * The checks of all threads count towards the next sort
+	 */
+	@Test
+	public void testConcurrentOrder() throws Exception {
+		final AlternativeOrder order = new AlternativeOrder(3);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < AlternativeOrder.INTERVAL; i++)
+						order.accepted(2);
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(2, order.order()[0]);
+	}
+
+	/**
+	 * Adaptive ordering must not change whether an account number is valid
+	 */
+	@Test
+	public void testSameValidity() throws Exception {
+		ChecksumValidatorFactory fixed = new ChecksumValidatorFactory();
+		ChecksumValidatorFactory adaptive = new ChecksumValidatorFactory();
+		adaptive.setAdaptiveOrdering(true);
+		assertTrue(adaptive.isAdaptiveOrdering());
+
+		ValidationResult expected = new ValidationResult();
+		ValidationResult actual = new ValidationResult();
+		Random random = new Random(18);
+		for (String method : METHODS) {
+			ChecksumValidator fixedValidator = fixed.createValidatorFor(method);
+			ChecksumValidator adaptiveValidator = adaptive
+					.createValidatorFor(method);
+			for (int i = 0; i < 20 * AlternativeOrder.INTERVAL; i++) {
+				long konto = (long) (random.nextDouble() * 1e10);
+				byte status = fixedValidator.check(konto, 0, expected);
+				assertEquals("Method " + method + ", account number " + konto,
+						status, adaptiveValidator.check(konto, 0, actual));
+				if (status == ValidationResult.INVALID)
+					assertEquals(expected.getAlternative(), actual
+							.getAlternative());
+			}
+		}
+	}
+
+	/**
+	 * Once the second alternative accepted most account numbers, it is tried
+	 * first
+	 */
+	@Test
+	public void testAdaptiveValidator() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		BankAccountValidator validator = new BankAccountValidator(manager);
+		validator.setAdaptiveOrdering(true);
+		assertTrue(validator.isAdaptiveOrdering());
+
+		// method A7, 209010892 is only accepted by method 03
+		for (int i = 0; i < AlternativeOrder.INTERVAL; i++)
+			assertTrue(validator.isValid(21352240, 209010892));
+		ValidationTrace trace = validator.explain(21352240, 209010892);
+		assertEquals(Integer.valueOf(1), trace.getAlternatives().get(0));
+		assertEquals(1, trace.getAlternative());
+
+		validator.setAdaptiveOrdering(false);
+		assertFalse(validator.isAdaptiveOrdering());
+		trace = validator.explain(21352240, 209010892);
+		assertEquals(Integer.valueOf(0), trace.getAlternatives().get(0));
+	}
+
+}
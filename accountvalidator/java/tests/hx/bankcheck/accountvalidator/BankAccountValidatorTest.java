@@ -0,0 +1,295 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import hx.bankcheck.accountvalidator.exceptions.AccountNumberNotTestableException;
+import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class BankAccountValidatorTest {
+
+	private static final File BLZ_FILE = new File("data/blz_20101206.txt");
+
+	private BlzManager manager;
+	private BankAccountValidator validator;
+
+	@Before
+	public void init() throws Exception {
+		manager = new BlzManager();
+		manager.loadFile(BLZ_FILE);
+		validator = new BankAccountValidator(manager);
+	}
+
+	@Test
+	public void testIsValid() throws Exception {
+		assertEquals(validator.isValid("10010010", "12345"),
+				validator.isValid(10010010, 12345L));
+		assertFalse(validator.isValid(10000001, 12345L));
+	}
+
+	@Test
+	public void testCheck() throws Exception {
+		assertEquals(ValidationResult.UNKNOWN_BLZ, validator.check(10000001,
+				12345L));
+		assertEquals(validator.check(10010010, 12345L), validator.check(
+				"1001 0010", "0000012345"));
+		assertEquals(ValidationResult.UNKNOWN_BLZ, validator.check("1001x010",
+				"12345"));
+		assertEquals(ValidationResult.MALFORMED, validator.check("10010010",
+				"123456789012"));
+		assertEquals(validator.isValid(10010010, 12345L),
+				validator.check(10010010, 12345L) == ValidationResult.VALID);
+
+		assertEquals(ValidationResult.MALFORMED, validator.check(10010010,
+				12345678901L));
+		try {
+			validator.isValid(10010010, 12345678901L);
+			fail();
+		} catch (ValidationException e) {
+			// expected
+		}
+
+		// method 45, account numbers with a leading 0 are not testable
+		assertEquals(ValidationResult.NOT_TESTABLE, validator.check(29020000,
+				123456L));
+		try {
+			validator.isValid(29020000, 123456L);
+			fail();
+		} catch (AccountNumberNotTestableException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUnknownMethods() throws Exception {
+		assertEquals(Collections.emptyList(), validator.getUnknownMethods());
+
+		// new bank data in which 10010010 uses a method without validator
+		StringBuilder content = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(BLZ_FILE), "ISO-8859-1"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith("100100101"))
+					line = line.substring(0, 150) + "Z9" + line.substring(152);
+				content.append(line).append('\n');
+			}
+		} finally {
+			reader.close();
+		}
+		manager.loadStream(new ByteArrayInputStream(content.toString()
+				.getBytes("ISO-8859-1")));
+
+		assertEquals(Collections.singletonList("Z9"), validator
+				.getUnknownMethods());
+		assertEquals(ValidationResult.UNKNOWN_METHOD, validator.check(
+				10010010, 12345L));
+		assertEquals(BatchResult.UNKNOWN_METHOD, validator.validate(
+				new int[] { 10010010 }, new long[] { 12345L }).getStatus(0));
+	}
+
+	@Test
+	public void testCheckWithoutExceptions() throws Exception {
+		ChecksumValidator checksum45 = new ChecksumValidatorFactory()
+				.createValidatorFor("45");
+		ValidationResult result = new ValidationResult();
+		assertEquals(ValidationResult.NOT_TESTABLE, checksum45.check(123456L,
+				29020000, result));
+		assertEquals(ValidationResult.NOT_TESTABLE, result.getStatus());
+		assertFalse(result.isValid());
+		assertEquals(ValidationResult.MALFORMED, checksum45.check(-1L,
+				29020000, result));
+
+		// a valid check afterwards resets the status
+		byte status = checksum45.check(1234567897L, 29020000, result);
+		assertEquals(status == ValidationResult.VALID, result.isValid());
+		assertTrue(result.isChecked());
+	}
+
+	@Test
+	public void testComputeCheckDigit() throws Exception {
+		ValidationResult result = new ValidationResult();
+		assertEquals(1, validator.computeCheckDigit(12030000, 929070, result));
+		assertEquals(ValidationResult.VALID, result.getStatus());
+		assertEquals(-1, validator.computeCheckDigit(10000001, 929070, result));
+		assertEquals(ValidationResult.UNKNOWN_BLZ, result.getStatus());
+		assertEquals(-1, validator.computeCheckDigit(12030000, 1234567890L,
+				result));
+		assertEquals(ValidationResult.MALFORMED, result.getStatus());
+
+		// method A7 has no descriptor, the alternative is reported
+		int digit = validator.computeCheckDigit(21352240, 20901089, result);
+		assertEquals(validator.explain(21352240, 209010890L + digit)
+				.getAlternative(), result.getAlternative());
+	}
+
+	/**
+	 * The check digit is the smallest digit making the account number valid
+	 */
+	@Test
+	public void testComputeCheckDigitMatchesCheck() throws Exception {
+		List<Integer> blzList = readBlzList();
+		Random rnd = new Random(7);
+		ValidationResult result = new ValidationResult();
+		for (int i = 0; i < 5000; i++) {
+			int blz = blzList.get(rnd.nextInt(blzList.size()));
+			long body = (long) (rnd.nextDouble() * 1000000000L);
+			int expected = -1;
+			for (int digit = 9; digit >= 0; digit--) {
+				if (validator.check(blz, body * 10 + digit) == ValidationResult.VALID)
+					expected = digit;
+			}
+			assertEquals(blz + "/" + body, expected, validator
+					.computeCheckDigit(blz, body, result));
+			assertEquals(expected >= 0, result.isValid());
+		}
+	}
+
+	/**
+	 * Validators that calculate the check digit once must give the digit
+	 * found by trying all ten
+	 */
+	@Test
+	public void testCalculatedCheckDigits() throws Exception {
+		ChecksumValidatorFactory factory = new ChecksumValidatorFactory();
+		Random rnd = new Random(20);
+		ValidationResult result = new ValidationResult();
+		ValidationResult expectedResult = new ValidationResult();
+		for (String code : new String[] { "00", "01", "02", "06", "90" }) {
+			ChecksumValidator checksumValidator = factory
+					.createValidatorFor(code);
+			for (int i = 0; i < 5000; i++) {
+				long body = (long) (rnd.nextDouble() * 1000000000L);
+				int expected = -1;
+				for (int digit = 9; digit >= 0; digit--) {
+					if (checksumValidator.check(body * 10 + digit, 0,
+							expectedResult) == ValidationResult.VALID)
+						expected = digit;
+				}
+				assertEquals(code + "/" + body, expected, checksumValidator
+						.computeCheckDigit(body, 0, result));
+				assertEquals(expected >= 0, result.isValid());
+			}
+		}
+	}
+
+	@Test
+	public void testBatchMatchesSingleRows() throws Exception {
+		List<Integer> blzList = readBlzList();
+		Random rnd = new Random(42);
+		int rows = 20000;
+		int[] blzNumbers = new int[rows];
+		long[] kontoNumbers = new long[rows];
+		for (int i = 0; i < rows; i++) {
+			blzNumbers[i] = blzList.get(rnd.nextInt(blzList.size()));
+			kontoNumbers[i] = (long) (rnd.nextDouble() * 10000000000L);
+		}
+		blzNumbers[0] = 10000001;
+		kontoNumbers[1] = 12345678901L;
+
+		BatchResult result = validator.validate(blzNumbers, kontoNumbers);
+		assertEquals(rows, result.size());
+		assertEquals(BatchResult.UNKNOWN_BLZ, result.getStatus(0));
+		assertEquals(BatchResult.MALFORMED, result.getStatus(1));
+
+		ChecksumValidatorFactory factory = new ChecksumValidatorFactory();
+		ValidationResult single = new ValidationResult();
+		for (int i = 2; i < rows; i++) {
+			ChecksumValidator checksumValidator = factory
+					.createValidatorFor(manager.findHeadBank(blzNumbers[i])
+							.getChecksumAlgo());
+			boolean valid;
+			try {
+				valid = checksumValidator.validate(kontoNumbers[i],
+						blzNumbers[i], single);
+			} catch (AccountNumberNotTestableException e) {
+				assertEquals(BatchResult.NOT_TESTABLE, result.getStatus(i));
+				continue;
+			} catch (ValidationException e) {
+				assertEquals(BatchResult.MALFORMED, result.getStatus(i));
+				continue;
+			}
+			assertEquals("Row " + i, valid, result.isValid(i));
+			assertEquals("Row " + i, single.getAlternative(),
+					result.getAlternative(i));
+		}
+	}
+
+	/**
+	 * An account number of zeros must give a status for every method, also
+	 * for methods that count the leading zeros
+	 */
+	@Test
+	public void testZeroAccountNumber() throws Exception {
+		ChecksumValidatorFactory factory = new ChecksumValidatorFactory();
+		ValidationResult result = new ValidationResult();
+		for (int i = 0; i < ChecksumValidatorFactory.TABLE_SIZE; i++) {
+			ChecksumValidator checksumValidator = factory.validatorAt(i);
+			if (checksumValidator == null)
+				continue;
+			String code = ChecksumValidatorFactory.codeOf(i);
+			for (int blz : new int[] { 0, 13051042 }) {
+				byte status = checksumValidator.check(0L, blz, result);
+				assertTrue(code, status == ValidationResult.VALID
+						|| status == ValidationResult.INVALID
+						|| status == ValidationResult.NOT_TESTABLE
+						|| status == ValidationResult.MALFORMED);
+				checksumValidator.computeCheckDigit(0L, blz, result);
+			}
+		}
+
+		List<Integer> blzList = readBlzList();
+		int[] blzNumbers = new int[blzList.size()];
+		long[] kontoNumbers = new long[blzList.size()];
+		for (int i = 0; i < blzNumbers.length; i++) {
+			int blz = blzList.get(i).intValue();
+			blzNumbers[i] = blz;
+			byte status = validator.check(blz, 0L);
+			assertEquals(status, validator.check(Integer.toString(blz),
+					"0000000000"));
+			assertEquals(status, validator.explain(blz, 0L).getStatus());
+			validator.computeCheckDigit(blz, 0L, result);
+		}
+		BatchResult batch = validator.validate(blzNumbers, kontoNumbers);
+		for (int i = 0; i < blzNumbers.length; i++)
+			assertEquals(validator.check(blzNumbers[i], 0L), batch
+					.getStatus(i));
+	}
+
+	private List<Integer> readBlzList() throws Exception {
+		List<Integer> result = new ArrayList<Integer>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(BLZ_FILE), "ISO-8859-1"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.length() >= 8)
+					result.add(Integer.valueOf(line.substring(0, 8)));
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,97 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class BankDependentValidatorTest {
+
+	private static final String[] METHODS = { "52", "53", "B6", "C0" };
+
+	/**
+	 * Bound validators give the same results as the validators for all banks,
+	 * mostly for account numbers of the ESER system with many zeros
+	 */
+	@Test
+	public void testSameResults() throws Exception {
+		ChecksumValidatorFactory factory = new ChecksumValidatorFactory();
+		Random random = new Random(23);
+		int[] banks = { 13051172, 17052472, 80053762, 10000000, 12340005,
+				10001000, 0 };
+		ValidationResult expected = new ValidationResult();
+		ValidationResult actual = new ValidationResult();
+		for (String code : METHODS) {
+			BankDependentValidator validator = (BankDependentValidator) factory
+					.createValidatorFor(code);
+			for (int b = 0; b < 20; b++) {
+				int blz = (b < banks.length) ? banks[b] : random
+						.nextInt(100000000);
+				ChecksumValidator bound = validator.forBank(blz);
+				for (int i = 0; i < 2000; i++) {
+					long konto = accountNumber(random);
+					byte status = validator.check(konto, blz, expected);
+					assertEquals(code + " " + blz + "/" + konto, status, bound
+							.check(konto, 0, actual));
+					assertEquals(expected.getAlternative(), actual
+							.getAlternative());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBankAccountValidator() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		BankAccountValidator bound = new BankAccountValidator(manager);
+		BankAccountValidator measured = new BankAccountValidator(manager);
+		measured.setMetrics(new ValidationMetrics());
+
+		// methods C0, 52 and B6
+		int[] banks = { 13051042, 17052472, 80053762 };
+		int rows = 3000;
+		int[] blzNumbers = new int[rows];
+		long[] kontoNumbers = new long[rows];
+		Random random = new Random(24);
+		for (int row = 0; row < rows; row++) {
+			blzNumbers[row] = banks[row % banks.length];
+			kontoNumbers[row] = accountNumber(random);
+			assertEquals(measured.check(blzNumbers[row], kontoNumbers[row]),
+					bound.check(blzNumbers[row], kontoNumbers[row]));
+		}
+
+		BatchResult expected = measured.validate(blzNumbers, kontoNumbers);
+		BatchResult actual = bound.validate(blzNumbers, kontoNumbers);
+		for (int row = 0; row < rows; row++)
+			assertEquals("Row " + row, expected.getStatus(row), actual
+					.getStatus(row));
+		assertTrue(bound.check(17052472, 43001500L) == measured.check(
+				17052472, 43001500L));
+	}
+
+	/**
+	 * Account numbers of up to 10 digits, many of them with zeros in front
+	 * and in between
+	 */
+	private static long accountNumber(Random random) {
+		int length = 1 + random.nextInt(10);
+		long number = 0;
+		for (int i = 0; i < length; i++)
+			number = number * 10
+					+ (random.nextInt(3) == 0 ? 0 : random.nextInt(10));
+		if (random.nextInt(10) == 0)
+			number += 9000000000L;
+		// method C0 doesn't accept 0
+		return (number == 0) ? 1 : number;
+	}
+
+}
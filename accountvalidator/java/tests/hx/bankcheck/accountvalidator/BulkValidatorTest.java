@@ -0,0 +1,259 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class BulkValidatorTest {
+
+	private static final int[] BLZ = { 10010010, 10020000, 12030000,
+			20010020, 37040044, 50010517, 60050101, 79063060, 10000001 };
+
+	private BankAccountValidator validator;
+
+	@Before
+	public void init() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		validator = new BankAccountValidator(manager);
+	}
+
+	@Test
+	public void testArray() {
+		int rows = 3 * BulkValidator.THRESHOLD + 17;
+		int[] blzNumbers = new int[rows];
+		long[] kontoNumbers = new long[rows];
+		fill(blzNumbers, kontoNumbers, rows);
+
+		BatchResult expected = validator.validate(blzNumbers, kontoNumbers);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		BatchResult actual;
+		try {
+			actual = new BulkValidator(validator, pool).validate(blzNumbers,
+					kontoNumbers);
+		} finally {
+			pool.shutdown();
+		}
+
+		assertEquals(rows, actual.size());
+		for (int i = 0; i < rows; i++) {
+			assertEquals("Row " + i, expected.getStatus(i), actual.getStatus(i));
+			assertEquals("Row " + i, expected.getAlternative(i), actual
+					.getAlternative(i));
+		}
+	}
+
+	@Test
+	public void testSource() throws Exception {
+		int rows = 2 * BulkValidator.CHUNK_SIZE + 5;
+		int[] blzNumbers = new int[rows];
+		long[] kontoNumbers = new long[rows];
+		fill(blzNumbers, kontoNumbers, rows);
+
+		StringBuilder lines = new StringBuilder();
+		for (int i = 0; i < rows; i++)
+			lines.append(blzNumbers[i]).append(';').append(kontoNumbers[i])
+					.append('\n');
+
+		final List<Byte> statusList = new ArrayList<Byte>();
+		BulkValidator.Sink sink = new BulkValidator.Sink() {
+			@Override
+			public void accept(int[] blzNumbers, long[] kontoNumbers,
+					BatchResult result) throws IOException {
+				for (int i = 0; i < result.size(); i++)
+					statusList.add(result.getStatus(i));
+			}
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			new BulkValidator(validator).validate(BulkValidator.lineSource(
+					new BufferedReader(new StringReader(lines.toString())),
+					';'), sink, executor, 3);
+		} finally {
+			executor.shutdown();
+		}
+
+		BatchResult expected = validator.validate(blzNumbers, kontoNumbers);
+		assertEquals(rows, statusList.size());
+		for (int i = 0; i < rows; i++)
+			assertEquals("Row " + i, expected.getStatus(i), statusList.get(i)
+					.byteValue());
+	}
+
+	@Test
+	public void testStreamSource() throws Exception {
+		int rows = BulkValidator.CHUNK_SIZE + 100;
+		final int[] blzNumbers = new int[rows];
+		final long[] kontoNumbers = new long[rows];
+		fill(blzNumbers, kontoNumbers, rows);
+
+		BulkValidator.Source source = BulkValidator.streamSource(IntStream
+				.range(0, rows).boxed(), new ToIntFunction<Integer>() {
+			@Override
+			public int applyAsInt(Integer row) {
+				return blzNumbers[row.intValue()];
+			}
+		}, new ToLongFunction<Integer>() {
+			@Override
+			public long applyAsLong(Integer row) {
+				return kontoNumbers[row.intValue()];
+			}
+		});
+		assertResults(blzNumbers, kontoNumbers, source);
+	}
+
+	/**
+	 * A source that has no rows at times must not end the validation
+	 */
+	@Test
+	public void testEmptyReads() throws Exception {
+		int rows = 1000;
+		final int[] blzNumbers = new int[rows];
+		final long[] kontoNumbers = new long[rows];
+		fill(blzNumbers, kontoNumbers, rows);
+
+		BulkValidator.Source source = new BulkValidator.Source() {
+			private int calls;
+			private int next;
+
+			@Override
+			public int read(int[] blz, long[] konto) {
+				if (next == blzNumbers.length)
+					return -1;
+				if (calls++ % 3 != 0)
+					return 0;
+				int count = Math.min(100, blzNumbers.length - next);
+				System.arraycopy(blzNumbers, next, blz, 0, count);
+				System.arraycopy(kontoNumbers, next, konto, 0, count);
+				next += count;
+				return count;
+			}
+		};
+		assertResults(blzNumbers, kontoNumbers, source);
+	}
+
+	private void assertResults(int[] blzNumbers, long[] kontoNumbers,
+			BulkValidator.Source source) throws Exception {
+		final List<Byte> statusList = new ArrayList<Byte>();
+		BulkValidator.Sink sink = new BulkValidator.Sink() {
+			@Override
+			public void accept(int[] blzNumbers, long[] kontoNumbers,
+					BatchResult result) {
+				for (int i = 0; i < result.size(); i++)
+					statusList.add(result.getStatus(i));
+			}
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			new BulkValidator(validator).validate(source, sink, executor, 2);
+		} finally {
+			executor.shutdown();
+		}
+
+		BatchResult expected = validator.validate(blzNumbers, kontoNumbers);
+		assertEquals(blzNumbers.length, statusList.size());
+		for (int i = 0; i < blzNumbers.length; i++)
+			assertEquals("Row " + i, expected.getStatus(i), statusList.get(i)
+					.byteValue());
+	}
+
+	@Test
+	public void testByteSource() throws Exception {
+		int rows = 5000;
+		int[] blzNumbers = new int[rows];
+		long[] kontoNumbers = new long[rows];
+		fill(blzNumbers, kontoNumbers, rows);
+
+		// the formats a file may use, read a few bytes at a time
+		StringBuilder lines = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			switch (i % 4) {
+			case 0:
+				lines.append(blzNumbers[i]).append(';').append(kontoNumbers[i]);
+				break;
+			case 1:
+				lines.append(' ').append(blzNumbers[i]).append(" ; ").append(
+						String.format("%012d", kontoNumbers[i]));
+				break;
+			case 2:
+				lines.append(blzNumbers[i]).append(';').append(
+						String.format(Locale.GERMANY, "%,d", kontoNumbers[i]))
+						.append('\r');
+				break;
+			default:
+				lines.append('\n').append(blzNumbers[i]).append(";00 ").append(
+						kontoNumbers[i]);
+			}
+			if (i < rows - 1)
+				lines.append('\n');
+		}
+		final byte[] bytes = lines.toString().getBytes(
+				StandardCharsets.ISO_8859_1);
+		InputStream input = new ByteArrayInputStream(bytes) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 1000));
+			}
+		};
+
+		BulkValidator.Source source = BulkValidator.byteSource(input, ';');
+		int[] blzRead = new int[rows];
+		long[] kontoRead = new long[rows];
+		int total = 0;
+		int count;
+		while ((count = source.read(new int[777], new long[777])) >= 0)
+			total += count;
+		assertEquals(rows, total);
+
+		source = BulkValidator.byteSource(new ByteArrayInputStream(bytes), ';');
+		assertEquals(rows, source.read(blzRead, kontoRead));
+		assertEquals(-1, source.read(blzRead, kontoRead));
+		for (int i = 0; i < rows; i++) {
+			assertEquals("Row " + i, blzNumbers[i], blzRead[i]);
+			assertEquals("Row " + i, kontoNumbers[i], kontoRead[i]);
+		}
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testByteSourceInvalidLine() throws Exception {
+		BulkValidator.byteSource(
+				new ByteArrayInputStream("10010010;12x45\n"
+						.getBytes(StandardCharsets.ISO_8859_1)), ';').read(
+				new int[10], new long[10]);
+	}
+
+	private void fill(int[] blzNumbers, long[] kontoNumbers, int rows) {
+		Random rnd = new Random(4711);
+		for (int i = 0; i < rows; i++) {
+			blzNumbers[i] = BLZ[rnd.nextInt(BLZ.length)];
+			kontoNumbers[i] = (long) (rnd.nextDouble() * 10000000000L);
+		}
+	}
+
+}
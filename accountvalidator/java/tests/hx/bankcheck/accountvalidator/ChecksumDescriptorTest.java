@@ -0,0 +1,201 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.accountvalidator.ChecksumDescriptor.CheckDigit;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class ChecksumDescriptorTest {
+
+	private ChecksumValidatorFactory factory;
+
+	@Before
+	public void init() {
+		factory = new ChecksumValidatorFactory();
+	}
+
+	/**
+	 * Every descriptor has to give the same result as its validator for the
+	 * test account numbers and for random numbers
+	 */
+	@Test
+	public void testSameResultsAsValidators() throws Exception {
+		Properties corpus = new Properties();
+		loadInto(corpus, "tests/validAccountNumbers.properties");
+		loadInto(corpus, "tests/invalidAccountNumbers.properties");
+
+		int described = 0;
+		ValidationResult result = new ValidationResult();
+		for (int method = 0; method < ChecksumValidatorFactory.TABLE_SIZE; method++) {
+			ChecksumDescriptor descriptor = factory.descriptorAt(method);
+			if (descriptor == null)
+				continue;
+			described++;
+
+			String code = ChecksumValidatorFactory.codeOf(method);
+			ChecksumValidator validator = factory.validatorAt(method);
+			for (long number : accountNumbers(corpus, code)) {
+				int[] digits = ChecksumUtils.parseAccountNumber(number);
+				assertEquals("Method " + code + ", account number " + number,
+						validator.validate(number, 0, result), descriptor
+								.validate(digits));
+			}
+		}
+		assertEquals(30, described);
+	}
+
+	@Test
+	public void testCheckDigit() throws Exception {
+		ChecksumDescriptor m10h = factory.descriptorAt(ChecksumValidatorFactory
+				.indexOf("M10H"));
+		assertEquals(CheckDigit.MOD10_TEN_INVALID, m10h.getCheckDigit());
+
+		ChecksumDescriptor descriptor28 = factory
+				.descriptorAt(ChecksumValidatorFactory.indexOf("28"));
+		assertEquals(7, descriptor28.getCheckDigitPosition());
+		assertTrue(descriptor28.validate(ChecksumUtils
+				.parseAccountNumber(19999000)));
+		assertTrue(descriptor28.validate(ChecksumUtils
+				.parseAccountNumber(9130000201L)));
+
+		ChecksumDescriptor descriptor00 = factory
+				.descriptorAt(ChecksumValidatorFactory.indexOf("00"));
+		assertEquals(1, descriptor00.calcChecksum(ChecksumUtils
+				.parseAccountNumber(9290701)));
+		assertFalse(descriptor00.validate(ChecksumUtils
+				.parseAccountNumber(9290702)));
+
+		assertTrue(ChecksumDescriptor.NO_CHECK.validate(new int[10]));
+	}
+
+	/**
+	 * The column-wise sums of the batch match the sums of single account
+	 * numbers
+	 */
+	@Test
+	public void testColumnSums() throws Exception {
+		int count = 100;
+		int[] columns = new int[10 * count];
+		long[] numbers = new long[count];
+		Random random = new Random(22);
+		for (int j = 0; j < count; j++) {
+			numbers[j] = (long) (random.nextDouble() * 1e10);
+			int[] digits = ChecksumUtils.parseAccountNumber(numbers[j]);
+			for (int i = 0; i < 10; i++)
+				columns[i * count + j] = digits[i];
+		}
+
+		int[] sums = new int[count];
+		for (int method = 0; method < ChecksumValidatorFactory.TABLE_SIZE; method++) {
+			ChecksumDescriptor descriptor = factory.descriptorAt(method);
+			if (descriptor == null)
+				continue;
+			descriptor.sums(columns, count, count, sums);
+			for (int j = 0; j < count; j++)
+				assertEquals(descriptor.sum(ChecksumUtils
+						.parseAccountNumber(numbers[j])), sums[j]);
+		}
+	}
+
+	@Test
+	public void testOnlyRegularMethods() {
+		assertNotNull(factory.descriptorAt(ChecksumValidatorFactory
+				.indexOf("06")));
+		assertNull(factory.descriptorAt(ChecksumValidatorFactory.indexOf("11")));
+		assertNull(factory.descriptorAt(ChecksumValidatorFactory.indexOf("52")));
+
+		factory.setNumberValidating(true);
+		assertNull(factory.descriptorAt(ChecksumValidatorFactory
+				.indexOf("06")));
+		factory.setNumberValidating(false);
+
+		factory.setMetrics(new ValidationMetrics());
+		assertNull(factory.descriptorAt(ChecksumValidatorFactory
+				.indexOf("06")));
+	}
+
+	/**
+	 * The validator takes the descriptors, with metrics it takes the classes
+	 */
+	@Test
+	public void testBankAccountValidator() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		BankAccountValidator described = new BankAccountValidator(manager);
+		BankAccountValidator measured = new BankAccountValidator(manager);
+		measured.setMetrics(new ValidationMetrics());
+
+		// methods 09, 13, 10, 06, 01, 00, 28, 34 and 11
+		int[] banks = { 10000000, 10010111, 10010222, 10060198, 10130800,
+				12030000, 16062008, 36060488, 74350000 };
+		int rows = 5000;
+		int[] blzNumbers = new int[rows];
+		long[] kontoNumbers = new long[rows];
+		Random random = new Random(14);
+		for (int row = 0; row < rows; row++) {
+			blzNumbers[row] = banks[row % banks.length];
+			kontoNumbers[row] = (long) (random.nextDouble() * 1e10);
+		}
+		kontoNumbers[0] = -1;
+		kontoNumbers[1] = 12345678901L;
+
+		BatchResult expected = measured.validate(blzNumbers, kontoNumbers);
+		BatchResult actual = described.validate(blzNumbers, kontoNumbers);
+		for (int row = 0; row < rows; row++) {
+			assertEquals("Row " + row, expected.getStatus(row), actual
+					.getStatus(row));
+			if (kontoNumbers[row] >= 0 && kontoNumbers[row] < 10000000000L)
+				assertEquals("Row " + row, expected.getStatus(row) == BatchResult.VALID,
+						described.isValid(blzNumbers[row], kontoNumbers[row]));
+		}
+	}
+
+	private static void loadInto(Properties corpus, String file)
+			throws Exception {
+		Properties properties = new Properties();
+		FileInputStream in = new FileInputStream(file);
+		try {
+			properties.load(in);
+		} finally {
+			in.close();
+		}
+		for (String code : properties.stringPropertyNames()) {
+			String numbers = properties.getProperty(code);
+			if (corpus.getProperty(code) != null)
+				numbers = corpus.getProperty(code) + "," + numbers;
+			corpus.setProperty(code, numbers);
+		}
+	}
+
+	private static List<Long> accountNumbers(Properties corpus, String code) {
+		List<Long> numbers = new ArrayList<Long>();
+		if (corpus.getProperty(code) != null) {
+			for (String number : corpus.getProperty(code).split(","))
+				numbers.add(Long.valueOf(number.trim()));
+		}
+
+		Random random = new Random(code.hashCode());
+		for (int i = 0; i < 20000; i++)
+			numbers.add((long) (random.nextDouble() * 1e10));
+		return numbers;
+	}
+
+}
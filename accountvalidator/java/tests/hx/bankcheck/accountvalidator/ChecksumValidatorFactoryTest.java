@@ -1,11 +1,20 @@
 package hx.bankcheck.accountvalidator;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import hx.bankcheck.accountvalidator.AbstractChecksumValidator;
 import hx.bankcheck.accountvalidator.ChecksumValidator;
 import hx.bankcheck.accountvalidator.ChecksumValidatorFactory;
+import hx.bankcheck.accountvalidator.exceptions.IllegalAccountNumberException;
+import hx.bankcheck.accountvalidator.exceptions.ValidationException;
 import hx.bankcheck.accountvalidator.exceptions.ValidatorUnknownException;
 import hx.bankcheck.accountvalidator.impl.Checksum00;
 import hx.bankcheck.accountvalidator.impl.Checksum99;
+import hx.bankcheck.accountvalidator.impl.ChecksumD8;
+import hx.bankcheck.accountvalidator.impl.ChecksumM10H;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -37,4 +46,116 @@ public class ChecksumValidatorFactoryTest {
 		validator = factory.createValidatorFor("unknownClass");
 	}
 	
+	@Test
+	public void testNewValidators() throws ValidatorUnknownException {
+		ChecksumValidator validator = factory.createValidatorFor("D8");
+		assertTrue(validator.getClass() == ChecksumD8.class);
+		assertNotSame(validator, factory.createValidatorFor("D8"));
+		assertNotSame(factory.validatorAt(ChecksumValidatorFactory
+				.indexOf("D8")), validator);
+
+		factory.setAdaptiveOrdering(true);
+		assertTrue(((AbstractChecksumValidator) factory
+				.createValidatorFor("D8")).isAdaptiveOrdering());
+		assertFalse(((AbstractChecksumValidator) validator)
+				.isAdaptiveOrdering());
+
+		validator = factory.createValidatorFor("M10H");
+		assertTrue(validator.getClass() == ChecksumM10H.class);
+
+		factory.setNumberValidating(true);
+		assertTrue(factory.createValidatorFor("D8") instanceof ChecksumValidatorFactory.NumberValidatingWrapper);
+	}
+
+	@Test
+	public void testIndexOf() {
+		assertEquals(0, ChecksumValidatorFactory.indexOf("00"));
+		assertEquals(99, ChecksumValidatorFactory.indexOf("99"));
+		assertEquals(100, ChecksumValidatorFactory.indexOf("A0"));
+		assertEquals(138, ChecksumValidatorFactory.indexOf("D8"));
+		assertEquals(-1, ChecksumValidatorFactory.indexOf("a0"));
+		assertEquals(-1, ChecksumValidatorFactory.indexOf("0A"));
+		assertEquals(-1, ChecksumValidatorFactory.indexOf("000"));
+		assertEquals(-1, ChecksumValidatorFactory.indexOf(null));
+	}
+
+	@Test(expected=ValidatorUnknownException.class)
+	public void testUnknownCode() throws ValidatorUnknownException {
+		factory.createValidatorFor("12");
+	}
+
+	@Test
+	public void testSharedValidatorWithResult() throws ValidatorUnknownException, ValidationException {
+		ChecksumValidator validator = factory.createValidatorFor("68");
+		ValidationResult result = new ValidationResult();
+
+		assertTrue(validator.validate(new int[] { 0, 9, 8, 7, 6, 5, 4, 3, 2, 8 }, null, result));
+		assertTrue(result.isValid());
+		assertEquals(2, result.getAlternative());
+
+		// the result is reset for every call
+		assertTrue(validator.validate(new int[] { 8, 8, 8, 9, 6, 5, 4, 3, 2, 8 }, null, result));
+		assertEquals(0, result.getAlternative());
+
+		assertFalse(validator.validate(new int[] { 8, 8, 8, 9, 6, 5, 4, 3, 2, 9 }, null, result));
+		assertFalse(result.isValid());
+	}
+
+	@Test
+	public void testValidateNumber() throws ValidatorUnknownException, ValidationException {
+		ChecksumValidator validator = factory.createValidatorFor("68");
+		ValidationResult result = new ValidationResult();
+
+		assertTrue(validator.validate(8889654328L, 0, result));
+		assertEquals(0, result.getAlternative());
+
+		// the digits of the previous call must not be left in the buffer
+		assertTrue(validator.validate(987654328L, 0, result));
+		assertEquals(2, result.getAlternative());
+
+		assertFalse(validator.validate(8889654329L, 0, result));
+
+		factory.setNumberValidating(true);
+		assertTrue(factory.createValidatorFor("68").validate(987654324L, 0, result));
+		assertEquals(1, result.getAlternative());
+	}
+
+	@Test(expected=IllegalAccountNumberException.class)
+	public void testValidateNumberTooLong() throws ValidatorUnknownException, ValidationException {
+		factory.createValidatorFor("68").validate(12345678901L, 0, new ValidationResult());
+	}
+
+	@Test
+	public void testValidateWithoutResultMethods() throws ValidationException {
+		// a validator written against the old interface only
+		ChecksumValidator validator = new ChecksumValidator() {
+
+			private int alternative;
+
+			public boolean validate(int[] accountNumber, int[] bankNumber) {
+				alternative = accountNumber[9] % 2 + 1;
+				return accountNumber[9] != 0;
+			}
+
+			public int getAlternative() {
+				return alternative;
+			}
+
+			public boolean isException() {
+				return true;
+			}
+		};
+		ValidationResult result = new ValidationResult();
+
+		assertTrue(validator.validate(1234567891L, 0, result));
+		assertTrue(result.isValid());
+		assertEquals(2, result.getAlternative());
+		assertTrue(result.isException());
+
+		assertFalse(validator.validate(new int[10], new int[8], result));
+		assertEquals(ValidationResult.INVALID, result.getStatus());
+		assertEquals(1, result.getAlternative());
+		assertEquals(ValidationResult.INVALID, validator.check(1234567890L, 0, result));
+	}
+
 }
@@ -0,0 +1,126 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.accountvalidator.Suggestion.Kind;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class SuggestionTest {
+
+	private static final int[] BLZ = { 12030000, 10130800, 10060198,
+			74350000, 10010111, 16062008, 36060488, 10010010, 29020000,
+			10080000, 17052472, 21352240 };
+
+	private BankAccountValidator validator;
+
+	@Before
+	public void init() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		validator = new BankAccountValidator(manager);
+	}
+
+	@Test
+	public void testTransposition() {
+		List<Suggestion> suggestions = validator.suggest(12030000, 9290710);
+		assertTrue(suggestions.contains(new Suggestion(9290701,
+				Kind.TRANSPOSITION)));
+		assertEquals(Kind.TRANSPOSITION, suggestions.get(0).getKind());
+
+		List<Suggestion> sorted = new ArrayList<Suggestion>(suggestions);
+		Collections.sort(sorted);
+		assertEquals(sorted, suggestions);
+	}
+
+	@Test
+	public void testUnknown() {
+		assertTrue(validator.suggest(10000001, 9290710).isEmpty());
+		assertTrue(validator.suggest(12030000, 0).isEmpty());
+		assertTrue(validator.suggest(12030000, 12345678901L).isEmpty());
+	}
+
+	/**
+	 * Leaving out or replacing the first digit may leave leading zeros, the
+	 * candidate is suggested without them
+	 */
+	@Test
+	public void testLeadingZeros() {
+		assertTrue(validator.suggest(10000000, 800119).contains(
+				new Suggestion(119, Kind.SUBSTITUTION)));
+		assertTrue(validator.suggest(36060488, 1010000100L).contains(
+				new Suggestion(10000100, Kind.SUBSTITUTION)));
+		assertTrue(validator.suggest(10080000, 100103).contains(
+				new Suggestion(103, Kind.SUBSTITUTION)));
+		assertTrue(validator.suggest(10000000, 80119).contains(
+				new Suggestion(8119, Kind.TRANSPOSITION)));
+	}
+
+	/**
+	 * Compares the suggestions with all candidates checked one by one
+	 */
+	@Test
+	public void testAllCandidates() {
+		Random random = new Random(19);
+		for (int blz : BLZ) {
+			for (int i = 0; i < 50; i++) {
+				long konto = 1 + (long) (random.nextDouble() * Math.pow(10,
+						1 + random.nextInt(10)));
+				if (konto > 9999999999L)
+					continue;
+
+				TreeSet<Long> found = new TreeSet<Long>();
+				for (Suggestion suggestion : validator.suggest(blz, konto)) {
+					assertEquals(ValidationResult.VALID, validator.check(blz,
+							suggestion.getKontoNumber()));
+					assertTrue(found.add(suggestion.getKontoNumber()));
+				}
+				assertEquals(blz + "/" + konto, candidates(blz, konto), found);
+			}
+		}
+	}
+
+	private TreeSet<Long> candidates(int blz, long konto) {
+		String digits = Long.toString(konto);
+		List<String> candidates = new ArrayList<String>();
+		for (int p = 0; p < digits.length(); p++) {
+			candidates.add(digits.substring(0, p) + digits.substring(p + 1));
+			for (char c = '0'; c <= '9'; c++) {
+				candidates.add(digits.substring(0, p) + c
+						+ digits.substring(p + 1));
+				candidates.add(digits.substring(0, p) + c
+						+ digits.substring(p));
+			}
+			if (p + 1 < digits.length())
+				candidates.add(digits.substring(0, p) + digits.charAt(p + 1)
+						+ digits.charAt(p) + digits.substring(p + 2));
+		}
+		for (char c = '0'; c <= '9'; c++)
+			candidates.add(digits + c);
+
+		TreeSet<Long> valid = new TreeSet<Long>();
+		for (String candidate : candidates) {
+			if (candidate.length() == 0 || candidate.length() > 10)
+				continue;
+			long number = Long.parseLong(candidate);
+			if (number > 0 && number != konto
+					&& validator.check(blz, number) == ValidationResult.VALID)
+				valid.add(number);
+		}
+		return valid;
+	}
+
+}
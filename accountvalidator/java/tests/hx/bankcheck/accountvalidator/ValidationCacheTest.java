@@ -0,0 +1,167 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class ValidationCacheTest {
+
+	private BlzManager manager;
+	private BankAccountValidator validator;
+	private BankAccountValidator uncached;
+
+	@Before
+	public void init() throws Exception {
+		manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		validator = new BankAccountValidator(manager);
+		uncached = new BankAccountValidator(manager);
+	}
+
+	@Test
+	public void testKey() {
+		assertEquals(100100100001234567L, ValidationCache.key(10010010,
+				1234567));
+		assertEquals(999999999999999999L, ValidationCache.key(99999999,
+				9999999999L));
+		assertEquals(-1, ValidationCache.key(100000000, 1));
+		assertEquals(-1, ValidationCache.key(10010010, 10000000000L));
+		assertEquals(-1, ValidationCache.key(10010010, -1));
+	}
+
+	@Test
+	public void testSize() {
+		assertEquals(ValidationCache.WAYS, new ValidationCache(1)
+				.getMaximumSize());
+		assertEquals(1024, new ValidationCache(1000).getMaximumSize());
+		assertEquals(1024, new ValidationCache(1024).getMaximumSize());
+	}
+
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		ValidationCache cache = new ValidationCache(1024);
+		validator.setCache(cache);
+		assertSame(cache, validator.getCache());
+
+		int[] banks = { 10010010, 12030000, 37040044, 99999999 };
+		Random random = new Random(15);
+		for (int i = 0; i < 100; i++) {
+			int blz = banks[i % banks.length];
+			long konto = random.nextInt(1000000000);
+			boolean expected = uncached.isValid(blz, konto);
+			assertEquals(expected, validator.isValid(blz, konto));
+			assertEquals(expected, validator.isValid(blz, konto));
+			assertEquals(expected, validator.isValid(Integer.toString(blz),
+					Long.toString(konto)));
+		}
+
+		// the string variant returns before the cache for unknown banks
+		assertEquals(100, cache.getMisses());
+		assertEquals(175, cache.getHits());
+		assertEquals(175.0 / 275, cache.getHitRate(), 1e-9);
+		assertEquals(100, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHits());
+		assertEquals(0, cache.getHitRate(), 0);
+	}
+
+	@Test
+	public void testNewBankData() throws Exception {
+		ValidationCache cache = new ValidationCache(64);
+		validator.setCache(cache);
+
+		validator.isValid(10010010, 1234567);
+		validator.isValid(10010010, 1234567);
+		assertEquals(1, cache.getHits());
+
+		// publishes a new generation, cached results must not be used
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		validator.isValid(10010010, 1234567);
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(1, cache.size());
+
+		validator.isValid(10010010, 1234567);
+		assertEquals(2, cache.getHits());
+	}
+
+	@Test
+	public void testScanResistance() {
+		ValidationCache cache = new ValidationCache(4096);
+		int generation = manager.getCurrentGeneration().getSerial();
+		int hot = 1024;
+
+		long scan = 1L << 40;
+		long hotHits = 0;
+		for (int round = 0; round < 50; round++) {
+			for (long key = 0; key < hot; key++) {
+				if (cache.get(key, generation) < 0)
+					cache.put(key, generation, ValidationResult.VALID);
+				else if (round >= 10)
+					hotHits++;
+			}
+			// keys seen only once
+			for (int i = 0; i < 4096; i++, scan++) {
+				if (cache.get(scan, generation) < 0)
+					cache.put(scan, generation, ValidationResult.INVALID);
+			}
+		}
+
+		assertTrue("Hot keys hit " + hotHits + " times",
+				hotHits > 0.9 * 40 * hot);
+		assertTrue(cache.getRejections() > 0);
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final ValidationCache cache = new ValidationCache(256);
+		final int generation = manager.getCurrentGeneration().getSerial();
+		final Throwable[] failure = new Throwable[1];
+
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int seed = t;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					Random random = new Random(seed);
+					try {
+						for (int i = 0; i < 100000; i++) {
+							long key = random.nextInt(1000);
+							byte status = (byte) (key % 6);
+							int cached = cache.get(key, generation);
+							if (cached < 0)
+								cache.put(key, generation, status);
+							else
+								assertEquals(status, cached);
+						}
+					} catch (Throwable e) {
+						failure[0] = e;
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread t : threads)
+			t.join();
+
+		assertNull(failure[0]);
+		assertEquals(4 * 100000, cache.getHits() + cache.getMisses());
+		assertTrue(cache.size() <= cache.getMaximumSize());
+	}
+
+}
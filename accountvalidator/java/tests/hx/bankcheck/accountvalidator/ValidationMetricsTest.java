@@ -0,0 +1,171 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.impl.Checksum00;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class ValidationMetricsTest {
+
+	private ChecksumValidatorFactory factory;
+	private ValidationMetrics metrics;
+
+	@Before
+	public void init() {
+		factory = new ChecksumValidatorFactory();
+		metrics = new ValidationMetrics();
+	}
+
+	@Test
+	public void testCounters() throws Exception {
+		ChecksumValidator plain = factory.createValidatorFor("00");
+		factory.setMetrics(metrics);
+		assertSame(metrics, factory.getMetrics());
+		ChecksumValidator validator = factory.createValidatorFor("00");
+
+		ValidationResult result = new ValidationResult();
+		int valid = 0;
+		for (long konto = 9290700; konto < 9290710; konto++) {
+			boolean expected = plain.validate(konto, 0, result);
+			assertEquals(expected, validator.validate(konto, 0, result));
+			if (expected)
+				valid++;
+		}
+
+		try {
+			validator.validate(12345678901L, 0, result);
+		} catch (ValidationException e) {
+			// counted as error
+		}
+
+		MethodStatistics statistics = metrics.getMethod("00");
+		assertEquals("00", statistics.getCode());
+		assertEquals(11, statistics.getCalls());
+		assertEquals(valid, statistics.getValid());
+		assertEquals(10 - valid, statistics.getInvalid());
+		assertEquals(1, statistics.getErrors());
+		assertEquals(10, sum(statistics.getAlternatives()));
+		assertEquals(11, sum(statistics.getLatencies()));
+		assertEquals(11, metrics.getCalls());
+		assertEquals(1, metrics.getMethods().length);
+		assertNull(metrics.getMethod("01"));
+
+		metrics.reset();
+		assertEquals(0, metrics.getCalls());
+		assertEquals(0, metrics.getMethods().length);
+
+		factory.setMetrics(null);
+		assertSame(Checksum00.class, factory.createValidatorFor("00")
+				.getClass());
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		BankAccountValidator validator = new BankAccountValidator(manager);
+		validator.setMetrics(metrics);
+		assertSame(metrics, validator.getMetrics());
+
+		BatchResult result = validator.validate(new int[] { 10010010,
+				10010010, 99999999 }, new long[] { 1234567, 7654321, 1 });
+		assertEquals(BatchResult.UNKNOWN_BLZ, result.getStatus(2));
+		assertEquals(2, metrics.getMethod("24").getCalls());
+		assertEquals(2, metrics.getCalls());
+	}
+
+	@Test
+	public void testConcurrentCounting() throws Exception {
+		factory.setMetrics(metrics);
+		final ChecksumValidator validator = factory.createValidatorFor("00");
+		final int perThread = 10000;
+
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					ValidationResult result = new ValidationResult();
+					try {
+						for (int n = 0; n < perThread; n++)
+							validator.validate(9290701 + n, 0, result);
+					} catch (ValidationException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread t : threads)
+			t.join();
+
+		assertEquals(threads.length * perThread, metrics.getCalls());
+	}
+
+	@Test
+	public void testLatencyBucket() {
+		assertEquals(0, ValidationMetrics.latencyBucket(0));
+		assertEquals(0, ValidationMetrics.latencyBucket(127));
+		assertEquals(1, ValidationMetrics.latencyBucket(128));
+		assertEquals(2, ValidationMetrics.latencyBucket(256));
+		assertEquals(ValidationMetrics.LATENCY_BUCKETS - 1, ValidationMetrics
+				.latencyBucket(Long.MAX_VALUE));
+		assertEquals(128, metrics.getLatencyBucketLimits()[0]);
+	}
+
+	@Test
+	public void testCodeOf() {
+		for (String code : new String[] { "00", "09", "52", "A0", "D8", "M10H" })
+			assertEquals(code, ChecksumValidatorFactory
+					.codeOf(ChecksumValidatorFactory.indexOf(code)));
+	}
+
+	@Test
+	public void testMBean() throws Exception {
+		factory.setMetrics(metrics);
+		factory.createValidatorFor("00").validate(9290701, 0,
+				new ValidationResult());
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(ValidationMetrics.OBJECT_NAME);
+		metrics.register();
+		try {
+			assertEquals(Long.valueOf(1), server.getAttribute(name, "Calls"));
+			CompositeData[] methods = (CompositeData[]) server.getAttribute(
+					name, "Methods");
+			assertEquals(1, methods.length);
+			assertEquals("00", methods[0].get("code"));
+			assertEquals(Long.valueOf(1), methods[0].get("calls"));
+		} finally {
+			metrics.unregister();
+		}
+		assertFalse(server.isRegistered(name));
+		assertTrue(metrics.getCalls() > 0);
+	}
+
+	private static long sum(long[] values) {
+		long sum = 0;
+		for (long v : values)
+			sum += v;
+		return sum;
+	}
+
+}
@@ -0,0 +1,123 @@
+package hx.bankcheck.accountvalidator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import hx.bankcheck.accountvalidator.ValidationTrace.Step;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class ValidationTraceTest {
+
+	private BankAccountValidator validator;
+
+	@Before
+	public void init() throws Exception {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+		validator = new BankAccountValidator(manager);
+	}
+
+	@Test
+	public void testMethod00() {
+		ValidationTrace trace = validator.explain(12030000, 9290701);
+		assertEquals("00", trace.getMethod());
+		assertEquals(ValidationResult.VALID, trace.getStatus());
+		assertEquals(1, trace.getSteps().size());
+
+		Step step = trace.getSteps().get(0);
+		assertArrayEquals(new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 }, step
+				.getWeights());
+		assertEquals(10, step.getModulus());
+		assertEquals(step.getSum() % 10, step.getRemainder());
+		assertEquals(1, step.getCheckDigit());
+	}
+
+	@Test
+	public void testMethod06() {
+		ValidationTrace trace = validator.explain(10060198, 94012341);
+		assertEquals("06", trace.getMethod());
+		Step step = trace.getSteps().get(0);
+		assertEquals(11, step.getModulus());
+		assertEquals(validator.check(10060198, 94012341) == ValidationResult.VALID,
+				step.getCheckDigit() == 1);
+	}
+
+	@Test
+	public void testAlternatives() {
+		// method A7, 00 fails and 03 is tried as second alternative
+		ValidationTrace trace = validator.explain(21352240, 209010893);
+		assertEquals("A7", trace.getMethod());
+		assertEquals(ValidationResult.INVALID, trace.getStatus());
+		assertEquals(Arrays.asList(0, 1), trace.getAlternatives());
+		assertEquals(1, trace.getAlternative());
+		assertEquals(2, trace.getSteps().size());
+		assertEquals(0, trace.getSteps().get(0).getAlternative());
+		assertEquals(1, trace.getSteps().get(1).getAlternative());
+		assertTrue(trace.toString().contains("alternative 1"));
+	}
+
+	@Test
+	public void testMethod90() {
+		// valid by alternative A
+		ValidationTrace trace = validator.explain(55090500, 1156136);
+		assertEquals("90", trace.getMethod());
+		assertEquals(ValidationResult.VALID, trace.getStatus());
+		Step step = trace.getSteps().get(0);
+		assertArrayEquals(new int[] { 7, 6, 5, 4, 3, 2 }, step.getWeights());
+		assertEquals(11, step.getModulus());
+		assertEquals(6, step.getCheckDigit());
+
+		// rejected by all alternatives, every one leaves a step
+		trace = validator.explain(55090500, 1156137);
+		assertEquals(ValidationResult.INVALID, trace.getStatus());
+		int[] moduli = { 11, 11, 7, 9, 10, 11 };
+		assertEquals(moduli.length, trace.getSteps().size());
+		for (int i = 0; i < moduli.length; i++) {
+			assertEquals(i, trace.getSteps().get(i).getAlternative());
+			assertEquals(moduli[i], trace.getSteps().get(i).getModulus());
+		}
+	}
+
+	@Test
+	public void testMethod52() {
+		ValidationTrace trace = validator.explain(17052472, 43001500);
+		assertEquals("52", trace.getMethod());
+		assertEquals(1, trace.getSteps().size());
+		Step step = trace.getSteps().get(0);
+		assertEquals(11, step.getModulus());
+		assertEquals(trace.getStatus() == ValidationResult.VALID, validator
+				.check(17052472, 43001500) == ValidationResult.VALID);
+		assertTrue(step.getWeights().length > 0);
+	}
+
+	@Test
+	public void testUnknownBank() {
+		ValidationTrace trace = validator.explain(10000001, 12345);
+		assertNull(trace.getMethod());
+		assertEquals(ValidationResult.UNKNOWN_BLZ, trace.getStatus());
+		assertTrue(trace.getSteps().isEmpty());
+	}
+
+	/**
+	 * Checks outside of a trace are not recorded
+	 */
+	@Test
+	public void testOnlyWhileExplaining() {
+		ValidationTrace trace = validator.explain(12030000, 9290701);
+		validator.check(12030000, 9290702);
+		ValidationTrace.checkDigit(null, 10, 0, 0);
+		assertEquals(1, trace.getSteps().size());
+	}
+
+}
@@ -54,6 +54,29 @@ public class ChecksumUtilsTest {
 		ChecksumUtils.qs(Integer.MAX_VALUE);
 		ChecksumUtils.qs(-Integer.MAX_VALUE);
 
+		assertEquals(7, ChecksumUtils.qs(16));
+		assertEquals(18, ChecksumUtils.qs(99));
+		assertEquals(1, ChecksumUtils.qs(100));
+		assertEquals(12, ChecksumUtils.qs(345));
+	}
+
+	@Test
+	public void testQsProduct() {
+		for (int weight = 0; weight <= 12; weight++) {
+			for (int digit = 0; digit <= 9; digit++)
+				assertEquals(ChecksumUtils.qs(digit * weight), ChecksumUtils
+						.qsProduct(digit, weight));
+		}
+	}
+
+	@Test
+	public void testModulus() {
+		for (int sum = -20; sum < 2100; sum++) {
+			assertEquals(sum % 10, ChecksumUtils.mod10(sum));
+			assertEquals(sum % 11, ChecksumUtils.mod11(sum));
+			assertEquals((10 - (sum % 10)) % 10, ChecksumUtils
+					.checkDigit10(sum));
+		}
 	}
 
 	@Test
@@ -0,0 +1,104 @@
+package hx.bankcheck.accountvalidator.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class AccountNumberParserTest {
+
+	private static final long MALFORMED = AccountNumberParser.MALFORMED;
+
+	@Test
+	public void testParse() {
+		assertParsed(0, "0");
+		assertParsed(1234567890L, "1234567890");
+		assertParsed(12345678L, "12345678");
+		assertParsed(1234567890L, "0001234567890");
+		assertParsed(1, "00000000000000000001");
+		assertParsed(9999999999L, "9999999999");
+		assertParsed(1234567890L, " 1234 5678 90 ");
+		assertParsed(1234567890L, "123-456.789/0");
+		assertParsed(1234567890L, "\t12345678\t90");
+		assertParsed(MALFORMED, "");
+		assertParsed(MALFORMED, "   ");
+		assertParsed(MALFORMED, "12345678901");
+		assertParsed(MALFORMED, "99999999999999999999");
+		assertParsed(MALFORMED, "12a");
+		assertParsed(MALFORMED, "1234567a90");
+		assertParsed(MALFORMED, "+12345");
+		assertParsed(MALFORMED, "12345678:");
+		// characters that look like '0' and '9' in their low byte
+		assertParsed(MALFORMED, "1234567İ");
+		assertParsed(MALFORMED, "ƹ1234567890");
+	}
+
+	@Test
+	public void testEightDigits() {
+		for (int number : new int[] { 0, 1, 12345678, 87654321, 99999999 }) {
+			byte[] digits = String.format("%08d", number).getBytes(
+					StandardCharsets.US_ASCII);
+			assertEquals(number, AccountNumberParser.eightDigits(ByteBuffer
+					.wrap(digits).order(ByteOrder.LITTLE_ENDIAN).getLong()));
+		}
+	}
+
+	@Test
+	public void testSameAsReference() {
+		String alphabet = "0123456789 -./xİ";
+		Random rnd = new Random(11);
+		for (int i = 0; i < 100000; i++) {
+			StringBuilder text = new StringBuilder();
+			int length = rnd.nextInt(24);
+			for (int j = 0; j < length; j++) {
+				int c = rnd.nextInt(alphabet.length() * 4);
+				text.append((c < 40) ? (char) ('0' + c % 10) : alphabet
+						.charAt(c % alphabet.length()));
+			}
+			assertParsed(reference(text.toString()), text.toString());
+		}
+	}
+
+	private static void assertParsed(long expected, String text) {
+		String message = "\"" + text + "\"";
+		assertEquals(message, expected, AccountNumberParser.parse(text));
+		assertEquals(message, expected, AccountNumberParser.parse(
+				new StringBuilder("ab").append(text).append("cd"), 2,
+				text.length() + 2));
+
+		if (!text.equals(new String(text.getBytes(StandardCharsets.ISO_8859_1),
+				StandardCharsets.ISO_8859_1)))
+			return;
+		byte[] bytes = ("ab" + text + "cd")
+				.getBytes(StandardCharsets.ISO_8859_1);
+		assertEquals(message, expected, AccountNumberParser.parse(bytes, 2,
+				text.length()));
+		assertEquals(message, expected, AccountNumberParser.parse(ByteBuffer
+				.wrap(bytes), 2, text.length()));
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN,
+				ByteOrder.LITTLE_ENDIAN }) {
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).order(
+					order);
+			direct.put(bytes).flip();
+			assertEquals(message, expected, AccountNumberParser.parse(direct,
+					2, text.length()));
+		}
+	}
+
+	private static long reference(String text) {
+		String digits = text.replaceAll("[ \t\\-./]", "");
+		if (!digits.matches("[0-9]+"))
+			return MALFORMED;
+		digits = digits.replaceFirst("^0+(?=.)", "");
+		return (digits.length() > 10) ? MALFORMED : Long.parseLong(digits);
+	}
+
+}
@@ -0,0 +1,117 @@
+package hx.bankcheck.blz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class BankInfoStoreTest {
+
+	private BlzManager manager;
+
+	@Before
+	public void init() throws Exception {
+		manager = new BlzManager();
+		manager.loadFile(new File("data/blz_20101206.txt"));
+	}
+
+	@Test
+	public void testHeapStore() {
+		checkStore(manager.createStore(false));
+	}
+
+	@Test
+	public void testDirectStore() {
+		checkStore(manager.createStore(true));
+	}
+
+	@Test
+	public void testFindHeadRow() {
+		BankInfoStore store = manager.createStore(false);
+		int row = store.findHeadRow(10010010);
+		assertEquals(10010010, store.getBlz(row));
+		assertEquals("24", store.getChecksumAlgo(row));
+		assertTrue(store.isDienstleisterMitBlz(row));
+		assertEquals(-1, store.findHeadRow(99999999));
+		assertTrue(store.findBank(99999999).isEmpty());
+	}
+
+	@Test
+	public void testTextsRoundTrip() {
+		StringBuilder longText = new StringBuilder();
+		for (int i = 0; i < 300; i++)
+			longText.append((char) ('a' + i % 26));
+		String latin1 = "Geldinstitut \u00e4\u00f6\u00fc\u00df \u00ff";
+
+		BankInfo b = bank("12345678");
+		b.setBezeichnung(longText.toString());
+		b.setOrt(latin1);
+		b.setKurzBezeichnung(null);
+		b.setBIC("");
+		BankInfo c = bank("12345679");
+		c.setBezeichnung(" Bank ");
+		c.setOrt(null);
+		c.setKurzBezeichnung(latin1);
+		c.setBIC(null);
+
+		for (boolean direct : new boolean[] { false, true }) {
+			BankInfoStore store = BankInfoStore.build(Arrays.asList(
+					Collections.singletonList(b), Collections.singletonList(c)),
+					direct);
+			BankInfo actual = store.getBankInfo(0);
+			assertEquals(longText.toString(), actual.getBezeichnung());
+			assertEquals(latin1, actual.getOrt());
+			assertNull(actual.getKurzBezeichnung());
+			assertEquals("", actual.getBic());
+
+			actual = store.getBankInfo(1);
+			assertEquals(" Bank ", actual.getBezeichnung());
+			assertNull(actual.getOrt());
+			assertEquals(latin1, actual.getKurzBezeichnung());
+			assertNull(actual.getBic());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTextNotLatin1() {
+		BankInfo b = bank("12345678");
+		b.setBezeichnung("Euro \u20ac");
+		BankInfoStore.build(Collections.singletonList(Collections
+				.singletonList(b)), false);
+	}
+
+	private static BankInfo bank(String blz) {
+		BankInfo b = new BankInfo();
+		b.setBlz(blz);
+		b.setChecksumAlgo("00");
+		return b;
+	}
+
+	private void checkStore(BankInfoStore store) {
+		assertEquals(19682, store.size());
+		for (int row = 0; row < store.size(); row++) {
+			int blz = store.getBlz(row);
+			if (store.findHeadRow(blz) != row)
+				continue;
+
+			List<BankInfo> expected = manager.findBank(blz);
+			List<BankInfo> actual = store.findBank(blz);
+			assertEquals(expected.size(), actual.size());
+			for (int i = 0; i < expected.size(); i++)
+				assertEquals(expected.get(i).toString(), actual.get(i)
+						.toString());
+		}
+	}
+
+}
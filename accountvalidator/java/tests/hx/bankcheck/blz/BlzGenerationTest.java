@@ -0,0 +1,159 @@
+package hx.bankcheck.blz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class BlzGenerationTest {
+
+	private static final File BLZ_FILE = new File("data/blz_20101206.txt");
+
+	private File dir;
+	private File newFile;
+
+	@Before
+	public void init() throws Exception {
+		dir = File.createTempFile("blz", "");
+		dir.delete();
+		dir.mkdir();
+
+		// Folgestand, in dem 10010010 Methode 00 verwendet
+		StringBuilder content = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(BLZ_FILE), "ISO-8859-1"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith("100100101"))
+					line = line.substring(0, 150) + "00" + line.substring(152);
+				content.append(line).append('\n');
+			}
+		} finally {
+			reader.close();
+		}
+
+		newFile = new File(dir, "blz_20110606.txt");
+		OutputStream os = new FileOutputStream(newFile);
+		try {
+			os.write(content.toString().getBytes("ISO-8859-1"));
+		} finally {
+			os.close();
+		}
+	}
+
+	@After
+	public void cleanup() {
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	@Test
+	public void testSelectByDate() throws Exception {
+		BlzManager manager = new BlzManager();
+		assertNull(manager.findChecksumAlgo(10010010));
+
+		BlzGeneration old = manager.loadGeneration(BLZ_FILE);
+		assertEquals(20101206, old.getValidFrom());
+		BlzGeneration current = manager.loadGeneration(newFile);
+		assertEquals(20110606, current.getValidFrom());
+
+		assertEquals("24", manager.findChecksumAlgo(10010010, 20110605));
+		assertEquals("00", manager.findChecksumAlgo(10010010, 20110606));
+		// vor dem ersten Stand gilt der älteste
+		assertEquals("24", manager.findChecksumAlgo(10010010, 20090101));
+
+		assertSame(current, manager.getCurrentGeneration());
+		assertEquals("00", manager.findChecksumAlgo(10010010));
+
+		// ein künftiger Stand wird erst ab seinem Datum verwendet
+		BlzGeneration future = manager.loadGeneration(BLZ_FILE, 29991231);
+		assertEquals(3, manager.getGenerations().size());
+		assertSame(current, manager.getCurrentGeneration());
+		assertSame(future, manager.getGeneration(29991231));
+
+		assertTrue(manager.removeGeneration(20110606));
+		assertFalse(manager.removeGeneration(20110606));
+		assertSame(old, manager.getCurrentGeneration());
+	}
+
+	@Test
+	public void testSnapshotGeneration() throws Exception {
+		File snapshot = new File(dir, "blz_20110606.snapshot");
+		BlzSnapshotConverter.convert(newFile, snapshot);
+
+		BlzManager manager = new BlzManager();
+		manager.loadGeneration(BLZ_FILE);
+		BlzGeneration generation = manager.loadGeneration(snapshot);
+		assertEquals(20110606, generation.getValidFrom());
+		assertEquals("00", manager.findChecksumAlgo(10010010));
+		assertEquals(0, manager.findMethod(10010010));
+		assertEquals(BlzGeneration.NO_BANK, manager.findMethod(99999999));
+		assertEquals(new BlzManager().loadGeneration(newFile)
+				.getChecksumAlgos(), generation.getChecksumAlgos());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingDate() throws Exception {
+		File file = new File(dir, "blz.txt");
+		newFile.renameTo(file);
+		new BlzManager().loadGeneration(file);
+	}
+
+	@Test
+	public void testReadersDuringReload() throws Exception {
+		final BlzManager manager = new BlzManager();
+		manager.loadGeneration(BLZ_FILE, 20100101);
+
+		final AtomicBoolean running = new AtomicBoolean(true);
+		final AtomicInteger failures = new AtomicInteger();
+		Thread[] readers = new Thread[2];
+		for (int i = 0; i < readers.length; i++) {
+			readers[i] = new Thread() {
+				@Override
+				public void run() {
+					while (running.get()) {
+						String code = manager.findChecksumAlgo(10010010);
+						if (!"24".equals(code) && !"00".equals(code))
+							failures.incrementAndGet();
+					}
+				}
+			};
+			readers[i].start();
+		}
+
+		try {
+			for (int i = 0; i < 5; i++) {
+				manager.loadGeneration(newFile, 20100101);
+				manager.loadGeneration(BLZ_FILE, 20100101);
+			}
+		} finally {
+			running.set(false);
+			for (Thread t : readers)
+				t.join();
+		}
+
+		assertEquals(0, failures.get());
+		assertEquals(1, manager.getGenerations().size());
+	}
+
+}
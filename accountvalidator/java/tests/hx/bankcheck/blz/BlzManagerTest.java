@@ -0,0 +1,207 @@
+package hx.bankcheck.blz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * 
+ * $Id$
+ */
+public class BlzManagerTest {
+
+	private BlzManager manager;
+
+	private static final File BLZ_FILE = new File("data/blz_20101206.txt");
+
+	@Before
+	public void init() throws Exception {
+		manager = new BlzManager();
+		manager.loadFile(BLZ_FILE);
+	}
+
+	@Test
+	public void testFindBank() {
+		List<BankInfo> banks = manager.findBank("79063060");
+		assertTrue(banks.size() > 1);
+		assertTrue(banks.get(0).isDienstleisterMitBlz());
+		for (BankInfo b : banks) {
+			assertEquals("79063060", b.getBlz());
+		}
+		for (int i = 1; i < banks.size(); i++) {
+			assertTrue(!banks.get(i).isDienstleisterMitBlz());
+		}
+
+		assertEquals(banks, manager.findBank(79063060));
+		assertEquals(1, manager.findBank("10000000").size());
+	}
+
+	@Test
+	public void testFindHeadBank() {
+		BankInfo bank = manager.findHeadBank(10010010);
+		assertEquals("10010010", bank.getBlz());
+		assertEquals("24", bank.getChecksumAlgo());
+		assertTrue(bank.isDienstleisterMitBlz());
+	}
+
+	@Test
+	public void testUnknownBlz() {
+		assertTrue(manager.findBank("99999999").isEmpty());
+		assertTrue(manager.findBank("1001001").isEmpty());
+		assertTrue(manager.findBank("1001001X").isEmpty());
+		assertNull(manager.findHeadBank(99999999));
+		assertNull(manager.findHeadBank(0));
+	}
+
+	@Test
+	public void testFindMethod() {
+		assertEquals(24, manager.findMethod(10010010));
+		assertEquals(107, manager.findMethod(21352240));
+		assertEquals(BlzGeneration.NO_BANK, manager.findMethod(99999999));
+		assertEquals(BlzGeneration.NO_BANK, manager.findMethod(0));
+
+		BlzGeneration generation = manager.getCurrentGeneration();
+		for (BankInfo b : generation.getBanks()) {
+			int blz = b.getBlzNumber();
+			assertEquals(BlzManager.checksumIndex(manager
+					.findChecksumAlgo(blz)), manager.findMethod(blz));
+			assertTrue(generation.getChecksumAlgos().contains(
+					manager.findChecksumAlgo(blz)));
+		}
+	}
+
+	@Test
+	public void testFileMatchesStream() throws Exception {
+		BlzManager streamManager = new BlzManager();
+		InputStream is = new FileInputStream(BLZ_FILE);
+		try {
+			streamManager.loadStream(is);
+		} finally {
+			is.close();
+		}
+
+		List<String> blzList = readBlzList();
+		assertEquals(19682, blzList.size());
+		for (String blz : blzList) {
+			List<BankInfo> expected = streamManager.findBank(blz);
+			List<BankInfo> actual = manager.findBank(blz);
+			assertEquals(expected.size(), actual.size());
+			for (int i = 0; i < expected.size(); i++)
+				assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+	}
+
+	@Test
+	public void testWindowsLineEndings() throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (String line : readLines())
+			content.append(line).append("\r\n");
+
+		File file = File.createTempFile("blz", ".txt");
+		try {
+			OutputStream os = new FileOutputStream(file);
+			try {
+				os.write(content.toString().getBytes("ISO-8859-1"));
+			} finally {
+				os.close();
+			}
+
+			BlzManager crlfManager = new BlzManager();
+			crlfManager.loadFile(file);
+			for (String blz : readBlzList())
+				assertEquals(manager.findBank(blz).toString(), crlfManager
+						.findBank(blz).toString());
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Eine Datei wird an derselben Stelle überschrieben und neu geladen, die
+	 * Datensätze des alten Standes bleiben lesbar
+	 */
+	@Test
+	public void testReloadSamePath() throws Exception {
+		List<String> lines = readLines();
+		File file = File.createTempFile("blz_20110606", ".txt");
+		try {
+			write(file, lines);
+			BlzManager reloadManager = new BlzManager();
+			reloadManager.loadGeneration(file, 20110606);
+			BankInfo old = reloadManager.findHeadBank(10010010);
+
+			// gekürzt auf den ersten Datensatz
+			write(file, lines.subList(0, 1));
+			reloadManager.loadGeneration(file, 20110606);
+
+			BankInfo expected = manager.findHeadBank(10010010);
+			assertEquals(expected.getBezeichnung(), old.getBezeichnung());
+			assertEquals(expected.toString(), old.toString());
+			assertEquals(1, reloadManager.getGeneration(20110606).getBanks()
+					.size());
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static void write(File file, List<String> lines) throws Exception {
+		OutputStream os = new FileOutputStream(file);
+		try {
+			for (String line : lines)
+				os.write((line + "\n").getBytes("ISO-8859-1"));
+		} finally {
+			os.close();
+		}
+	}
+
+	@Test(expected = java.io.IOException.class)
+	public void testShortLine() throws Exception {
+		File file = File.createTempFile("blz", ".txt");
+		try {
+			OutputStream os = new FileOutputStream(file);
+			try {
+				os.write("10010010\n".getBytes("ISO-8859-1"));
+			} finally {
+				os.close();
+			}
+			new BlzManager().loadFile(file);
+		} finally {
+			file.delete();
+		}
+	}
+
+	private List<String> readBlzList() throws Exception {
+		List<String> result = new ArrayList<String>();
+		for (String line : readLines())
+			result.add(line.substring(0, 8));
+		return result;
+	}
+
+	private List<String> readLines() throws Exception {
+		List<String> result = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(BLZ_FILE), "ISO-8859-1"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null)
+				result.add(line);
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,150 @@
+package hx.bankcheck.blz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class BlzSnapshotTest {
+
+	private static final File BLZ_FILE = new File("data/blz_20101206.txt");
+
+	private BlzManager manager;
+	private File snapshot;
+
+	@Before
+	public void init() throws Exception {
+		manager = new BlzManager();
+		manager.loadFile(BLZ_FILE);
+		snapshot = File.createTempFile("blz_20101206", BlzSnapshotConverter.EXTENSION);
+		BlzSnapshotConverter.convert(BLZ_FILE, snapshot);
+	}
+
+	@After
+	public void cleanup() {
+		snapshot.delete();
+	}
+
+	@Test
+	public void testOpen() throws Exception {
+		BlzSnapshot s = BlzSnapshot.open(snapshot);
+		assertEquals(20101206, s.getValidFrom());
+
+		BankInfoStore store = s.getStore();
+		assertEquals(19682, store.size());
+		for (int row = 0; row < store.size(); row++) {
+			int blz = store.getBlz(row);
+			if (store.findHeadRow(blz) == row)
+				assertEquals(manager.findBank(blz).toString(), store
+						.findBank(blz).toString());
+		}
+	}
+
+	@Test
+	public void testLoadSnapshot() throws Exception {
+		BlzManager snapshotManager = new BlzManager();
+		snapshotManager.loadSnapshot(snapshot);
+
+		assertEquals("24", snapshotManager.findChecksumAlgo(10010010));
+		assertEquals(manager.findHeadBank(10010010).toString(),
+				snapshotManager.findHeadBank(10010010).toString());
+		assertEquals(manager.findBank("79063060").toString(),
+				snapshotManager.findBank("79063060").toString());
+		assertNull(snapshotManager.findChecksumAlgo(99999999));
+		assertNull(snapshotManager.findHeadBank(99999999));
+
+		// weitere Dateien werden zusätzlich zum Snapshot geladen
+		snapshotManager.loadFile(BLZ_FILE);
+		assertEquals(2 * manager.findBank("79063060").size(),
+				snapshotManager.findBank("79063060").size());
+	}
+
+	/**
+	 * Ein geöffneter Snapshot bleibt lesbar, wenn die Datei neu geschrieben
+	 * wird
+	 */
+	@Test
+	public void testRewriteOpenSnapshot() throws Exception {
+		BlzSnapshot open = BlzSnapshot.open(snapshot, false);
+		BankInfoStore store = open.getStore();
+		String expected = store.findBank(10010010).toString();
+
+		BlzSnapshot.write(manager.createStore(false), 20990101, snapshot);
+		assertEquals(expected, store.findBank(10010010).toString());
+		assertEquals(20101206, open.getValidFrom());
+		assertEquals(20990101, BlzSnapshot.open(snapshot).getValidFrom());
+
+		File[] files = snapshot.getAbsoluteFile().getParentFile().listFiles();
+		for (File f : files)
+			assertFalse(f.getName(), f.getName().startsWith(snapshot.getName())
+					&& f.getName().endsWith(".tmp"));
+	}
+
+	@Test(expected = IOException.class)
+	public void testChecksumMismatch() throws Exception {
+		RandomAccessFile f = new RandomAccessFile(snapshot, "rw");
+		try {
+			f.seek(BlzSnapshot.HEADER_LENGTH + 100);
+			int b = f.read();
+			f.seek(BlzSnapshot.HEADER_LENGTH + 100);
+			f.write(b ^ 0xff);
+		} finally {
+			f.close();
+		}
+		BlzSnapshot.open(snapshot);
+	}
+
+	@Test(expected = IOException.class)
+	public void testTooManyRows() throws Exception {
+		RandomAccessFile f = new RandomAccessFile(snapshot, "rw");
+		try {
+			f.seek(12);
+			f.writeInt(f.readInt() * 100);
+		} finally {
+			f.close();
+		}
+		BlzSnapshot.open(snapshot, false);
+	}
+
+	@Test(expected = IOException.class)
+	public void testIndexOutOfRange() throws Exception {
+		RandomAccessFile f = new RandomAccessFile(snapshot, "rw");
+		try {
+			f.seek(12);
+			int size = f.readInt();
+			int dataLength = f.readInt();
+			int capacity = f.readInt();
+			// alle Werte hinter die letzte Zeile setzen
+			f.seek(BlzSnapshot.HEADER_LENGTH + dataLength + capacity * 4L);
+			for (int i = 0; i < capacity; i++)
+				f.writeInt(size);
+		} finally {
+			f.close();
+		}
+		BlzSnapshot.open(snapshot, false);
+	}
+
+	@Test(expected = IOException.class)
+	public void testNoSnapshot() throws Exception {
+		BlzSnapshot.open(BLZ_FILE);
+	}
+
+	@Test
+	public void testParseValidFrom() {
+		assertEquals(20110606, BlzSnapshotConverter
+				.parseValidFrom("blz_20110606.txt"));
+		assertEquals(0, BlzSnapshotConverter.parseValidFrom("blz.txt"));
+	}
+
+}
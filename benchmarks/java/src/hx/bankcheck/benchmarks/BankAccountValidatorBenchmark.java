@@ -0,0 +1,204 @@
+package hx.bankcheck.benchmarks;
+
+import hx.bankcheck.accountvalidator.BankAccountValidator;
+import hx.bankcheck.accountvalidator.BatchResult;
+import hx.bankcheck.accountvalidator.Suggestion;
+import hx.bankcheck.accountvalidator.ValidationCache;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.exceptions.ValidatorUnknownException;
+import hx.bankcheck.blz.BlzManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checks bank number and account number pairs end to end, from the BLZ
+ * lookup to the checksum method. Every account number of the corpus is paired
+ * with a bank that uses its method, the pairs are shuffled so the methods mix
+ * as in real input.
+ *
+ * $Id$
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankAccountValidatorBenchmark {
+
+	/**
+	 * Rows per batch, see {@link #validateBatch()}
+	 */
+	private static final int BATCH_SIZE = 4096;
+
+	/**
+	 * Methods with a descriptor, see {@link #validateDescriptorBatch()}
+	 */
+	private static final String[] DESCRIPTOR_CODES = { "00", "01", "06",
+			"10", "20", "28" };
+
+	private BankAccountValidator validator;
+	private BankAccountValidator cachedValidator;
+	private int[] blzNumbers;
+	private long[] kontoNumbers;
+	private String[] blzStrings;
+	private String[] kontoStrings;
+	private int pos;
+
+	private int[] batchBlz;
+	private long[] batchKonto;
+	private BatchResult batchResult;
+	private int[] descriptorBlz;
+	private long[] descriptorKonto;
+	private final ValidationResult result = new ValidationResult();
+
+	@Setup
+	public void setup() throws Exception {
+		BlzManager manager = Corpus.loadBlzManager();
+		validator = new BankAccountValidator(manager);
+		cachedValidator = new BankAccountValidator(manager);
+
+		List<long[]> pairs = new ArrayList<long[]>();
+		for (Map.Entry<String, Integer> e : Corpus.bankNumbersByCode(manager)
+				.entrySet()) {
+			for (long konto : Corpus.accountNumbers(e.getKey()))
+				pairs.add(new long[] { e.getValue().intValue(), konto });
+		}
+
+		Random rnd = new Random(42);
+		int size = pairs.size();
+		blzNumbers = new int[size];
+		kontoNumbers = new long[size];
+		blzStrings = new String[size];
+		kontoStrings = new String[size];
+		for (int i = size - 1; i >= 0; i--) {
+			long[] pair = pairs.remove(rnd.nextInt(i + 1));
+			blzNumbers[i] = (int) pair[0];
+			kontoNumbers[i] = pair[1];
+			blzStrings[i] = String.valueOf(pair[0]);
+			kontoStrings[i] = String.valueOf(pair[1]);
+		}
+
+		batchBlz = new int[BATCH_SIZE];
+		batchKonto = new long[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			batchBlz[i] = blzNumbers[i % size];
+			batchKonto[i] = kontoNumbers[i % size];
+		}
+		batchResult = new BatchResult(BATCH_SIZE);
+
+		Map<String, Integer> banks = Corpus.bankNumbersByCode(manager);
+		descriptorBlz = new int[BATCH_SIZE];
+		descriptorKonto = new long[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			descriptorBlz[i] = banks.get(
+					DESCRIPTOR_CODES[rnd.nextInt(DESCRIPTOR_CODES.length)])
+					.intValue();
+			descriptorKonto[i] = (long) (rnd.nextDouble() * 9999999999L) + 1;
+		}
+
+		// about the size of the corpus, so most lookups hit
+		cachedValidator.setCache(new ValidationCache(size));
+	}
+
+	private int next() {
+		int i = pos;
+		pos = (i + 1 == blzNumbers.length) ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public boolean isValid() throws ValidatorUnknownException {
+		int i = next();
+		try {
+			return validator.isValid(blzNumbers[i], kontoNumbers[i]);
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public byte check() {
+		int i = next();
+		return validator.check(blzNumbers[i], kontoNumbers[i]);
+	}
+
+	@Benchmark
+	public boolean isValidCached() throws ValidatorUnknownException {
+		int i = next();
+		try {
+			return cachedValidator.isValid(blzNumbers[i], kontoNumbers[i]);
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public boolean isValidString() throws ValidatorUnknownException {
+		int i = next();
+		try {
+			return validator.isValid(blzStrings[i], kontoStrings[i]);
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * The same strings as {@link #isValidString()}, parsed without creating
+	 * objects
+	 */
+	@Benchmark
+	public byte checkString() {
+		int i = next();
+		return validator.check(blzStrings[i], kontoStrings[i]);
+	}
+
+	@Benchmark
+	public int computeCheckDigit() {
+		int i = next();
+		return validator.computeCheckDigit(blzNumbers[i], kontoNumbers[i] / 10,
+				result);
+	}
+
+	/**
+	 * A batch of methods with a descriptor only, the case of the column-wise
+	 * checks
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public BatchResult validateDescriptorBatch() {
+		validator.validate(descriptorBlz, descriptorKonto, batchResult);
+		return batchResult;
+	}
+
+	@Benchmark
+	public List<Suggestion> suggest() {
+		int i = next();
+		return validator.suggest(blzNumbers[i], kontoNumbers[i]);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public BatchResult validateBatch() {
+		validator.validate(batchBlz, batchKonto, batchResult);
+		return batchResult;
+	}
+
+}
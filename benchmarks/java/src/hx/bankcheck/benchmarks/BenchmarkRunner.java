@@ -0,0 +1,44 @@
+package hx.bankcheck.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so every result comes with its
+ * allocation rate (gc.alloc.rate.norm is bytes per operation). Accepts the
+ * usual JMH options, e.g.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar ChecksumBenchmark -p code=00,A1
+ * </pre>
+ *
+ * Run from the project directory or set -Dbankcheck.dir to
+ * accountvalidator/java.
+ *
+ * $Id$
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException,
+			CommandLineOptionException, IOException {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		if (cmdOptions.shouldHelp()) {
+			cmdOptions.showHelp();
+			return;
+		}
+
+		Runner runner = new Runner(new OptionsBuilder().parent(cmdOptions)
+				.addProfiler(GCProfiler.class).build());
+		if (cmdOptions.shouldList())
+			runner.list();
+		else
+			runner.run();
+	}
+
+}
@@ -0,0 +1,116 @@
+package hx.bankcheck.benchmarks;
+
+import hx.bankcheck.BankDatabase;
+import hx.bankcheck.blz.BlzManager;
+import hx.bankcheck.blz.BlzSnapshotConverter;
+import hx.bankcheck.blz.BlzManager.IllegalDataException;
+import hx.bankcheck.utils.files.DtaReader;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Loads the Bundesbank file with every reader the project has:
+ * {@link BlzManager#loadFile(File)}, which reads the file onto the heap in
+ * one go, the {@link DtaReader} based
+ * {@link BlzManager#loadStream(java.io.InputStream)}, a memory mapped
+ * snapshot and {@link BankDatabase#init(java.io.InputStream)} of the
+ * bankinfo module.
+ *
+ * $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlzLoadBenchmark {
+
+	/**
+	 * Column lengths of the Bundesbank file
+	 */
+	private static final int[] COLUMNS = { 8, 1, 58, 5, 35, 27, 5, 11, 2, 6,
+			1, 1, 8 };
+
+	private File blzFile;
+	private File snapshot;
+
+	@Setup
+	public void setup() throws Exception {
+		blzFile = Corpus.blzFile();
+		snapshot = File.createTempFile("blz_20101206",
+				BlzSnapshotConverter.EXTENSION);
+		BlzSnapshotConverter.convert(blzFile, snapshot);
+	}
+
+	@TearDown
+	public void tearDown() {
+		snapshot.delete();
+	}
+
+	@Benchmark
+	public BlzManager loadFile() throws IOException, IllegalDataException {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(blzFile);
+		return manager;
+	}
+
+	@Benchmark
+	public BlzManager loadStream() throws IOException, IllegalDataException {
+		BlzManager manager = new BlzManager();
+		FileInputStream in = new FileInputStream(blzFile);
+		try {
+			manager.loadStream(new BufferedInputStream(in));
+		} finally {
+			in.close();
+		}
+		return manager;
+	}
+
+	@Benchmark
+	public BlzManager loadSnapshot() throws IOException {
+		BlzManager manager = new BlzManager();
+		manager.loadSnapshot(snapshot);
+		return manager;
+	}
+
+	@Benchmark
+	public BankDatabase bankDatabaseInit() throws IOException {
+		BankDatabase database = new BankDatabase();
+		database.init(new FileInputStream(blzFile));
+		return database;
+	}
+
+	/**
+	 * Splitting into columns only, without building any records
+	 */
+	@Benchmark
+	public void dtaReader(Blackhole bh) throws IOException {
+		DtaReader reader = new DtaReader(new FileInputStream(blzFile), COLUMNS);
+		try {
+			String[] line;
+			while ((line = reader.next()) != null)
+				bh.consume(line);
+		} finally {
+			reader.close();
+		}
+	}
+
+}
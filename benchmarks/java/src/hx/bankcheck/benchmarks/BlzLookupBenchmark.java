@@ -0,0 +1,89 @@
+package hx.bankcheck.benchmarks;
+
+import hx.bankcheck.blz.BankInfo;
+import hx.bankcheck.blz.BlzManager;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up the bank numbers of the Bundesbank file in random order, one in
+ * eight of them unknown.
+ *
+ * $Id$
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlzLookupBenchmark {
+
+	private BlzManager manager;
+	private int[] bankNumbers;
+	private String[] bankNumberStrings;
+	private int pos;
+
+	@Setup
+	public void setup() throws Exception {
+		manager = Corpus.loadBlzManager();
+
+		int[] known = Corpus.bankNumbers(manager);
+		Random rnd = new Random(42);
+		bankNumbers = new int[known.length + known.length / 8];
+		for (int i = 0; i < bankNumbers.length; i++) {
+			bankNumbers[i] = (i < known.length) ? known[i]
+					: 10000000 + rnd.nextInt(90000000);
+		}
+		for (int i = bankNumbers.length - 1; i > 0; i--) {
+			int j = rnd.nextInt(i + 1);
+			int tmp = bankNumbers[i];
+			bankNumbers[i] = bankNumbers[j];
+			bankNumbers[j] = tmp;
+		}
+
+		bankNumberStrings = new String[bankNumbers.length];
+		for (int i = 0; i < bankNumbers.length; i++)
+			bankNumberStrings[i] = String.valueOf(bankNumbers[i]);
+	}
+
+	private int next() {
+		int i = pos;
+		pos = (i + 1 == bankNumbers.length) ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public List<BankInfo> findBank() {
+		return manager.findBank(bankNumbers[next()]);
+	}
+
+	@Benchmark
+	public List<BankInfo> findBankString() {
+		return manager.findBank(bankNumberStrings[next()]);
+	}
+
+	@Benchmark
+	public BankInfo findHeadBank() {
+		return manager.findHeadBank(bankNumbers[next()]);
+	}
+
+	@Benchmark
+	public String findChecksumAlgo() {
+		return manager.findChecksumAlgo(bankNumbers[next()]);
+	}
+
+}
@@ -0,0 +1,121 @@
+package hx.bankcheck.benchmarks;
+
+import hx.bankcheck.accountvalidator.ChecksumValidator;
+import hx.bankcheck.accountvalidator.ChecksumValidatorFactory;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.accountvalidator.exceptions.ValidationException;
+import hx.bankcheck.accountvalidator.exceptions.ValidatorUnknownException;
+import hx.bankcheck.accountvalidator.utils.ChecksumUtils;
+import hx.bankcheck.blz.BlzManager;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates the account numbers of one checksum method per run. Every call
+ * checks the next number of the corpus, see {@link Corpus}. Numbers the
+ * method can't check count as a result, the exception is part of the cost.
+ *
+ * $Id$
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksumBenchmark {
+
+	@Param( { "00", "01", "02", "03", "04", "05", "06", "07", "08", "09",
+			"10", "11", "13", "14", "15", "16", "17", "18", "19", "20", "21",
+			"22", "23", "24", "25", "26", "27", "28", "29", "30", "31", "32",
+			"33", "34", "35", "36", "37", "38", "39", "40", "41", "42", "43",
+			"44", "45", "46", "47", "48", "49", "50", "51", "52", "53", "54",
+			"55", "56", "57", "58", "59", "60", "61", "62", "63", "64", "65",
+			"66", "67", "68", "69", "70", "71", "72", "73", "74", "75", "76",
+			"77", "78", "79", "80", "81", "82", "83", "84", "85", "86", "87",
+			"88", "89", "90", "91", "92", "93", "94", "95", "96", "97", "98",
+			"99", "A0", "A1", "A2", "A3", "A4", "A5", "A6", "A7", "A8", "A9",
+			"B0", "B1", "B2", "B3", "B4", "B5", "B6", "B7", "B8", "B9", "C0",
+			"C1", "C2", "C3", "C4", "C5", "C6", "C7", "C8", "C9", "D0", "D1",
+			"D2", "D3", "D4", "D5", "D6", "D7", "D8" })
+	private String code;
+
+	private ChecksumValidatorFactory factory;
+	private ChecksumValidator validator;
+	private ValidationResult result;
+
+	private long[] accountNumbers;
+	private int[][] accountDigits;
+	private int bankNumber;
+	private int[] bankDigits;
+	private int pos;
+
+	@Setup
+	public void setup() throws Exception {
+		factory = new ChecksumValidatorFactory();
+		validator = factory.createValidatorFor(code);
+		result = new ValidationResult();
+
+		accountNumbers = Corpus.accountNumbers(code);
+		accountDigits = new int[accountNumbers.length][];
+		for (int i = 0; i < accountNumbers.length; i++)
+			accountDigits[i] = ChecksumUtils
+					.parseAccountNumber(accountNumbers[i]);
+
+		// some methods (52, 53, B6, C0) look at the bank number
+		BlzManager manager = Corpus.loadBlzManager();
+		Integer blz = Corpus.bankNumbersByCode(manager).get(code);
+		bankNumber = (blz != null) ? blz.intValue() : 10010010;
+		bankDigits = ChecksumUtils.parseBlz(bankNumber);
+	}
+
+	private int next() {
+		int i = pos;
+		pos = (i + 1 == accountNumbers.length) ? 0 : i + 1;
+		return i;
+	}
+
+	/**
+	 * Primitive entry point, no allocation expected
+	 */
+	@Benchmark
+	public boolean validateNumber() {
+		try {
+			return validator.validate(accountNumbers[next()], bankNumber,
+					result);
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Digit array entry point with a caller owned result
+	 */
+	@Benchmark
+	public boolean validateDigits() {
+		try {
+			return validator.validate(accountDigits[next()], bankDigits,
+					result);
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public ChecksumValidator createValidator() throws ValidatorUnknownException {
+		return factory.createValidatorFor(code);
+	}
+
+}
@@ -0,0 +1,134 @@
+package hx.bankcheck.benchmarks;
+
+import hx.bankcheck.blz.BankInfoStore;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Test data shared by all benchmarks: the Bundesbank file and the account
+ * numbers of tests/validAccountNumbers.properties and
+ * tests/invalidAccountNumbers.properties.
+ *
+ * The files are resolved relative to the directory given by the system
+ * property "bankcheck.dir", by default accountvalidator/java of the working
+ * directory. Forked benchmark VMs inherit the property.
+ *
+ * $Id$
+ */
+final class Corpus {
+
+	/**
+	 * Number of generated account numbers for methods without test data
+	 */
+	private static final int GENERATED = 64;
+
+	private Corpus() {
+	}
+
+	static File baseDir() {
+		return new File(System.getProperty("bankcheck.dir",
+				"accountvalidator/java"));
+	}
+
+	static File blzFile() {
+		return new File(baseDir(), "data/blz_20101206.txt");
+	}
+
+	static BlzManager loadBlzManager() throws IOException,
+			BlzManager.IllegalDataException {
+		BlzManager manager = new BlzManager();
+		manager.loadFile(blzFile());
+		return manager;
+	}
+
+	/**
+	 * Returns the valid and invalid account numbers of a method. Methods
+	 * without test data get pseudo random numbers, the same ones in every
+	 * run.
+	 *
+	 * @param code
+	 *            method code
+	 * @return account numbers, never empty
+	 */
+	static long[] accountNumbers(String code) throws IOException {
+		List<Long> numbers = new ArrayList<Long>();
+		addNumbers(numbers, "tests/validAccountNumbers.properties", code);
+		addNumbers(numbers, "tests/invalidAccountNumbers.properties", code);
+
+		if (numbers.isEmpty()) {
+			Random rnd = new Random(code.hashCode());
+			for (int i = 0; i < GENERATED; i++)
+				numbers.add((long) (rnd.nextDouble() * 9999999999L) + 1);
+		}
+
+		long[] result = new long[numbers.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = numbers.get(i);
+		return result;
+	}
+
+	private static void addNumbers(List<Long> numbers, String fileName,
+			String code) throws IOException {
+		Properties properties = new Properties();
+		InputStream in = new FileInputStream(new File(baseDir(), fileName));
+		try {
+			properties.load(in);
+		} finally {
+			in.close();
+		}
+
+		String value = properties.getProperty(code);
+		if (value == null)
+			return;
+		for (String number : value.split(",")) {
+			number = number.trim();
+			if (number.length() > 0 && number.length() <= 10)
+				numbers.add(Long.parseLong(number));
+		}
+	}
+
+	/**
+	 * Returns the bank number of every head record of the Bundesbank file
+	 */
+	static int[] bankNumbers(BlzManager manager) {
+		BankInfoStore store = manager.createStore(false);
+		List<Integer> numbers = new ArrayList<Integer>();
+		for (int row = 0; row < store.size(); row++) {
+			if (store.findHeadRow(store.getBlz(row)) == row)
+				numbers.add(Integer.valueOf(store.getBlz(row)));
+		}
+
+		int[] result = new int[numbers.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = numbers.get(i);
+		return result;
+	}
+
+	/**
+	 * Returns one bank number per method, taken from the head records of the
+	 * Bundesbank file
+	 *
+	 * @return bank number by method code, methods not used by any bank are
+	 *         missing
+	 */
+	static Map<String, Integer> bankNumbersByCode(BlzManager manager) {
+		Map<String, Integer> result = new HashMap<String, Integer>();
+		for (int blz : bankNumbers(manager)) {
+			String code = manager.findChecksumAlgo(blz);
+			if (!result.containsKey(code))
+				result.put(code, Integer.valueOf(blz));
+		}
+		return result;
+	}
+
+}
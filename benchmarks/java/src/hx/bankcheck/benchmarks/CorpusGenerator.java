@@ -0,0 +1,313 @@
+package hx.bankcheck.benchmarks;
+
+import hx.bankcheck.accountvalidator.BankAccountValidator;
+import hx.bankcheck.accountvalidator.Suggestion.Kind;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.blz.BankInfoStore;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates bank number and account number pairs for load tests. The bank
+ * numbers are drawn from all records of the Bundesbank file, so banks and
+ * methods occur as often as they have branches. Valid account numbers get
+ * their check digit from
+ * {@link BankAccountValidator#computeCheckDigit(int, long, ValidationResult)},
+ * invalid ones are valid numbers with one typing mistake (see {@link Kind})
+ * that the method detects.
+ *
+ * The records are generated in chunks by several threads and written in
+ * order, the same seed always gives the same file. Every record holds the
+ * status of {@link BankAccountValidator#check(int, long)}; binary records
+ * are {@value #RECORD_SIZE} bytes, big endian: bank number (int), account
+ * number (long), status (byte). CSV lines read
+ * "bank number;account number;status".
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar hx.bankcheck.benchmarks.CorpusGenerator
+ *     [-csv] [-invalid 0.2] [-seed 42] [-threads n] file count
+ * </pre>
+ *
+ * $Id$
+ */
+public class CorpusGenerator {
+
+	/**
+	 * Size of a binary record
+	 */
+	static final int RECORD_SIZE = 13;
+
+	/**
+	 * Longest CSV line: 8 + 1 + 10 + 1 + 1 + 1
+	 */
+	private static final int LINE_SIZE = 22;
+
+	/**
+	 * Records generated by a task
+	 */
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * Account numbers tried per bank before another bank is drawn
+	 */
+	private static final int ATTEMPTS = 16;
+
+	/**
+	 * Banks drawn for one record before giving up, e.g. if no bank has a
+	 * method that detects mistakes
+	 */
+	static final int MAX_DRAWS = 1000;
+
+	private static final long[] POWERS = new long[11];
+
+	static {
+		POWERS[0] = 1;
+		for (int i = 1; i < POWERS.length; i++)
+			POWERS[i] = POWERS[i - 1] * 10;
+	}
+
+	private final BankAccountValidator validator;
+	private final int[] bankNumbers;
+	private final double invalidShare;
+	private final boolean csv;
+	private final long seed;
+
+	/**
+	 * @param manager
+	 *            the bank data
+	 * @param invalidShare
+	 *            share of invalid account numbers, 0..1
+	 * @param csv
+	 *            "true" for CSV lines instead of binary records
+	 * @param seed
+	 *            seed of the random numbers
+	 */
+	public CorpusGenerator(BlzManager manager, double invalidShare,
+			boolean csv, long seed) {
+		this.validator = new BankAccountValidator(manager);
+		this.invalidShare = invalidShare;
+		this.csv = csv;
+		this.seed = seed;
+
+		BankInfoStore store = manager.createStore(false);
+		bankNumbers = new int[store.size()];
+		for (int row = 0; row < bankNumbers.length; row++)
+			bankNumbers[row] = store.getBlz(row);
+	}
+
+	/**
+	 * Writes the records to a file
+	 *
+	 * @param file
+	 *            the file, is overwritten
+	 * @param count
+	 *            number of records
+	 * @param threads
+	 *            number of threads generating records
+	 */
+	public void generate(File file, long count, int threads)
+			throws IOException, InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			FileChannel channel = out.getChannel();
+			// at most two chunks per thread wait for the writer
+			Deque<Future<ByteBuffer>> pending = new ArrayDeque<Future<ByteBuffer>>();
+			for (long first = 0; first < count; first += CHUNK_SIZE) {
+				final long chunk = first / CHUNK_SIZE;
+				final int size = (int) Math.min(CHUNK_SIZE, count - first);
+				pending.add(executor.submit(new Callable<ByteBuffer>() {
+					public ByteBuffer call() {
+						return generate(chunk, size);
+					}
+				}));
+				if (pending.size() >= threads * 2)
+					write(channel, pending.poll().get());
+			}
+			while (!pending.isEmpty())
+				write(channel, pending.poll().get());
+		} finally {
+			executor.shutdownNow();
+			out.close();
+		}
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+
+	/**
+	 * Generates the records of one chunk
+	 *
+	 * @throws IllegalStateException
+	 *             if no account number of the requested kind was found in
+	 *             {@value #MAX_DRAWS} banks
+	 */
+	ByteBuffer generate(long chunk, int size) {
+		Random rnd = new Random(seed ^ (chunk * 0x9E3779B97F4A7C15L));
+		ValidationResult result = new ValidationResult();
+		ByteBuffer buffer = ByteBuffer.allocate(size
+				* (csv ? LINE_SIZE : RECORD_SIZE));
+		byte[] digits = new byte[10];
+		for (int i = 0; i < size; i++) {
+			boolean invalid = rnd.nextDouble() < invalidShare;
+			int blzNumber;
+			long kontoNumber;
+			byte status;
+			int draws = 0;
+			do {
+				if (++draws > MAX_DRAWS)
+					throw new IllegalStateException("No "
+							+ (invalid ? "invalid" : "valid")
+							+ " account number found in " + MAX_DRAWS
+							+ " banks");
+				blzNumber = bankNumbers[rnd.nextInt(bankNumbers.length)];
+				kontoNumber = validAccountNumber(rnd, blzNumber, result);
+				status = ValidationResult.VALID;
+				if (invalid && kontoNumber > 0) {
+					kontoNumber = mistake(rnd, kontoNumber);
+					status = validator.check(blzNumber, kontoNumber);
+				}
+			} while (kontoNumber <= 0
+					|| (invalid && status != ValidationResult.INVALID));
+
+			if (csv) {
+				putNumber(buffer, blzNumber, digits);
+				buffer.put((byte) ';');
+				putNumber(buffer, kontoNumber, digits);
+				buffer.put((byte) ';');
+				buffer.put((byte) ('0' + status));
+				buffer.put((byte) '\n');
+			} else {
+				buffer.putInt(blzNumber).putLong(kontoNumber).put(status);
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * @return a valid account number of 6 to 10 digits, -1 if none was found
+	 */
+	private long validAccountNumber(Random rnd, int blzNumber,
+			ValidationResult result) {
+		for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+			long low = POWERS[4 + rnd.nextInt(5)];
+			long body = low + (long) (rnd.nextDouble() * 9 * low);
+			int digit = validator.computeCheckDigit(blzNumber, body, result);
+			if (digit >= 0)
+				return body * 10 + digit;
+			if (result.getStatus() != ValidationResult.INVALID
+					&& result.getStatus() != ValidationResult.NOT_TESTABLE)
+				return -1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Makes one typing mistake, chosen at random
+	 */
+	static long mistake(Random rnd, long kontoNumber) {
+		return mistake(rnd, kontoNumber, Kind.values()[rnd.nextInt(Kind
+				.values().length)]);
+	}
+
+	/**
+	 * Makes a typing mistake of the given kind at a random position. Account
+	 * numbers of one digit get a substitution instead of a transposition or a
+	 * missing digit, account numbers of 10 digits instead of an extra digit.
+	 */
+	static long mistake(Random rnd, long kontoNumber, Kind kind) {
+		int length = Long.toString(kontoNumber).length();
+		if ((kind == Kind.TRANSPOSITION || kind == Kind.MISSING_DIGIT)
+				&& length == 1)
+			kind = Kind.SUBSTITUTION;
+		if (kind == Kind.EXTRA_DIGIT && length == 10)
+			kind = Kind.SUBSTITUTION;
+
+		// positions are counted from the right
+		switch (kind) {
+		case TRANSPOSITION: {
+			int i = rnd.nextInt(length - 1);
+			long a = kontoNumber / POWERS[i] % 10;
+			long b = kontoNumber / POWERS[i + 1] % 10;
+			return kontoNumber + (b - a) * POWERS[i] + (a - b) * POWERS[i + 1];
+		}
+		case EXTRA_DIGIT: {
+			int i = rnd.nextInt(length + 1);
+			return kontoNumber / POWERS[i] * POWERS[i + 1] + rnd.nextInt(10)
+					* POWERS[i] + kontoNumber % POWERS[i];
+		}
+		case MISSING_DIGIT: {
+			int i = rnd.nextInt(length);
+			return kontoNumber / POWERS[i + 1] * POWERS[i] + kontoNumber
+					% POWERS[i];
+		}
+		default: {
+			int i = rnd.nextInt(length);
+			long digit = kontoNumber / POWERS[i] % 10;
+			return kontoNumber + ((digit + 1 + rnd.nextInt(9)) % 10 - digit)
+					* POWERS[i];
+		}
+		}
+	}
+
+	private static void putNumber(ByteBuffer buffer, long number, byte[] digits) {
+		int pos = digits.length;
+		do {
+			digits[--pos] = (byte) ('0' + number % 10);
+			number /= 10;
+		} while (number > 0);
+		buffer.put(digits, pos, digits.length - pos);
+	}
+
+	public static void main(String[] args) throws Exception {
+		boolean csv = false;
+		double invalidShare = 0.2;
+		long seed = 42;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int arg = 0;
+		for (; arg < args.length && args[arg].startsWith("-"); arg++) {
+			if ("-csv".equals(args[arg]))
+				csv = true;
+			else if ("-invalid".equals(args[arg]))
+				invalidShare = Double.parseDouble(args[++arg]);
+			else if ("-seed".equals(args[arg]))
+				seed = Long.parseLong(args[++arg]);
+			else if ("-threads".equals(args[arg]))
+				threads = Integer.parseInt(args[++arg]);
+			else
+				arg = args.length;
+		}
+		if (args.length - arg != 2) {
+			System.err.println("Usage: CorpusGenerator [-csv] [-invalid share] "
+					+ "[-seed n] [-threads n] file count");
+			System.exit(1);
+		}
+
+		File file = new File(args[arg]);
+		long count = Long.parseLong(args[arg + 1]);
+		long start = System.nanoTime();
+		new CorpusGenerator(Corpus.loadBlzManager(), invalidShare, csv, seed)
+				.generate(file, count, threads);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d records, %d bytes in %.1f s (%.1f MB/s)%n",
+				count, file.length(), seconds, file.length() / seconds / 1e6);
+	}
+
+}
@@ -0,0 +1,202 @@
+package hx.bankcheck.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import hx.bankcheck.accountvalidator.BankAccountValidator;
+import hx.bankcheck.accountvalidator.Suggestion.Kind;
+import hx.bankcheck.accountvalidator.ValidationResult;
+import hx.bankcheck.blz.BlzManager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ * $Id$
+ */
+public class CorpusGeneratorTest {
+
+	/**
+	 * A record of the Bundesbank, method 09 accepts every account number
+	 */
+	private static final String BUNDESBANK = "100000001Bundesbank                                                10591Berlin                             BBk Berlin                 20100MARKDEF110009011380U000000000";
+
+	@Test
+	public void testMistake() {
+		Random rnd = new Random(21);
+		for (Kind kind : Kind.values()) {
+			for (int length = 1; length <= 10; length++) {
+				long low = (length == 1) ? 0 : pow(length - 1);
+				for (int i = 0; i < 1000; i++) {
+					long kontoNumber = low
+							+ (long) (rnd.nextDouble() * (pow(length) - low));
+					assertMistake(kind, kontoNumber, CorpusGenerator.mistake(
+							rnd, kontoNumber, kind));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMistakeEdgeLengths() {
+		Random rnd = new Random(21);
+		for (long kontoNumber : new long[] { 0, 5, 9 }) {
+			for (Kind kind : Kind.values()) {
+				long changed = CorpusGenerator.mistake(rnd, kontoNumber, kind);
+				assertMistake(kind, kontoNumber, changed);
+				// nothing to swap or leave out in a single digit
+				if (kind != Kind.EXTRA_DIGIT)
+					assertTrue(changed <= 9);
+			}
+		}
+		for (long kontoNumber : new long[] { 1000000000L, 9999999999L,
+				1234567890L }) {
+			for (Kind kind : Kind.values()) {
+				long changed = CorpusGenerator.mistake(rnd, kontoNumber, kind);
+				assertMistake(kind, kontoNumber, changed);
+				// an extra digit would exceed 10 digits
+				assertTrue(changed <= 9999999999L);
+			}
+		}
+	}
+
+	@Test
+	public void testSameSeed() throws Exception {
+		BlzManager manager = Corpus.loadBlzManager();
+		ByteBuffer first = new CorpusGenerator(manager, 0.5, false, 7)
+				.generate(3, 500);
+		ByteBuffer second = new CorpusGenerator(manager, 0.5, false, 7)
+				.generate(3, 500);
+		assertEquals(first, second);
+		assertFalse(first.equals(new CorpusGenerator(manager, 0.5, false, 8)
+				.generate(3, 500)));
+		assertEquals(new CorpusGenerator(manager, 0.5, true, 7).generate(3,
+				500), new CorpusGenerator(manager, 0.5, true, 7).generate(3,
+				500));
+
+		// the records hold the status of the validator
+		BankAccountValidator validator = new BankAccountValidator(manager);
+		int invalid = 0;
+		while (first.hasRemaining()) {
+			int blzNumber = first.getInt();
+			long kontoNumber = first.getLong();
+			byte status = first.get();
+			assertEquals(validator.check(blzNumber, kontoNumber), status);
+			if (status == ValidationResult.INVALID)
+				invalid++;
+			else
+				assertEquals(ValidationResult.VALID, status);
+		}
+		assertTrue(invalid > 150 && invalid < 350);
+	}
+
+	@Test
+	public void testNoInvalidAccountNumbers() throws Exception {
+		File file = File.createTempFile("blz", ".txt");
+		try {
+			OutputStream os = new FileOutputStream(file);
+			try {
+				os.write((BUNDESBANK + "\n").getBytes("ISO-8859-1"));
+			} finally {
+				os.close();
+			}
+			BlzManager manager = new BlzManager();
+			manager.loadFile(file);
+
+			assertEquals(10, new CorpusGenerator(manager, 0, false, 1)
+					.generate(0, 10).remaining()
+					/ CorpusGenerator.RECORD_SIZE);
+			try {
+				new CorpusGenerator(manager, 1, false, 1).generate(0, 1);
+				fail("method 09 detects no mistakes");
+			} catch (IllegalStateException e) {
+				assertTrue(e.getMessage().contains("invalid"));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Checks that changed differs from kontoNumber by one mistake of the
+	 * given kind, or by a substitution where CorpusGenerator makes one instead
+	 */
+	private static void assertMistake(Kind kind, long kontoNumber, long changed) {
+		String original = Long.toString(kontoNumber);
+		int length = original.length();
+		if (length == 1
+				&& (kind == Kind.TRANSPOSITION || kind == Kind.MISSING_DIGIT))
+			kind = Kind.SUBSTITUTION;
+		if (length == 10 && kind == Kind.EXTRA_DIGIT)
+			kind = Kind.SUBSTITUTION;
+		String message = kind + ": " + kontoNumber + " -> " + changed;
+		assertTrue(message, changed >= 0);
+
+		switch (kind) {
+		case TRANSPOSITION: {
+			String text = digits(changed, length);
+			boolean found = false;
+			for (int i = 0; i + 1 < length; i++)
+				found |= text.equals(original.substring(0, i)
+						+ original.charAt(i + 1) + original.charAt(i)
+						+ original.substring(i + 2));
+			assertTrue(message, found);
+			break;
+		}
+		case EXTRA_DIGIT: {
+			String text = digits(changed, length + 1);
+			boolean found = false;
+			for (int i = 0; i <= length; i++)
+				found |= original.equals(text.substring(0, i)
+						+ text.substring(i + 1));
+			assertTrue(message, found);
+			break;
+		}
+		case MISSING_DIGIT: {
+			String text = digits(changed, length - 1);
+			boolean found = false;
+			for (int i = 0; i < length; i++)
+				found |= text.equals(original.substring(0, i)
+						+ original.substring(i + 1));
+			assertTrue(message, found);
+			break;
+		}
+		default: {
+			String text = digits(changed, length);
+			int differences = 0;
+			for (int i = 0; i < length; i++) {
+				if (text.charAt(i) != original.charAt(i))
+					differences++;
+			}
+			assertEquals(message, 1, differences);
+		}
+		}
+	}
+
+	/**
+	 * @return the number with leading zeros, fails if it has more digits
+	 */
+	private static String digits(long number, int width) {
+		String text = Long.toString(number);
+		assertTrue(number + " has more than " + width + " digits", text
+				.length() <= width);
+		while (text.length() < width)
+			text = "0" + text;
+		return text;
+	}
+
+	private static long pow(int exponent) {
+		long result = 1;
+		for (int i = 0; i < exponent; i++)
+			result *= 10;
+		return result;
+	}
+
+}